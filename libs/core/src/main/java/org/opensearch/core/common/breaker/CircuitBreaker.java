@@ -71,6 +71,12 @@ public interface CircuitBreaker {
      * writing requests on the network layer.
      */
     String IN_FLIGHT_REQUESTS = "in_flight_requests";
+    /**
+     * The indexing breaker tracks memory held by shards to serve indexing,
+     * such as paged version maps. It is released when the data is refreshed
+     * or the shard is closed.
+     */
+    String INDEXING = "indexing";
 
     /**
      * The type of breaker
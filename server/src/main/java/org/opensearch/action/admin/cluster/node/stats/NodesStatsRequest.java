@@ -221,7 +221,8 @@ public class NodesStatsRequest extends BaseNodesRequest<NodesStatsRequest> {
         REPOSITORIES("repositories"),
         ADMISSION_CONTROL("admission_control"),
         CACHE_STATS("caches"),
-        REMOTE_STORE("remote_store");
+        REMOTE_STORE("remote_store"),
+        REFRESH_SCHEDULER("refresh_scheduler");
 
         private String metricName;
 
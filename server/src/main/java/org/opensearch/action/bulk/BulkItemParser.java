@@ -0,0 +1,139 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.bulk;
+
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.index.mapper.SourceToParse;
+import org.opensearch.index.shard.IndexShard;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Parses and analyzes the index requests of a shard bulk request on additional threads, ahead of the thread that indexes the items in
+ * order.
+ * <p>
+ * Items are claimed one at a time by both the parsing threads and the indexing thread. The indexing thread only waits for items
+ * that are being parsed by another thread, and parses the items that no other thread got to yet itself, so it never waits on a
+ * parsing task that is still queued in the executor. The tokens of analyzed documents are held until the document is indexed, so
+ * only documents up to {@link #ANALYZE_AHEAD} items ahead of the indexing thread are analyzed, the others are only parsed.
+ *
+ * @opensearch.internal
+ */
+final class BulkItemParser {
+
+    /** marks an item that is being parsed */
+    private static final Object PARSING = new Object();
+    /** marks an item that was taken, isn't an index request or failed to parse, the indexing thread then parses it itself */
+    private static final Object NONE = new Object();
+
+    /** the number of items ahead of the indexing thread up to which documents are analyzed as well as parsed */
+    static final int ANALYZE_AHEAD = 64;
+
+    private final IndexShard primary;
+    private final BulkItemRequest[] items;
+    private final AtomicReferenceArray<Object> states;
+    private final AtomicInteger nextItem = new AtomicInteger();
+    private volatile int indexedItem;
+
+    BulkItemParser(IndexShard primary, BulkItemRequest[] items) {
+        this.primary = primary;
+        this.items = items;
+        this.states = new AtomicReferenceArray<>(items.length);
+    }
+
+    /**
+     * Submits up to {@code parallelism} parsing tasks to the given executor, which must not be the executor of the indexing thread
+     * so that parsing doesn't take threads or queue slots away from indexing. Fewer tasks are submitted if the executor rejects
+     * one, the indexing thread then parses the items that aren't parsed ahead.
+     */
+    void start(Executor executor, int parallelism) {
+        for (int i = 0; i < parallelism; i++) {
+            try {
+                executor.execute(new AbstractRunnable() {
+                    @Override
+                    protected void doRun() {
+                        parseItems();
+                    }
+
+                    @Override
+                    public void onFailure(Exception e) {
+                        // the indexing thread parses the remaining items
+                    }
+                });
+            } catch (Exception e) {
+                return;
+            }
+        }
+    }
+
+    private void parseItems() {
+        int index;
+        while ((index = nextItem.getAndIncrement()) < items.length) {
+            if (states.compareAndSet(index, null, PARSING) == false) {
+                continue;
+            }
+            Object parsed = NONE;
+            try {
+                final IndexRequest request = indexRequest(items[index]);
+                if (request != null) {
+                    final IndexShard.ParsedSource parsedSource = primary.parseSourceOnPrimary(
+                        new SourceToParse(request.index(), request.id(), request.source(), request.getContentType(), request.routing()),
+                        index - indexedItem <= ANALYZE_AHEAD
+                    );
+                    if (parsedSource != null) {
+                        parsed = parsedSource;
+                    }
+                }
+            } catch (Exception e) {
+                // the indexing thread parses the document again and reports the failure
+            } finally {
+                states.set(index, parsed);
+                synchronized (this) {
+                    notifyAll();
+                }
+            }
+        }
+    }
+
+    private static IndexRequest indexRequest(BulkItemRequest item) {
+        if (item == null || item.getPrimaryResponse() != null) {
+            return null;
+        }
+        final DocWriteRequest<?> request = item.request();
+        if (request.opType() == DocWriteRequest.OpType.INDEX || request.opType() == DocWriteRequest.OpType.CREATE) {
+            return (IndexRequest) request;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the parsed document of the item at the given index, or {@code null} if the caller has to parse it. Waits for the item
+     * if it's being parsed by another thread. An item can only be taken once.
+     */
+    IndexShard.ParsedSource take(int index) throws InterruptedException {
+        indexedItem = index;
+        if (states.compareAndSet(index, null, NONE)) {
+            return null;
+        }
+        Object state = states.get(index);
+        if (state == PARSING) {
+            synchronized (this) {
+                while ((state = states.get(index)) == PARSING) {
+                    wait();
+                }
+            }
+        }
+        states.set(index, NONE);
+        return state == NONE ? null : (IndexShard.ParsedSource) state;
+    }
+}
@@ -91,6 +91,7 @@ class BulkPrimaryExecutionContext {
     private DocWriteRequest requestToExecute;
     private BulkItemResponse executionResult;
     private int retryCounter;
+    private BulkItemParser itemParser;
 
     BulkPrimaryExecutionContext(BulkShardRequest request, IndexShard primary) {
         this.request = request;
@@ -180,6 +181,19 @@ class BulkPrimaryExecutionContext {
         return currentIndex < request.items().length;
     }
 
+    /** sets the parser that parses the index requests of the bulk request ahead of their execution */
+    void setItemParser(BulkItemParser itemParser) {
+        this.itemParser = itemParser;
+    }
+
+    /**
+     * returns the document of the current item if it was parsed ahead of its execution, or {@code null} if it has to be parsed
+     * during its execution
+     */
+    IndexShard.ParsedSource takeParsedSource() throws InterruptedException {
+        return itemParser == null ? null : itemParser.take(currentIndex);
+    }
+
     /** returns the name of the index the current request used */
     public String getConcreteIndex() {
         return getCurrentItem().index();
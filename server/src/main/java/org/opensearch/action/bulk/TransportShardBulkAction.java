@@ -463,7 +463,11 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
 
             private final Executor executor = threadPool.executor(executorName);
 
-            private final BulkPrimaryExecutionContext context = new BulkPrimaryExecutionContext(request, primary);
+            private final BulkPrimaryExecutionContext context = newExecutionContext(
+                request,
+                primary,
+                threadPool.executor(ThreadPool.Names.BULK_PARSE)
+            );
 
             @Override
             protected void doRun() throws Exception {
@@ -535,6 +539,17 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
         }.run();
     }
 
+    private static BulkPrimaryExecutionContext newExecutionContext(BulkShardRequest request, IndexShard primary, Executor parseExecutor) {
+        final BulkPrimaryExecutionContext context = new BulkPrimaryExecutionContext(request, primary);
+        final int parallelism = Math.min(primary.indexSettings().getBulkParseParallelism(), request.items().length - 1);
+        if (parallelism > 0) {
+            final BulkItemParser itemParser = new BulkItemParser(primary, request.items());
+            context.setItemParser(itemParser);
+            itemParser.start(parseExecutor, parallelism);
+        }
+        return context;
+    }
+
     @Override
     protected Releasable checkPrimaryLimits(BulkShardRequest request, boolean rerouteWasLocal, boolean localRerouteInitiatedByNodeClient) {
         if (force(request) == false) {
@@ -622,14 +637,19 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
             );
         } else {
             final IndexRequest request = context.getRequestToExecute();
+            // only documents of index requests are parsed ahead, not the ones that updates are translated to
+            final IndexShard.ParsedSource parsedSource = updateResult == null ? context.takeParsedSource() : null;
             result = primary.applyIndexOperationOnPrimary(
                 version,
                 request.versionType(),
-                new SourceToParse(request.index(), request.id(), request.source(), request.getContentType(), request.routing()),
+                parsedSource != null
+                    ? parsedSource.source()
+                    : new SourceToParse(request.index(), request.id(), request.source(), request.getContentType(), request.routing()),
                 request.ifSeqNo(),
                 request.ifPrimaryTerm(),
                 request.getAutoGeneratedTimestamp(),
-                request.isRetry()
+                request.isRetry(),
+                parsedSource
             );
         }
         if (result.getResultType() == Engine.Result.Type.MAPPING_UPDATE_REQUIRED) {
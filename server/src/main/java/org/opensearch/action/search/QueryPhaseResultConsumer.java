@@ -100,6 +100,37 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         NamedWriteableRegistry namedWriteableRegistry,
         int expectedResultSize,
         Consumer<Exception> onPartialMergeFailure
+    ) {
+        this(
+            request,
+            executor,
+            circuitBreaker,
+            controller,
+            progressListener,
+            namedWriteableRegistry,
+            expectedResultSize,
+            0,
+            onPartialMergeFailure
+        );
+    }
+
+    /**
+     * Creates a {@link QueryPhaseResultConsumer} that incrementally reduces aggregation results
+     * as shard results are consumed. Besides every {@link SearchRequest#getBatchedReduceSize()} results,
+     * a partial reduce is triggered as soon as the serialized size of the buffered aggregations reaches
+     * {@code partialReduceBufferBytes}, which bounds the memory held by unreduced shard results when
+     * shards return large aggregations. A value of {@code 0} disables the memory based trigger.
+     */
+    public QueryPhaseResultConsumer(
+        SearchRequest request,
+        Executor executor,
+        CircuitBreaker circuitBreaker,
+        SearchPhaseController controller,
+        SearchProgressListener progressListener,
+        NamedWriteableRegistry namedWriteableRegistry,
+        int expectedResultSize,
+        long partialReduceBufferBytes,
+        Consumer<Exception> onPartialMergeFailure
     ) {
         super(expectedResultSize);
         this.executor = executor;
@@ -116,7 +147,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         this.hasTopDocs = source == null || source.size() != 0;
         this.hasAggs = source != null && source.aggregations() != null;
         int batchReduceSize = (hasAggs || hasTopDocs) ? Math.min(request.getBatchedReduceSize(), expectedResultSize) : expectedResultSize;
-        this.pendingMerges = new PendingMerges(batchReduceSize, request.resolveTrackTotalHitsUpTo());
+        this.pendingMerges = new PendingMerges(batchReduceSize, partialReduceBufferBytes, request.resolveTrackTotalHitsUpTo());
     }
 
     @Override
@@ -249,6 +280,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
      */
     private class PendingMerges implements Releasable {
         private final int batchReduceSize;
+        private final long partialReduceBufferBytes;
         private final List<QuerySearchResult> buffer = new ArrayList<>();
         private final List<SearchShard> emptyResults = new ArrayList<>();
         // the memory that is accounted in the circuit breaker for this consumer
@@ -266,8 +298,9 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         private volatile boolean hasPartialReduce;
         private volatile int numReducePhases;
 
-        PendingMerges(int batchReduceSize, int trackTotalHitsUpTo) {
+        PendingMerges(int batchReduceSize, long partialReduceBufferBytes, int trackTotalHitsUpTo) {
             this.batchReduceSize = batchReduceSize;
+            this.partialReduceBufferBytes = partialReduceBufferBytes;
             this.topDocsStats = new SearchPhaseController.TopDocsStats(trackTotalHitsUpTo);
         }
 
@@ -350,7 +383,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                 } else {
                     // add one if a partial merge is pending
                     int size = buffer.size() + (hasPartialReduce ? 1 : 0);
-                    if (size >= batchReduceSize) {
+                    if (size >= batchReduceSize || isBufferFull()) {
                         hasPartialReduce = true;
                         executeNextImmediately = false;
                         QuerySearchResult[] clone = buffer.stream().toArray(QuerySearchResult[]::new);
@@ -374,6 +407,17 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             }
         }
 
+        /**
+         * Returns true if the serialized size of the buffered aggregations reached the configured
+         * partial reduce threshold.
+         */
+        private boolean isBufferFull() {
+            return hasAggs
+                && partialReduceBufferBytes > 0
+                && buffer.isEmpty() == false
+                && aggsCurrentBufferSize >= partialReduceBufferBytes;
+        }
+
         private synchronized void onMergeFailure(Exception exc) {
             if (hasFailure()) {
                 assert circuitBreakerBytes == 0;
@@ -48,6 +48,7 @@ import org.apache.lucene.search.grouping.CollapseTopFieldDocs;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
 import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.index.fielddata.IndexFieldData;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.SearchHit;
@@ -758,6 +759,22 @@ public final class SearchPhaseController {
         SearchRequest request,
         int numShards,
         Consumer<Exception> onPartialMergeFailure
+    ) {
+        return newSearchPhaseResults(executor, circuitBreaker, listener, request, numShards, ByteSizeValue.ZERO, onPartialMergeFailure);
+    }
+
+    /**
+     * Returns a new {@link QueryPhaseResultConsumer} instance that reduces search responses incrementally, additionally
+     * triggering a partial reduce whenever the buffered shard aggregations reach {@code partialReduceBufferSize}.
+     */
+    QueryPhaseResultConsumer newSearchPhaseResults(
+        Executor executor,
+        CircuitBreaker circuitBreaker,
+        SearchProgressListener listener,
+        SearchRequest request,
+        int numShards,
+        ByteSizeValue partialReduceBufferSize,
+        Consumer<Exception> onPartialMergeFailure
     ) {
         return new QueryPhaseResultConsumer(
             request,
@@ -767,6 +784,7 @@ public final class SearchPhaseController {
             listener,
             namedWriteableRegistry,
             numShards,
+            partialReduceBufferSize.getBytes(),
             onPartialMergeFailure
         );
     }
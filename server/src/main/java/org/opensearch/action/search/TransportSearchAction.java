@@ -64,6 +64,7 @@ import org.opensearch.core.common.Strings;
 import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.index.Index;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.indices.breaker.CircuitBreakerService;
@@ -163,6 +164,16 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         Setting.Property.NodeScope
     );
 
+    // cluster level setting that triggers a partial reduce of the buffered shard aggregations as soon as their serialized size
+    // reaches this threshold, in addition to the request's batched_reduce_size. A value of 0 disables the memory based trigger.
+    public static final String SEARCH_AGGS_PARTIAL_REDUCE_BUFFER_SIZE_KEY = "search.aggs.partial_reduce_buffer_size";
+    public static final Setting<ByteSizeValue> SEARCH_AGGS_PARTIAL_REDUCE_BUFFER_SIZE = Setting.byteSizeSetting(
+        SEARCH_AGGS_PARTIAL_REDUCE_BUFFER_SIZE_KEY,
+        ByteSizeValue.ZERO,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
     private final NodeClient client;
     private final ThreadPool threadPool;
     private final ClusterService clusterService;
@@ -1265,6 +1276,7 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                 task.getProgressListener(),
                 searchRequest,
                 shardIterators.size(),
+                clusterService.getClusterSettings().get(SEARCH_AGGS_PARTIAL_REDUCE_BUFFER_SIZE),
                 exc -> cancelTask(task, exc)
             );
             AbstractSearchAsyncAction<? extends SearchPhaseResult> searchAsyncAction;
@@ -209,6 +209,16 @@ public class OperationRouting {
         return shards(clusterState, index, id, routing).shardsIt();
     }
 
+    /**
+     * Returns the id of the shard that the document with the given id and routing is indexed into. Unlike
+     * {@link #indexShards(ClusterState, String, String, String)} this neither looks up the index metadata nor creates a shard iterator,
+     * which matters when routing every document of a large bulk request.
+     */
+    public ShardId indexShardId(ClusterState clusterState, IndexMetadata indexMetadata, String id, @Nullable String routing) {
+        final int shardId = generateShardId(indexMetadata, id, routing);
+        return clusterState.getRoutingTable().shardRoutingTable(indexMetadata.getIndex().getName(), shardId).shardId();
+    }
+
     public ShardIterator getShards(
         ClusterState clusterState,
         String index,
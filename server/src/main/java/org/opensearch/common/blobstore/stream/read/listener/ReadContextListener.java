@@ -47,6 +47,7 @@ public class ReadContextListener implements ActionListener<ReadContext> {
     private final ThreadPool threadPool;
     private final UnaryOperator<InputStream> rateLimiter;
     private final int maxConcurrentStreams;
+    private final Runnable cancellationCheck;
 
     public ReadContextListener(
         String blobName,
@@ -55,6 +56,22 @@ public class ReadContextListener implements ActionListener<ReadContext> {
         ThreadPool threadPool,
         UnaryOperator<InputStream> rateLimiter,
         int maxConcurrentStreams
+    ) {
+        this(blobName, fileLocation, completionListener, threadPool, rateLimiter, maxConcurrentStreams, () -> {});
+    }
+
+    /**
+     * @param cancellationCheck invoked before each part is written and before the temp file is moved to its final location, the
+     *                          download fails and the temp file is deleted if it throws
+     */
+    public ReadContextListener(
+        String blobName,
+        Path fileLocation,
+        ActionListener<String> completionListener,
+        ThreadPool threadPool,
+        UnaryOperator<InputStream> rateLimiter,
+        int maxConcurrentStreams,
+        Runnable cancellationCheck
     ) {
         this.blobName = blobName;
         this.fileLocation = fileLocation;
@@ -62,6 +79,7 @@ public class ReadContextListener implements ActionListener<ReadContext> {
         this.threadPool = threadPool;
         this.rateLimiter = rateLimiter;
         this.maxConcurrentStreams = maxConcurrentStreams;
+        this.cancellationCheck = cancellationCheck;
         this.tmpFileName = DOWNLOAD_PREFIX + UUIDs.randomBase64UUID() + "." + blobName;
         this.tmpFileLocation = fileLocation.getParent().resolve(tmpFileName);
     }
@@ -79,7 +97,8 @@ public class ReadContextListener implements ActionListener<ReadContext> {
             tmpFileLocation,
             groupedListener,
             threadPool.executor(ThreadPool.Names.REMOTE_RECOVERY),
-            rateLimiter
+            rateLimiter,
+            cancellationCheck
         );
         for (int i = 0; i < Math.min(maxConcurrentStreams, queue.size()); i++) {
             processor.process(queue.poll());
@@ -90,6 +109,13 @@ public class ReadContextListener implements ActionListener<ReadContext> {
     private ActionListener<Collection<String>> getFileCompletionListener() {
         return ActionListener.wrap(response -> {
             logger.trace("renaming temp file [{}] to [{}]", tmpFileLocation, fileLocation);
+            try {
+                cancellationCheck.run();
+            } catch (Exception e) {
+                deleteTmpFile();
+                completionListener.onFailure(e);
+                return;
+            }
             try {
                 IOUtils.fsync(tmpFileLocation, false);
                 Files.move(tmpFileLocation, fileLocation, StandardCopyOption.ATOMIC_MOVE);
@@ -101,15 +127,19 @@ public class ReadContextListener implements ActionListener<ReadContext> {
                 completionListener.onFailure(e);
             }
         }, e -> {
-            try {
-                Files.deleteIfExists(tmpFileLocation);
-            } catch (IOException ex) {
-                logger.warn("Unable to clean temp file {}", tmpFileLocation);
-            }
+            deleteTmpFile();
             completionListener.onFailure(e);
         });
     }
 
+    private void deleteTmpFile() {
+        try {
+            Files.deleteIfExists(tmpFileLocation);
+        } catch (IOException ex) {
+            logger.warn("Unable to clean temp file {}", tmpFileLocation);
+        }
+    }
+
     /*
      * For Tests
      */
@@ -132,6 +162,7 @@ public class ReadContextListener implements ActionListener<ReadContext> {
         private final GroupedActionListener<String> completionListener;
         private final Executor executor;
         private final UnaryOperator<InputStream> rateLimiter;
+        private final Runnable cancellationCheck;
 
         private StreamPartProcessor(
             Queue<ReadContext.StreamPartCreator> queue,
@@ -139,7 +170,8 @@ public class ReadContextListener implements ActionListener<ReadContext> {
             Path fileLocation,
             GroupedActionListener<String> completionListener,
             Executor executor,
-            UnaryOperator<InputStream> rateLimiter
+            UnaryOperator<InputStream> rateLimiter,
+            Runnable cancellationCheck
         ) {
             this.queue = queue;
             this.anyPartStreamFailed = anyPartStreamFailed;
@@ -147,6 +179,7 @@ public class ReadContextListener implements ActionListener<ReadContext> {
             this.completionListener = completionListener;
             this.executor = executor;
             this.rateLimiter = rateLimiter;
+            this.cancellationCheck = cancellationCheck;
         }
 
         private void process(ReadContext.StreamPartCreator supplier) {
@@ -159,6 +192,13 @@ public class ReadContextListener implements ActionListener<ReadContext> {
                 } else if (anyPartStreamFailed.get()) {
                     processFailure(CANCELED_PART_EXCEPTION);
                 } else {
+                    try {
+                        cancellationCheck.run();
+                    } catch (Exception e) {
+                        IOUtils.closeWhileHandlingException(blobPartStreamContainer.getInputStream());
+                        processFailure(e);
+                        return;
+                    }
                     try {
                         FilePartWriter.write(fileLocation, blobPartStreamContainer, rateLimiter);
                         completionListener.onResponse(fileLocation.toString());
@@ -61,6 +61,7 @@ import org.opensearch.index.similarity.SimilarityService;
 import org.opensearch.index.store.FsDirectoryFactory;
 import org.opensearch.index.store.Store;
 import org.opensearch.indices.IndicesRequestCache;
+import org.opensearch.indices.IndicesSegmentAggregationCache;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -150,6 +151,7 @@ public final class IndexScopedSettings extends AbstractScopedSettings {
                 IndexSettings.MAX_INNER_RESULT_WINDOW_SETTING,
                 IndexSettings.MAX_TOKEN_COUNT_SETTING,
                 IndexSettings.MAX_DOCVALUE_FIELDS_SEARCH_SETTING,
+                IndexSettings.FETCH_FIELDS_FROM_DOC_VALUES_SETTING,
                 IndexSettings.MAX_SCRIPT_FIELDS_SETTING,
                 IndexSettings.MAX_NGRAM_DIFF_SETTING,
                 IndexSettings.MAX_SHINGLE_DIFF_SETTING,
@@ -159,6 +161,9 @@ public final class IndexScopedSettings extends AbstractScopedSettings {
                 IndexSettings.MAX_TERMS_COUNT_SETTING,
                 IndexSettings.MAX_NESTED_QUERY_DEPTH_SETTING,
                 IndexSettings.INDEX_TRANSLOG_SYNC_INTERVAL_SETTING,
+                IndexSettings.INDEX_TRANSLOG_GROUP_COMMIT_INTERVAL_SETTING,
+                IndexSettings.INDEX_BULK_PARSE_PARALLELISM_SETTING,
+                IndexSettings.INDEX_DEDUP_WINDOW_SETTING,
                 IndexSettings.INDEX_PUBLISH_REFERENCED_SEGMENTS_INTERVAL_SETTING,
                 IndexSettings.DEFAULT_FIELD_SETTING,
                 IndexSettings.QUERY_STRING_LENIENT_SETTING,
@@ -172,9 +177,11 @@ public final class IndexScopedSettings extends AbstractScopedSettings {
                 ShardsLimitAllocationDecider.INDEX_TOTAL_PRIMARY_SHARDS_PER_NODE_SETTING,
                 IndexSettings.INDEX_GC_DELETES_SETTING,
                 IndexSettings.INDEX_SOFT_DELETES_SETTING,
+                IndexSettings.INDEX_PAGED_VERSION_MAP_ENABLED_SETTING,
                 IndexSettings.INDEX_SOFT_DELETES_RETENTION_OPERATIONS_SETTING,
                 IndexSettings.INDEX_SOFT_DELETES_RETENTION_LEASE_PERIOD_SETTING,
                 IndicesRequestCache.INDEX_CACHE_REQUEST_ENABLED_SETTING,
+                IndicesSegmentAggregationCache.INDEX_CACHE_SEGMENT_AGGREGATIONS_ENABLED_SETTING,
                 UnassignedInfo.INDEX_DELAYED_NODE_LEFT_TIMEOUT_SETTING,
                 EnableAllocationDecider.INDEX_ROUTING_REBALANCE_ENABLE_SETTING,
                 EnableAllocationDecider.INDEX_ROUTING_ALLOCATION_ENABLE_SETTING,
@@ -237,6 +244,7 @@ public final class IndexScopedSettings extends AbstractScopedSettings {
                 // Settings for remote translog
                 IndexSettings.INDEX_REMOTE_TRANSLOG_BUFFER_INTERVAL_SETTING,
                 IndexSettings.INDEX_REMOTE_TRANSLOG_KEEP_EXTRA_GEN_SETTING,
+                IndexSettings.INDEX_REMOTE_TRANSLOG_COMPRESSION_ENABLED_SETTING,
 
                 // Settings for remote store enablement
                 IndexMetadata.INDEX_REMOTE_STORE_ENABLED_SETTING,
@@ -171,6 +171,45 @@ public final class IndexSettings {
         Property.IndexScope
     );
 
+    /**
+     * The interval over which the translog syncs of write requests are grouped into a single fsync when the translog durability is
+     * {@link Translog.Durability#REQUEST}. Write requests are still only acknowledged once their operations are fsynced. Defaults to
+     * {@code 0}, in which case the thread of a write request fsyncs the translog right away for all pending requests of the shard.
+     */
+    public static final Setting<TimeValue> INDEX_TRANSLOG_GROUP_COMMIT_INTERVAL_SETTING = Setting.timeSetting(
+        "index.translog.group_commit_interval",
+        TimeValue.ZERO,
+        TimeValue.ZERO,
+        Property.IndexScope
+    );
+
+    /**
+     * The number of {@code bulk_parse} threads that parse and analyze the documents of a shard bulk request ahead of the write thread
+     * that indexes them in order. Defaults to {@code 0}, in which case documents are parsed by the write thread only.
+     */
+    public static final Setting<Integer> INDEX_BULK_PARSE_PARALLELISM_SETTING = Setting.intSetting(
+        "index.bulk.parse_parallelism",
+        0,
+        0,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+
+    /**
+     * The time window within which documents with client supplied ids are deduplicated on the primary without a version lookup. Ids
+     * that were not indexed by the shard within the window are confirmed as new by a bloom filter rather than by looking up their
+     * version, and their documents replace any older document with the same id. A document that is indexed again after the window
+     * therefore gets version {@code 1} and reports being created, so the window should only be enabled for indices whose ids are
+     * unique apart from retries within the window. Requests with {@code op_type=create} or a version condition always look up the
+     * current version and are unaffected. Defaults to {@code 0}, which disables the window.
+     */
+    public static final Setting<TimeValue> INDEX_DEDUP_WINDOW_SETTING = Setting.timeSetting(
+        "index.indexing.dedup_window",
+        TimeValue.ZERO,
+        TimeValue.ZERO,
+        Property.IndexScope
+    );
+
     public static final Setting<TimeValue> INDEX_PUBLISH_REFERENCED_SEGMENTS_INTERVAL_SETTING = Setting.timeSetting(
         "index.segment_replication.publish_referenced_segments_interval",
         TimeValue.timeValueMinutes(10),
@@ -347,6 +386,18 @@ public final class IndexSettings {
         Property.Dynamic,
         Property.IndexScope
     );
+    /**
+     * Index setting to serve the {@code fields} of a search request from doc values rather than from {@code _source} for every
+     * requested field that supports it. When all requested fields are served from doc values and {@code _source} itself isn't
+     * requested, the fetch phase skips loading and decompressing {@code _source} altogether. Doc values are sorted and, for
+     * some field types, deduplicated and normalized, so the returned values may differ from the ones in {@code _source}.
+     */
+    public static final Setting<Boolean> FETCH_FIELDS_FROM_DOC_VALUES_SETTING = Setting.boolSetting(
+        "index.search.fetch_fields_from_doc_values",
+        false,
+        Property.Dynamic,
+        Property.IndexScope
+    );
     /**
      * Index setting describing the maximum size of the rescore window. Defaults to {@link #MAX_RESULT_WINDOW_SETTING}
      * because they both do the same thing: control the size of the heap of hits.
@@ -773,6 +824,29 @@ public final class IndexSettings {
         Property.IndexScope
     );
 
+    /**
+     * Whether translog files are compressed with zstd before they are uploaded to the remote translog store. Downloaded translog files
+     * are decompressed regardless of this setting, local translog files are never compressed.
+     */
+    public static final Setting<Boolean> INDEX_REMOTE_TRANSLOG_COMPRESSION_ENABLED_SETTING = Setting.boolSetting(
+        "index.remote_store.translog.compression.enabled",
+        false,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+
+    /**
+     * Whether the engine keeps the versions of recently indexed documents in a map made of {@link org.opensearch.common.util.BigArrays}
+     * pages, charged to the indexing circuit breaker, rather than in a map of objects. This reduces garbage collection pressure on
+     * update heavy indices.
+     */
+    public static final Setting<Boolean> INDEX_PAGED_VERSION_MAP_ENABLED_SETTING = Setting.boolSetting(
+        "index.version_map.paged.enabled",
+        false,
+        Property.IndexScope,
+        Property.Final
+    );
+
     public static final Setting<Long> INDEX_CONTEXT_CREATED_VERSION = Setting.longSetting(
         "index.context.created_version",
         0,
@@ -810,6 +884,7 @@ public final class IndexSettings {
     private volatile String remoteStoreTranslogRepository;
     private volatile String remoteStoreRepository;
     private int remoteTranslogKeepExtraGen;
+    private volatile boolean remoteTranslogCompressionEnabled;
     private boolean autoForcemergeEnabled;
 
     // volatile fields are updated via #updateIndexMetadata(IndexMetadata) under lock
@@ -822,6 +897,9 @@ public final class IndexSettings {
     private final boolean defaultAllowUnmappedFields;
     private volatile Translog.Durability durability;
     private volatile TimeValue syncInterval;
+    private final TimeValue translogGroupCommitInterval;
+    private volatile int bulkParseParallelism;
+    private final TimeValue dedupWindow;
     private volatile TimeValue publishReferencedSegmentsInterval;
     private volatile TimeValue refreshInterval;
     private volatile ByteSizeValue flushThresholdSize;
@@ -836,6 +914,7 @@ public final class IndexSettings {
     private final IndexScopedSettings scopedSettings;
     private long gcDeletesInMillis = DEFAULT_GC_DELETES.millis();
     private final boolean softDeleteEnabled;
+    private final boolean pagedVersionMapEnabled;
     private volatile long softDeleteRetentionOperations;
 
     private volatile long retentionLeaseMillis;
@@ -866,6 +945,7 @@ public final class IndexSettings {
     private volatile int maxAdjacencyMatrixFilters;
     private volatile int maxRescoreWindow;
     private volatile int maxDocvalueFields;
+    private volatile boolean fetchFieldsFromDocValues;
     private volatile int maxScriptFields;
     private volatile int maxTokenCount;
     private volatile int maxNgramDiff;
@@ -1025,6 +1105,7 @@ public final class IndexSettings {
         remoteTranslogUploadBufferInterval = INDEX_REMOTE_TRANSLOG_BUFFER_INTERVAL_SETTING.get(settings);
         remoteStoreRepository = settings.get(IndexMetadata.SETTING_REMOTE_SEGMENT_STORE_REPOSITORY);
         this.remoteTranslogKeepExtraGen = INDEX_REMOTE_TRANSLOG_KEEP_EXTRA_GEN_SETTING.get(settings);
+        this.remoteTranslogCompressionEnabled = INDEX_REMOTE_TRANSLOG_COMPRESSION_ENABLED_SETTING.get(settings);
         this.searchThrottled = INDEX_SEARCH_THROTTLED.get(settings);
         this.shouldCleanupUnreferencedFiles = INDEX_UNREFERENCED_FILE_CLEANUP.get(settings);
         this.queryStringLenient = QUERY_STRING_LENIENT_SETTING.get(settings);
@@ -1035,6 +1116,9 @@ public final class IndexSettings {
         this.durability = scopedSettings.get(INDEX_TRANSLOG_DURABILITY_SETTING);
         defaultFields = scopedSettings.get(DEFAULT_FIELD_SETTING);
         syncInterval = INDEX_TRANSLOG_SYNC_INTERVAL_SETTING.get(settings);
+        translogGroupCommitInterval = INDEX_TRANSLOG_GROUP_COMMIT_INTERVAL_SETTING.get(settings);
+        bulkParseParallelism = scopedSettings.get(INDEX_BULK_PARSE_PARALLELISM_SETTING);
+        dedupWindow = INDEX_DEDUP_WINDOW_SETTING.get(settings);
         publishReferencedSegmentsInterval = INDEX_PUBLISH_REFERENCED_SEGMENTS_INTERVAL_SETTING.get(settings);
         refreshInterval = scopedSettings.get(INDEX_REFRESH_INTERVAL_SETTING);
         flushThresholdSize = scopedSettings.get(INDEX_TRANSLOG_FLUSH_THRESHOLD_SIZE_SETTING);
@@ -1043,6 +1127,7 @@ public final class IndexSettings {
         mergeSchedulerConfig = new MergeSchedulerConfig(this);
         gcDeletesInMillis = scopedSettings.get(INDEX_GC_DELETES_SETTING).getMillis();
         softDeleteEnabled = scopedSettings.get(INDEX_SOFT_DELETES_SETTING);
+        pagedVersionMapEnabled = scopedSettings.get(INDEX_PAGED_VERSION_MAP_ENABLED_SETTING);
         assert softDeleteEnabled || version.before(Version.V_2_0_0) : "soft deletes must be enabled in version " + version;
         softDeleteRetentionOperations = scopedSettings.get(INDEX_SOFT_DELETES_RETENTION_OPERATIONS_SETTING);
         retentionLeaseMillis = scopedSettings.get(INDEX_SOFT_DELETES_RETENTION_LEASE_PERIOD_SETTING).millis();
@@ -1052,6 +1137,7 @@ public final class IndexSettings {
         maxAdjacencyMatrixFilters = scopedSettings.get(MAX_ADJACENCY_MATRIX_FILTERS_SETTING);
         maxRescoreWindow = scopedSettings.get(MAX_RESCORE_WINDOW_SETTING);
         maxDocvalueFields = scopedSettings.get(MAX_DOCVALUE_FIELDS_SEARCH_SETTING);
+        fetchFieldsFromDocValues = scopedSettings.get(FETCH_FIELDS_FROM_DOC_VALUES_SETTING);
         maxScriptFields = scopedSettings.get(MAX_SCRIPT_FIELDS_SETTING);
         maxTokenCount = scopedSettings.get(MAX_TOKEN_COUNT_SETTING);
         maxNgramDiff = scopedSettings.get(MAX_NGRAM_DIFF_SETTING);
@@ -1166,6 +1252,8 @@ public final class IndexSettings {
         scopedSettings.addSettingsUpdateConsumer(MAX_ADJACENCY_MATRIX_FILTERS_SETTING, this::setMaxAdjacencyMatrixFilters);
         scopedSettings.addSettingsUpdateConsumer(MAX_RESCORE_WINDOW_SETTING, this::setMaxRescoreWindow);
         scopedSettings.addSettingsUpdateConsumer(MAX_DOCVALUE_FIELDS_SEARCH_SETTING, this::setMaxDocvalueFields);
+        scopedSettings.addSettingsUpdateConsumer(FETCH_FIELDS_FROM_DOC_VALUES_SETTING, this::setFetchFieldsFromDocValues);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_BULK_PARSE_PARALLELISM_SETTING, this::setBulkParseParallelism);
         scopedSettings.addSettingsUpdateConsumer(MAX_SCRIPT_FIELDS_SETTING, this::setMaxScriptFields);
         scopedSettings.addSettingsUpdateConsumer(MAX_TOKEN_COUNT_SETTING, this::setMaxTokenCount);
         scopedSettings.addSettingsUpdateConsumer(MAX_NGRAM_DIFF_SETTING, this::setMaxNgramDiff);
@@ -1207,6 +1295,10 @@ public final class IndexSettings {
             this::setRemoteTranslogUploadBufferInterval
         );
         scopedSettings.addSettingsUpdateConsumer(INDEX_REMOTE_TRANSLOG_KEEP_EXTRA_GEN_SETTING, this::setRemoteTranslogKeepExtraGen);
+        scopedSettings.addSettingsUpdateConsumer(
+            INDEX_REMOTE_TRANSLOG_COMPRESSION_ENABLED_SETTING,
+            this::setRemoteTranslogCompressionEnabled
+        );
         this.autoForcemergeEnabled = scopedSettings.get(INDEX_AUTO_FORCE_MERGES_ENABLED);
         scopedSettings.addSettingsUpdateConsumer(INDEX_AUTO_FORCE_MERGES_ENABLED, this::setAutoForcemergeEnabled);
         scopedSettings.addSettingsUpdateConsumer(INDEX_DOC_ID_FUZZY_SET_ENABLED_SETTING, this::setEnableFuzzySetForDocId);
@@ -1537,6 +1629,32 @@ public final class IndexSettings {
         this.syncInterval = translogSyncInterval;
     }
 
+    /**
+     * Returns the interval over which the translog syncs of write requests are grouped, or {@link TimeValue#ZERO} if they aren't
+     */
+    public TimeValue getTranslogGroupCommitInterval() {
+        return translogGroupCommitInterval;
+    }
+
+    /**
+     * Returns the number of threads that parse and analyze the documents of a shard bulk request ahead of indexing
+     */
+    public int getBulkParseParallelism() {
+        return bulkParseParallelism;
+    }
+
+    private void setBulkParseParallelism(int bulkParseParallelism) {
+        this.bulkParseParallelism = bulkParseParallelism;
+    }
+
+    /**
+     * Returns the time window within which documents with client supplied ids are deduplicated without a version lookup, or
+     * {@link TimeValue#ZERO} if they are always looked up
+     */
+    public TimeValue getDedupWindow() {
+        return dedupWindow;
+    }
+
     public TimeValue getPublishReferencedSegmentsInterval() {
         return publishReferencedSegmentsInterval;
     }
@@ -1559,6 +1677,17 @@ public final class IndexSettings {
         return remoteTranslogKeepExtraGen;
     }
 
+    /**
+     * Returns whether translog files are compressed before they are uploaded to the remote translog store
+     */
+    public boolean isRemoteTranslogCompressionEnabled() {
+        return remoteTranslogCompressionEnabled;
+    }
+
+    private void setRemoteTranslogCompressionEnabled(boolean remoteTranslogCompressionEnabled) {
+        this.remoteTranslogCompressionEnabled = remoteTranslogCompressionEnabled;
+    }
+
     /**
      * Returns true iff the remote translog buffer interval setting exists or in other words is explicitly set.
      */
@@ -1715,6 +1844,17 @@ public final class IndexSettings {
         this.maxDocvalueFields = maxDocvalueFields;
     }
 
+    /**
+     * Returns whether the requested {@code fields} are served from doc values when possible
+     */
+    public boolean isFetchFieldsFromDocValues() {
+        return fetchFieldsFromDocValues;
+    }
+
+    private void setFetchFieldsFromDocValues(boolean fetchFieldsFromDocValues) {
+        this.fetchFieldsFromDocValues = fetchFieldsFromDocValues;
+    }
+
     /**
      * Returns the maximum number of tokens that can be produced
      */
@@ -1945,6 +2085,13 @@ public final class IndexSettings {
         return softDeleteEnabled;
     }
 
+    /**
+     * Returns <code>true</code> if the engine keeps its live version map in paged arrays.
+     */
+    public boolean isPagedVersionMapEnabled() {
+        return pagedVersionMapEnabled;
+    }
+
     private void setSoftDeleteRetentionOperations(long ops) {
         this.softDeleteRetentionOperations = ops;
     }
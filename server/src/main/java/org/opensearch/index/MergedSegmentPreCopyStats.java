@@ -0,0 +1,130 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index;
+
+import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Stats of the merged segments a primary shard copied to its replicas before the merge was committed.
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public class MergedSegmentPreCopyStats implements Writeable, ToXContentFragment {
+
+    private final long total;
+    private final long totalSizeInBytes;
+    private final long totalTimeInMillis;
+
+    public MergedSegmentPreCopyStats(long total, long totalSizeInBytes, long totalTimeInMillis) {
+        this.total = total;
+        this.totalSizeInBytes = totalSizeInBytes;
+        this.totalTimeInMillis = totalTimeInMillis;
+    }
+
+    public MergedSegmentPreCopyStats(StreamInput in) throws IOException {
+        this.total = in.readVLong();
+        this.totalSizeInBytes = in.readVLong();
+        this.totalTimeInMillis = in.readVLong();
+    }
+
+    public static MergedSegmentPreCopyStats empty() {
+        return new MergedSegmentPreCopyStats(0, 0, 0);
+    }
+
+    /**
+     * The number of merged segments that were copied to the replicas.
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * The total size of the merged segments that were copied to the replicas.
+     */
+    public long getTotalSizeInBytes() {
+        return totalSizeInBytes;
+    }
+
+    /**
+     * The total time merges waited for their merged segment to be copied to the replicas.
+     */
+    public long getTotalTimeInMillis() {
+        return totalTimeInMillis;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(total);
+        out.writeVLong(totalSizeInBytes);
+        out.writeVLong(totalTimeInMillis);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(Fields.MERGED_SEGMENT_PRE_COPY);
+        builder.field(Fields.TOTAL, total);
+        builder.humanReadableField(Fields.TOTAL_SIZE_IN_BYTES, Fields.TOTAL_SIZE, new ByteSizeValue(totalSizeInBytes));
+        builder.humanReadableField(Fields.TOTAL_TIME_IN_MILLIS, Fields.TOTAL_TIME, new TimeValue(totalTimeInMillis));
+        return builder.endObject();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        MergedSegmentPreCopyStats that = (MergedSegmentPreCopyStats) o;
+        return total == that.total && totalSizeInBytes == that.totalSizeInBytes && totalTimeInMillis == that.totalTimeInMillis;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(total, totalSizeInBytes, totalTimeInMillis);
+    }
+
+    @Override
+    public String toString() {
+        return "MergedSegmentPreCopyStats{"
+            + "total="
+            + total
+            + ", totalSizeInBytes="
+            + totalSizeInBytes
+            + ", totalTimeInMillis="
+            + totalTimeInMillis
+            + '}';
+    }
+
+    /**
+     * Fields for merged segment pre-copy stats
+     *
+     * @opensearch.internal
+     */
+    static final class Fields {
+        static final String MERGED_SEGMENT_PRE_COPY = "merged_segment_pre_copy";
+        static final String TOTAL = "total";
+        static final String TOTAL_SIZE = "total_size";
+        static final String TOTAL_SIZE_IN_BYTES = "total_size_in_bytes";
+        static final String TOTAL_TIME = "total_time";
+        static final String TOTAL_TIME_IN_MILLIS = "total_time_in_millis";
+    }
+}
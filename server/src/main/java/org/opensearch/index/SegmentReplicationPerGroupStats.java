@@ -8,6 +8,7 @@
 
 package org.opensearch.index;
 
+import org.opensearch.Version;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -30,17 +31,33 @@ public class SegmentReplicationPerGroupStats implements Writeable, ToXContentFra
     private final ShardId shardId;
     private final Set<SegmentReplicationShardStats> replicaStats;
     private final long rejectedRequestCount;
+    private final MergedSegmentPreCopyStats mergedSegmentPreCopyStats;
 
     public SegmentReplicationPerGroupStats(ShardId shardId, Set<SegmentReplicationShardStats> replicaStats, long rejectedRequestCount) {
+        this(shardId, replicaStats, rejectedRequestCount, MergedSegmentPreCopyStats.empty());
+    }
+
+    public SegmentReplicationPerGroupStats(
+        ShardId shardId,
+        Set<SegmentReplicationShardStats> replicaStats,
+        long rejectedRequestCount,
+        MergedSegmentPreCopyStats mergedSegmentPreCopyStats
+    ) {
         this.shardId = shardId;
         this.replicaStats = replicaStats;
         this.rejectedRequestCount = rejectedRequestCount;
+        this.mergedSegmentPreCopyStats = mergedSegmentPreCopyStats;
     }
 
     public SegmentReplicationPerGroupStats(StreamInput in) throws IOException {
         this.shardId = new ShardId(in);
         this.replicaStats = in.readSet(SegmentReplicationShardStats::new);
         this.rejectedRequestCount = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_3_2_0)) {
+            this.mergedSegmentPreCopyStats = new MergedSegmentPreCopyStats(in);
+        } else {
+            this.mergedSegmentPreCopyStats = MergedSegmentPreCopyStats.empty();
+        }
     }
 
     public Set<SegmentReplicationShardStats> getReplicaStats() {
@@ -55,6 +72,10 @@ public class SegmentReplicationPerGroupStats implements Writeable, ToXContentFra
         return shardId;
     }
 
+    public MergedSegmentPreCopyStats getMergedSegmentPreCopyStats() {
+        return mergedSegmentPreCopyStats;
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.field("rejected_requests", rejectedRequestCount);
@@ -63,6 +84,7 @@ public class SegmentReplicationPerGroupStats implements Writeable, ToXContentFra
             stats.toXContent(builder, params);
         }
         builder.endArray();
+        mergedSegmentPreCopyStats.toXContent(builder, params);
         return builder;
     }
 
@@ -71,10 +93,20 @@ public class SegmentReplicationPerGroupStats implements Writeable, ToXContentFra
         shardId.writeTo(out);
         out.writeCollection(replicaStats);
         out.writeVLong(rejectedRequestCount);
+        if (out.getVersion().onOrAfter(Version.V_3_2_0)) {
+            mergedSegmentPreCopyStats.writeTo(out);
+        }
     }
 
     @Override
     public String toString() {
-        return "SegmentReplicationPerGroupStats{" + "replicaStats=" + replicaStats + ", rejectedRequestCount=" + rejectedRequestCount + '}';
+        return "SegmentReplicationPerGroupStats{"
+            + "replicaStats="
+            + replicaStats
+            + ", rejectedRequestCount="
+            + rejectedRequestCount
+            + ", mergedSegmentPreCopyStats="
+            + mergedSegmentPreCopyStats
+            + '}';
     }
 }
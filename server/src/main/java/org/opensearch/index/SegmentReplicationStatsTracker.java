@@ -68,7 +68,8 @@ public class SegmentReplicationStatsTracker {
         return new SegmentReplicationPerGroupStats(
             indexShard.shardId(),
             indexShard.getReplicationStatsForTrackedReplicas(),
-            Optional.ofNullable(rejectionCount.get(indexShard.shardId())).map(AtomicInteger::get).orElse(0)
+            Optional.ofNullable(rejectionCount.get(indexShard.shardId())).map(AtomicInteger::get).orElse(0),
+            indexShard.mergedSegmentPreCopyStats()
         );
     }
 }
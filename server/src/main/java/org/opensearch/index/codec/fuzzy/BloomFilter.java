@@ -58,9 +58,8 @@ public class BloomFilter extends AbstractFuzzySet {
     private final int hashCount;
 
     BloomFilter(long maxDocs, double maxFpp, CheckedSupplier<Iterator<BytesRef>, IOException> fieldIteratorProvider) throws IOException {
-        int setSize = (int) Math.ceil((maxDocs * Math.log(maxFpp)) / Math.log(1 / Math.pow(2, Math.log(2))));
-        setSize = getNearestSetSize(setSize < Integer.MAX_VALUE / 2 ? 2 * setSize : Integer.MAX_VALUE);
-        int optimalK = (int) Math.round(((double) setSize / maxDocs) * Math.log(2));
+        int setSize = setSize(maxDocs, maxFpp);
+        int optimalK = hashCount(setSize, maxDocs);
         this.bitset = new LongArrayBackedBitSet(setSize);
         this.setSize = setSize;
         this.hashCount = optimalK;
@@ -84,6 +83,21 @@ public class BloomFilter extends AbstractFuzzySet {
         bitset.writeTo(out);
     }
 
+    /**
+     * Returns the size of the bitset, which is one less than a power of two, for the given number of items and false positive rate.
+     */
+    static int setSize(long maxDocs, double maxFpp) {
+        int setSize = (int) Math.ceil((maxDocs * Math.log(maxFpp)) / Math.log(1 / Math.pow(2, Math.log(2))));
+        return getNearestSetSize(setSize < Integer.MAX_VALUE / 2 ? 2 * setSize : Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the optimal number of hash functions for the given bitset size and number of items.
+     */
+    static int hashCount(int setSize, long maxDocs) {
+        return (int) Math.round(((double) setSize / maxDocs) * Math.log(2));
+    }
+
     private static int getNearestSetSize(int maxNumberOfBits) {
         assert maxNumberOfBits > 0 : "Provided size estimate for bloom filter is illegal (<=0) : " + maxNumberOfBits;
         int result = usableBitSetSizes[0];
@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.fuzzy;
+
+import org.apache.lucene.store.DataOutput;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.RamUsageEstimator;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A {@link BloomFilter} that items can be added to concurrently after it was created, for filters that are built while indexing
+ * rather than from the terms of a flushed segment. It uses the same sizing, hashing and serialization as {@link BloomFilter}, so a
+ * serialized filter can be read back as a {@link BloomFilter}.
+ */
+public class ConcurrentBloomFilter extends AbstractFuzzySet {
+
+    private static final long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(ConcurrentBloomFilter.class);
+
+    private final AtomicLongArray bits;
+    private final int setSize;
+    private final int hashCount;
+
+    /**
+     * @param maxItems the number of items the filter is sized for
+     * @param maxFpp the false positive probability of the filter once it contains {@code maxItems} items
+     */
+    public ConcurrentBloomFilter(long maxItems, double maxFpp) {
+        this.setSize = BloomFilter.setSize(maxItems, maxFpp);
+        this.hashCount = Math.max(1, BloomFilter.hashCount(setSize, maxItems));
+        this.bits = new AtomicLongArray((setSize >> 6) + 1);
+    }
+
+    @Override
+    public SetType setType() {
+        return SetType.BLOOM_FILTER_V1;
+    }
+
+    /**
+     * Adds an item to this filter. Safe to call concurrently with other additions and membership checks.
+     */
+    @Override
+    public void add(BytesRef value) {
+        long hash = generateKey(value);
+        int msb = (int) (hash >>> Integer.SIZE);
+        int lsb = (int) hash;
+        for (int i = 0; i < hashCount; i++) {
+            // Bitmasking using setSize is effectively a modulo operation since set sizes are always a power of 2 minus 1
+            int bloomPos = (lsb + i * msb) & setSize;
+            int word = bloomPos >> 6;
+            long bitmask = 1L << bloomPos;
+            if ((bits.get(word) & bitmask) == 0) {
+                bits.getAndAccumulate(word, bitmask, (current, mask) -> current | mask);
+            }
+        }
+    }
+
+    @Override
+    protected Result containsHash(long hash) {
+        int msb = (int) (hash >>> Integer.SIZE);
+        int lsb = (int) hash;
+        for (int i = 0; i < hashCount; i++) {
+            int bloomPos = (lsb + i * msb) & setSize;
+            if ((bits.get(bloomPos >> 6) & (1L << bloomPos)) == 0) {
+                return Result.NO;
+            }
+        }
+        return Result.MAYBE;
+    }
+
+    @Override
+    public boolean isSaturated() {
+        long numBitsSet = 0;
+        for (int i = 0; i < bits.length(); i++) {
+            numBitsSet += Long.bitCount(bits.get(i));
+        }
+        return (float) numBitsSet / (float) setSize > 0.9f;
+    }
+
+    @Override
+    public void writeTo(DataOutput out) throws IOException {
+        // same format as BloomFilter and its LongArrayBackedBitSet
+        out.writeInt(hashCount);
+        out.writeInt(setSize);
+        out.writeLong(bits.length());
+        for (int i = 0; i < bits.length(); i++) {
+            out.writeLong(bits.get(i));
+        }
+    }
+
+    @Override
+    public long ramBytesUsed() {
+        return ramBytesUsed(bits.length());
+    }
+
+    /**
+     * Returns the number of bytes a filter created with the given arguments uses, without allocating it.
+     */
+    public static long ramBytesUsed(long maxItems, double maxFpp) {
+        return ramBytesUsed((BloomFilter.setSize(maxItems, maxFpp) >> 6) + 1);
+    }
+
+    private static long ramBytesUsed(int words) {
+        // the atomic array wraps a long[] of the same length
+        return BASE_RAM_BYTES_USED + RamUsageEstimator.alignObjectSize(
+            RamUsageEstimator.NUM_BYTES_OBJECT_HEADER + RamUsageEstimator.NUM_BYTES_ARRAY_HEADER + (long) words * Long.BYTES
+        );
+    }
+
+    @Override
+    public void close() {}
+}
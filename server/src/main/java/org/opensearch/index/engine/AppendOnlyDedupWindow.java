@@ -0,0 +1,222 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.breaker.CircuitBreakingException;
+import org.opensearch.core.common.breaker.NoopCircuitBreaker;
+import org.opensearch.index.codec.fuzzy.ConcurrentBloomFilter;
+import org.opensearch.index.codec.fuzzy.FuzzySet;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Remembers the ids of the documents indexed by an engine within a sliding time window, in a series of bloom filters that each cover
+ * a part of the window. An id that none of the filters contains was not indexed by this engine within the window, which lets the
+ * primary index a document with a client supplied id without looking up its current version first.
+ * <p>
+ * The filters only know about ids indexed since the engine was opened, so membership checks only answer {@code false} once the engine
+ * has been open for longer than the window. The same applies after a filter had to be dropped early to bound the memory used.
+ * <p>
+ * Each new partition is sized for the ids the engine indexed over a window at the rate observed in the previous partition, between
+ * {@link #MIN_IDS_PER_PARTITION} and {@link #MAX_IDS_PER_PARTITION} ids. The filters are charged to the given circuit breaker, which
+ * bounds their memory across the node. If the breaker refuses a new filter, ids keep going into the current one, which only makes
+ * false positives more likely.
+ *
+ * @opensearch.internal
+ */
+final class AppendOnlyDedupWindow implements Accountable, Releasable {
+
+    static final int MIN_IDS_PER_PARTITION = 1 << 14;
+    static final int MAX_IDS_PER_PARTITION = 1 << 20;
+    static final double FALSE_POSITIVE_PROBABILITY = 0.01d;
+    static final int MAX_PARTITIONS = 16;
+
+    private final long windowNanos;
+    private final int minIdsPerPartition;
+    private final int maxIdsPerPartition;
+    private final CircuitBreaker breaker;
+    private final LongSupplier nanoTimeSupplier;
+    /** the partitions of the window, the newest one first */
+    private volatile Partition[] partitions;
+    /** ids that aren't in any partition may have been indexed within the window until this time */
+    private volatile long trustedFromNanos;
+    private boolean closed;
+
+    AppendOnlyDedupWindow(long windowNanos, CircuitBreaker breaker, LongSupplier nanoTimeSupplier) {
+        this(windowNanos, MIN_IDS_PER_PARTITION, MAX_IDS_PER_PARTITION, breaker, nanoTimeSupplier);
+    }
+
+    AppendOnlyDedupWindow(long windowNanos, int idsPerPartition, LongSupplier nanoTimeSupplier) {
+        this(windowNanos, idsPerPartition, idsPerPartition, new NoopCircuitBreaker(CircuitBreaker.INDEXING), nanoTimeSupplier);
+    }
+
+    AppendOnlyDedupWindow(
+        long windowNanos,
+        int minIdsPerPartition,
+        int maxIdsPerPartition,
+        CircuitBreaker breaker,
+        LongSupplier nanoTimeSupplier
+    ) {
+        assert windowNanos > 0 : windowNanos;
+        assert minIdsPerPartition > 0 && minIdsPerPartition <= maxIdsPerPartition : minIdsPerPartition + " " + maxIdsPerPartition;
+        this.windowNanos = windowNanos;
+        this.minIdsPerPartition = minIdsPerPartition;
+        this.maxIdsPerPartition = maxIdsPerPartition;
+        this.breaker = breaker;
+        this.nanoTimeSupplier = nanoTimeSupplier;
+        final long now = nanoTimeSupplier.getAsLong();
+        // the first filter is small, don't fail opening the engine for it
+        breaker.addWithoutBreaking(ConcurrentBloomFilter.ramBytesUsed(minIdsPerPartition, FALSE_POSITIVE_PROBABILITY));
+        this.partitions = new Partition[] { new Partition(now, minIdsPerPartition, now + windowNanos) };
+        this.trustedFromNanos = now + windowNanos;
+    }
+
+    /**
+     * Returns {@code false} if the given id was definitely not indexed by this engine within the window. Calls must be serialized
+     * with {@link #add(BytesRef)} for the same id.
+     */
+    boolean mayContain(BytesRef id) {
+        if (nanoTimeSupplier.getAsLong() - trustedFromNanos < 0) {
+            return true;
+        }
+        for (Partition partition : partitions) {
+            if (partition.filter.contains(id) == FuzzySet.Result.MAYBE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Records that the given id was indexed now.
+     */
+    void add(BytesRef id) {
+        final long now = nanoTimeSupplier.getAsLong();
+        Partition current = partitions[0];
+        if (current.count.get() >= current.rotateAtCount || now - current.rotateAtNanos > 0) {
+            current = rotate(now);
+        }
+        current.filter.add(id);
+        current.count.incrementAndGet();
+        current.lastAddNanos = now;
+    }
+
+    private synchronized Partition rotate(long now) {
+        final Partition current = partitions[0];
+        if (current.count.get() < current.rotateAtCount && now - current.rotateAtNanos <= 0) {
+            // another thread rotated already
+            return current;
+        }
+        // drop the partitions whose ids were all indexed before the window, the current one may still be added to concurrently
+        int live = 1;
+        while (live < partitions.length && now - partitions[live].lastAddNanos <= windowNanos) {
+            live++;
+        }
+        if (live < partitions.length) {
+            setPartitions(Arrays.copyOf(partitions, live), live);
+        }
+        final int maxIds = nextPartitionSize(current, now);
+        if (tryReserve(ConcurrentBloomFilter.ramBytesUsed(maxIds, FALSE_POSITIVE_PROBABILITY)) == false) {
+            // keep adding to the current filter, trading false positives for memory, until it took as many ids again
+            current.rotateAtCount = (int) Math.min(Integer.MAX_VALUE, 2L * current.rotateAtCount);
+            current.rotateAtNanos = now + windowNanos;
+            return current;
+        }
+        if (live >= MAX_PARTITIONS) {
+            // dropping ids of the window, they could come in again until the window moved past them
+            final Partition dropped = partitions[MAX_PARTITIONS - 1];
+            trustedFromNanos = Math.max(trustedFromNanos, dropped.lastAddNanos + windowNanos);
+            live = MAX_PARTITIONS - 1;
+        }
+        final Partition[] newPartitions = new Partition[live + 1];
+        newPartitions[0] = new Partition(now, maxIds, now + windowNanos);
+        System.arraycopy(partitions, 0, newPartitions, 1, live);
+        setPartitions(newPartitions, live);
+        return newPartitions[0];
+    }
+
+    /**
+     * Sizes the next partition for the ids indexed over a window at the rate the current partition was filled.
+     */
+    private int nextPartitionSize(Partition current, long now) {
+        final long elapsedNanos = Math.max(1, now - current.startNanos);
+        final double idsPerWindow = (double) current.count.get() * windowNanos / elapsedNanos;
+        return (int) Math.max(minIdsPerPartition, Math.min(maxIdsPerPartition, Math.ceil(idsPerWindow)));
+    }
+
+    private boolean tryReserve(long bytes) {
+        if (closed) {
+            return false;
+        }
+        try {
+            breaker.addEstimateBytesAndMaybeBreak(bytes, "<dedup_window>");
+            return true;
+        } catch (CircuitBreakingException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Replaces the partitions, releasing the current partitions from the given index on.
+     */
+    private void setPartitions(Partition[] newPartitions, int dropFrom) {
+        if (closed == false) {
+            long dropped = 0;
+            for (int i = dropFrom; i < partitions.length; i++) {
+                dropped += partitions[i].filter.ramBytesUsed();
+            }
+            breaker.addWithoutBreaking(-dropped);
+        }
+        partitions = newPartitions;
+    }
+
+    int partitionCount() {
+        return partitions.length;
+    }
+
+    @Override
+    public long ramBytesUsed() {
+        return Arrays.stream(partitions).mapToLong(partition -> partition.filter.ramBytesUsed()).sum();
+    }
+
+    /**
+     * Releases the filters from the circuit breaker. Membership checks still work, but no new filters are allocated.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed == false) {
+            closed = true;
+            breaker.addWithoutBreaking(-ramBytesUsed());
+        }
+    }
+
+    private static final class Partition {
+        private final long startNanos;
+        private final ConcurrentBloomFilter filter;
+        private final AtomicInteger count = new AtomicInteger();
+        private volatile long lastAddNanos;
+        /** the number of ids and the time after which a new partition is started */
+        private volatile int rotateAtCount;
+        private volatile long rotateAtNanos;
+
+        private Partition(long startNanos, int maxIds, long rotateAtNanos) {
+            this.startNanos = startNanos;
+            this.lastAddNanos = startNanos;
+            this.filter = new ConcurrentBloomFilter(maxIds, FALSE_POSITIVE_PROBABILITY);
+            this.rotateAtCount = maxIds;
+            this.rotateAtNanos = rotateAtNanos;
+        }
+    }
+}
@@ -64,6 +64,7 @@ import org.opensearch.index.translog.TranslogConfig;
 import org.opensearch.index.translog.TranslogDeletionPolicyFactory;
 import org.opensearch.index.translog.TranslogFactory;
 import org.opensearch.indices.IndexingMemoryController;
+import org.opensearch.indices.NodeMergeArbiter;
 import org.opensearch.threadpool.ThreadPool;
 
 import java.util.Comparator;
@@ -115,6 +116,8 @@ public final class EngineConfig {
     private final Comparator<LeafReader> leafSorter;
     private final Supplier<DocumentMapperForType> documentMapperForTypeSupplier;
     private final ClusterApplierService clusterApplierService;
+    @Nullable
+    private final NodeMergeArbiter mergeArbiter;
 
     /**
      * A supplier of the outstanding retention leases. This is used during merged operations to determine which operations that have been
@@ -306,6 +309,7 @@ public final class EngineConfig {
         this.documentMapperForTypeSupplier = builder.documentMapperForTypeSupplier;
         this.indexReaderWarmer = builder.indexReaderWarmer;
         this.clusterApplierService = builder.clusterApplierService;
+        this.mergeArbiter = builder.mergeArbiter;
     }
 
     /**
@@ -586,6 +590,15 @@ public final class EngineConfig {
         return this.clusterApplierService;
     }
 
+    /**
+     * Returns the arbiter that limits the number of concurrent merges across the shards of the node, or {@code null} if merges are
+     * only limited per shard.
+     */
+    @Nullable
+    public NodeMergeArbiter getMergeArbiter() {
+        return this.mergeArbiter;
+    }
+
     /**
      * Builder for EngineConfig class
      *
@@ -622,6 +635,7 @@ public final class EngineConfig {
         Comparator<LeafReader> leafSorter;
         private IndexWriter.IndexReaderWarmer indexReaderWarmer;
         private ClusterApplierService clusterApplierService;
+        private NodeMergeArbiter mergeArbiter;
 
         public Builder shardId(ShardId shardId) {
             this.shardId = shardId;
@@ -773,6 +787,11 @@ public final class EngineConfig {
             return this;
         }
 
+        public Builder mergeArbiter(NodeMergeArbiter mergeArbiter) {
+            this.mergeArbiter = mergeArbiter;
+            return this;
+        }
+
         public EngineConfig build() {
             return new EngineConfig(this);
         }
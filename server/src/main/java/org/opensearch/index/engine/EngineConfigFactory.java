@@ -34,6 +34,7 @@ import org.opensearch.index.store.Store;
 import org.opensearch.index.translog.TranslogConfig;
 import org.opensearch.index.translog.TranslogDeletionPolicyFactory;
 import org.opensearch.index.translog.TranslogFactory;
+import org.opensearch.indices.NodeMergeArbiter;
 import org.opensearch.plugins.EnginePlugin;
 import org.opensearch.plugins.PluginsService;
 import org.opensearch.threadpool.ThreadPool;
@@ -55,6 +56,8 @@ import java.util.function.Supplier;
 public class EngineConfigFactory {
     private final CodecServiceFactory codecServiceFactory;
     private final TranslogDeletionPolicyFactory translogDeletionPolicyFactory;
+    @Nullable
+    private final NodeMergeArbiter mergeArbiter;
 
     /** default ctor primarily used for tests without plugins */
     public EngineConfigFactory(IndexSettings idxSettings) {
@@ -65,11 +68,23 @@ public class EngineConfigFactory {
      * Construct a factory using the plugin service and provided index settings
      */
     public EngineConfigFactory(PluginsService pluginsService, IndexSettings idxSettings) {
-        this(pluginsService.filterPlugins(EnginePlugin.class), idxSettings);
+        this(pluginsService, idxSettings, null);
+    }
+
+    /**
+     * Construct a factory using the plugin service, provided index settings and the merge arbiter of the node
+     */
+    public EngineConfigFactory(PluginsService pluginsService, IndexSettings idxSettings, @Nullable NodeMergeArbiter mergeArbiter) {
+        this(pluginsService.filterPlugins(EnginePlugin.class), idxSettings, mergeArbiter);
     }
 
     /* private constructor to construct the factory from specific EnginePlugins and IndexSettings */
     EngineConfigFactory(Collection<EnginePlugin> enginePlugins, IndexSettings idxSettings) {
+        this(enginePlugins, idxSettings, null);
+    }
+
+    private EngineConfigFactory(Collection<EnginePlugin> enginePlugins, IndexSettings idxSettings, NodeMergeArbiter mergeArbiter) {
+        this.mergeArbiter = mergeArbiter;
         Optional<CodecService> codecService = Optional.empty();
         String codecServiceOverridingPlugin = null;
         Optional<CodecServiceFactory> codecServiceFactory = Optional.empty();
@@ -197,6 +212,7 @@ public class EngineConfigFactory {
             .documentMapperForTypeSupplier(documentMapperForTypeSupplier)
             .indexReaderWarmer(indexReaderWarmer)
             .clusterApplierService(clusterApplierService)
+            .mergeArbiter(mergeArbiter)
             .build();
     }
 
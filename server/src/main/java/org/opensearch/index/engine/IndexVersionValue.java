@@ -33,6 +33,7 @@
 package org.opensearch.index.engine;
 
 import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.Nullable;
 import org.opensearch.index.translog.Translog;
 
 import java.util.Objects;
@@ -42,44 +43,81 @@ import java.util.Objects;
  *
  * @opensearch.internal
  */
-final class IndexVersionValue extends VersionValue {
+class IndexVersionValue extends VersionValue {
 
     private static final long RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(IndexVersionValue.class);
-    private static final long TRANSLOG_LOC_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(Translog.Location.class);
 
-    private final Translog.Location translogLocation;
+    /**
+     * Creates the version value of an indexed document. The translog location is flattened into the value rather than referenced, so
+     * that the location objects created while indexing can be collected right away instead of being retained, and possibly promoted,
+     * by the version map until the next refresh. Values without a location don't carry the fields for one.
+     */
+    static IndexVersionValue of(@Nullable Translog.Location translogLocation, long version, long seqNo, long term) {
+        if (translogLocation == null) {
+            return new IndexVersionValue(version, seqNo, term);
+        }
+        return new WithLocation(translogLocation, version, seqNo, term);
+    }
 
-    IndexVersionValue(Translog.Location translogLocation, long version, long seqNo, long term) {
+    private IndexVersionValue(long version, long seqNo, long term) {
         super(version, seqNo, term);
-        this.translogLocation = translogLocation;
     }
 
     @Override
     public long ramBytesUsed() {
-        return RAM_BYTES_USED + (translogLocation == null ? 0L : TRANSLOG_LOC_RAM_BYTES_USED);
+        return RAM_BYTES_USED;
     }
 
     @Override
-    public boolean equals(Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        if (!super.equals(o)) return false;
-        IndexVersionValue that = (IndexVersionValue) o;
-        return Objects.equals(translogLocation, that.translogLocation);
+    public String toString() {
+        return "IndexVersionValue{" + "version=" + version + ", seqNo=" + seqNo + ", term=" + term + ", location=" + getLocation() + '}';
     }
 
     @Override
-    public int hashCode() {
-        return Objects.hash(super.hashCode(), translogLocation);
+    public Translog.Location getLocation() {
+        return null;
     }
 
-    @Override
-    public String toString() {
-        return "IndexVersionValue{" + "version=" + version + ", seqNo=" + seqNo + ", term=" + term + ", location=" + translogLocation + '}';
-    }
+    /**
+     * The version value of a document whose index operation has a translog location
+     */
+    private static final class WithLocation extends IndexVersionValue {
 
-    @Override
-    public Translog.Location getLocation() {
-        return translogLocation;
+        private static final long RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(WithLocation.class);
+
+        private final long translogGeneration;
+        private final long translogOffset;
+        private final int translogSize;
+
+        private WithLocation(Translog.Location translogLocation, long version, long seqNo, long term) {
+            super(version, seqNo, term);
+            this.translogGeneration = translogLocation.generation;
+            this.translogOffset = translogLocation.translogLocation;
+            this.translogSize = translogLocation.size;
+        }
+
+        @Override
+        public long ramBytesUsed() {
+            return RAM_BYTES_USED;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (super.equals(o) == false) return false;
+            WithLocation that = (WithLocation) o;
+            return translogGeneration == that.translogGeneration
+                && translogOffset == that.translogOffset
+                && translogSize == that.translogSize;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(super.hashCode(), translogGeneration, translogOffset, translogSize);
+        }
+
+        @Override
+        public Translog.Location getLocation() {
+            return new Translog.Location(translogGeneration, translogOffset, translogSize);
+        }
     }
 }
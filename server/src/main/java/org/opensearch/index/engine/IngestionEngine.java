@@ -239,7 +239,7 @@ public class IngestionEngine extends InternalEngine {
             if (isExternalVersioning && indexResult.getResultType() == Result.Type.SUCCESS) {
                 versionMap.maybePutIndexUnderLock(
                     index.uid().bytes(),
-                    new IndexVersionValue(EMPTY_TRANSLOG_LOCATION, index.version(), index.seqNo(), index.primaryTerm())
+                    IndexVersionValue.of(EMPTY_TRANSLOG_LOCATION, index.version(), index.seqNo(), index.primaryTerm())
                 );
             }
         } catch (VersionConflictEngineException e) {
@@ -82,15 +82,19 @@ import org.opensearch.common.lucene.uid.VersionsAndSeqNoResolver;
 import org.opensearch.common.lucene.uid.VersionsAndSeqNoResolver.DocIdAndSeqNo;
 import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.FeatureFlags;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
 import org.opensearch.common.util.concurrent.KeyedLock;
 import org.opensearch.common.util.concurrent.ReleasableLock;
 import org.opensearch.common.util.io.IOUtils;
 import org.opensearch.core.Assertions;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.breaker.NoopCircuitBreaker;
 import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.index.AppendOnlyIndexOperationRetryException;
 import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.indices.breaker.CircuitBreakerService;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.VersionType;
 import org.opensearch.index.fieldvisitor.IdOnlyFieldVisitor;
@@ -114,6 +118,7 @@ import org.opensearch.index.translog.TranslogException;
 import org.opensearch.index.translog.TranslogManager;
 import org.opensearch.index.translog.listener.CompositeTranslogEventListener;
 import org.opensearch.index.translog.listener.TranslogEventListener;
+import org.opensearch.indices.NodeMergeArbiter;
 import org.opensearch.search.suggest.completion.CompletionStats;
 import org.opensearch.threadpool.ThreadPool;
 
@@ -167,7 +172,10 @@ public class InternalEngine extends Engine {
 
     // A uid (in the form of BytesRef) to the version map
     // we use the hashed variant since we iterate over it and check removal and additions on existing keys
-    protected final LiveVersionMap versionMap = new LiveVersionMap();
+    protected final LiveVersionMap versionMap;
+
+    @Nullable
+    private final AppendOnlyDedupWindow dedupWindow;
 
     @Nullable
     protected final String historyUUID;
@@ -243,6 +251,27 @@ public class InternalEngine extends Engine {
         if (engineConfig.isAutoGeneratedIDsOptimizationEnabled() == false) {
             updateAutoIdTimestamp(Long.MAX_VALUE, true);
         }
+        final IndexSettings indexSettings = engineConfig.getIndexSettings();
+        if (indexSettings.isPagedVersionMapEnabled()) {
+            // the breaker only accounts for the pages: the operations they track are already in the index when they are added
+            this.versionMap = new LiveVersionMap(new BigArrays(null, engineConfig.getCircuitBreakerService(), CircuitBreaker.INDEXING));
+        } else {
+            this.versionMap = new LiveVersionMap();
+        }
+        if (indexSettings.getDedupWindow().nanos() > 0 && indexSettings.getIndexMetadata().isAppendOnlyIndex() == false) {
+            // append only indices look up every retried document to report it as such
+            final CircuitBreakerService breakerService = engineConfig.getCircuitBreakerService();
+            final CircuitBreaker breaker = breakerService == null
+                ? new NoopCircuitBreaker(CircuitBreaker.INDEXING)
+                : breakerService.getBreaker(CircuitBreaker.INDEXING);
+            this.dedupWindow = new AppendOnlyDedupWindow(
+                indexSettings.getDedupWindow().nanos(),
+                breaker,
+                engineConfig.getThreadPool()::relativeTimeInNanos
+            );
+        } else {
+            this.dedupWindow = null;
+        }
         final TranslogDeletionPolicy translogDeletionPolicy = getTranslogDeletionPolicy(engineConfig);
         store.incRef();
         IndexWriter writer = null;
@@ -253,7 +282,11 @@ public class InternalEngine extends Engine {
         boolean success = false;
         try {
             this.lastDeleteVersionPruneTimeMSec = engineConfig.getThreadPool().relativeTimeInMillis();
-            mergeScheduler = scheduler = new EngineMergeScheduler(engineConfig.getShardId(), engineConfig.getIndexSettings());
+            mergeScheduler = scheduler = new EngineMergeScheduler(
+                engineConfig.getShardId(),
+                engineConfig.getIndexSettings(),
+                engineConfig.getMergeArbiter()
+            );
             throttle = new IndexThrottle();
             try {
                 store.trimUnsafeCommits(engineConfig.getTranslogConfig().getTranslogPath());
@@ -757,7 +790,7 @@ public class InternalEngine extends Engine {
                 docIdAndVersion = VersionsAndSeqNoResolver.loadDocIdAndVersion(searcher.getIndexReader(), op.uid(), loadSeqNo);
             }
             if (docIdAndVersion != null) {
-                versionValue = new IndexVersionValue(null, docIdAndVersion.version, docIdAndVersion.seqNo, docIdAndVersion.primaryTerm);
+                versionValue = IndexVersionValue.of(null, docIdAndVersion.version, docIdAndVersion.seqNo, docIdAndVersion.primaryTerm);
             }
         } else if (engineConfig.isEnableGcDeletes()
             && versionValue.isDelete()
@@ -965,8 +998,11 @@ public class InternalEngine extends Engine {
                     final Translog.Location translogLocation = trackTranslogLocation.get() ? indexResult.getTranslogLocation() : null;
                     versionMap.maybePutIndexUnderLock(
                         index.uid().bytes(),
-                        new IndexVersionValue(translogLocation, plan.versionForIndexing, index.seqNo(), index.primaryTerm())
+                        IndexVersionValue.of(translogLocation, plan.versionForIndexing, index.seqNo(), index.primaryTerm())
                     );
+                    if (dedupWindow != null) {
+                        dedupWindow.add(index.uid().bytes());
+                    }
                 }
                 localCheckpointTracker.markSeqNoAsProcessed(indexResult.getSeqNo());
                 if (indexResult.getTranslogLocation() == null
@@ -1062,6 +1098,13 @@ public class InternalEngine extends Engine {
             } else {
                 plan = IndexingStrategy.optimizedAppendOnly(1L, reservingDocs);
             }
+        } else if (canOptimizeAddDocument == false && isNewWithinDedupWindow(index)) {
+            final Exception reserveError = tryAcquireInFlightDocs(index, reservingDocs);
+            if (reserveError != null) {
+                plan = IndexingStrategy.failAsTooManyDocs(reserveError);
+            } else {
+                plan = IndexingStrategy.processWithoutVersionLookup(1L, reservingDocs);
+            }
         } else {
             versionMap.enforceSafeAccess();
             // resolves incoming version
@@ -1129,6 +1172,21 @@ public class InternalEngine extends Engine {
         return plan;
     }
 
+    /**
+     * Returns true if the document of the given operation with a client supplied id was not indexed within the dedup window, and
+     * the operation unconditionally overwrites the document. Operations that must fail if the document exists, like
+     * {@code op_type=create}, always look up the current version since an older document may exist outside of the window.
+     */
+    private boolean isNewWithinDedupWindow(Index index) {
+        if (dedupWindow == null
+            || index.getIfSeqNo() != SequenceNumbers.UNASSIGNED_SEQ_NO
+            || index.versionType() != VersionType.INTERNAL
+            || index.version() != Versions.MATCH_ANY) {
+            return false;
+        }
+        return dedupWindow.mayContain(index.uid().bytes()) == false;
+    }
+
     private IndexResult indexIntoLucene(Index index, IndexingStrategy plan) throws IOException {
         assert index.seqNo() >= 0 : "ops should have an assigned seq no.; origin: " + index.origin();
         assert plan.versionForIndexing >= 0 : "version must be set. got " + plan.versionForIndexing;
@@ -1284,6 +1342,13 @@ public class InternalEngine extends Engine {
             return new IndexingStrategy(currentNotFoundOrDeleted, false, false, false, Versions.NOT_FOUND, 0, result);
         }
 
+        /**
+         * Indexes a document whose id was not seen within the dedup window, replacing any older document with the same id
+         */
+        static IndexingStrategy processWithoutVersionLookup(long versionForIndexing, int reservedDocs) {
+            return new IndexingStrategy(true, true, true, false, versionForIndexing, reservedDocs, null);
+        }
+
         static IndexingStrategy processNormally(boolean currentNotFoundOrDeleted, long versionForIndexing, int reservedDocs) {
             return new IndexingStrategy(
                 currentNotFoundOrDeleted,
@@ -2214,7 +2279,8 @@ public class InternalEngine extends Engine {
 
     @Override
     protected final void writerSegmentStats(SegmentsStats stats) {
-        stats.addVersionMapMemoryInBytes(versionMap.ramBytesUsed());
+        // the dedup window stands in for version lookups of new ids, so it is reported along with the version map
+        stats.addVersionMapMemoryInBytes(versionMap.ramBytesUsed() + (dedupWindow == null ? 0 : dedupWindow.ramBytesUsed()));
         stats.addIndexWriterMemoryInBytes(indexWriter.ramBytesUsed());
         stats.updateMaxUnsafeAutoIdTimestamp(maxUnsafeAutoIdTimestamp.get());
     }
@@ -2258,6 +2324,9 @@ public class InternalEngine extends Engine {
                 : "Either the write lock must be held or the engine must be currently be failing itself";
             try {
                 this.versionMap.clear();
+                if (dedupWindow != null) {
+                    dedupWindow.close();
+                }
                 if (internalReaderManager != null) {
                     internalReaderManager.removeListener(versionMap);
                 }
@@ -2469,8 +2538,8 @@ public class InternalEngine extends Engine {
         private final AtomicInteger numMergesInFlight = new AtomicInteger(0);
         private final AtomicBoolean isThrottling = new AtomicBoolean();
 
-        EngineMergeScheduler(ShardId shardId, IndexSettings indexSettings) {
-            super(shardId, indexSettings);
+        EngineMergeScheduler(ShardId shardId, IndexSettings indexSettings, @Nullable NodeMergeArbiter mergeArbiter) {
+            super(shardId, indexSettings, mergeArbiter);
         }
 
         @Override
@@ -2984,7 +3053,7 @@ public class InternalEngine extends Engine {
                             final long startTime = 0L;
                             versionMap.putDeleteUnderLock(uid, new DeleteVersionValue(dv.docVersion(docId), seqNo, primaryTerm, startTime));
                         } else {
-                            versionMap.putIndexUnderLock(uid, new IndexVersionValue(null, dv.docVersion(docId), seqNo, primaryTerm));
+                            versionMap.putIndexUnderLock(uid, IndexVersionValue.of(null, dv.docVersion(docId), seqNo, primaryTerm));
                         }
                     }
                 }
@@ -36,7 +36,10 @@ import org.apache.lucene.search.ReferenceManager;
 import org.apache.lucene.util.Accountable;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.concurrent.KeyedLock;
 
@@ -60,15 +63,17 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      *
      * @opensearch.internal
      */
-    private static final class VersionLookup {
+    private static final class VersionLookup implements Releasable {
 
         /** Tracks bytes used by current map, i.e. what is freed on refresh. For deletes, which are also added to tombstones,
          *  we only account for the CHM entry here, and account for BytesRef/VersionValue against the tombstones, since refresh would not
-         *  clear this RAM. */
+         *  clear this RAM. Paged maps account for their pages themselves. */
         final AtomicLong ramBytesUsed = new AtomicLong();
 
-        private static final VersionLookup EMPTY = new VersionLookup(Collections.emptyMap());
+        private static final VersionLookup EMPTY = new VersionLookup(Collections.emptyMap(), null);
+        // exactly one of these is set
         private final Map<BytesRef, VersionValue> map;
+        private final PagedVersionMap pagedMap;
 
         // each version map has a notion of safe / unsafe which allows us to apply certain optimization in the auto-generated ID usecase
         // where we know that documents can't have any duplicates so we can skip the version map entirely. This reduces
@@ -86,24 +91,45 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         // the tombstone
         private final AtomicLong minDeleteTimestamp = new AtomicLong(Long.MAX_VALUE);
 
-        private VersionLookup(Map<BytesRef, VersionValue> map) {
+        private VersionLookup(Map<BytesRef, VersionValue> map, PagedVersionMap pagedMap) {
+            assert (map == null) != (pagedMap == null);
             this.map = map;
+            this.pagedMap = pagedMap;
+        }
+
+        static VersionLookup create(@Nullable BigArrays bigArrays, int expectedSize) {
+            if (bigArrays == null) {
+                return new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency(expectedSize), null);
+            }
+            return new VersionLookup(null, new PagedVersionMap(bigArrays));
+        }
+
+        boolean isPaged() {
+            return pagedMap != null;
         }
 
         VersionValue get(BytesRef key) {
-            return map.get(key);
+            return pagedMap == null ? map.get(key) : pagedMap.get(key);
         }
 
-        VersionValue put(BytesRef key, VersionValue value) {
-            return map.put(key, value);
+        VersionValue put(BytesRef key, IndexVersionValue value) {
+            return pagedMap == null ? map.put(key, value) : pagedMap.put(key, value);
         }
 
         boolean isEmpty() {
-            return map.isEmpty();
+            return pagedMap == null ? map.isEmpty() : pagedMap.isEmpty();
         }
 
         int size() {
-            return map.size();
+            return pagedMap == null ? map.size() : pagedMap.size();
+        }
+
+        long ramBytesUsed() {
+            return pagedMap == null ? ramBytesUsed.get() : pagedMap.ramBytesUsed();
+        }
+
+        Map<BytesRef, VersionValue> asMap() {
+            return pagedMap == null ? map : pagedMap.toMap();
         }
 
         boolean isUnsafe() {
@@ -115,7 +141,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         }
 
         public VersionValue remove(BytesRef uid) {
-            return map.remove(uid);
+            return pagedMap == null ? map.remove(uid) : pagedMap.remove(uid);
         }
 
         public void updateMinDeletedTimestamp(DeleteVersionValue delete) {
@@ -123,6 +149,12 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
             minDeleteTimestamp.updateAndGet(prev -> Math.min(time, prev));
         }
 
+        @Override
+        public void close() {
+            if (pagedMap != null) {
+                pagedMap.close();
+            }
+        }
     }
 
     /**
@@ -143,14 +175,19 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         boolean needsSafeAccess;
         final boolean previousMapsNeededSafeAccess;
 
-        Maps(VersionLookup current, VersionLookup old, boolean previousMapsNeededSafeAccess) {
+        // allocates the pages of paged lookups, null if lookups are concurrent hash maps
+        @Nullable
+        final BigArrays bigArrays;
+
+        Maps(VersionLookup current, VersionLookup old, boolean previousMapsNeededSafeAccess, @Nullable BigArrays bigArrays) {
             this.current = current;
             this.old = old;
             this.previousMapsNeededSafeAccess = previousMapsNeededSafeAccess;
+            this.bigArrays = bigArrays;
         }
 
-        Maps() {
-            this(new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency()), VersionLookup.EMPTY, false);
+        Maps(@Nullable BigArrays bigArrays) {
+            this(VersionLookup.create(bigArrays, 16), VersionLookup.EMPTY, false, bigArrays);
         }
 
         boolean isSafeAccessMode() {
@@ -168,21 +205,21 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
          * Builds a new map for the refresh transition this should be called in beforeRefresh()
          */
         Maps buildTransitionMap() {
-            return new Maps(
-                new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency(current.size())),
-                current,
-                shouldInheritSafeAccess()
-            );
+            return new Maps(VersionLookup.create(bigArrays, current.size()), current, shouldInheritSafeAccess(), bigArrays);
         }
 
         /**
          * builds a new map that invalidates the old map but maintains the current. This should be called in afterRefresh()
          */
         Maps invalidateOldMap() {
-            return new Maps(current, VersionLookup.EMPTY, previousMapsNeededSafeAccess);
+            return new Maps(current, VersionLookup.EMPTY, previousMapsNeededSafeAccess, bigArrays);
         }
 
-        void put(BytesRef uid, VersionValue version) {
+        void put(BytesRef uid, IndexVersionValue version) {
+            if (current.isPaged()) {
+                current.put(uid, version);
+                return;
+            }
             long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
             long ramAccounting = BASE_BYTES_PER_CHM_ENTRY + version.ramBytesUsed() + uidRAMBytesUsed;
             VersionValue previousValue = current.put(uid, version);
@@ -200,7 +237,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         void remove(BytesRef uid, DeleteVersionValue deleted) {
             VersionValue previousValue = current.remove(uid);
             current.updateMinDeletedTimestamp(deleted);
-            if (previousValue != null) {
+            if (previousValue != null && current.isPaged() == false) {
                 long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
                 adjustRam(-(BASE_BYTES_PER_CHM_ENTRY + previousValue.ramBytesUsed() + uidRAMBytesUsed));
             }
@@ -219,10 +256,10 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
     // All deletes also go here, and delete "tombstones" are retained after refresh:
     private final Map<BytesRef, DeleteVersionValue> tombstones = ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency();
 
-    private volatile Maps maps = new Maps();
+    private volatile Maps maps;
     // we maintain a second map that only receives the updates that we skip on the actual map (unsafe ops)
     // this map is only maintained if assertions are enabled
-    private volatile Maps unsafeKeysMap = new Maps();
+    private volatile Maps unsafeKeysMap = new Maps(null);
 
     /**
      * Bytes consumed for each BytesRef UID:
@@ -264,6 +301,18 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      */
     private final AtomicLong ramBytesUsedTombstones = new AtomicLong();
 
+    LiveVersionMap() {
+        this(null);
+    }
+
+    /**
+     * Creates a version map whose live entries are stored in pages allocated by the given {@link BigArrays}, or in concurrent hash
+     * maps if it is null. Tombstones are always kept in a concurrent hash map since they outlive refreshes.
+     */
+    LiveVersionMap(@Nullable BigArrays bigArrays) {
+        this.maps = new Maps(bigArrays);
+    }
+
     @Override
     public void beforeRefresh() throws IOException {
         // Start sending all updates after this point to the new
@@ -285,8 +334,11 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         // reopen, and so any concurrent indexing requests can still sneak in a few additions to that current map that are in fact
         // reflected in the previous reader. We don't touch tombstones here: they expire on their own index.gc_deletes timeframe:
 
+        final VersionLookup old = maps.old;
         maps = maps.invalidateOldMap();
         assert (unsafeKeysMap = unsafeKeysMap.invalidateOldMap()) != null;
+        // lookups that still see the old map find nothing in it once it is released and fall back to the refreshed reader
+        old.close();
 
     }
 
@@ -443,7 +495,10 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * Called when this index is closed.
      */
     synchronized void clear() {
-        maps = new Maps();
+        final Maps previous = maps;
+        // the engine is closing, so don't allocate pages for a map that would never be released
+        maps = new Maps(null);
+        Releasables.close(previous.current, previous.old);
         tombstones.clear();
         // NOTE: we can't zero this here, because a refresh thread could be calling InternalEngine.pruneDeletedTombstones at the same time,
         // and this will lead to an assert trip. Presumably it's fine if our ramBytesUsedTombstones is non-zero after clear since the
@@ -453,7 +508,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
 
     @Override
     public long ramBytesUsed() {
-        return maps.current.ramBytesUsed.get() + ramBytesUsedTombstones.get();
+        return maps.current.ramBytesUsed() + ramBytesUsedTombstones.get();
     }
 
     /**
@@ -461,7 +516,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * don't clear on refresh.
      */
     long ramBytesUsedForRefresh() {
-        return maps.current.ramBytesUsed.get();
+        return maps.current.ramBytesUsed();
     }
 
     /**
@@ -469,7 +524,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * except does not include tombstones because they don't clear on refresh.
      */
     long getRefreshingBytes() {
-        return maps.old.ramBytesUsed.get();
+        return maps.old.ramBytesUsed();
     }
 
     @Override
@@ -482,7 +537,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * Returns the current internal versions as a point in time snapshot
      */
     Map<BytesRef, VersionValue> getAllCurrent() {
-        return maps.current.map;
+        return maps.current.asMap();
     }
 
     /** Iterates over all deleted versions, including new ones (not yet exposed via reader) and old ones
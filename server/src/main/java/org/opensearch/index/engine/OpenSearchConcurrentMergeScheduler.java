@@ -36,6 +36,9 @@ import org.apache.logging.log4j.Logger;
 import org.apache.lucene.index.ConcurrentMergeScheduler;
 import org.apache.lucene.index.MergePolicy;
 import org.apache.lucene.index.MergeScheduler;
+import org.apache.lucene.util.ThreadInterruptedException;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.logging.Loggers;
 import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.common.metrics.MeanMetric;
@@ -49,6 +52,7 @@ import org.opensearch.index.IndexSettings;
 import org.opensearch.index.MergeSchedulerConfig;
 import org.opensearch.index.merge.MergeStats;
 import org.opensearch.index.merge.OnGoingMerge;
+import org.opensearch.indices.NodeMergeArbiter;
 
 import java.io.IOException;
 import java.util.Collections;
@@ -79,9 +83,16 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
     private final Set<OnGoingMerge> onGoingMerges = ConcurrentCollections.newConcurrentSet();
     private final Set<OnGoingMerge> readOnlyOnGoingMerges = Collections.unmodifiableSet(onGoingMerges);
     private final MergeSchedulerConfig config;
+    @Nullable
+    private final NodeMergeArbiter mergeArbiter;
 
     OpenSearchConcurrentMergeScheduler(ShardId shardId, IndexSettings indexSettings) {
+        this(shardId, indexSettings, null);
+    }
+
+    OpenSearchConcurrentMergeScheduler(ShardId shardId, IndexSettings indexSettings, @Nullable NodeMergeArbiter mergeArbiter) {
         this.config = indexSettings.getMergeSchedulerConfig();
+        this.mergeArbiter = mergeArbiter;
         this.shardId = shardId;
         this.indexSettings = indexSettings.getSettings();
         this.logger = Loggers.getLogger(getClass(), shardId);
@@ -121,11 +132,22 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
                 new ByteSizeValue(merge.estimatedMergeBytes)
             );
         }
+        long nodeMergeSlotWaitNS = 0;
         try {
             beforeMerge(onGoingMerge);
-            super.doMerge(mergeSource, merge);
+            final long waitStartNS = System.nanoTime();
+            final Releasable nodeMergeSlot;
+            try {
+                nodeMergeSlot = acquireNodeMergeSlot(merge);
+            } finally {
+                nodeMergeSlotWaitNS = System.nanoTime() - waitStartNS;
+            }
+            try (Releasable ignored = nodeMergeSlot) {
+                super.doMerge(mergeSource, merge);
+            }
         } finally {
-            long tookMS = TimeValue.nsecToMSec(System.nanoTime() - timeNS);
+            // the time spent waiting for a node merge slot isn't merging, it's reported as throttled time instead
+            long tookMS = TimeValue.nsecToMSec(System.nanoTime() - timeNS - nodeMergeSlotWaitNS);
 
             onGoingMerges.remove(onGoingMerge);
             afterMerge(onGoingMerge);
@@ -141,7 +163,7 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
                 merge.getMergeProgress().getPauseTimes().get(MergePolicy.OneMergeProgress.PauseReason.STOPPED)
             );
             long throttledMS = TimeValue.nsecToMSec(
-                merge.getMergeProgress().getPauseTimes().get(MergePolicy.OneMergeProgress.PauseReason.PAUSED)
+                merge.getMergeProgress().getPauseTimes().get(MergePolicy.OneMergeProgress.PauseReason.PAUSED) + nodeMergeSlotWaitNS
             );
             totalMergeStoppedTime.inc(stoppedMS);
             totalMergeThrottledTime.inc(throttledMS);
@@ -165,6 +187,17 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
         }
     }
 
+    private Releasable acquireNodeMergeSlot(MergePolicy.OneMerge merge) {
+        if (mergeArbiter == null) {
+            return () -> {};
+        }
+        try {
+            return mergeArbiter.acquire(shardId, merge::isAborted);
+        } catch (InterruptedException e) {
+            throw new ThreadInterruptedException(e);
+        }
+    }
+
     /**
      * A callback allowing for custom logic before an actual merge starts.
      */
@@ -0,0 +1,243 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.BytesRefHash;
+import org.opensearch.common.util.LongArray;
+import org.opensearch.index.translog.Translog;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Maps _uid values to the {@link IndexVersionValue} of their last index operation. Unlike a map of objects, the keys are stored in
+ * {@link BytesRefHash} pages and the values are packed into a {@link LongArray}, so a map holding millions of entries consists of a
+ * few hundred page arrays rather than millions of small objects for the garbage collector to trace and promote. The pages are
+ * allocated through the given {@link BigArrays}, which accounts for them on its circuit breaker.
+ * <p>
+ * Removed entries keep their key, which is reused if the same uid is indexed again. The map only lives until the next refresh, which
+ * bounds this overhead. Operations are serialized per stripe of the key space. Once the map is closed, lookups return nothing and
+ * writes are dropped: a map is only closed once a refresh made all of its entries visible to searches, and the engine falls back to
+ * looking versions up in the index.
+ *
+ * @opensearch.internal
+ */
+final class PagedVersionMap implements Accountable, Releasable {
+
+    private static final int STRIPES = 16;
+
+    // version, seqNo, term, translog generation, translog offset and the state of the entry with the translog size in its low bits
+    private static final int FIELDS = 6;
+    private static final int VERSION = 0;
+    private static final int SEQ_NO = 1;
+    private static final int TERM = 2;
+    private static final int GENERATION = 3;
+    private static final int OFFSET = 4;
+    private static final int STATE_AND_SIZE = 5;
+
+    private static final long HAS_LOCATION = 0;
+    private static final long NO_LOCATION = 1;
+    private static final long REMOVED = 2;
+
+    private final BigArrays bigArrays;
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong ramBytesUsed = new AtomicLong();
+
+    PagedVersionMap(BigArrays bigArrays) {
+        this.bigArrays = bigArrays;
+        boolean success = false;
+        try {
+            for (int i = 0; i < STRIPES; i++) {
+                stripes[i] = new Stripe();
+                ramBytesUsed.addAndGet(stripes[i].ramBytesUsed());
+            }
+            success = true;
+        } finally {
+            if (success == false) {
+                close();
+            }
+        }
+    }
+
+    private Stripe stripe(BytesRef uid) {
+        return stripes[(uid.hashCode() & Integer.MAX_VALUE) % STRIPES];
+    }
+
+    /**
+     * Returns the version value of the given uid, or null if it isn't in the map
+     */
+    VersionValue get(BytesRef uid) {
+        final Stripe stripe = stripe(uid);
+        synchronized (stripe) {
+            if (stripe.closed) {
+                return null;
+            }
+            final long ordinal = stripe.keys.find(uid);
+            return ordinal < 0 ? null : stripe.read(ordinal);
+        }
+    }
+
+    /**
+     * Associates the uid with the given version value and returns the previous value, if any
+     */
+    VersionValue put(BytesRef uid, IndexVersionValue value) {
+        final Stripe stripe = stripe(uid);
+        synchronized (stripe) {
+            if (stripe.closed) {
+                return null;
+            }
+            final long ramBytesUsedBefore = stripe.ramBytesUsed();
+            long ordinal = stripe.keys.add(uid);
+            final VersionValue previous;
+            if (ordinal < 0) {
+                ordinal = -1 - ordinal;
+                previous = stripe.read(ordinal);
+            } else {
+                stripe.values = bigArrays.grow(stripe.values, (ordinal + 1) * FIELDS);
+                previous = null;
+            }
+            stripe.write(ordinal, value);
+            if (previous == null) {
+                size.incrementAndGet();
+            }
+            ramBytesUsed.addAndGet(stripe.ramBytesUsed() - ramBytesUsedBefore);
+            return previous;
+        }
+    }
+
+    /**
+     * Removes the uid from the map and returns its previous value, if any
+     */
+    VersionValue remove(BytesRef uid) {
+        final Stripe stripe = stripe(uid);
+        synchronized (stripe) {
+            if (stripe.closed) {
+                return null;
+            }
+            final long ordinal = stripe.keys.find(uid);
+            if (ordinal < 0) {
+                return null;
+            }
+            final VersionValue previous = stripe.read(ordinal);
+            if (previous != null) {
+                stripe.values.set(ordinal * FIELDS + STATE_AND_SIZE, REMOVED << 32);
+                size.decrementAndGet();
+            }
+            return previous;
+        }
+    }
+
+    int size() {
+        return size.get();
+    }
+
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns a copy of the entries of this map
+     */
+    Map<BytesRef, VersionValue> toMap() {
+        final Map<BytesRef, VersionValue> map = new HashMap<>();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                if (stripe.closed) {
+                    continue;
+                }
+                for (long ordinal = 0; ordinal < stripe.keys.size(); ordinal++) {
+                    final VersionValue value = stripe.read(ordinal);
+                    if (value != null) {
+                        map.put(BytesRef.deepCopyOf(stripe.keys.get(ordinal, new BytesRef())), value);
+                    }
+                }
+            }
+        }
+        return map;
+    }
+
+    @Override
+    public long ramBytesUsed() {
+        return ramBytesUsed.get();
+    }
+
+    @Override
+    public void close() {
+        for (Stripe stripe : stripes) {
+            if (stripe != null) {
+                synchronized (stripe) {
+                    if (stripe.closed == false) {
+                        stripe.closed = true;
+                        ramBytesUsed.addAndGet(-stripe.ramBytesUsed());
+                        Releasables.close(stripe.keys, stripe.values);
+                    }
+                }
+            }
+        }
+    }
+
+    private final class Stripe {
+        private final BytesRefHash keys;
+        private LongArray values;
+        private boolean closed;
+
+        private Stripe() {
+            keys = new BytesRefHash(bigArrays);
+            boolean success = false;
+            try {
+                values = bigArrays.newLongArray(FIELDS, false);
+                success = true;
+            } finally {
+                if (success == false) {
+                    keys.close();
+                }
+            }
+        }
+
+        private VersionValue read(long ordinal) {
+            final long index = ordinal * FIELDS;
+            final long stateAndSize = values.get(index + STATE_AND_SIZE);
+            final long state = stateAndSize >>> 32;
+            if (state == REMOVED) {
+                return null;
+            }
+            final Translog.Location location = state == NO_LOCATION
+                ? null
+                : new Translog.Location(values.get(index + GENERATION), values.get(index + OFFSET), (int) stateAndSize);
+            return IndexVersionValue.of(location, values.get(index + VERSION), values.get(index + SEQ_NO), values.get(index + TERM));
+        }
+
+        private void write(long ordinal, IndexVersionValue value) {
+            final long index = ordinal * FIELDS;
+            values.set(index + VERSION, value.version);
+            values.set(index + SEQ_NO, value.seqNo);
+            values.set(index + TERM, value.term);
+            final Translog.Location location = value.getLocation();
+            if (location == null) {
+                values.set(index + STATE_AND_SIZE, NO_LOCATION << 32);
+            } else {
+                values.set(index + GENERATION, location.generation);
+                values.set(index + OFFSET, location.translogLocation);
+                values.set(index + STATE_AND_SIZE, (HAS_LOCATION << 32) | (location.size & 0xFFFFFFFFL));
+            }
+        }
+
+        private long ramBytesUsed() {
+            return keys.ramBytesUsed() + values.ramBytesUsed();
+        }
+    }
+}
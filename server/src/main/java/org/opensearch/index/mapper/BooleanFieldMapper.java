@@ -189,6 +189,11 @@ public class BooleanFieldMapper extends ParametrizedFieldMapper {
             return CONTENT_TYPE;
         }
 
+        @Override
+        public boolean canFetchFromDocValues() {
+            return hasDocValues();
+        }
+
         @Override
         public ValueFetcher valueFetcher(QueryShardContext context, SearchLookup searchLookup, String format) {
             if (format != null) {
@@ -468,6 +468,11 @@ public final class DateFieldMapper extends ParametrizedFieldMapper {
             return milliSecondsSinceEpoch;
         }
 
+        @Override
+        public boolean canFetchFromDocValues() {
+            return hasDocValues();
+        }
+
         @Override
         public ValueFetcher valueFetcher(QueryShardContext context, SearchLookup searchLookup, String format) {
             DateFormatter defaultFormatter = dateTimeFormatter();
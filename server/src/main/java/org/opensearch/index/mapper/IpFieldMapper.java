@@ -248,6 +248,11 @@ public class IpFieldMapper extends ParametrizedFieldMapper {
             }
         }
 
+        @Override
+        public boolean canFetchFromDocValues() {
+            return hasDocValues();
+        }
+
         @Override
         public ValueFetcher valueFetcher(QueryShardContext context, SearchLookup searchLookup, String format) {
             if (format != null) {
@@ -382,6 +382,15 @@ public final class KeywordFieldMapper extends ParametrizedFieldMapper {
             return new SortedSetOrdinalsIndexFieldData.Builder(name(), CoreValuesSourceType.BYTES);
         }
 
+        @Override
+        public boolean canFetchFromDocValues() {
+            // doc values neither hold the values above ignore_above nor the values as they were before normalization
+            NamedAnalyzer normalizer = normalizer();
+            return hasDocValues()
+                && ignoreAbove == Integer.MAX_VALUE
+                && (normalizer == null || normalizer == Lucene.KEYWORD_ANALYZER);
+        }
+
         @Override
         public ValueFetcher valueFetcher(QueryShardContext context, SearchLookup searchLookup, String format) {
             if (format != null) {
@@ -196,6 +196,15 @@ public abstract class MappedFieldType {
         return null;
     }
 
+    /**
+     * Returns true if the values of this field can be read back from doc values in place of the values in the document's source.
+     * Doc values are sorted, and depending on the field type deduplicated or normalized, so they are only a substitute for the
+     * source where that is acceptable.
+     */
+    public boolean canFetchFromDocValues() {
+        return false;
+    }
+
     /** Returns true if the field is aggregatable.
      *
      */
@@ -1807,6 +1807,11 @@ public class NumberFieldMapper extends ParametrizedFieldMapper {
             }
         }
 
+        @Override
+        public boolean canFetchFromDocValues() {
+            return hasDocValues();
+        }
+
         @Override
         public ValueFetcher valueFetcher(QueryShardContext context, SearchLookup searchLookup, String format) {
             if (format != null) {
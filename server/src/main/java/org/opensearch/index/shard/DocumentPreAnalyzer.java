@@ -0,0 +1,106 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.shard;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.index.IndexOptions;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.util.AttributeSource;
+import org.opensearch.index.mapper.ParseContext;
+import org.opensearch.index.mapper.ParsedDocument;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs the analysis of the text fields of a parsed document ahead of indexing it. The tokens of each field are captured and set as
+ * the field's token stream, so that the {@link org.apache.lucene.index.IndexWriter} replays them instead of analyzing the field
+ * again on the indexing thread.
+ *
+ * @opensearch.internal
+ */
+final class DocumentPreAnalyzer {
+
+    private DocumentPreAnalyzer() {}
+
+    /**
+     * Analyzes the tokenized string fields of the given document with the given analyzer, which must be the analyzer the document is
+     * going to be indexed with.
+     */
+    static void analyze(ParsedDocument doc, Analyzer analyzer) throws IOException {
+        for (ParseContext.Document document : doc.docs()) {
+            for (IndexableField indexableField : document) {
+                if (indexableField instanceof Field == false) {
+                    continue;
+                }
+                final Field field = (Field) indexableField;
+                if (field.fieldType().indexOptions() == IndexOptions.NONE
+                    || field.fieldType().tokenized() == false
+                    || field.tokenStreamValue() != null
+                    || field.stringValue() == null) {
+                    continue;
+                }
+                try (TokenStream tokenStream = analyzer.tokenStream(field.name(), field.stringValue())) {
+                    field.setTokenStream(CapturedTokenStream.capture(tokenStream));
+                }
+            }
+        }
+    }
+
+    /**
+     * A token stream that replays the tokens captured from another token stream. It doesn't share any state with the stream it was
+     * captured from, which the analyzer reuses for other fields.
+     */
+    static final class CapturedTokenStream extends TokenStream {
+        private final List<AttributeSource.State> tokens;
+        private final AttributeSource.State finalState;
+        private int upto;
+
+        private CapturedTokenStream(AttributeSource attributes, List<AttributeSource.State> tokens, AttributeSource.State finalState) {
+            super(attributes);
+            this.tokens = tokens;
+            this.finalState = finalState;
+        }
+
+        static CapturedTokenStream capture(TokenStream tokenStream) throws IOException {
+            final List<AttributeSource.State> tokens = new ArrayList<>();
+            tokenStream.reset();
+            while (tokenStream.incrementToken()) {
+                tokens.add(tokenStream.captureState());
+            }
+            tokenStream.end();
+            return new CapturedTokenStream(tokenStream.cloneAttributes(), tokens, tokenStream.captureState());
+        }
+
+        @Override
+        public boolean incrementToken() {
+            if (upto == tokens.size()) {
+                return false;
+            }
+            clearAttributes();
+            restoreState(tokens.get(upto++));
+            return true;
+        }
+
+        @Override
+        public void end() throws IOException {
+            super.end();
+            restoreState(finalState);
+        }
+
+        @Override
+        public void reset() throws IOException {
+            super.reset();
+            upto = 0;
+        }
+    }
+}
@@ -120,6 +120,7 @@ import org.opensearch.index.IndexModule;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.IndexService;
 import org.opensearch.index.IndexSettings;
+import org.opensearch.index.MergedSegmentPreCopyStats;
 import org.opensearch.index.ReplicationStats;
 import org.opensearch.index.SegmentReplicationShardStats;
 import org.opensearch.index.VersionType;
@@ -326,6 +327,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
     private final MeanMetric externalRefreshMetric = new MeanMetric();
     private final MeanMetric flushMetric = new MeanMetric();
     private final CounterMetric periodicFlushMetric = new CounterMetric();
+    private final MeanMetric mergedSegmentPreCopyMetric = new MeanMetric();
+    private final CounterMetric mergedSegmentPreCopyBytes = new CounterMetric();
 
     private final ShardEventListener shardEventListener = new ShardEventListener();
 
@@ -444,13 +447,25 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         this.indexSortSupplier = indexSortSupplier;
         this.indexEventListener = indexEventListener;
         this.threadPool = threadPool;
-        this.translogSyncProcessor = createTranslogSyncProcessor(
-            logger,
-            threadPool,
-            this::getEngine,
-            indexSettings.isAssignedOnRemoteNode(),
-            () -> getRemoteTranslogUploadBufferInterval(remoteStoreSettings::getClusterRemoteTranslogBufferInterval)
-        );
+        if (indexSettings.isAssignedOnRemoteNode()) {
+            this.translogSyncProcessor = createTranslogSyncProcessor(
+                logger,
+                threadPool,
+                this::getEngine,
+                true,
+                () -> getRemoteTranslogUploadBufferInterval(remoteStoreSettings::getClusterRemoteTranslogBufferInterval)
+            );
+        } else {
+            // group the fsyncs of concurrent write requests if configured, the interval can only change while the index is closed
+            final TimeValue groupCommitInterval = indexSettings.getTranslogGroupCommitInterval();
+            this.translogSyncProcessor = createTranslogSyncProcessor(
+                logger,
+                threadPool,
+                this::getEngine,
+                groupCommitInterval.compareTo(TimeValue.ZERO) > 0,
+                () -> groupCommitInterval
+            );
+        }
         this.mapperService = mapperService;
         this.indexCache = indexCache;
         this.internalIndexingStats = new InternalIndexingStats(threadPool);
@@ -1103,8 +1118,35 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         long ifPrimaryTerm,
         long autoGeneratedTimestamp,
         boolean isRetry
+    ) throws IOException {
+        return applyIndexOperationOnPrimary(
+            version,
+            versionType,
+            sourceToParse,
+            ifSeqNo,
+            ifPrimaryTerm,
+            autoGeneratedTimestamp,
+            isRetry,
+            null
+        );
+    }
+
+    /**
+     * Same as {@link #applyIndexOperationOnPrimary(long, VersionType, SourceToParse, long, long, long, boolean)}, but uses the given
+     * document that was parsed ahead of time by {@link #parseSourceOnPrimary(SourceToParse, boolean)}, unless the mapping changed since.
+     */
+    public Engine.IndexResult applyIndexOperationOnPrimary(
+        long version,
+        VersionType versionType,
+        SourceToParse sourceToParse,
+        long ifSeqNo,
+        long ifPrimaryTerm,
+        long autoGeneratedTimestamp,
+        boolean isRetry,
+        @Nullable ParsedSource parsedSource
     ) throws IOException {
         assert versionType.validateVersionForWrites(version);
+        assert parsedSource == null || parsedSource.source == sourceToParse : "document was parsed from a different source";
         return applyIndexOperation(
             getEngine(),
             UNASSIGNED_SEQ_NO,
@@ -1117,10 +1159,53 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             isRetry,
             Engine.Operation.Origin.PRIMARY,
             sourceToParse,
-            null
+            null,
+            parsedSource
         );
     }
 
+    /**
+     * Parses the given document with the current mapping, so that documents can be parsed concurrently ahead of being indexed in order
+     * by {@link #applyIndexOperationOnPrimary(long, VersionType, SourceToParse, long, long, long, boolean, ParsedSource)}. If
+     * {@code analyze} is set, the text fields of the document are also analyzed, so that indexing only replays their tokens.
+     *
+     * @return the parsed document, or {@code null} if the index has no mapping yet
+     */
+    @Nullable
+    public ParsedSource parseSourceOnPrimary(SourceToParse sourceToParse, boolean analyze) throws IOException {
+        final DocumentMapper mapper = mapperService.documentMapper();
+        if (mapper == null) {
+            return null;
+        }
+        final ParsedDocument doc = mapper.parse(sourceToParse);
+        // documents that need a mapping update are parsed again once the mapping is updated
+        if (analyze && doc.dynamicMappingsUpdate() == null) {
+            DocumentPreAnalyzer.analyze(doc, mapperService.indexAnalyzer());
+        }
+        return new ParsedSource(mapper, sourceToParse, doc);
+    }
+
+    /**
+     * A document that was parsed ahead of being indexed, along with the mapper that parsed it.
+     *
+     * @opensearch.internal
+     */
+    public static final class ParsedSource {
+        private final DocumentMapper mapper;
+        private final SourceToParse source;
+        private final ParsedDocument doc;
+
+        private ParsedSource(DocumentMapper mapper, SourceToParse source, ParsedDocument doc) {
+            this.mapper = mapper;
+            this.source = source;
+            this.doc = doc;
+        }
+
+        public SourceToParse source() {
+            return source;
+        }
+    }
+
     public Engine.IndexResult applyIndexOperationOnReplica(
         String id,
         long seqNo,
@@ -1160,6 +1245,38 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         SourceToParse sourceToParse,
         String id
     ) throws IOException {
+        return applyIndexOperation(
+            engine,
+            seqNo,
+            opPrimaryTerm,
+            version,
+            versionType,
+            ifSeqNo,
+            ifPrimaryTerm,
+            autoGeneratedTimeStamp,
+            isRetry,
+            origin,
+            sourceToParse,
+            id,
+            null
+        );
+    }
+
+    private Engine.IndexResult applyIndexOperation(
+        Engine engine,
+        long seqNo,
+        long opPrimaryTerm,
+        long version,
+        @Nullable VersionType versionType,
+        long ifSeqNo,
+        long ifPrimaryTerm,
+        long autoGeneratedTimeStamp,
+        boolean isRetry,
+        Engine.Operation.Origin origin,
+        SourceToParse sourceToParse,
+        String id,
+        @Nullable ParsedSource parsedSource
+    ) throws IOException {
 
         // For Segment Replication enabled replica shards we can be skip parsing the documents as we directly copy segments from primary
         // shard.
@@ -1188,19 +1305,36 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         ensureWriteAllowed(origin);
         Engine.Index operation;
         try {
-            operation = prepareIndex(
-                docMapper(),
-                sourceToParse,
-                seqNo,
-                opPrimaryTerm,
-                version,
-                versionType,
-                origin,
-                autoGeneratedTimeStamp,
-                isRetry,
-                ifSeqNo,
-                ifPrimaryTerm
-            );
+            if (parsedSource != null && parsedSource.mapper == mapperService.documentMapper()) {
+                // the document was parsed ahead of time and the mapping didn't change since
+                operation = newIndexOperation(
+                    parsedSource.doc,
+                    System.nanoTime(),
+                    seqNo,
+                    opPrimaryTerm,
+                    version,
+                    versionType,
+                    origin,
+                    autoGeneratedTimeStamp,
+                    isRetry,
+                    ifSeqNo,
+                    ifPrimaryTerm
+                );
+            } else {
+                operation = prepareIndex(
+                    docMapper(),
+                    sourceToParse,
+                    seqNo,
+                    opPrimaryTerm,
+                    version,
+                    versionType,
+                    origin,
+                    autoGeneratedTimeStamp,
+                    isRetry,
+                    ifSeqNo,
+                    ifPrimaryTerm
+                );
+            }
             Mapping update = operation.parsedDoc().dynamicMappingsUpdate();
             if (update != null) {
                 return new Engine.IndexResult(update);
@@ -1235,6 +1369,34 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         if (docMapper.getMapping() != null) {
             doc.addDynamicMappingsUpdate(docMapper.getMapping());
         }
+        return newIndexOperation(
+            doc,
+            startTime,
+            seqNo,
+            primaryTerm,
+            version,
+            versionType,
+            origin,
+            autoGeneratedIdTimestamp,
+            isRetry,
+            ifSeqNo,
+            ifPrimaryTerm
+        );
+    }
+
+    private static Engine.Index newIndexOperation(
+        ParsedDocument doc,
+        long startTime,
+        long seqNo,
+        long primaryTerm,
+        long version,
+        VersionType versionType,
+        Engine.Operation.Origin origin,
+        long autoGeneratedIdTimestamp,
+        boolean isRetry,
+        long ifSeqNo,
+        long ifPrimaryTerm
+    ) {
         Term uid = new Term(IdFieldMapper.NAME, Uid.encodeId(doc.id()));
         return new Engine.Index(
             uid,
@@ -1979,7 +2141,24 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
 
     public void publishMergedSegment(SegmentCommitInfo segmentCommitInfo) throws IOException {
         assert mergedSegmentPublisher != null;
-        mergedSegmentPublisher.publish(this, computeMergeSegmentCheckpoint(segmentCommitInfo));
+        final MergedSegmentCheckpoint checkpoint = computeMergeSegmentCheckpoint(segmentCommitInfo);
+        final long startTime = System.nanoTime();
+        // only count the merged segments that replicas copied, the others are copied by the next regular replication round
+        if (mergedSegmentPublisher.publish(this, checkpoint)) {
+            mergedSegmentPreCopyMetric.inc(TimeValue.nsecToMSec(System.nanoTime() - startTime));
+            mergedSegmentPreCopyBytes.inc(checkpoint.getLength());
+        }
+    }
+
+    /**
+     * Returns the stats of the merged segments that the replicas of this shard copied ahead of the refresh that makes them visible.
+     */
+    public MergedSegmentPreCopyStats mergedSegmentPreCopyStats() {
+        return new MergedSegmentPreCopyStats(
+            mergedSegmentPreCopyMetric.count(),
+            mergedSegmentPreCopyBytes.count(),
+            mergedSegmentPreCopyMetric.sum()
+        );
     }
 
     /**
@@ -3071,6 +3250,14 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         this.shardEventListener.delegates.add(onShardFailure);
     }
 
+    /**
+     * Returns the {@link System#nanoTime()} of the last indexing operation on this shard, or {@code 0} if the engine isn't open yet.
+     */
+    public long getLastWriteNanos() {
+        Engine engineOrNull = getEngineOrNull();
+        return engineOrNull == null ? 0 : engineOrNull.getLastWriteNanos();
+    }
+
     /**
      * Called by {@link IndexingMemoryController} to check whether more than {@code inactiveTimeNS} has passed since the last
      * indexing operation, so we can flush the index.
@@ -4960,6 +5147,13 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         return pendingRefreshLocation.get() != null;
     }
 
+    /**
+     * Returns true if searches or indexing requests wait for the next refresh of this shard.
+     */
+    public final boolean hasPendingRefreshListeners() {
+        return refreshListeners.refreshNeeded();
+    }
+
     private void setRefreshPending(Engine engine) {
         final Translog.Location lastWriteLocation = engine.translogManager().getTranslogLastWriteLocation();
         pendingRefreshLocation.updateAndGet(curr -> {
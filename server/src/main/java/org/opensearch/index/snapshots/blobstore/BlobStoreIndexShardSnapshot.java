@@ -49,8 +49,10 @@ import org.opensearch.index.store.StoreFileMetadata;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.IntStream;
 
 /**
@@ -72,6 +74,8 @@ public class BlobStoreIndexShardSnapshot implements ToXContentFragment, IndexSha
         private final long partBytes;
         private final int numberOfParts;
         private final StoreFileMetadata metadata;
+        private final List<Chunk> chunks;
+        private final long[] chunkOffsets;
 
         /**
          * Constructs a new instance of file info
@@ -101,9 +105,40 @@ public class BlobStoreIndexShardSnapshot implements ToXContentFragment, IndexSha
 
             this.partSize = partSize;
             this.partBytes = partBytes;
+            this.chunks = null;
+            this.chunkOffsets = null;
             assert IntStream.range(0, numberOfParts).mapToLong(this::partBytes).sum() == metadata.length();
         }
 
+        /**
+         * Constructs a new instance of file info whose content is stored as a list of content-defined chunks. Each chunk is a
+         * separate blob named after the hash of its content, so that chunks can be shared between files and snapshots.
+         *
+         * @param name      file name as stored in the blob store
+         * @param metadata  the files meta data
+         * @param chunks    the chunks making up the file, in order
+         */
+        public FileInfo(String name, StoreFileMetadata metadata, List<Chunk> chunks) {
+            if (chunks.isEmpty()) {
+                throw new IllegalArgumentException("no chunks for file [" + metadata + "]");
+            }
+            this.name = name;
+            this.metadata = metadata;
+            this.partSize = null;
+            this.partBytes = Long.MAX_VALUE;
+            this.numberOfParts = chunks.size();
+            this.chunks = List.copyOf(chunks);
+            this.chunkOffsets = new long[chunks.size() + 1];
+            for (int i = 0; i < chunks.size(); i++) {
+                chunkOffsets[i + 1] = chunkOffsets[i] + chunks.get(i).length();
+            }
+            if (chunkOffsets[chunks.size()] != metadata.length()) {
+                throw new IllegalArgumentException(
+                    "chunks of length [" + chunkOffsets[chunks.size()] + "] do not match length of file [" + metadata + "]"
+                );
+            }
+        }
+
         /**
          * Returns the base file name
          *
@@ -120,7 +155,9 @@ public class BlobStoreIndexShardSnapshot implements ToXContentFragment, IndexSha
          * @return part name
          */
         public String partName(int part) {
-            if (numberOfParts > 1) {
+            if (chunks != null) {
+                return chunks.get(part).name();
+            } else if (numberOfParts > 1) {
                 return name + ".part" + part;
             } else {
                 return name;
@@ -174,6 +211,9 @@ public class BlobStoreIndexShardSnapshot implements ToXContentFragment, IndexSha
          */
         public long partBytes(int part) {
             assert 0 <= part && part < numberOfParts : part + " vs " + numberOfParts;
+            if (chunks != null) {
+                return chunks.get(part).length();
+            }
             if (numberOfParts == 1) {
                 return length();
             }
@@ -187,6 +227,44 @@ public class BlobStoreIndexShardSnapshot implements ToXContentFragment, IndexSha
             return lastPartBytes;
         }
 
+        /**
+         * Returns the position in the file at which a given part starts
+         *
+         * @param part part number
+         * @return offset of the part in the file
+         */
+        public long partOffset(int part) {
+            assert 0 <= part && part < numberOfParts : part + " vs " + numberOfParts;
+            if (chunks != null) {
+                return chunkOffsets[part];
+            }
+            return part * partBytes;
+        }
+
+        /**
+         * Returns the part that holds the byte at a given position in the file
+         *
+         * @param position position in the file
+         * @return part number
+         */
+        public int partIndex(long position) {
+            assert 0 <= position && position < Math.max(1, length()) : position + " vs " + length();
+            if (chunks != null) {
+                final int index = Arrays.binarySearch(chunkOffsets, position);
+                return index >= 0 ? index : -index - 2;
+            }
+            return (int) (position / partBytes);
+        }
+
+        /**
+         * Returns the content-defined chunks making up this file, or {@code null} if the file is stored as fixed-size parts
+         *
+         * @return list of chunks or {@code null}
+         */
+        public List<Chunk> chunks() {
+            return chunks;
+        }
+
         /**
          * Returns number of parts
          *
@@ -238,6 +316,9 @@ public class BlobStoreIndexShardSnapshot implements ToXContentFragment, IndexSha
             if (!name.equals(fileInfo.name)) {
                 return false;
             }
+            if (Objects.equals(chunks, fileInfo.chunks) == false) {
+                return false;
+            }
             if (partSize != null) {
                 if (!partSize.equals(fileInfo.partSize)) {
                     return false;
@@ -257,6 +338,7 @@ public class BlobStoreIndexShardSnapshot implements ToXContentFragment, IndexSha
         static final String PART_SIZE = "part_size";
         static final String WRITTEN_BY = "written_by";
         static final String META_HASH = "meta_hash";
+        static final String CHUNKS = "chunks";
 
         /**
          * Serializes file info into JSON
@@ -283,6 +365,16 @@ public class BlobStoreIndexShardSnapshot implements ToXContentFragment, IndexSha
                 BytesRef br = file.metadata.hash();
                 builder.field(META_HASH, br.bytes, br.offset, br.length);
             }
+            if (file.chunks != null) {
+                builder.startArray(CHUNKS);
+                for (Chunk chunk : file.chunks) {
+                    builder.startObject();
+                    builder.field(NAME, chunk.name());
+                    builder.field(LENGTH, chunk.length());
+                    builder.endObject();
+                }
+                builder.endArray();
+            }
             builder.endObject();
         }
 
@@ -302,6 +394,7 @@ public class BlobStoreIndexShardSnapshot implements ToXContentFragment, IndexSha
             Version writtenBy = null;
             String writtenByStr = null;
             BytesRef metaHash = new BytesRef();
+            List<Chunk> chunks = null;
             if (token == XContentParser.Token.START_OBJECT) {
                 while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
                     if (token == XContentParser.Token.FIELD_NAME) {
@@ -328,6 +421,11 @@ public class BlobStoreIndexShardSnapshot implements ToXContentFragment, IndexSha
                             } else {
                                 throw new OpenSearchParseException("unknown parameter [{}]", currentFieldName);
                             }
+                        } else if (token == XContentParser.Token.START_ARRAY && CHUNKS.equals(currentFieldName)) {
+                            chunks = new ArrayList<>();
+                            while (parser.nextToken() != XContentParser.Token.END_ARRAY) {
+                                chunks.add(Chunk.fromXContent(parser));
+                            }
                         } else {
                             throw new OpenSearchParseException("unexpected token  [{}]", token);
                         }
@@ -349,7 +447,18 @@ public class BlobStoreIndexShardSnapshot implements ToXContentFragment, IndexSha
             } else if (checksum == null) {
                 throw new OpenSearchParseException("missing checksum for name [" + name + "]");
             }
-            return new FileInfo(name, new StoreFileMetadata(physicalName, length, checksum, writtenBy, metaHash), partSize);
+            final StoreFileMetadata metadata = new StoreFileMetadata(physicalName, length, checksum, writtenBy, metaHash);
+            if (chunks != null) {
+                if (partSize != null) {
+                    throw new OpenSearchParseException("both part size and chunks specified for name [" + name + "]");
+                }
+                try {
+                    return new FileInfo(name, metadata, chunks);
+                } catch (IllegalArgumentException e) {
+                    throw new OpenSearchParseException("invalid chunks for name [" + name + "]", e);
+                }
+            }
+            return new FileInfo(name, metadata, partSize);
         }
 
         @Override
@@ -364,8 +473,86 @@ public class BlobStoreIndexShardSnapshot implements ToXContentFragment, IndexSha
                 + partBytes
                 + ", metadata: "
                 + metadata
+                + (chunks != null ? ", chunks: " + chunks.size() : "")
                 + "]";
         }
+
+        /**
+         * A content-defined chunk of a snapshotted file, stored as a blob named after the hash of its content
+         *
+         * @opensearch.internal
+         */
+        public static final class Chunk {
+
+            private final String name;
+            private final long length;
+
+            public Chunk(String name, long length) {
+                this.name = name;
+                this.length = length;
+            }
+
+            /**
+             * Returns the name of the blob holding this chunk
+             */
+            public String name() {
+                return name;
+            }
+
+            /**
+             * Returns the length of this chunk in bytes
+             */
+            public long length() {
+                return length;
+            }
+
+            static Chunk fromXContent(XContentParser parser) throws IOException {
+                if (parser.currentToken() != XContentParser.Token.START_OBJECT) {
+                    throw new OpenSearchParseException("unexpected token [{}]", parser.currentToken());
+                }
+                String name = null;
+                long length = -1;
+                XContentParser.Token token;
+                while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
+                    if (token != XContentParser.Token.FIELD_NAME) {
+                        throw new OpenSearchParseException("unexpected token [{}]", token);
+                    }
+                    final String currentFieldName = parser.currentName();
+                    parser.nextToken();
+                    if (NAME.equals(currentFieldName)) {
+                        name = parser.text();
+                    } else if (LENGTH.equals(currentFieldName)) {
+                        length = parser.longValue();
+                    } else {
+                        throw new OpenSearchParseException("unknown parameter [{}]", currentFieldName);
+                    }
+                }
+                if (name == null || Strings.validFileName(name) == false) {
+                    throw new OpenSearchParseException("missing or invalid chunk name [" + name + "]");
+                } else if (length <= 0) {
+                    throw new OpenSearchParseException("missing or invalid chunk length for chunk [" + name + "]");
+                }
+                return new Chunk(name, length);
+            }
+
+            @Override
+            public boolean equals(Object o) {
+                if (this == o) return true;
+                if (o == null || getClass() != o.getClass()) return false;
+                Chunk chunk = (Chunk) o;
+                return length == chunk.length && name.equals(chunk.name);
+            }
+
+            @Override
+            public int hashCode() {
+                return Objects.hash(name, length);
+            }
+
+            @Override
+            public String toString() {
+                return "[name: " + name + ", length: " + length + "]";
+            }
+        }
     }
 
     /**
@@ -44,9 +44,11 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static java.util.Collections.unmodifiableMap;
 
@@ -173,6 +175,23 @@ public class BlobStoreIndexShardSnapshots implements Iterable<SnapshotFiles>, To
         return files.get(name);
     }
 
+    /**
+     * Returns the names of all content-defined chunks referenced by the files of these snapshots
+     *
+     * @return set of chunk blob names
+     */
+    public Set<String> chunkNames() {
+        final Set<String> chunkNames = new HashSet<>();
+        for (FileInfo fileInfo : files.values()) {
+            if (fileInfo.chunks() != null) {
+                for (FileInfo.Chunk chunk : fileInfo.chunks()) {
+                    chunkNames.add(chunk.name());
+                }
+            }
+        }
+        return chunkNames;
+    }
+
     @Override
     public Iterator<SnapshotFiles> iterator() {
         return shardSnapshots.iterator();
@@ -36,6 +36,8 @@ import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.FilterDirectory;
 import org.apache.lucene.store.IOContext;
 import org.apache.lucene.store.IndexOutput;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.lucene.store.FilterIndexOutput;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.SingleObjectCache;
@@ -193,6 +195,23 @@ final class ByteSizeCachingDirectory extends FilterDirectory {
         };
     }
 
+    /**
+     * Tracks a file that is written to the file system of the wrapped directory without going through {@link #createOutput}, so
+     * that the cached size is recomputed once it was written. The returned releasable must be closed when the write completes or
+     * fails.
+     */
+    Releasable trackExternalWrite() {
+        synchronized (this) {
+            numOpenOutputs++;
+        }
+        return Releasables.releaseOnce(() -> {
+            synchronized (ByteSizeCachingDirectory.this) {
+                numOpenOutputs--;
+                modCount++;
+            }
+        });
+    }
+
     @Override
     public void deleteFile(String name) throws IOException {
         try {
@@ -345,7 +345,7 @@ public class CompositeDirectory extends FilterDirectory {
                 new StoreFileMetadata(name, uploadedSegmentMetadata.getLength(), uploadedSegmentMetadata.getChecksum(), Version.LATEST),
                 null
             );
-            return new OnDemandBlockSnapshotIndexInput(fileInfo, localDirectory, transferManager);
+            return new OnDemandBlockSnapshotIndexInput(fileInfo, localDirectory, transferManager, context.readAdvice());
         }
     }
 
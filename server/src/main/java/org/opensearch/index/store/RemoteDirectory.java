@@ -23,6 +23,7 @@ import org.opensearch.common.blobstore.AsyncMultiStreamBlobContainer;
 import org.opensearch.common.blobstore.BlobContainer;
 import org.opensearch.common.blobstore.BlobMetadata;
 import org.opensearch.common.blobstore.exception.CorruptFileException;
+import org.opensearch.common.blobstore.stream.read.listener.ReadContextListener;
 import org.opensearch.common.blobstore.stream.write.WriteContext;
 import org.opensearch.common.blobstore.stream.write.WritePriority;
 import org.opensearch.common.blobstore.transfer.RemoteTransferContainer;
@@ -32,11 +33,13 @@ import org.opensearch.common.lucene.store.ByteArrayIndexInput;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.unit.ByteSizeUnit;
 import org.opensearch.index.store.exception.ChecksumCombinationException;
+import org.opensearch.threadpool.ThreadPool;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -374,6 +377,48 @@ public class RemoteDirectory extends Directory {
         return false;
     }
 
+    /**
+     * Downloads a blob to a local file with multiple concurrent streams, each reading a part of the blob, if the blob container
+     * supports it. The parts are written to a temporary file next to the destination, which is moved to the destination once all
+     * parts were written.
+     *
+     * @param remoteFileName       name of the blob to download
+     * @param destinationPath      path of the local file to download the blob to
+     * @param threadPool           thread pool to write the parts on
+     * @param rateLimiter          rate limiter applied to the stream of each part, on top of the download rate limiter of this directory
+     * @param maxConcurrentStreams maximum number of parts to download concurrently
+     * @param cancellationCheck    throws if the download was cancelled, checked before each part is written and before the
+     *                             temporary file is moved to the destination
+     * @param listener             listener notified with the name of the blob once it was downloaded
+     * @return true if the download was started, false if the blob container does not support multi-stream downloads
+     */
+    public boolean copyTo(
+        String remoteFileName,
+        Path destinationPath,
+        ThreadPool threadPool,
+        UnaryOperator<InputStream> rateLimiter,
+        int maxConcurrentStreams,
+        Runnable cancellationCheck,
+        ActionListener<String> listener
+    ) {
+        if (blobContainer instanceof AsyncMultiStreamBlobContainer == false) {
+            return false;
+        }
+        ((AsyncMultiStreamBlobContainer) blobContainer).readBlobAsync(
+            remoteFileName,
+            new ReadContextListener(
+                remoteFileName,
+                destinationPath,
+                listener,
+                threadPool,
+                stream -> rateLimiter.apply(downloadRateLimiter.apply(stream)),
+                maxConcurrentStreams,
+                cancellationCheck
+            )
+        );
+        return true;
+    }
+
     private void uploadBlob(
         Directory from,
         String src,
@@ -47,6 +47,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -60,6 +61,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 /**
@@ -561,6 +563,44 @@ public final class RemoteSegmentStoreDirectory extends FilterDirectory implement
         }
     }
 
+    /**
+     * Downloads a segment file to a local file with multiple concurrent streams, if the remote data directory supports it.
+     * See {@link RemoteDirectory#copyTo}.
+     *
+     * @param name                 the name of an existing segment file
+     * @param destinationPath      path of the local file to download the segment file to
+     * @param threadPool           thread pool to write the downloaded parts on
+     * @param rateLimiter          rate limiter applied to the stream of each part
+     * @param maxConcurrentStreams maximum number of parts to download concurrently
+     * @param cancellationCheck    throws if the download was cancelled
+     * @param listener             listener notified once the segment file was downloaded
+     * @return true if the download was started, false if the remote data directory does not support multi-stream downloads
+     * @throws NoSuchFileException if the file does not exist in the remote segment store
+     */
+    public boolean copyTo(
+        String name,
+        Path destinationPath,
+        ThreadPool threadPool,
+        UnaryOperator<InputStream> rateLimiter,
+        int maxConcurrentStreams,
+        Runnable cancellationCheck,
+        ActionListener<Void> listener
+    ) throws NoSuchFileException {
+        final String remoteFilename = getExistingRemoteFilename(name);
+        if (remoteFilename == null) {
+            throw new NoSuchFileException(name);
+        }
+        return remoteDataDirectory.copyTo(
+            remoteFilename,
+            destinationPath,
+            threadPool,
+            rateLimiter,
+            maxConcurrentStreams,
+            cancellationCheck,
+            ActionListener.map(listener, r -> null)
+        );
+    }
+
     /**
      * Copies a file from the source directory to a remote based on multi-stream upload support.
      * If vendor plugin supports uploading multiple parts in parallel, <code>BlobContainer#writeBlobByStreams</code>
@@ -9,29 +9,41 @@
 package org.opensearch.index.store;
 
 import org.apache.logging.log4j.Logger;
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.index.CorruptIndexException;
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.FilterDirectory;
 import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.util.IOUtils;
 import org.opensearch.action.support.GroupedActionListener;
 import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.logging.Loggers;
 import org.opensearch.common.util.CancellableThreads;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.snapshots.blobstore.RateLimitingInputStream;
 import org.opensearch.indices.recovery.RecoverySettings;
 import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
+import java.util.function.BiConsumer;
 
 /**
  * Helper class to downloads files from a {@link RemoteSegmentStoreDirectory}
  * instance to a local {@link Directory} instance in parallel depending on thread
- * pool size and recovery settings.
+ * pool size and recovery settings. Files of at least
+ * {@link RecoverySettings#INDICES_RECOVERY_REMOTE_STORE_MULTI_STREAM_THRESHOLD_SETTING}
+ * are downloaded with multiple concurrent ranged streams, if the repository supports it.
  *
  * @opensearch.api
  */
@@ -62,7 +74,38 @@ public final class RemoteStoreFileDownloader {
         Collection<String> toDownloadSegments,
         ActionListener<Void> listener
     ) {
-        downloadInternal(cancellableThreads, source, destination, null, toDownloadSegments, () -> {}, listener);
+        downloadAsync(cancellableThreads, source, destination, toDownloadSegments, (file, bytes) -> {}, listener);
+    }
+
+    /**
+     * Copies the given segments from the remote segment store to the given
+     * local directory.
+     * @param source The remote directory to copy segment files from
+     * @param destination The local directory to copy segment files to
+     * @param toDownloadSegments The list of segment files to download
+     * @param multiStreamProgressTracker Notified of the size of each file downloaded with multiple
+     *                                   streams, which are written to disk without going through
+     *                                   the destination directory
+     * @param listener Callback listener to be notified upon completion
+     */
+    public void downloadAsync(
+        CancellableThreads cancellableThreads,
+        Directory source,
+        Directory destination,
+        Collection<String> toDownloadSegments,
+        BiConsumer<String, Long> multiStreamProgressTracker,
+        ActionListener<Void> listener
+    ) {
+        downloadInternal(
+            cancellableThreads,
+            source,
+            destination,
+            null,
+            toDownloadSegments,
+            () -> {},
+            multiStreamProgressTracker,
+            listener
+        );
     }
 
     /**
@@ -86,7 +129,16 @@ public final class RemoteStoreFileDownloader {
     ) throws InterruptedException, IOException {
         final CancellableThreads cancellableThreads = new CancellableThreads();
         final PlainActionFuture<Void> listener = PlainActionFuture.newFuture();
-        downloadInternal(cancellableThreads, source, destination, secondDestination, toDownloadSegments, onFileCompletion, listener);
+        downloadInternal(
+            cancellableThreads,
+            source,
+            destination,
+            secondDestination,
+            toDownloadSegments,
+            onFileCompletion,
+            (file, bytes) -> {},
+            listener
+        );
         try {
             listener.get();
         } catch (ExecutionException e) {
@@ -112,6 +164,7 @@ public final class RemoteStoreFileDownloader {
         @Nullable Directory secondDestination,
         Collection<String> toDownloadSegments,
         Runnable onFileCompletion,
+        BiConsumer<String, Long> multiStreamProgressTracker,
         ActionListener<Void> listener
     ) {
         final Queue<String> queue = new ConcurrentLinkedQueue<>(toDownloadSegments);
@@ -124,9 +177,21 @@ public final class RemoteStoreFileDownloader {
             Math.min(threadPool.info(ThreadPool.Names.REMOTE_RECOVERY).getMax(), recoverySettings.getMaxConcurrentRemoteStoreStreams())
         );
         logger.trace("Starting download of {} files with {} threads", queue.size(), threads);
+        // Split the streams of the recovery between the files downloaded concurrently
+        final int streamsPerFile = Math.max(1, recoverySettings.getMaxConcurrentRemoteStoreStreams() / Math.max(1, threads));
         final ActionListener<Void> allFilesListener = new GroupedActionListener<>(ActionListener.map(listener, r -> null), threads);
         for (int i = 0; i < threads; i++) {
-            copyOneFile(cancellableThreads, source, destination, secondDestination, queue, onFileCompletion, allFilesListener);
+            copyOneFile(
+                cancellableThreads,
+                source,
+                destination,
+                secondDestination,
+                queue,
+                onFileCompletion,
+                multiStreamProgressTracker,
+                streamsPerFile,
+                allFilesListener
+            );
         }
     }
 
@@ -137,6 +202,8 @@ public final class RemoteStoreFileDownloader {
         @Nullable Directory secondDestination,
         Queue<String> queue,
         Runnable onFileCompletion,
+        BiConsumer<String, Long> multiStreamProgressTracker,
+        int streamsPerFile,
         ActionListener<Void> listener
     ) {
         final String file = queue.poll();
@@ -144,25 +211,153 @@ public final class RemoteStoreFileDownloader {
             // Queue is empty, so notify listener we are done
             listener.onResponse(null);
         } else {
+            final ActionListener<Void> fileListener = ActionListener.wrap(
+                r -> copyOneFile(
+                    cancellableThreads,
+                    source,
+                    destination,
+                    secondDestination,
+                    queue,
+                    onFileCompletion,
+                    multiStreamProgressTracker,
+                    streamsPerFile,
+                    listener
+                ),
+                e -> {
+                    // Clear the queue to stop any future processing, then report the failure
+                    queue.clear();
+                    listener.onFailure(e);
+                }
+            );
             threadPool.executor(ThreadPool.Names.REMOTE_RECOVERY).submit(() -> {
                 logger.trace("Downloading file {}", file);
                 try {
-                    cancellableThreads.executeIO(() -> {
-                        destination.copyFrom(source, file, file, IOContext.DEFAULT);
-                        logger.trace("Downloaded file {} of size {}", file, destination.fileLength(file));
-                        onFileCompletion.run();
-                        if (secondDestination != null) {
-                            secondDestination.copyFrom(destination, file, file, IOContext.DEFAULT);
+                    final Path localPath = multiStreamDownloadPath(source, destination, file);
+                    if (localPath != null) {
+                        cancellableThreads.checkForCancel();
+                        // the file is written behind the back of the store, keep its cached size from going stale
+                        final Releasable pendingWrite = trackExternalWrite(destination);
+                        final ActionListener<Void> multiStreamListener = ActionListener.runBefore(ActionListener.wrap(r -> {
+                            verifyChecksum((RemoteSegmentStoreDirectory) source, destination, file);
+                            multiStreamProgressTracker.accept(file, destination.fileLength(file));
+                            onFileDownloaded(cancellableThreads, destination, secondDestination, file, onFileCompletion, fileListener);
+                        }, fileListener::onFailure), pendingWrite::close);
+                        boolean started = false;
+                        try {
+                            started = ((RemoteSegmentStoreDirectory) source).copyTo(
+                                file,
+                                localPath,
+                                threadPool,
+                                stream -> new RateLimitingInputStream(
+                                    stream,
+                                    recoverySettings::remoteStoreDownloadRateLimiter,
+                                    nanos -> {}
+                                ),
+                                streamsPerFile,
+                                cancellableThreads::checkForCancel,
+                                multiStreamListener
+                            );
+                        } finally {
+                            if (started == false) {
+                                pendingWrite.close();
+                            }
                         }
-                    });
+                        if (started) {
+                            logger.trace("Downloading file {} with up to {} streams", file, streamsPerFile);
+                            return;
+                        }
+                    }
+                    cancellableThreads.executeIO(() -> destination.copyFrom(source, file, file, IOContext.DEFAULT));
                 } catch (Exception e) {
-                    // Clear the queue to stop any future processing, report the failure, then return
-                    queue.clear();
-                    listener.onFailure(e);
+                    fileListener.onFailure(e);
                     return;
                 }
-                copyOneFile(cancellableThreads, source, destination, secondDestination, queue, onFileCompletion, listener);
+                onFileDownloaded(cancellableThreads, destination, secondDestination, file, onFileCompletion, fileListener);
+            });
+        }
+    }
+
+    private void onFileDownloaded(
+        CancellableThreads cancellableThreads,
+        Directory destination,
+        @Nullable Directory secondDestination,
+        String file,
+        Runnable onFileCompletion,
+        ActionListener<Void> listener
+    ) {
+        try {
+            cancellableThreads.executeIO(() -> {
+                logger.trace("Downloaded file {} of size {}", file, destination.fileLength(file));
+                onFileCompletion.run();
+                if (secondDestination != null) {
+                    secondDestination.copyFrom(destination, file, file, IOContext.DEFAULT);
+                }
             });
+        } catch (Exception e) {
+            listener.onFailure(e);
+            return;
+        }
+        listener.onResponse(null);
+    }
+
+    /**
+     * Returns the local path to download the given file to with multiple streams, or null if the file is too small or it has to be
+     * written through the destination directory.
+     */
+    @Nullable
+    private Path multiStreamDownloadPath(Directory source, Directory destination, String file) {
+        if (source instanceof RemoteSegmentStoreDirectory == false) {
+            return null;
+        }
+        final RemoteSegmentStoreDirectory.UploadedSegmentMetadata metadata = ((RemoteSegmentStoreDirectory) source)
+            .getSegmentsUploadedToRemoteStore()
+            .get(file);
+        if (metadata == null || metadata.getLength() < recoverySettings.getRemoteStoreMultiStreamDownloadThreshold().getBytes()) {
+            return null;
+        }
+        Directory directory = destination;
+        while (directory instanceof FilterDirectory) {
+            if (directory instanceof CompositeDirectory) {
+                // files of a composite directory are tracked by the file cache, so they have to be written through it
+                return null;
+            }
+            directory = ((FilterDirectory) directory).getDelegate();
+        }
+        return directory instanceof FSDirectory ? ((FSDirectory) directory).getDirectory().resolve(file) : null;
+    }
+
+    /**
+     * Returns a releasable that marks a write to the local file system as pending on the {@link ByteSizeCachingDirectory} of the
+     * given store directory, if any, until it is closed.
+     */
+    private static Releasable trackExternalWrite(Directory destination) {
+        Directory directory = destination;
+        while (directory instanceof FilterDirectory) {
+            if (directory instanceof ByteSizeCachingDirectory) {
+                return ((ByteSizeCachingDirectory) directory).trackExternalWrite();
+            }
+            directory = ((FilterDirectory) directory).getDelegate();
+        }
+        return () -> {};
+    }
+
+    /**
+     * Verifies the checksum of a file downloaded with multiple streams against the checksum recorded when it was uploaded, and
+     * deletes the file if they do not match.
+     */
+    private static void verifyChecksum(RemoteSegmentStoreDirectory source, Directory destination, String file) throws IOException {
+        final String expectedChecksum = source.getSegmentsUploadedToRemoteStore().get(file).getChecksum();
+        try (IndexInput input = destination.openInput(file, IOContext.READONCE)) {
+            final long checksum = CodecUtil.checksumEntireFile(input);
+            if (Long.toString(checksum).equals(expectedChecksum) == false) {
+                throw new CorruptIndexException(
+                    "checksum mismatch of downloaded file, expected [" + expectedChecksum + "] but was [" + checksum + "]",
+                    input
+                );
+            }
+        } catch (IOException e) {
+            IOUtils.deleteFilesIgnoringExceptions(destination, file);
+            throw e;
         }
     }
 }
@@ -70,7 +70,7 @@ public final class RemoteSnapshotDirectory extends Directory {
         if (fileInfo.name().startsWith(VIRTUAL_FILE_PREFIX)) {
             return new ByteArrayIndexInput(fileInfo.physicalName(), fileInfo.metadata().hash().bytes);
         }
-        return new OnDemandBlockSnapshotIndexInput(fileInfo, localStoreDir, transferManager);
+        return new OnDemandBlockSnapshotIndexInput(fileInfo, localStoreDir, transferManager, context.readAdvice());
     }
 
     @Override
@@ -12,6 +12,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.store.RandomAccessInput;
+import org.apache.lucene.store.ReadAdvice;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 
 import java.io.Closeable;
@@ -27,6 +28,10 @@ import java.util.Objects;
  * <br>
  * This class delegate the responsibility of actually fetching the block when demanded to its subclasses using
  * {@link OnDemandBlockIndexInput#fetchBlock(int)}.
+ * <br>
+ * Blocks may also be read ahead through {@link OnDemandBlockIndexInput#prefetchBlock(int)}: once the demanded blocks follow a sequential
+ * or strided pattern, the next {@link OnDemandBlockIndexInput#readAheadBlocks} blocks of that pattern are prefetched, and Lucene's
+ * {@link IndexInput#prefetch(long, long)} hints prefetch the blocks they cover.
  * <p>
  * Like {@link IndexInput}, this class may only be used from one thread as it is not thread safe.
  * However, a cleaning action may run from another thread triggered by the {@link Cleaner}, but
@@ -72,11 +77,29 @@ public abstract class OnDemandBlockIndexInput extends IndexInput implements Rand
     protected final int blockSize;
     protected final int blockMask;
 
+    /**
+     * Number of blocks to read ahead once the demanded blocks follow a sequential or strided pattern, 0 disables read-ahead
+     */
+    protected final int readAheadBlocks;
+
+    /**
+     * How Lucene expects to read this file, {@link ReadAdvice#RANDOM} disables read-ahead
+     */
+    protected ReadAdvice readAdvice;
+
     /**
      * ID of the current block
      */
     private int currentBlockId;
 
+    /**
+     * Variables used to detect the access pattern: the previously demanded block, the distance to the block demanded before it,
+     * and the furthest block read ahead for the current pattern.
+     */
+    private int lastDemandedBlockId = -1;
+    private int lastStride;
+    private int lastReadAheadBlockId = -1;
+
     private final BlockHolder blockHolder = new BlockHolder();
 
     OnDemandBlockIndexInput(Builder builder) {
@@ -87,6 +110,8 @@ public abstract class OnDemandBlockIndexInput extends IndexInput implements Rand
         this.blockSizeShift = builder.blockSizeShift;
         this.blockSize = builder.blockSize;
         this.blockMask = builder.blockMask;
+        this.readAheadBlocks = builder.readAheadBlocks;
+        this.readAdvice = builder.readAdvice;
         CLEANER.register(this, blockHolder);
     }
 
@@ -102,6 +127,13 @@ public abstract class OnDemandBlockIndexInput extends IndexInput implements Rand
      */
     protected abstract IndexInput fetchBlock(int blockId) throws IOException;
 
+    /**
+     * Given a blockId, start fetching it in the background so a later {@link #fetchBlock(int)} finds it cached. This is only a hint,
+     * implementations may ignore it.
+     * @param blockId to prefetch
+     */
+    protected void prefetchBlock(int blockId) {}
+
     @Override
     public abstract OnDemandBlockIndexInput clone();
 
@@ -200,6 +232,28 @@ public abstract class OnDemandBlockIndexInput extends IndexInput implements Rand
         }
     }
 
+    @Override
+    public void prefetch(long offset, long length) throws IOException {
+        if (offset < 0 || length < 0) {
+            throw new IllegalArgumentException("prefetch() out of bounds: offset=" + offset + ",length=" + length + ": " + this);
+        }
+        final long end = Math.min(offset + length, length());
+        if (offset >= end) {
+            return;
+        }
+        final int lastBlockId = getBlock(this.offset + end - 1);
+        for (int blockId = getBlock(this.offset + offset); blockId <= lastBlockId; blockId++) {
+            if (blockHolder.block == null || blockId != currentBlockId) {
+                prefetchBlock(blockId);
+            }
+        }
+    }
+
+    @Override
+    public void updateReadAdvice(ReadAdvice readAdvice) {
+        this.readAdvice = readAdvice;
+    }
+
     @Override
     public void seek(long pos) throws IOException {
         if (pos > length()) {
@@ -339,6 +393,37 @@ public abstract class OnDemandBlockIndexInput extends IndexInput implements Rand
 
         blockHolder.set(fetchBlock(blockId));
         currentBlockId = blockId;
+        maybeReadAhead(blockId);
+    }
+
+    /**
+     * Prefetches the next blocks if the demanded blocks follow a sequential or strided pattern, i.e. the last demands moved forward
+     * by the same number of blocks. With {@link ReadAdvice#SEQUENTIAL} a single move to the next block is enough.
+     */
+    private void maybeReadAhead(int blockId) {
+        final int stride = lastDemandedBlockId >= 0 ? blockId - lastDemandedBlockId : 0;
+        final boolean followsPattern = stride > 0 && (stride == lastStride || (stride == 1 && readAdvice == ReadAdvice.SEQUENTIAL));
+        lastDemandedBlockId = blockId;
+        lastStride = stride;
+        if (followsPattern == false) {
+            lastReadAheadBlockId = -1;
+            return;
+        }
+        if (readAheadBlocks == 0 || readAdvice == ReadAdvice.RANDOM || length == 0) {
+            return;
+        }
+        final int lastBlockId = getBlock(offset + length - 1);
+        for (int i = 1; i <= readAheadBlocks; i++) {
+            final long nextBlockId = blockId + (long) i * stride;
+            if (nextBlockId > lastBlockId) {
+                break;
+            }
+            // blocks up to lastReadAheadBlockId were already prefetched by an earlier demand of this pattern
+            if (nextBlockId > lastReadAheadBlockId) {
+                prefetchBlock((int) nextBlockId);
+                lastReadAheadBlockId = (int) nextBlockId;
+            }
+        }
     }
 
     protected void cloneBlock(OnDemandBlockIndexInput other) {
@@ -388,6 +473,8 @@ public abstract class OnDemandBlockIndexInput extends IndexInput implements Rand
         private int blockSizeShift = DEFAULT_BLOCK_SIZE_SHIFT;
         private int blockSize = 1 << blockSizeShift;
         private int blockMask = blockSize - 1;
+        private int readAheadBlocks;
+        private ReadAdvice readAdvice = ReadAdvice.NORMAL;
 
         private Builder() {}
 
@@ -418,6 +505,17 @@ public abstract class OnDemandBlockIndexInput extends IndexInput implements Rand
             this.blockMask = blockSize - 1;
             return this;
         }
+
+        public Builder readAheadBlocks(int readAheadBlocks) {
+            assert readAheadBlocks >= 0 : "readAheadBlocks must be >= 0";
+            this.readAheadBlocks = readAheadBlocks;
+            return this;
+        }
+
+        public Builder readAdvice(ReadAdvice readAdvice) {
+            this.readAdvice = readAdvice;
+            return this;
+        }
     }
 
     /**
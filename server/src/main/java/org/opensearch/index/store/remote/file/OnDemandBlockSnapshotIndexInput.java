@@ -12,8 +12,10 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.store.FSDirectory;
 import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.ReadAdvice;
 import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot.FileInfo;
 import org.opensearch.index.store.remote.utils.BlobFetchRequest;
+import org.opensearch.index.store.remote.utils.FileTypeUtils;
 import org.opensearch.index.store.remote.utils.TransferManager;
 
 import java.io.IOException;
@@ -29,6 +31,12 @@ import java.util.List;
  */
 public class OnDemandBlockSnapshotIndexInput extends OnDemandBlockIndexInput {
     private static final Logger logger = LogManager.getLogger(OnDemandBlockSnapshotIndexInput.class);
+
+    /**
+     * Number of blocks read ahead for files Lucene mostly scans forward: postings, doc values and BKD leaves
+     */
+    static final int SEQUENTIAL_READ_AHEAD_BLOCKS = 2;
+
     /**
      * Where this class fetches IndexInput parts from
      */
@@ -59,6 +67,15 @@ public class OnDemandBlockSnapshotIndexInput extends OnDemandBlockIndexInput {
     protected final long originalFileSize;
 
     public OnDemandBlockSnapshotIndexInput(FileInfo fileInfo, FSDirectory directory, TransferManager transferManager) {
+        this(fileInfo, directory, transferManager, ReadAdvice.NORMAL);
+    }
+
+    public OnDemandBlockSnapshotIndexInput(
+        FileInfo fileInfo,
+        FSDirectory directory,
+        TransferManager transferManager,
+        ReadAdvice readAdvice
+    ) {
         this(
             "BlockedSnapshotIndexInput(path=\""
                 + directory.getDirectory().toString()
@@ -75,7 +92,8 @@ public class OnDemandBlockSnapshotIndexInput extends OnDemandBlockIndexInput {
             fileInfo.length(),
             false,
             directory,
-            transferManager
+            transferManager,
+            readAdvice
         );
     }
 
@@ -87,9 +105,28 @@ public class OnDemandBlockSnapshotIndexInput extends OnDemandBlockIndexInput {
         boolean isClone,
         FSDirectory directory,
         TransferManager transferManager
+    ) {
+        this(resourceDescription, fileInfo, offset, length, isClone, directory, transferManager, ReadAdvice.NORMAL);
+    }
+
+    public OnDemandBlockSnapshotIndexInput(
+        String resourceDescription,
+        FileInfo fileInfo,
+        long offset,
+        long length,
+        boolean isClone,
+        FSDirectory directory,
+        TransferManager transferManager,
+        ReadAdvice readAdvice
     ) {
         this(
-            OnDemandBlockIndexInput.builder().resourceDescription(resourceDescription).isClone(isClone).offset(offset).length(length),
+            OnDemandBlockIndexInput.builder()
+                .resourceDescription(resourceDescription)
+                .isClone(isClone)
+                .offset(offset)
+                .length(length)
+                .readAheadBlocks(readAheadBlocks(fileInfo.physicalName()))
+                .readAdvice(readAdvice),
             fileInfo,
             directory,
             transferManager
@@ -127,7 +164,9 @@ public class OnDemandBlockSnapshotIndexInput extends OnDemandBlockIndexInput {
                 .isClone(true)
                 .offset(this.offset + offset)
                 .length(length)
-                .resourceDescription(sliceDescription),
+                .resourceDescription(sliceDescription)
+                .readAheadBlocks(readAheadBlocks)
+                .readAdvice(readAdvice),
             fileInfo,
             directory,
             transferManager
@@ -137,6 +176,16 @@ public class OnDemandBlockSnapshotIndexInput extends OnDemandBlockIndexInput {
     @Override
     protected IndexInput fetchBlock(int blockId) throws IOException {
         logger.trace("fetchBlock called with blockId -> {}", blockId);
+        return transferManager.fetchBlob(blobFetchRequest(blockId));
+    }
+
+    @Override
+    protected void prefetchBlock(int blockId) {
+        logger.trace("prefetchBlock called with blockId -> {}", blockId);
+        transferManager.prefetchBlob(blobFetchRequest(blockId));
+    }
+
+    private BlobFetchRequest blobFetchRequest(int blockId) {
         final String blockFileName = fileName + "_block_" + blockId;
 
         final long blockStart = getBlockStart(blockId);
@@ -152,18 +201,34 @@ public class OnDemandBlockSnapshotIndexInput extends OnDemandBlockIndexInput {
 
         // Block may be present on multiple chunks of a file, so we need
         // to fetch each chunk/blob part separately to fetch an entire block.
-        BlobFetchRequest blobFetchRequest = BlobFetchRequest.builder()
+        return BlobFetchRequest.builder()
             .blobParts(getBlobParts(blockStart, blockEnd))
             .directory(directory)
             .fileName(blockFileName)
             .build();
-        return transferManager.fetchBlob(blobFetchRequest);
+    }
+
+    /**
+     * Returns how many blocks to read ahead of sequential or strided reads of the given file. Stored fields are read per hit, so
+     * their blocks are only fetched on demand or for Lucene's prefetch hints.
+     */
+    static int readAheadBlocks(String fileName) {
+        if (FileTypeUtils.isStoredFieldsFile(fileName)) {
+            return 0;
+        }
+        if (FileTypeUtils.isPostingsFile(fileName) || FileTypeUtils.isDocValuesFile(fileName) || FileTypeUtils.isPointsFile(fileName)) {
+            return SEQUENTIAL_READ_AHEAD_BLOCKS;
+        }
+        return 1;
     }
 
     /**
      * Returns list of blob parts/chunks in a file for a given block.
      */
     protected List<BlobFetchRequest.BlobPart> getBlobParts(long blockStart, long blockEnd) {
+        if (fileInfo.chunks() != null) {
+            return getChunkParts(blockStart, blockEnd);
+        }
         // If the snapshot file is chunked, we must account for this by
         // choosing the appropriate file part and updating the position
         // accordingly.
@@ -189,6 +254,23 @@ public class OnDemandBlockSnapshotIndexInput extends OnDemandBlockIndexInput {
         return blobParts;
     }
 
+    /**
+     * Returns list of content-defined chunks of a file for a given block, chunks have variable sizes so their offsets are looked up.
+     */
+    private List<BlobFetchRequest.BlobPart> getChunkParts(long blockStart, long blockEnd) {
+        List<BlobFetchRequest.BlobPart> blobParts = new ArrayList<>();
+        int partNum = fileInfo.partIndex(blockStart);
+        long pos = blockStart;
+        while (pos < blockEnd) {
+            long partStart = pos - fileInfo.partOffset(partNum);
+            long fetchBytes = Math.min(fileInfo.partBytes(partNum) - partStart, blockEnd - pos);
+            blobParts.add(new BlobFetchRequest.BlobPart(fileInfo.partName(partNum), partStart, fetchBytes));
+            partNum++;
+            pos = pos + fetchBytes;
+        }
+        return blobParts;
+    }
+
     @Override
     public OnDemandBlockSnapshotIndexInput clone() {
         OnDemandBlockSnapshotIndexInput clone = buildSlice("clone", 0L, this.length);
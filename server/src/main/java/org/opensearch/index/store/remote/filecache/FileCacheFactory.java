@@ -10,6 +10,8 @@ package org.opensearch.index.store.remote.filecache;
 
 import org.opensearch.common.cache.RemovalReason;
 import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.index.store.remote.filecache.FileCacheSettings.EvictionPolicy;
+import org.opensearch.index.store.remote.utils.FileTypeUtils;
 import org.opensearch.index.store.remote.utils.cache.SegmentedCache;
 
 import java.nio.file.Files;
@@ -45,6 +47,29 @@ public class FileCacheFactory {
         return new FileCache(createDefaultBuilder().capacity(capacity).concurrencyLevel(concurrencyLevel).build(), circuitBreaker);
     }
 
+    public static FileCache createConcurrentFileCache(long capacity, EvictionPolicy evictionPolicy, CircuitBreaker circuitBreaker) {
+        final SegmentedCache.Builder<Path, CachedIndexInput> builder = createDefaultBuilder().capacity(capacity);
+        if (evictionPolicy == EvictionPolicy.TINYLFU) {
+            builder.tinyLFU(FileCacheFactory::frequencyWeight);
+        }
+        return new FileCache(builder.build(), circuitBreaker);
+    }
+
+    /**
+     * Weighs how often a file was used by how costly it is to miss it. The terms and points indices are read by every query on
+     * their field, while stored fields are only read for the hits that get fetched.
+     */
+    static int frequencyWeight(Path path) {
+        final String fileName = FileTypeUtils.segmentFileName(path.getFileName().toString());
+        if (FileTypeUtils.isTermsIndexFile(fileName) || FileTypeUtils.isPointsIndexFile(fileName)) {
+            return 4;
+        }
+        if (FileTypeUtils.isStoredFieldsFile(fileName)) {
+            return 1;
+        }
+        return 2;
+    }
+
     private static SegmentedCache.Builder<Path, CachedIndexInput> createDefaultBuilder() {
         return SegmentedCache.<Path, CachedIndexInput>builder()
             // use length in bytes as the weight of the file item
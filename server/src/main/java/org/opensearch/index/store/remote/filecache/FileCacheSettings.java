@@ -12,6 +12,8 @@ import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 
+import java.util.Locale;
+
 /**
  * Settings relate to file cache
  *
@@ -32,6 +34,17 @@ public class FileCacheSettings {
         Setting.Property.Dynamic
     );
 
+    /**
+     * Defines how the file cache picks the files to evict once it is full. {@code lru} evicts the least recently used files, while
+     * {@code tinylfu} also accounts for how often files were used, so that a large scan does not evict the working set of the node.
+     */
+    public static final Setting<EvictionPolicy> EVICTION_POLICY_SETTING = new Setting<>(
+        "node.search.cache.eviction_policy",
+        EvictionPolicy.LRU.toString(),
+        EvictionPolicy::fromString,
+        Setting.Property.NodeScope
+    );
+
     private volatile double remoteDataRatio;
 
     public FileCacheSettings(Settings settings, ClusterSettings clusterSettings) {
@@ -46,4 +59,29 @@ public class FileCacheSettings {
     public double getRemoteDataRatio() {
         return remoteDataRatio;
     }
+
+    /**
+     * Policies to pick the files the file cache evicts
+     *
+     * @opensearch.internal
+     */
+    public enum EvictionPolicy {
+        LRU,
+        TINYLFU;
+
+        public static EvictionPolicy fromString(String evictionPolicy) {
+            try {
+                return valueOf(evictionPolicy.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(
+                    "[" + EVICTION_POLICY_SETTING.getKey() + "] must be one of [lru, tinylfu] but was [" + evictionPolicy + "]"
+                );
+            }
+        }
+
+        @Override
+        public String toString() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
 }
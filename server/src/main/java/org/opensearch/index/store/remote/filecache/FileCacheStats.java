@@ -130,6 +130,14 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         return misses;
     }
 
+    /**
+     * The share of lookups that were served from the cache, between 0 and 1.
+     */
+    public double getHitRatio() {
+        final long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
     static final class Fields {
         static final String ACTIVE = "active";
         static final String ACTIVE_IN_BYTES = "active_in_bytes";
@@ -140,6 +148,8 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         static final String EVICTIONS_IN_BYTES = "evictions_in_bytes";
         static final String ACTIVE_PERCENT = "active_percent";
         static final String HIT_COUNT = "hit_count";
+        static final String MISS_COUNT = "miss_count";
+        static final String HIT_RATIO = "hit_ratio";
     }
 
     @Override
@@ -155,6 +165,8 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         );
         builder.field(FileCacheStats.Fields.ACTIVE_PERCENT, getActivePercent());
         builder.field(FileCacheStats.Fields.HIT_COUNT, getHits());
+        builder.field(FileCacheStats.Fields.MISS_COUNT, getCacheMisses());
+        builder.field(FileCacheStats.Fields.HIT_RATIO, getHitRatio());
         builder.endObject();
         return builder;
     }
@@ -8,8 +8,11 @@
 
 package org.opensearch.index.store.remote.utils;
 
+import org.apache.lucene.index.IndexFileNames;
 import org.opensearch.common.annotation.ExperimentalApi;
 
+import java.util.Set;
+
 /**
  * Utility class for checking file types
  *
@@ -21,6 +24,13 @@ public class FileTypeUtils {
     public static String BLOCK_FILE_IDENTIFIER = "_block_";
     public static String INDICES_FOLDER_IDENTIFIER = "index";
 
+    private static final Set<String> POSTINGS_EXTENSIONS = Set.of("doc", "pos", "pay", "psm");
+    private static final Set<String> DOC_VALUES_EXTENSIONS = Set.of("dvd", "dvm");
+    private static final Set<String> STORED_FIELDS_EXTENSIONS = Set.of("fdt", "fdx", "fdm");
+    private static final Set<String> POINTS_EXTENSIONS = Set.of("kdd", "kdi", "kdm");
+    private static final Set<String> TERMS_INDEX_EXTENSIONS = Set.of("tip", "tmd");
+    private static final Set<String> POINTS_INDEX_EXTENSIONS = Set.of("kdi", "kdm");
+
     public static boolean isTempFile(String name) {
         return name.endsWith(".tmp");
     }
@@ -40,4 +50,41 @@ public class FileTypeUtils {
     public static boolean isSegmentsFile(String name) {
         return name.startsWith("segments_");
     }
+
+    public static boolean isPostingsFile(String name) {
+        return hasExtension(name, POSTINGS_EXTENSIONS);
+    }
+
+    public static boolean isDocValuesFile(String name) {
+        return hasExtension(name, DOC_VALUES_EXTENSIONS);
+    }
+
+    public static boolean isStoredFieldsFile(String name) {
+        return hasExtension(name, STORED_FIELDS_EXTENSIONS);
+    }
+
+    public static boolean isPointsFile(String name) {
+        return hasExtension(name, POINTS_EXTENSIONS);
+    }
+
+    public static boolean isTermsIndexFile(String name) {
+        return hasExtension(name, TERMS_INDEX_EXTENSIONS);
+    }
+
+    public static boolean isPointsIndexFile(String name) {
+        return hasExtension(name, POINTS_INDEX_EXTENSIONS);
+    }
+
+    /**
+     * Returns the name of the file the given block file is a block of, or the name itself if it is not a block file.
+     */
+    public static String segmentFileName(String name) {
+        final int blockIdentifier = name.indexOf(BLOCK_FILE_IDENTIFIER);
+        return blockIdentifier < 0 ? name : name.substring(0, blockIdentifier);
+    }
+
+    private static boolean hasExtension(String name, Set<String> extensions) {
+        final String extension = IndexFileNames.getExtension(name);
+        return extension != null && extensions.contains(extension);
+    }
 }
@@ -10,6 +10,7 @@ package org.opensearch.index.store.remote.utils;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.lucene.store.IOContext;
 import org.apache.lucene.store.IndexInput;
 import org.opensearch.common.annotation.ExperimentalApi;
@@ -28,8 +29,10 @@ import java.nio.file.Path;
 import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -50,9 +53,15 @@ public class TransferManager {
         InputStream read(String name, long position, long length) throws IOException;
     }
 
+    /**
+     * Maximum number of blobs prefetched at the same time, further prefetches are dropped
+     */
+    static final int MAX_CONCURRENT_PREFETCHES = 16;
+
     private final StreamReader streamReader;
     private final FileCache fileCache;
     private final ThreadPool threadPool;
+    private final Set<Path> prefetching = ConcurrentHashMap.newKeySet();
 
     public TransferManager(final StreamReader streamReader, final FileCache fileCache, ThreadPool threadPool) {
         this.streamReader = streamReader;
@@ -144,6 +153,40 @@ public class TransferManager {
         }
     }
 
+    /**
+     * Downloads the blob of the given request into the file cache in the background, so a later {@link #fetchBlob(BlobFetchRequest)}
+     * finds it cached. The download runs on its own thread pool, not the one of recoveries. This is best effort: the prefetch is
+     * dropped if the blob is already being prefetched or too many prefetches are running, and failures are only logged.
+     *
+     * @param blobFetchRequest to prefetch
+     */
+    public void prefetchBlob(BlobFetchRequest blobFetchRequest) {
+        final Path key = blobFetchRequest.getFilePath();
+        if (prefetching.size() >= MAX_CONCURRENT_PREFETCHES || prefetching.add(key) == false) {
+            logger.trace("Skipping prefetch of {}", key);
+            return;
+        }
+        try {
+            threadPool.executor(ThreadPool.Names.REMOTE_PREFETCH).execute(() -> {
+                try {
+                    // closing the returned clone releases its reference, the downloaded blob stays in the file cache
+                    fetchBlob(blobFetchRequest).close();
+                } catch (Exception e) {
+                    logger.debug(() -> new ParameterizedMessage("Failed to prefetch blob {}", key), e);
+                } finally {
+                    prefetching.remove(key);
+                }
+            });
+        } catch (Exception e) {
+            prefetching.remove(key);
+            logger.debug(() -> new ParameterizedMessage("Failed to schedule prefetch of blob {}", key), e);
+        }
+    }
+
+    int prefetchesInFlight() {
+        return prefetching.size();
+    }
+
     private static FileCachedIndexInput createIndexInput(FileCache fileCache, StreamReader streamReader, BlobFetchRequest request) {
         try {
             // This local file cache is ref counted and may not strictly enforce configured capacity.
@@ -0,0 +1,130 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils.cache;
+
+/**
+ * Estimates how often keys were accessed recently, as described by the TinyLFU paper
+ * (<a href="https://arxiv.org/abs/1512.00727">TinyLFU: A Highly Efficient Cache Admission Policy</a>).
+ * <br>
+ * The sketch is a count-min sketch of 4-bit counters, packed 16 to a long. Each key maps to four counters in one long, and its
+ * frequency is the smallest of them, so the estimate is at most 15 and never lower than the actual count. Once the number of
+ * recorded accesses reaches ten times the expected number of keys, all counters are halved so the sketch keeps up with changes
+ * of the working set.
+ * <p>
+ * This class is not thread safe, callers synchronize access.
+ *
+ * @opensearch.internal
+ */
+class FrequencySketch<K> {
+
+    private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final long ONE_MASK = 0x1111111111111111L;
+
+    static final int MIN_EXPECTED_KEYS = 16;
+    static final int MAX_EXPECTED_KEYS = 1 << 26;
+
+    private long[] table;
+    private int tableMask;
+    private int sampleSize;
+    private int size;
+
+    FrequencySketch() {
+        ensureCapacity(MIN_EXPECTED_KEYS);
+    }
+
+    /**
+     * Grows the sketch to track the given number of keys. The recorded frequencies are halved, as if a sample period ended, and
+     * carried over. Does nothing if the sketch is large enough already.
+     */
+    void ensureCapacity(int expectedKeys) {
+        final int tableSize = ceilingPowerOfTwo(Math.min(Math.max(expectedKeys, MIN_EXPECTED_KEYS), MAX_EXPECTED_KEYS));
+        if (table != null && table.length >= tableSize) {
+            return;
+        }
+        final long[] newTable = new long[tableSize];
+        if (table != null) {
+            reset();
+            // the table sizes are powers of two, so the low bits of the index of a counter in the larger table are its index in the
+            // smaller one: copying each long to all its positions in the larger table keeps the frequency estimate of every key
+            for (int i = 0; i < tableSize; i += table.length) {
+                System.arraycopy(table, 0, newTable, i, table.length);
+            }
+        }
+        table = newTable;
+        tableMask = tableSize - 1;
+        sampleSize = 10 * tableSize;
+    }
+
+    /**
+     * Returns the estimated number of recent accesses of the key, at most 15.
+     */
+    int frequency(K key) {
+        final int hash = spread(key.hashCode());
+        final int start = (hash & 3) << 2;
+        int frequency = Integer.MAX_VALUE;
+        for (int i = 0; i < 4; i++) {
+            final int index = indexOf(hash, i);
+            final int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * Records an access of the key, and halves all counters once enough accesses were recorded.
+     */
+    void increment(K key) {
+        final int hash = spread(key.hashCode());
+        final int start = (hash & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < 4; i++) {
+            added |= incrementAt(indexOf(hash, i), start + i);
+        }
+        if (added && ++size == sampleSize) {
+            reset();
+        }
+    }
+
+    private boolean incrementAt(int index, int counter) {
+        final int offset = counter << 2;
+        final long mask = 0xfL << offset;
+        if ((table[index] & mask) != mask) {
+            table[index] += 1L << offset;
+            return true;
+        }
+        return false;
+    }
+
+    private void reset() {
+        int odd = 0;
+        for (int i = 0; i < table.length; i++) {
+            odd += Long.bitCount(table[i] & ONE_MASK);
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        // halving drops half an access from each odd counter, and every access was counted in four counters
+        size = (size - (odd >>> 2)) >>> 1;
+    }
+
+    private int indexOf(int hash, int i) {
+        long h = (hash + SEEDS[i]) * SEEDS[i];
+        h += (h >>> 32);
+        return ((int) h) & tableMask;
+    }
+
+    private static int spread(int x) {
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        return (x >>> 16) ^ x;
+    }
+
+    private static int ceilingPowerOfTwo(int x) {
+        return 1 << (Integer.SIZE - Integer.numberOfLeadingZeros(x - 1));
+    }
+}
@@ -18,9 +18,11 @@ import org.opensearch.index.store.remote.utils.cache.stats.FileStatsCounter;
 import org.opensearch.index.store.remote.utils.cache.stats.IRefCountedCacheStats;
 import org.opensearch.index.store.remote.utils.cache.stats.StatsCounter;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.locks.ReentrantLock;
@@ -49,7 +51,7 @@ import java.util.function.Predicate;
  */
 class LRUCache<K, V> implements RefCountedCache<K, V> {
     private static final Logger logger = LogManager.getLogger(LRUCache.class);
-    private final long capacity;
+    final long capacity;
 
     private final HashMap<K, Node<K, V>> data;
 
@@ -75,6 +77,9 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
         boolean pinned;
 
+        /** whether the node was accessed again since it was added, used by {@link TinyLFUCache} */
+        boolean accessedAgain;
+
         Node(K key, V value, long weight) {
             this.key = key;
             this.value = value;
@@ -105,6 +110,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
         lock.lock();
         try {
             Node<K, V> node = data.get(key);
+            recordAccess(key, node);
             // miss
             if (node == null) {
                 statsCounter.recordMisses(key, 1);
@@ -127,6 +133,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
         lock.lock();
         try {
             Node<K, V> node = data.get(key);
+            recordAccess(key, node);
             if (node != null) {
                 final V oldValue = node.value;
                 replaceNode(node, value);
@@ -147,6 +154,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
         lock.lock();
         try {
             final Node<K, V> node = data.get(key);
+            recordAccess(key, node);
             if (node == null) {
                 final V newValue = remappingFunction.apply(key, null);
                 if (newValue == null) {
@@ -206,7 +214,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
     public void clear() {
         lock.lock();
         try {
-            lru.clear();
+            clearEvictable();
             final Iterator<Node<K, V>> iterator = data.values().iterator();
             while (iterator.hasNext()) {
                 Node<K, V> node = iterator.next();
@@ -241,7 +249,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
                 if (node.evictable()) {
                     // since it become active, we should remove it from eviction list
-                    lru.remove(node.key);
+                    removeEvictable(node);
                 }
 
                 node.refCount++;
@@ -263,7 +271,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
                 if (node.evictable()) {
                     // if it becomes evictable, we should add it to eviction list
-                    lru.put(node.key, node);
+                    addEvictable(node);
                 }
 
                 if (node.refCount == 0) {
@@ -294,7 +302,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
                 if (node.evictable()) {
                     // since its pinned, we should remove it from eviction list
-                    lru.remove(node.key, node);
+                    removeEvictable(node);
                 }
 
                 node.pinned = true;
@@ -322,7 +330,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
                 if (node.evictable()) {
                     // if it becomes evictable, we should add it to eviction list
-                    lru.put(node.key, node);
+                    addEvictable(node);
                 }
 
                 statsCounter.recordPinnedUsage(node.value, node.weight, true);
@@ -353,13 +361,11 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
         long sum = 0L;
         lock.lock();
         try {
-            final Iterator<Node<K, V>> iterator = lru.values().iterator();
-            while (iterator.hasNext()) {
-                final Node<K, V> node = iterator.next();
+            for (Node<K, V> node : evictableNodes()) {
                 if (keyPredicate != null && !keyPredicate.test(node.key)) {
                     continue;
                 }
-                iterator.remove();
+                removeEvictable(node);
                 data.remove(node.key, node);
                 sum += node.weight;
                 statsCounter.recordRemoval(node.value, node.pinned, node.weight);
@@ -450,6 +456,10 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
     private void replaceNode(Node<K, V> node, V newValue) {
         if (node.value != newValue) { // replace if new value is not the same instance as existing value
+            if (node.evictable()) {
+                // the node becomes active below, remove it from the eviction list while it still has its old weight
+                removeEvictable(node);
+            }
             final V oldValue = node.value;
             final long oldWeight = node.weight;
             final long newWeight = weigher.weightOf(newValue);
@@ -472,7 +482,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
                 statsCounter.recordActiveUsage(node.value, node.weight, node.pinned, true);
             }
             if (node.evictable()) {
-                lru.remove(node.key);
+                removeEvictable(node);
             }
 
             if (node.pinned) {
@@ -488,13 +498,53 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
         return statsCounter.usage() >= capacity;
     }
 
+    /**
+     * Records an access of the given key, {@code node} is null on a miss. The LRU order only changes when entries become evictable.
+     */
+    void recordAccess(K key, Node<K, V> node) {}
+
+    /**
+     * Adds a node that became evictable to the eviction order.
+     */
+    void addEvictable(Node<K, V> node) {
+        lru.put(node.key, node);
+    }
+
+    /**
+     * Removes a node that is no longer evictable from the eviction order.
+     */
+    void removeEvictable(Node<K, V> node) {
+        lru.remove(node.key, node);
+    }
+
+    /**
+     * Removes all nodes from the eviction order.
+     */
+    void clearEvictable() {
+        lru.clear();
+    }
+
+    /**
+     * Returns a copy of the evictable nodes.
+     */
+    List<Node<K, V>> evictableNodes() {
+        return new ArrayList<>(lru.values());
+    }
+
+    /**
+     * Returns the node to evict next, or null if no node is evictable.
+     */
+    Node<K, V> nextVictim() {
+        final Map.Entry<K, Node<K, V>> eldest = lru.firstEntry();
+        return eldest == null ? null : eldest.getValue();
+    }
+
     private void evict() {
         // Attempts to evict entries from the cache if it exceeds the maximum
         // capacity.
-        final Iterator<Node<K, V>> iterator = lru.values().iterator();
-        while (hasOverflowed() && iterator.hasNext()) {
-            final Node<K, V> node = iterator.next();
-            iterator.remove();
+        Node<K, V> node;
+        while (hasOverflowed() && (node = nextVictim()) != null) {
+            removeEvictable(node);
             // Notify the listener only if the entry was evicted
             data.remove(node.key, node);
             statsCounter.recordEviction(node.value, node.weight);
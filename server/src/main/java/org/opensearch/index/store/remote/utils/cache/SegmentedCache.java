@@ -20,9 +20,10 @@ import org.opensearch.index.store.remote.utils.cache.stats.RefCountedCacheStats;
 import java.util.Objects;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 
 /**
- * Segmented {@link LRUCache} to offer concurrent access with less contention.
+ * Segmented {@link LRUCache} or {@link TinyLFUCache} to offer concurrent access with less contention.
  * @param <K> type of the key
  * @param <V> type of th value
  *
@@ -60,7 +61,11 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
         this.perSegmentCapacity = (builder.capacity + (segments - 1)) / segments;
         this.weigher = builder.weigher;
         for (int i = 0; i < table.length; i++) {
-            table[i] = new LRUCache<>(perSegmentCapacity, builder.listener, builder.weigher);
+            if (builder.frequencyWeigher == null) {
+                table[i] = new LRUCache<>(perSegmentCapacity, builder.listener, builder.weigher);
+            } else {
+                table[i] = new TinyLFUCache<>(perSegmentCapacity, builder.listener, builder.weigher, builder.frequencyWeigher);
+            }
         }
         this.capacity = perSegmentCapacity * segments;
     }
@@ -302,6 +307,8 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
 
         long capacity;
 
+        ToIntFunction<K> frequencyWeigher;
+
         @SuppressWarnings("unchecked")
         Builder() {
             capacity = -1;
@@ -367,6 +374,19 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
             return this;
         }
 
+        /**
+         * Evicts entries by recency and access frequency, see {@link TinyLFUCache}, instead of by recency only.
+         *
+         * @param frequencyWeigher returns the factor, at least 1, the access frequency of a key is multiplied with when
+         *                         deciding which entry to evict
+         * @throws NullPointerException if the frequencyWeigher is null
+         */
+        public Builder<K, V> tinyLFU(ToIntFunction<K> frequencyWeigher) {
+            Objects.requireNonNull(frequencyWeigher);
+            this.frequencyWeigher = frequencyWeigher;
+            return this;
+        }
+
         /**
          * Ensures that the argument expression is true.
          */
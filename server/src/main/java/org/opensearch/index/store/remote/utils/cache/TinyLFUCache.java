@@ -0,0 +1,140 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils.cache;
+
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.Weigher;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * Scan resistant variant of {@link LRUCache}, which evicts by recency and frequency in the spirit of W-TinyLFU.
+ * <br>
+ * Evictable entries live in one of two LRU segments of a segmented LRU:
+ * <ul>
+ * <li>probation holds the entries that were not accessed again since they were added, such as the blocks of a one-off scan</li>
+ * <li>protected holds the entries that were accessed again, up to {@link #PROTECTED_RATIO} of the capacity. Once it holds more,
+ * its least recently used entries are moved back to probation.</li>
+ * </ul>
+ * Entries are evicted from probation first. Instead of evicting the least recently used entry of probation right away, it is
+ * compared to the most recently used one, the latest entry competing for a place in the cache. If the latest entry was accessed less
+ * often than the least recently used one, as estimated by a {@link FrequencySketch}, the latest entry is evicted instead. Frequencies
+ * are multiplied by a per key weight, so that entries that are costly to miss are kept over entries of the same frequency that are
+ * cheap to miss. A large scan thereby only evicts its own entries and the cold entries of the cache, but not its working set.
+ * <p>
+ * Like {@link LRUCache}, entries that are referenced or pinned are never evicted.
+ *
+ * @opensearch.internal
+ */
+class TinyLFUCache<K, V> extends LRUCache<K, V> {
+
+    /**
+     * Share of the capacity that evictable entries which were accessed again may hold
+     */
+    static final double PROTECTED_RATIO = 0.8;
+
+    private final LinkedHashMap<K, Node<K, V>> probation = new LinkedHashMap<>();
+    private final LinkedHashMap<K, Node<K, V>> protectedSegment = new LinkedHashMap<>();
+    private final FrequencySketch<K> sketch = new FrequencySketch<>();
+    private final ToIntFunction<K> frequencyWeigher;
+    private final long protectedCapacity;
+    private long protectedWeight;
+
+    /**
+     * @param frequencyWeigher returns the factor the access frequency of a key is multiplied with, at least 1
+     */
+    TinyLFUCache(long capacity, RemovalListener<K, V> listener, Weigher<V> weigher, ToIntFunction<K> frequencyWeigher) {
+        super(capacity, listener, weigher);
+        this.frequencyWeigher = frequencyWeigher;
+        this.protectedCapacity = (long) (capacity * PROTECTED_RATIO);
+    }
+
+    @Override
+    void recordAccess(K key, Node<K, V> node) {
+        if (node == null) {
+            // a new key may get added, keep the sketch large enough for all keys of the cache
+            sketch.ensureCapacity((int) Math.min(size() + 1, FrequencySketch.MAX_EXPECTED_KEYS));
+        } else {
+            node.accessedAgain = true;
+        }
+        sketch.increment(key);
+    }
+
+    @Override
+    void addEvictable(Node<K, V> node) {
+        if (node.accessedAgain) {
+            protectedSegment.put(node.key, node);
+            protectedWeight += node.weight;
+            demoteProtected();
+        } else {
+            probation.put(node.key, node);
+        }
+    }
+
+    @Override
+    void removeEvictable(Node<K, V> node) {
+        if (probation.remove(node.key, node) == false && protectedSegment.remove(node.key, node)) {
+            protectedWeight -= node.weight;
+        }
+    }
+
+    @Override
+    void clearEvictable() {
+        probation.clear();
+        protectedSegment.clear();
+        protectedWeight = 0;
+    }
+
+    @Override
+    List<Node<K, V>> evictableNodes() {
+        final List<Node<K, V>> nodes = new ArrayList<>(probation.size() + protectedSegment.size());
+        nodes.addAll(probation.values());
+        nodes.addAll(protectedSegment.values());
+        return nodes;
+    }
+
+    @Override
+    Node<K, V> nextVictim() {
+        final Map.Entry<K, Node<K, V>> eldest = probation.firstEntry();
+        if (eldest == null) {
+            final Map.Entry<K, Node<K, V>> eldestProtected = protectedSegment.firstEntry();
+            return eldestProtected == null ? null : eldestProtected.getValue();
+        }
+        final Node<K, V> victim = eldest.getValue();
+        final Node<K, V> candidate = probation.lastEntry().getValue();
+        // on a tie the least recently used entry is evicted, like a plain LRU cache does
+        return weightedFrequency(candidate.key) < weightedFrequency(victim.key) ? candidate : victim;
+    }
+
+    private long weightedFrequency(K key) {
+        return (long) sketch.frequency(key) * frequencyWeigher.applyAsInt(key);
+    }
+
+    private void demoteProtected() {
+        while (protectedWeight > protectedCapacity && protectedSegment.isEmpty() == false) {
+            final Node<K, V> node = protectedSegment.pollFirstEntry().getValue();
+            protectedWeight -= node.weight;
+            // the node has to be accessed again to get back into the protected segment
+            node.accessedAgain = false;
+            probation.put(node.key, node);
+        }
+    }
+
+    long protectedWeight() {
+        return protectedWeight;
+    }
+
+    int probationSize() {
+        return probation.size();
+    }
+}
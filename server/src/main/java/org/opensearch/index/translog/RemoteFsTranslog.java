@@ -9,6 +9,7 @@
 package org.opensearch.index.translog;
 
 import org.apache.logging.log4j.Logger;
+import org.opensearch.Version;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.SetOnce;
 import org.opensearch.common.blobstore.BlobPath;
@@ -51,6 +52,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BooleanSupplier;
 import java.util.function.LongConsumer;
 import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 
 import static org.opensearch.index.remote.RemoteStoreEnums.DataCategory.TRANSLOG;
 import static org.opensearch.index.remote.RemoteStoreEnums.DataType.DATA;
@@ -95,6 +97,7 @@ public class RemoteFsTranslog extends Translog {
     private final Semaphore syncPermit = new Semaphore(SYNC_PERMIT);
     protected final AtomicBoolean pauseSync = new AtomicBoolean(false);
     private final boolean isTranslogMetadataEnabled;
+    private final Supplier<Version> minNodeVersionSupplier;
 
     public RemoteFsTranslog(
         TranslogConfig config,
@@ -107,11 +110,13 @@ public class RemoteFsTranslog extends Translog {
         ThreadPool threadPool,
         BooleanSupplier startedPrimarySupplier,
         RemoteTranslogTransferTracker remoteTranslogTransferTracker,
-        RemoteStoreSettings remoteStoreSettings
+        RemoteStoreSettings remoteStoreSettings,
+        Supplier<Version> minNodeVersionSupplier
     ) throws IOException {
         super(config, translogUUID, deletionPolicy, globalCheckpointSupplier, primaryTermSupplier, persistedSequenceNumberConsumer);
         logger = Loggers.getLogger(getClass(), shardId);
         this.startedPrimarySupplier = startedPrimarySupplier;
+        this.minNodeVersionSupplier = minNodeVersionSupplier;
         this.remoteTranslogTransferTracker = remoteTranslogTransferTracker;
         fileTransferTracker = new FileTransferTracker(shardId, remoteTranslogTransferTracker);
         isTranslogMetadataEnabled = indexSettings().isTranslogMetadataEnabled();
@@ -443,7 +448,8 @@ public class RemoteFsTranslog extends Translog {
             Checkpoint checkpoint = current.getLastSyncedCheckpoint();
             return translogTransferManager.transferSnapshot(
                 transferSnapshotProvider,
-                new RemoteFsTranslogTransferListener(generation, primaryTerm, maxSeqNo, checkpoint.globalCheckpoint)
+                new RemoteFsTranslogTransferListener(generation, primaryTerm, maxSeqNo, checkpoint.globalCheckpoint),
+                shouldCompressTranslogFiles()
             );
         } finally {
             syncPermit.release(SYNC_PERMIT);
@@ -451,6 +457,17 @@ public class RemoteFsTranslog extends Translog {
 
     }
 
+    private boolean shouldCompressTranslogFiles() {
+        return shouldCompressTranslogFiles(indexSettings().isRemoteTranslogCompressionEnabled(), minNodeVersionSupplier.get());
+    }
+
+    /**
+     * Translog files are only compressed once all nodes can decompress them, any of them may have to download them
+     */
+    static boolean shouldCompressTranslogFiles(boolean compressionEnabled, Version minNodeVersion) {
+        return compressionEnabled && minNodeVersion.onOrAfter(TranslogTransferManager.TRANSLOG_COMPRESSION_MIN_VERSION);
+    }
+
     // Visible for testing
     public Set<String> allUploaded() {
         return fileTransferTracker.allUploaded();
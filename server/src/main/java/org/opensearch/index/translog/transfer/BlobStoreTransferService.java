@@ -182,9 +182,14 @@ public class BlobStoreTransferService implements TransferService {
                 metadata = buildTransferFileMetadata(fileSnapshot.getMetadataFileInputStream());
             }
 
+            final byte[] content = fileSnapshot.getContent();
             long contentLength;
-            try (FileChannel channel = channelFactory.open(fileSnapshot.getPath(), StandardOpenOption.READ)) {
-                contentLength = channel.size();
+            if (content != null) {
+                contentLength = content.length;
+            } else {
+                try (FileChannel channel = channelFactory.open(fileSnapshot.getPath(), StandardOpenOption.READ)) {
+                    contentLength = channel.size();
+                }
             }
             ActionListener<Void> completionListener = ActionListener.wrap(resp -> listener.onResponse(fileSnapshot), ex -> {
                 logger.error(() -> new ParameterizedMessage("Failed to upload blob {}", fileSnapshot.getName()), ex);
@@ -199,7 +204,13 @@ public class BlobStoreTransferService implements TransferService {
                 contentLength,
                 blobPath,
                 writePriority,
-                (size, position) -> new OffsetRangeFileInputStream(fileSnapshot.getPath(), size, position),
+                content != null
+                    ? (size, position) -> new OffsetRangeIndexInputStream(
+                        new ByteArrayIndexInput(fileSnapshot.getName(), content),
+                        size,
+                        position
+                    )
+                    : (size, position) -> new OffsetRangeFileInputStream(fileSnapshot.getPath(), size, position),
                 fileSnapshot.getChecksum(),
                 completionListener,
                 metadata
@@ -40,8 +40,13 @@ public class FileSnapshot implements Closeable {
     private byte[] content;
 
     private FileSnapshot(Path path) throws IOException {
+        this(Objects.requireNonNull(path).getFileName().toString(), path);
+    }
+
+    private FileSnapshot(String name, Path path) throws IOException {
+        Objects.requireNonNull(name);
         Objects.requireNonNull(path);
-        this.name = path.getFileName().toString();
+        this.name = name;
         this.path = path;
         this.fileChannel = FileChannel.open(path, StandardOpenOption.READ);
     }
@@ -61,6 +66,14 @@ public class FileSnapshot implements Closeable {
         return name;
     }
 
+    /**
+     * @return the content of a snapshot that isn't backed by a file, or {@code null} if it is
+     */
+    @Nullable
+    byte[] getContent() {
+        return content;
+    }
+
     public long getContentLength() throws IOException {
         return fileChannel == null ? content.length : fileChannel.size();
     }
@@ -117,11 +130,26 @@ public class FileSnapshot implements Closeable {
             this.checksum = checksum;
         }
 
+        /**
+         * Creates a snapshot of the file at the given path that is transferred under the given name
+         */
+        public TransferFileSnapshot(String name, Path path, long primaryTerm, Long checksum) throws IOException {
+            super(name, path);
+            this.primaryTerm = primaryTerm;
+            this.checksum = checksum;
+        }
+
         public TransferFileSnapshot(String name, byte[] content, long primaryTerm) throws IOException {
             super(name, content);
             this.primaryTerm = primaryTerm;
         }
 
+        public TransferFileSnapshot(String name, byte[] content, long primaryTerm, Long checksum) throws IOException {
+            super(name, content);
+            this.primaryTerm = primaryTerm;
+            this.checksum = checksum;
+        }
+
         public Long getChecksum() {
             return checksum;
         }
@@ -12,6 +12,7 @@ import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.store.OutputStreamIndexOutput;
+import org.opensearch.Version;
 import org.opensearch.action.LatchedActionListener;
 import org.opensearch.common.SetOnce;
 import org.opensearch.common.blobstore.BlobMetadata;
@@ -22,8 +23,13 @@ import org.opensearch.common.io.VersionedCodecStreamWrapper;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.logging.Loggers;
 import org.opensearch.common.lucene.store.ByteArrayIndexInput;
+import org.opensearch.common.util.io.IOUtils;
+import org.opensearch.compress.ZstdCompressor;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.compress.Compressor;
+import org.opensearch.core.compress.CompressorRegistry;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.index.remote.RemoteStoreUtils;
 import org.opensearch.index.remote.RemoteTranslogTransferTracker;
@@ -35,8 +41,10 @@ import org.opensearch.index.translog.transfer.listener.TranslogTransferListener;
 import org.opensearch.indices.RemoteStoreSettings;
 import org.opensearch.threadpool.ThreadPool;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -51,6 +59,8 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
 
 import static org.opensearch.index.translog.transfer.FileSnapshot.TransferFileSnapshot;
 import static org.opensearch.index.translog.transfer.FileSnapshot.TranslogFileSnapshot;
@@ -74,6 +84,12 @@ public class TranslogTransferManager {
     // Flag to include checkpoint file data as translog file metadata during upload/download
     private final boolean isTranslogMetadataEnabled;
     final static String CHECKPOINT_FILE_DATA_KEY = "ckp-data";
+    // translog files are compressed as a whole, local translog files are never compressed so readers can still seek in them
+    private static final Compressor TRANSLOG_COMPRESSOR = CompressorRegistry.getCompressor(ZstdCompressor.NAME);
+    /**
+     * The version from which on nodes decompress downloaded translog files, translog files must not be compressed before all nodes do
+     */
+    public static final Version TRANSLOG_COMPRESSION_MIN_VERSION = Version.V_3_2_0;
 
     private final Logger logger;
 
@@ -143,6 +159,19 @@ public class TranslogTransferManager {
 
     public boolean transferSnapshot(TransferSnapshot transferSnapshot, TranslogTransferListener translogTransferListener)
         throws IOException {
+        return transferSnapshot(transferSnapshot, translogTransferListener, false);
+    }
+
+    /**
+     * Uploads the files of the given snapshot that weren't uploaded yet, followed by the metadata file.
+     *
+     * @param compressTranslogFiles whether to compress translog files before uploading them, checkpoint files are always uploaded as is
+     */
+    public boolean transferSnapshot(
+        TransferSnapshot transferSnapshot,
+        TranslogTransferListener translogTransferListener,
+        boolean compressTranslogFiles
+    ) throws IOException {
         List<Exception> exceptionList = new ArrayList<>(transferSnapshot.getTranslogTransferMetadata().getCount());
         Set<TransferFileSnapshot> toUpload = new HashSet<>(transferSnapshot.getTranslogTransferMetadata().getCount());
         long metadataBytesToUpload;
@@ -162,6 +191,9 @@ public class TranslogTransferManager {
                 logger.trace("Nothing to upload for transfer");
                 return true;
             }
+            if (compressTranslogFiles) {
+                toUpload = compressTranslogFiles(toUpload);
+            }
 
             fileTransferTracker.recordBytesForFiles(toUpload);
             captureStatsBeforeUpload();
@@ -241,7 +273,97 @@ public class TranslogTransferManager {
             Exception exWithoutSuppressed = new TranslogUploadFailedException(ex.getMessage());
             translogTransferListener.onUploadFailed(transferSnapshot, exWithoutSuppressed);
             return false;
+        } finally {
+            if (compressTranslogFiles) {
+                IOUtils.closeWhileHandlingException(compressedSnapshots(toUpload));
+            }
+        }
+    }
+
+    /**
+     * Replaces the translog files to upload with snapshots of their compressed content, under the same name. The content is compressed
+     * into temporary files next to the translog files, which are deleted once the snapshots are closed. Their checksum is the checksum
+     * of the compressed content, so that the upload can still be verified.
+     */
+    private static Set<TransferFileSnapshot> compressTranslogFiles(Set<TransferFileSnapshot> toUpload) throws IOException {
+        final Set<TransferFileSnapshot> compressed = new HashSet<>(toUpload.size());
+        boolean success = false;
+        try {
+            for (TransferFileSnapshot fileSnapshot : toUpload) {
+                if (fileSnapshot instanceof TranslogFileSnapshot == false) {
+                    compressed.add(fileSnapshot);
+                    continue;
+                }
+                final Path tempFile = Files.createTempFile(fileSnapshot.getPath().getParent(), fileSnapshot.getName() + ".", ".zst.tmp");
+                final TransferFileSnapshot compressedSnapshot;
+                try {
+                    final CRC32 checksum = new CRC32();
+                    try (
+                        InputStream in = fileSnapshot.inputStream();
+                        OutputStream out = new CheckedOutputStream(Files.newOutputStream(tempFile), checksum);
+                        OutputStream compressedOut = TRANSLOG_COMPRESSOR.threadLocalOutputStream(out)
+                    ) {
+                        in.transferTo(compressedOut);
+                    }
+                    compressedSnapshot = new CompressedTranslogFileSnapshot(
+                        fileSnapshot.getName(),
+                        tempFile,
+                        fileSnapshot.getPrimaryTerm(),
+                        checksum.getValue()
+                    );
+                } catch (IOException | RuntimeException e) {
+                    IOUtils.deleteFilesIgnoringExceptions(tempFile);
+                    throw e;
+                }
+                compressed.add(compressedSnapshot);
+                compressedSnapshot.setMetadataFileInputStream(fileSnapshot.getMetadataFileInputStream());
+                fileSnapshot.close();
+            }
+            success = true;
+            return compressed;
+        } finally {
+            if (success == false) {
+                IOUtils.closeWhileHandlingException(compressedSnapshots(compressed));
+            }
+        }
+    }
+
+    private static List<TransferFileSnapshot> compressedSnapshots(Set<TransferFileSnapshot> snapshots) {
+        return snapshots.stream().filter(snapshot -> snapshot instanceof CompressedTranslogFileSnapshot).collect(Collectors.toList());
+    }
+
+    /**
+     * A snapshot of the compressed content of a translog file, which deletes the temporary file holding it once closed
+     */
+    private static final class CompressedTranslogFileSnapshot extends TransferFileSnapshot {
+
+        CompressedTranslogFileSnapshot(String name, Path path, long primaryTerm, long checksum) throws IOException {
+            super(name, path, primaryTerm, checksum);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                Files.deleteIfExists(getPath());
+            }
+        }
+    }
+
+    /**
+     * Wraps the given stream of a downloaded file to decompress it if it was compressed when uploaded
+     */
+    static InputStream maybeDecompress(InputStream inputStream) throws IOException {
+        final InputStream in = inputStream.markSupported() ? inputStream : new BufferedInputStream(inputStream);
+        final int headerLength = TRANSLOG_COMPRESSOR.headerLength();
+        in.mark(headerLength);
+        final byte[] header = in.readNBytes(headerLength);
+        in.reset();
+        if (TRANSLOG_COMPRESSOR.isCompressed(new BytesArray(header))) {
+            return TRANSLOG_COMPRESSOR.threadLocalInputStream(in);
         }
+        return in;
     }
 
     /**
@@ -345,13 +467,13 @@ public class TranslogTransferManager {
                     metadata = inputStreamWithMetadata.getMetadata();
 
                     bytesToRead = inputStream.available();
-                    Files.copy(inputStream, filePath);
+                    Files.copy(maybeDecompress(inputStream), filePath);
                     downloadStatus = true;
                 }
             } else {
                 try (InputStream inputStream = transferService.downloadBlob(remoteDataTransferPath.add(primaryTerm), fileName)) {
                     bytesToRead = inputStream.available();
-                    Files.copy(inputStream, filePath);
+                    Files.copy(maybeDecompress(inputStream), filePath);
                     downloadStatus = true;
                 }
             }
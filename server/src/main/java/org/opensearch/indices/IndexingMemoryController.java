@@ -113,6 +113,14 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
         Property.NodeScope
     );
 
+    /** If set, the indexing buffers of shards that saw no indexing operation since the previous check are written to disk before the
+     * buffers of shards that are still being indexed into, so that the latter can keep growing into larger segments (default: false). */
+    public static final Setting<Boolean> WRITE_IDLE_SHARDS_FIRST_SETTING = Setting.boolSetting(
+        "indices.memory.write_idle_shards_first",
+        false,
+        Property.NodeScope
+    );
+
     private final ThreadPool threadPool;
 
     private final Iterable<IndexShard> indexShards;
@@ -121,6 +129,7 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
 
     private final TimeValue inactiveTime;
     private final TimeValue interval;
+    private final boolean writeIdleShardsFirst;
 
     /** Contains shards currently being throttled because we can't write segments quickly enough */
     private final Set<IndexShard> throttled = new HashSet<>();
@@ -158,6 +167,7 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
         this.inactiveTime = SHARD_INACTIVE_TIME_SETTING.get(settings);
         // we need to have this relatively small to free up heap quickly enough
         this.interval = SHARD_MEMORY_INTERVAL_TIME_SETTING.get(settings);
+        this.writeIdleShardsFirst = WRITE_IDLE_SHARDS_FIRST_SETTING.get(settings);
 
         this.statusChecker = new ShardsIndicesStatusChecker();
 
@@ -208,6 +218,11 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
         return shard.getIndexBufferRAMBytesUsed();
     }
 
+    /** returns whether this shard saw no indexing operation within the given time */
+    protected boolean isIdle(IndexShard shard, long idleTimeNS) {
+        return System.nanoTime() - shard.getLastWriteNanos() >= idleTimeNS;
+    }
+
     /** returns how many bytes this shard is currently writing to disk */
     protected long getShardWritingBytes(IndexShard shard) {
         return shard.getWritingBytes();
@@ -268,15 +283,21 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
     private static final class ShardAndBytesUsed implements Comparable<ShardAndBytesUsed> {
         final long bytesUsed;
         final IndexShard shard;
+        final boolean idle;
 
-        ShardAndBytesUsed(long bytesUsed, IndexShard shard) {
+        ShardAndBytesUsed(long bytesUsed, IndexShard shard, boolean idle) {
             this.bytesUsed = bytesUsed;
             this.shard = shard;
+            this.idle = idle;
         }
 
         @Override
         public int compareTo(ShardAndBytesUsed other) {
-            // Sort larger shards first:
+            // Sort idle shards first, if we track them at all:
+            if (idle != other.idle) {
+                return idle ? -1 : 1;
+            }
+            // Then sort larger shards first:
             return Long.compare(other.bytesUsed, bytesUsed);
         }
     }
@@ -407,7 +428,9 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
                                 logger.trace("shard [{}] is using [{}] heap, not writing any bytes", shard.shardId(), shardBytesUsed);
                             }
                         }
-                        queue.add(new ShardAndBytesUsed(shardBytesUsed, shard));
+                        // A shard that isn't indexed into anymore only holds on to heap that hot shards could use to write larger segments:
+                        boolean idle = writeIdleShardsFirst && isIdle(shard, interval.nanos());
+                        queue.add(new ShardAndBytesUsed(shardBytesUsed, shard, idle));
                     }
                 }
 
@@ -430,7 +453,7 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
                     );
                     writeIndexingBufferAsync(largest.shard);
                     totalBytesUsed -= largest.bytesUsed;
-                    if (doThrottle && throttled.contains(largest.shard) == false) {
+                    if (doThrottle && largest.idle == false && throttled.contains(largest.shard) == false) {
                         logger.info("now throttling indexing for shard [{}]: segment writing can't keep up", largest.shard.shardId());
                         throttled.add(largest.shard);
                         activateThrottling(largest.shard);
@@ -0,0 +1,224 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.cache.RemovalReason;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.search.aggregations.InternalAggregations;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Caches the partial aggregation results of shard level requests per segment, so that a request that is repeated after a
+ * refresh only has to aggregate the segments that changed since. Entries are keyed by the core cache key of the segment, its
+ * number of deleted documents and the cache key of the shard request. Documents are never undeleted, so the number of deleted
+ * documents is enough to tell two states of the same segment apart. The entries of a segment are dropped once its core is closed.
+ * <p>
+ * Unlike the {@link IndicesRequestCache}, which is keyed on the reader and is invalidated by every refresh, entries of this cache
+ * survive refreshes for as long as their segment is not merged away.
+ *
+ * @opensearch.internal
+ */
+public final class IndicesSegmentAggregationCache implements IndexReader.ClosedListener, Closeable {
+
+    /**
+     * Index setting to enable the per segment caching of aggregation results. Only requests that can use the shard request cache
+     * are considered.
+     */
+    public static final Setting<Boolean> INDEX_CACHE_SEGMENT_AGGREGATIONS_ENABLED_SETTING = Setting.boolSetting(
+        "index.requests.cache.segment_aggregations.enable",
+        false,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+
+    public static final Setting<ByteSizeValue> INDICES_CACHE_SEGMENT_AGGREGATIONS_SIZE = Setting.memorySizeSetting(
+        "indices.requests.cache.segment_aggregations.size",
+        "1%",
+        Property.NodeScope
+    );
+
+    private final Cache<Key, BytesReference> cache;
+    private final NamedWriteableRegistry namedWriteableRegistry;
+    /** the keys of the cached entries of each segment core, so that they can be dropped without scanning the cache */
+    private final Map<IndexReader.CacheKey, Set<Key>> keysByCore = ConcurrentCollections.newConcurrentMap();
+
+    IndicesSegmentAggregationCache(Settings settings, NamedWriteableRegistry namedWriteableRegistry) {
+        this.namedWriteableRegistry = namedWriteableRegistry;
+        this.cache = CacheBuilder.<Key, BytesReference>builder()
+            .setMaximumWeight(INDICES_CACHE_SEGMENT_AGGREGATIONS_SIZE.get(settings).getBytes())
+            .weigher((key, value) -> key.ramBytesUsed() + value.ramBytesUsed())
+            .removalListener(notification -> {
+                if (notification.getRemovalReason() != RemovalReason.REPLACED) {
+                    final Set<Key> keys = keysByCore.get(notification.getKey().coreKey);
+                    if (keys != null) {
+                        keys.remove(notification.getKey());
+                    }
+                }
+            })
+            .build();
+    }
+
+    /**
+     * Returns a view of this cache bound to a single shard request.
+     *
+     * @param requestKey the cache key of the shard request, see {@link org.opensearch.search.internal.ShardSearchRequest#cacheKey()}
+     */
+    public RequestScope forRequest(BytesReference requestKey) {
+        return new RequestScope(Objects.requireNonNull(requestKey));
+    }
+
+    InternalAggregations get(LeafReaderContext ctx, BytesReference requestKey) throws IOException {
+        final Key key = key(ctx, requestKey);
+        if (key == null) {
+            return null;
+        }
+        final BytesReference value = cache.get(key);
+        if (value == null) {
+            return null;
+        }
+        try (StreamInput in = new NamedWriteableAwareStreamInput(value.streamInput(), namedWriteableRegistry)) {
+            return InternalAggregations.readFrom(in);
+        }
+    }
+
+    void put(LeafReaderContext ctx, BytesReference requestKey, InternalAggregations aggregations) throws IOException {
+        final Key key = key(ctx, requestKey);
+        if (key == null) {
+            return;
+        }
+        final BytesReference value;
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            aggregations.writeTo(out);
+            value = out.copyBytes();
+        }
+        keysByCore.computeIfAbsent(key.coreKey, coreKey -> {
+            ctx.reader().getCoreCacheHelper().addClosedListener(this);
+            return ConcurrentCollections.newConcurrentSet();
+        }).add(key);
+        cache.put(key, value);
+    }
+
+    private static Key key(LeafReaderContext ctx, BytesReference requestKey) {
+        // readers that filter or otherwise alter the documents of a segment don't expose a cache helper
+        final IndexReader.CacheHelper cacheHelper = ctx.reader().getCoreCacheHelper();
+        if (cacheHelper == null) {
+            return null;
+        }
+        return new Key(cacheHelper.getKey(), ctx.reader().numDeletedDocs(), requestKey);
+    }
+
+    @Override
+    public void onClose(IndexReader.CacheKey coreKey) {
+        final Set<Key> keys = keysByCore.remove(coreKey);
+        if (keys != null) {
+            keys.forEach(cache::invalidate);
+        }
+    }
+
+    /**
+     * @return the number of cached segment results
+     */
+    public int count() {
+        return cache.count();
+    }
+
+    /**
+     * @return the number of segment cores that have cached results
+     */
+    int coreCount() {
+        return keysByCore.size();
+    }
+
+    @Override
+    public void close() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * A view of the cache for a single shard request.
+     *
+     * @opensearch.internal
+     */
+    public final class RequestScope {
+        private final BytesReference requestKey;
+
+        private RequestScope(BytesReference requestKey) {
+            this.requestKey = requestKey;
+        }
+
+        /**
+         * @return the cached partial aggregation results of the segment, or null if there are none
+         */
+        public InternalAggregations get(LeafReaderContext ctx) throws IOException {
+            return IndicesSegmentAggregationCache.this.get(ctx, requestKey);
+        }
+
+        /**
+         * Caches the partial aggregation results of the segment. This is a no-op for segments that can't be cached.
+         */
+        public void put(LeafReaderContext ctx, InternalAggregations aggregations) throws IOException {
+            IndicesSegmentAggregationCache.this.put(ctx, requestKey, aggregations);
+        }
+    }
+
+    static final class Key implements Accountable {
+        private static final long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(Key.class);
+
+        final IndexReader.CacheKey coreKey;
+        final int numDeletedDocs;
+        final BytesReference requestKey;
+
+        Key(IndexReader.CacheKey coreKey, int numDeletedDocs, BytesReference requestKey) {
+            this.coreKey = coreKey;
+            this.numDeletedDocs = numDeletedDocs;
+            this.requestKey = requestKey;
+        }
+
+        @Override
+        public long ramBytesUsed() {
+            return BASE_RAM_BYTES_USED + requestKey.ramBytesUsed();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return coreKey == key.coreKey && numDeletedDocs == key.numDeletedDocs && requestKey.equals(key.requestKey);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = System.identityHashCode(coreKey);
+            result = 31 * result + numDeletedDocs;
+            result = 31 * result + requestKey.hashCode();
+            return result;
+        }
+    }
+}
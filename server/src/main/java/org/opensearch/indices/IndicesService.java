@@ -42,6 +42,7 @@ import org.apache.lucene.util.CollectionUtil;
 import org.apache.lucene.util.RamUsageEstimator;
 import org.opensearch.OpenSearchException;
 import org.opensearch.ResourceAlreadyExistsException;
+import org.opensearch.Version;
 import org.opensearch.action.admin.indices.stats.CommonStats;
 import org.opensearch.action.admin.indices.stats.CommonStatsFlags;
 import org.opensearch.action.admin.indices.stats.CommonStatsFlags.Flag;
@@ -383,8 +384,11 @@ public class IndicesService extends AbstractLifecycleComponent
     private final MapperRegistry mapperRegistry;
     private final NamedWriteableRegistry namedWriteableRegistry;
     private final IndexingMemoryController indexingMemoryController;
+    private final NodeRefreshScheduler refreshScheduler;
+    private final NodeMergeArbiter mergeArbiter;
     private final TimeValue cleanInterval;
     final IndicesRequestCache indicesRequestCache; // pkg-private for testing
+    final IndicesSegmentAggregationCache indicesSegmentAggregationCache; // pkg-private for testing
     private final IndicesQueryCache indicesQueryCache;
     private final MetaStateService metaStateService;
     private final Collection<Function<IndexSettings, Optional<EngineFactory>>> engineFactoryProviders;
@@ -475,6 +479,7 @@ public class IndicesService extends AbstractLifecycleComponent
             return Optional.of(new IndexShardCacheEntity(indexService.getShardOrNull(shardId.id())));
         }), cacheService, threadPool, clusterService, nodeEnv);
         this.indicesQueryCache = new IndicesQueryCache(settings);
+        this.indicesSegmentAggregationCache = new IndicesSegmentAggregationCache(settings, namedWriteableRegistry);
         this.mapperRegistry = mapperRegistry;
         this.namedWriteableRegistry = namedWriteableRegistry;
         indexingMemoryController = new IndexingMemoryController(
@@ -483,6 +488,11 @@ public class IndicesService extends AbstractLifecycleComponent
             // ensure we pull an iter with new shards - flatten makes a copy
             () -> Iterables.flatten(this).iterator()
         );
+        this.refreshScheduler = new NodeRefreshScheduler(settings, clusterService.getClusterSettings(), threadPool);
+        this.mergeArbiter = new NodeMergeArbiter(settings, clusterService.getClusterSettings(), shardId -> {
+            final IndexService indexService = this.indices.get(shardId.getIndex().getUUID());
+            return indexService == null ? null : indexService.getShardOrNull(shardId.id());
+        });
         this.indexScopedSettings = indexScopedSettings;
         this.circuitBreakerService = circuitBreakerService;
         this.bigArrays = bigArrays;
@@ -525,6 +535,7 @@ public class IndicesService extends AbstractLifecycleComponent
                         indicesFieldDataCache,
                         cacheCleaner,
                         indicesRequestCache,
+                        indicesSegmentAggregationCache,
                         indicesQueryCache
                     );
                 } catch (IOException e) {
@@ -557,7 +568,8 @@ public class IndicesService extends AbstractLifecycleComponent
             threadPool,
             remoteStoreStatsTrackerFactory,
             settings,
-            remoteStoreSettings
+            remoteStoreSettings,
+            () -> clusterService.state().nodes().getMinNodeVersion()
         );
         this.searchRequestStats = searchRequestStats;
         this.clusterDefaultRefreshInterval = CLUSTER_DEFAULT_INDEX_REFRESH_INTERVAL_SETTING.get(clusterService.getSettings());
@@ -695,7 +707,8 @@ public class IndicesService extends AbstractLifecycleComponent
         ThreadPool threadPool,
         RemoteStoreStatsTrackerFactory remoteStoreStatsTrackerFactory,
         Settings settings,
-        RemoteStoreSettings remoteStoreSettings
+        RemoteStoreSettings remoteStoreSettings,
+        Supplier<Version> minNodeVersionSupplier
     ) {
         return (indexSettings, shardRouting) -> {
             if (indexSettings.isRemoteTranslogStoreEnabled() && shardRouting.primary()) {
@@ -704,7 +717,8 @@ public class IndicesService extends AbstractLifecycleComponent
                     threadPool,
                     indexSettings.getRemoteStoreTranslogRepository(),
                     remoteStoreStatsTrackerFactory.getRemoteTranslogTransferTracker(shardRouting.shardId()),
-                    remoteStoreSettings
+                    remoteStoreSettings,
+                    minNodeVersionSupplier
                 );
             } else if (RemoteStoreNodeAttribute.isTranslogRepoConfigured(settings) && shardRouting.primary()) {
                 return new RemoteBlobStoreInternalTranslogFactory(
@@ -712,7 +726,8 @@ public class IndicesService extends AbstractLifecycleComponent
                     threadPool,
                     RemoteStoreNodeAttribute.getRemoteStoreTranslogRepo(indexSettings.getNodeSettings()),
                     remoteStoreStatsTrackerFactory.getRemoteTranslogTransferTracker(shardRouting.shardId()),
-                    remoteStoreSettings
+                    remoteStoreSettings,
+                    minNodeVersionSupplier
                 );
             }
             return new InternalTranslogFactory();
@@ -1096,12 +1111,13 @@ public class IndicesService extends AbstractLifecycleComponent
             this.remoteStoreSettings,
             replicator,
             segmentReplicationStatsProvider,
-            this::getClusterDefaultMaxMergeAtOnce
+            this::getClusterDefaultMaxMergeAtOnce,
+            refreshScheduler
         );
     }
 
     private EngineConfigFactory getEngineConfigFactory(final IndexSettings idxSettings) {
-        return new EngineConfigFactory(this.pluginsService, idxSettings);
+        return new EngineConfigFactory(this.pluginsService, idxSettings, mergeArbiter);
     }
 
     private IngestionConsumerFactory getIngestionConsumerFactory(final IndexSettings idxSettings) {
@@ -1940,6 +1956,36 @@ public class IndicesService extends AbstractLifecycleComponent
         return context.searcher().getDirectoryReader().getReaderCacheHelper() instanceof DelegatingCacheHelper;
     }
 
+    /**
+     * Can the aggregations of a cacheable shard request be cached per segment? This requires the results of every segment to be
+     * independent of the other segments, so requests that stop collecting early, filter on scores or collect segments concurrently
+     * are excluded, and so are aggregations that depend on shard level statistics. Global aggregations see all documents of the shard
+     * regardless of the query and are excluded as well.
+     */
+    public boolean canCacheSegmentAggregations(SearchContext context) {
+        IndexSettings settings = context.indexShard().indexSettings();
+        if (settings.getValue(IndicesSegmentAggregationCache.INDEX_CACHE_SEGMENT_AGGREGATIONS_ENABLED_SETTING) == false) {
+            return false;
+        }
+        if (context.aggregations() == null || context.aggregations().factories().hasNonGlobalAggregator() == false) {
+            return false;
+        }
+        if (context.aggregations().factories().hasGlobalAggregator()
+            || context.aggregations().factories().allFactoriesSupportSegmentCaching() == false) {
+            return false;
+        }
+        return context.shouldUseConcurrentSearch() == false
+            && context.terminateAfter() == SearchContext.DEFAULT_TERMINATE_AFTER
+            && context.minimumScore() == null;
+    }
+
+    /**
+     * Returns a view of the segment aggregation cache bound to the given shard request.
+     */
+    public IndicesSegmentAggregationCache.RequestScope segmentAggregationCache(ShardSearchRequest request) throws IOException {
+        return indicesSegmentAggregationCache.forRequest(request.cacheKey());
+    }
+
     /**
      * Loads the cache result, computing it if needed by executing the query phase and otherwise deserializing the cached
      * value into the {@link SearchContext#queryResult() context's query result}. The combination of load + compute allows
@@ -1990,6 +2036,10 @@ public class IndicesService extends AbstractLifecycleComponent
         return indexingMemoryController.indexingBufferSize();
     }
 
+    public RefreshSchedulerStats getRefreshSchedulerStats() {
+        return refreshScheduler.stats();
+    }
+
     /**
      * Cache something calculated at the shard level.
      * @param shard the shard this item is part of
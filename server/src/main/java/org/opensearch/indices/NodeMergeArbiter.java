@@ -0,0 +1,139 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.shard.IndexShard;
+
+import java.util.PriorityQueue;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+/**
+ * Limits the number of merges that run at the same time across all shards of a node. Each shard's merge scheduler still decides which
+ * merges to run and how many merge threads the shard uses, but a merge thread waits for a node wide slot before it starts merging.
+ * Waiting merges of shards that are searched get a slot first, and merges of shards that are relocated away get one last, since the
+ * merged segments of a relocation source are dropped once the relocation completes.
+ *
+ * @opensearch.internal
+ */
+public class NodeMergeArbiter {
+
+    /**
+     * The number of merges a node runs at the same time. Defaults to {@code 0}, which leaves merges to the merge scheduler of each
+     * shard only.
+     */
+    public static final Setting<Integer> MAX_CONCURRENT_MERGES_SETTING = Setting.intSetting(
+        "indices.merge.max_concurrent_merges",
+        0,
+        0,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    /** how often a waiting merge checks whether it was aborted, e.g. because its engine is closing */
+    static final long ABORT_CHECK_INTERVAL_MILLIS = 100;
+
+    private final Function<ShardId, IndexShard> shardLookup;
+    private final PriorityQueue<WaitingMerge> waitingMerges = new PriorityQueue<>();
+    private long sequence;
+    private int runningMerges;
+    private volatile int maxConcurrentMerges;
+
+    public NodeMergeArbiter(Settings settings, ClusterSettings clusterSettings, Function<ShardId, IndexShard> shardLookup) {
+        this.shardLookup = shardLookup;
+        this.maxConcurrentMerges = MAX_CONCURRENT_MERGES_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(MAX_CONCURRENT_MERGES_SETTING, this::setMaxConcurrentMerges);
+    }
+
+    private synchronized void setMaxConcurrentMerges(int maxConcurrentMerges) {
+        this.maxConcurrentMerges = maxConcurrentMerges;
+        notifyAll();
+    }
+
+    /**
+     * Waits until a merge of the given shard may run, and returns a {@link Releasable} to release its slot once the merge is done.
+     * Returns early if the merge got aborted while waiting.
+     */
+    public Releasable acquire(ShardId shardId, BooleanSupplier aborted) throws InterruptedException {
+        if (maxConcurrentMerges == 0) {
+            return () -> {};
+        }
+        final int priority = priority(shardId);
+        synchronized (this) {
+            final WaitingMerge merge = new WaitingMerge(priority, sequence++);
+            waitingMerges.add(merge);
+            try {
+                while (mayRun(merge) == false && aborted.getAsBoolean() == false) {
+                    wait(ABORT_CHECK_INTERVAL_MILLIS);
+                }
+            } finally {
+                waitingMerges.remove(merge);
+                // the next merge in line may be able to run now
+                notifyAll();
+            }
+            runningMerges++;
+        }
+        return Releasables.releaseOnce(this::release);
+    }
+
+    private boolean mayRun(WaitingMerge merge) {
+        assert Thread.holdsLock(this);
+        return maxConcurrentMerges == 0 || (runningMerges < maxConcurrentMerges && waitingMerges.peek() == merge);
+    }
+
+    private synchronized void release() {
+        runningMerges--;
+        assert runningMerges >= 0 : runningMerges;
+        notifyAll();
+    }
+
+    private int priority(ShardId shardId) {
+        final IndexShard shard = shardLookup.apply(shardId);
+        if (shard == null) {
+            return 1;
+        }
+        final ShardRouting routing = shard.routingEntry();
+        if (routing != null && routing.relocating()) {
+            return 2;
+        }
+        return shard.isSearchIdle() ? 1 : 0;
+    }
+
+    synchronized int runningMerges() {
+        return runningMerges;
+    }
+
+    synchronized int waitingMerges() {
+        return waitingMerges.size();
+    }
+
+    private static final class WaitingMerge implements Comparable<WaitingMerge> {
+        private final int priority;
+        private final long sequence;
+
+        private WaitingMerge(int priority, long sequence) {
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(WaitingMerge other) {
+            final int byPriority = Integer.compare(priority, other.priority);
+            return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.IndexShardClosedException;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.Set;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs the scheduled refreshes of all shards of a node on a bounded number of refresh threads, instead of letting the refresh task
+ * of every index refresh its shards on its own. Shards that are due for a refresh while they are still queued are refreshed once,
+ * and shards that searches or refresh listeners are waiting on are refreshed before shards that are search idle.
+ *
+ * @opensearch.internal
+ */
+public class NodeRefreshScheduler {
+
+    private static final Logger logger = LogManager.getLogger(NodeRefreshScheduler.class);
+
+    /**
+     * The number of scheduled shard refreshes a node runs at the same time. Defaults to {@code 0}, which refreshes the shards of every
+     * index from the refresh task of the index, without coordinating them across the node.
+     */
+    public static final Setting<Integer> MAX_CONCURRENT_REFRESHES_SETTING = Setting.intSetting(
+        "indices.refresh.max_concurrent_refreshes",
+        0,
+        0,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    private final ThreadPool threadPool;
+    private final PriorityBlockingQueue<QueuedRefresh> queue = new PriorityBlockingQueue<>();
+    private final Set<IndexShard> queuedShards = ConcurrentCollections.newConcurrentSet();
+    private final AtomicInteger activeWorkers = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong totalQueueTimeNanos = new AtomicLong();
+    private volatile int maxConcurrentRefreshes;
+
+    public NodeRefreshScheduler(Settings settings, ClusterSettings clusterSettings, ThreadPool threadPool) {
+        this.threadPool = threadPool;
+        this.maxConcurrentRefreshes = MAX_CONCURRENT_REFRESHES_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(MAX_CONCURRENT_REFRESHES_SETTING, this::setMaxConcurrentRefreshes);
+    }
+
+    private void setMaxConcurrentRefreshes(int maxConcurrentRefreshes) {
+        this.maxConcurrentRefreshes = maxConcurrentRefreshes;
+        maybeStartWorkers();
+    }
+
+    /**
+     * Queues a scheduled refresh of the given shard. Returns {@code false} if the scheduler is disabled, in which case the caller
+     * has to refresh the shard itself.
+     */
+    public boolean schedule(IndexShard shard) {
+        if (maxConcurrentRefreshes == 0) {
+            return false;
+        }
+        if (queuedShards.add(shard)) {
+            queue.add(new QueuedRefresh(shard, priority(shard), sequence.getAndIncrement(), System.nanoTime()));
+            maybeStartWorkers();
+        } else {
+            // the shard is still waiting for its previous scheduled refresh, which will pick up the new changes as well
+            coalesced.incrementAndGet();
+        }
+        return true;
+    }
+
+    private static int priority(IndexShard shard) {
+        if (shard.hasPendingRefreshListeners()) {
+            return 0;
+        }
+        return shard.isSearchIdle() ? 2 : 1;
+    }
+
+    private void maybeStartWorkers() {
+        int active;
+        while (queue.isEmpty() == false && (active = activeWorkers.get()) < maxWorkers()) {
+            if (activeWorkers.compareAndSet(active, active + 1)) {
+                try {
+                    threadPool.executor(ThreadPool.Names.REFRESH).execute(new RefreshWorker());
+                } catch (Exception e) {
+                    activeWorkers.decrementAndGet();
+                    logger.warn("failed to start scheduled refresh worker", e);
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Shards that were queued before the scheduler got disabled are still refreshed by a single worker.
+     */
+    private int maxWorkers() {
+        return Math.max(1, maxConcurrentRefreshes);
+    }
+
+    private void runQueuedRefreshes() {
+        QueuedRefresh refresh;
+        while (activeWorkers.get() <= maxWorkers() && (refresh = queue.poll()) != null) {
+            final IndexShard shard = refresh.shard;
+            queuedShards.remove(shard);
+            totalQueueTimeNanos.addAndGet(System.nanoTime() - refresh.queuedAtNanos);
+            try {
+                shard.scheduledRefresh();
+            } catch (IndexShardClosedException | AlreadyClosedException e) {
+                // fine - continue;
+            } catch (Exception e) {
+                logger.warn(() -> new ParameterizedMessage("{} failed to run scheduled refresh", shard.shardId()), e);
+            } finally {
+                completed.incrementAndGet();
+            }
+        }
+    }
+
+    public RefreshSchedulerStats stats() {
+        return new RefreshSchedulerStats(
+            queue.size(),
+            activeWorkers.get(),
+            completed.get(),
+            coalesced.get(),
+            TimeUnit.NANOSECONDS.toMillis(totalQueueTimeNanos.get())
+        );
+    }
+
+    private final class RefreshWorker extends AbstractRunnable {
+
+        @Override
+        protected void doRun() {
+            runQueuedRefreshes();
+        }
+
+        @Override
+        public void onFailure(Exception e) {
+            logger.warn("scheduled refresh worker failed", e);
+        }
+
+        @Override
+        public void onAfter() {
+            activeWorkers.decrementAndGet();
+            // refreshes may have been queued after this worker found the queue empty
+            maybeStartWorkers();
+        }
+    }
+
+    private static final class QueuedRefresh implements Comparable<QueuedRefresh> {
+        private final IndexShard shard;
+        private final int priority;
+        private final long sequence;
+        private final long queuedAtNanos;
+
+        private QueuedRefresh(IndexShard shard, int priority, long sequence, long queuedAtNanos) {
+            this.shard = shard;
+            this.priority = priority;
+            this.sequence = sequence;
+            this.queuedAtNanos = queuedAtNanos;
+        }
+
+        @Override
+        public int compareTo(QueuedRefresh other) {
+            final int byPriority = Integer.compare(priority, other.priority);
+            return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Node level stats of the {@link NodeRefreshScheduler}
+ *
+ * @opensearch.internal
+ */
+public class RefreshSchedulerStats implements Writeable, ToXContentFragment {
+
+    public static final String STATS_NAME = "refresh_scheduler";
+
+    private final int queue;
+    private final int active;
+    private final long completed;
+    private final long coalesced;
+    private final long totalQueueTimeInMillis;
+
+    public RefreshSchedulerStats(int queue, int active, long completed, long coalesced, long totalQueueTimeInMillis) {
+        this.queue = queue;
+        this.active = active;
+        this.completed = completed;
+        this.coalesced = coalesced;
+        this.totalQueueTimeInMillis = totalQueueTimeInMillis;
+    }
+
+    public RefreshSchedulerStats(StreamInput in) throws IOException {
+        this.queue = in.readVInt();
+        this.active = in.readVInt();
+        this.completed = in.readVLong();
+        this.coalesced = in.readVLong();
+        this.totalQueueTimeInMillis = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVInt(queue);
+        out.writeVInt(active);
+        out.writeVLong(completed);
+        out.writeVLong(coalesced);
+        out.writeVLong(totalQueueTimeInMillis);
+    }
+
+    /**
+     * The number of shards waiting for a scheduled refresh.
+     */
+    public int getQueue() {
+        return queue;
+    }
+
+    /**
+     * The number of threads running scheduled refreshes.
+     */
+    public int getActive() {
+        return active;
+    }
+
+    /**
+     * The total number of scheduled refreshes that were run.
+     */
+    public long getCompleted() {
+        return completed;
+    }
+
+    /**
+     * The total number of scheduled refreshes that were merged into a refresh of the same shard that was still queued.
+     */
+    public long getCoalesced() {
+        return coalesced;
+    }
+
+    /**
+     * The total time shards waited in the queue for their scheduled refresh.
+     */
+    public long getTotalQueueTimeInMillis() {
+        return totalQueueTimeInMillis;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(STATS_NAME);
+        builder.field(Fields.QUEUE, queue);
+        builder.field(Fields.ACTIVE, active);
+        builder.field(Fields.COMPLETED, completed);
+        builder.field(Fields.COALESCED, coalesced);
+        builder.humanReadableField(Fields.TOTAL_QUEUE_TIME_IN_MILLIS, Fields.TOTAL_QUEUE_TIME, new TimeValue(totalQueueTimeInMillis));
+        return builder.endObject();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        RefreshSchedulerStats that = (RefreshSchedulerStats) o;
+        return queue == that.queue
+            && active == that.active
+            && completed == that.completed
+            && coalesced == that.coalesced
+            && totalQueueTimeInMillis == that.totalQueueTimeInMillis;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(queue, active, completed, coalesced, totalQueueTimeInMillis);
+    }
+
+    /**
+     * Fields for refresh scheduler stats
+     *
+     * @opensearch.internal
+     */
+    static final class Fields {
+        static final String QUEUE = "queue";
+        static final String ACTIVE = "active";
+        static final String COMPLETED = "completed";
+        static final String COALESCED = "coalesced";
+        static final String TOTAL_QUEUE_TIME = "total_queue_time";
+        static final String TOTAL_QUEUE_TIME_IN_MILLIS = "total_queue_time_in_millis";
+    }
+}
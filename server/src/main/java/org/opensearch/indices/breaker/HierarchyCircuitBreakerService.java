@@ -165,6 +165,26 @@ public class HierarchyCircuitBreakerService extends CircuitBreakerService {
         Property.NodeScope
     );
 
+    public static final Setting<ByteSizeValue> INDEXING_CIRCUIT_BREAKER_LIMIT_SETTING = Setting.memorySizeSetting(
+        "indices.breaker.indexing.limit",
+        "10%",
+        Property.Dynamic,
+        Property.NodeScope
+    );
+    public static final Setting<Double> INDEXING_CIRCUIT_BREAKER_OVERHEAD_SETTING = Setting.doubleSetting(
+        "indices.breaker.indexing.overhead",
+        1.0d,
+        0.0d,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+    public static final Setting<CircuitBreaker.Type> INDEXING_CIRCUIT_BREAKER_TYPE_SETTING = new Setting<>(
+        "indices.breaker.indexing.type",
+        "memory",
+        CircuitBreaker.Type::parseValue,
+        Property.NodeScope
+    );
+
     private final boolean trackRealMemoryUsage;
     private volatile BreakerSettings parentSettings;
 
@@ -221,6 +241,18 @@ public class HierarchyCircuitBreakerService extends CircuitBreakerService {
                 )
             )
         );
+        childCircuitBreakers.put(
+            CircuitBreaker.INDEXING,
+            validateAndCreateBreaker(
+                new BreakerSettings(
+                    CircuitBreaker.INDEXING,
+                    INDEXING_CIRCUIT_BREAKER_LIMIT_SETTING.get(settings).getBytes(),
+                    INDEXING_CIRCUIT_BREAKER_OVERHEAD_SETTING.get(settings),
+                    INDEXING_CIRCUIT_BREAKER_TYPE_SETTING.get(settings),
+                    CircuitBreaker.Durability.PERMANENT
+                )
+            )
+        );
         for (BreakerSettings breakerSettings : customBreakers) {
             if (childCircuitBreakers.containsKey(breakerSettings.getName())) {
                 throw new IllegalArgumentException(
@@ -263,6 +295,11 @@ public class HierarchyCircuitBreakerService extends CircuitBreakerService {
             REQUEST_CIRCUIT_BREAKER_OVERHEAD_SETTING,
             (limit, overhead) -> updateCircuitBreakerSettings(CircuitBreaker.REQUEST, limit, overhead)
         );
+        clusterSettings.addSettingsUpdateConsumer(
+            INDEXING_CIRCUIT_BREAKER_LIMIT_SETTING,
+            INDEXING_CIRCUIT_BREAKER_OVERHEAD_SETTING,
+            (limit, overhead) -> updateCircuitBreakerSettings(CircuitBreaker.INDEXING, limit, overhead)
+        );
         clusterSettings.addAffixUpdateConsumer(
             CIRCUIT_BREAKER_LIMIT_SETTING,
             CIRCUIT_BREAKER_OVERHEAD_SETTING,
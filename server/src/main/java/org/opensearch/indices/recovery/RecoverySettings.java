@@ -131,6 +131,30 @@ public class RecoverySettings {
         Property.NodeScope
     );
 
+    /**
+     * Limits the bandwidth of all the multi-stream downloads from the remote store on a node, default 0B for no limit. Each file is
+     * also subject to the download rate limit of the remote store repository.
+     */
+    public static final Setting<ByteSizeValue> INDICES_RECOVERY_REMOTE_STORE_DOWNLOAD_MAX_BYTES_PER_SEC_SETTING = Setting.byteSizeSetting(
+        "indices.recovery.remote_store_download.max_bytes_per_sec",
+        new ByteSizeValue(0),
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    /**
+     * Files of at least this size are downloaded from the remote store with multiple concurrent ranged streams, if the repository
+     * supports it. Smaller files are downloaded with a single stream.
+     */
+    public static final Setting<ByteSizeValue> INDICES_RECOVERY_REMOTE_STORE_MULTI_STREAM_THRESHOLD_SETTING = Setting.byteSizeSetting(
+        "indices.recovery.remote_store_download.multi_stream_threshold",
+        new ByteSizeValue(64, ByteSizeUnit.MB),
+        new ByteSizeValue(1, ByteSizeUnit.BYTES),
+        new ByteSizeValue(Long.MAX_VALUE),
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     /**
      * how long to wait before retrying after issues cause by cluster state syncing between nodes
      * i.e., local node is not yet known on remote node, remote shard not yet started etc.
@@ -215,6 +239,8 @@ public class RecoverySettings {
     private volatile int maxConcurrentFileChunks;
     private volatile int maxConcurrentOperations;
     private volatile int maxConcurrentRemoteStoreStreams;
+    private volatile SimpleRateLimiter remoteStoreDownloadRateLimiter;
+    private volatile ByteSizeValue remoteStoreMultiStreamDownloadThreshold;
     private volatile SimpleRateLimiter recoveryRateLimiter;
     private volatile SimpleRateLimiter replicationRateLimiter;
     private volatile SimpleRateLimiter mergedSegmentReplicationRateLimiter;
@@ -234,6 +260,8 @@ public class RecoverySettings {
         this.maxConcurrentFileChunks = INDICES_RECOVERY_MAX_CONCURRENT_FILE_CHUNKS_SETTING.get(settings);
         this.maxConcurrentOperations = INDICES_RECOVERY_MAX_CONCURRENT_OPERATIONS_SETTING.get(settings);
         this.maxConcurrentRemoteStoreStreams = INDICES_RECOVERY_MAX_CONCURRENT_REMOTE_STORE_STREAMS_SETTING.get(settings);
+        setRemoteStoreDownloadMaxBytesPerSec(INDICES_RECOVERY_REMOTE_STORE_DOWNLOAD_MAX_BYTES_PER_SEC_SETTING.get(settings));
+        this.remoteStoreMultiStreamDownloadThreshold = INDICES_RECOVERY_REMOTE_STORE_MULTI_STREAM_THRESHOLD_SETTING.get(settings);
         // doesn't have to be fast as nodes are reconnected every 10s by default (see InternalClusterService.ReconnectToNodes)
         // and we want to give the cluster-manager time to remove a faulty node
         this.retryDelayNetwork = INDICES_RECOVERY_RETRY_DELAY_NETWORK_SETTING.get(settings);
@@ -275,6 +303,14 @@ public class RecoverySettings {
             INDICES_RECOVERY_MAX_CONCURRENT_REMOTE_STORE_STREAMS_SETTING,
             this::setMaxConcurrentRemoteStoreStreams
         );
+        clusterSettings.addSettingsUpdateConsumer(
+            INDICES_RECOVERY_REMOTE_STORE_DOWNLOAD_MAX_BYTES_PER_SEC_SETTING,
+            this::setRemoteStoreDownloadMaxBytesPerSec
+        );
+        clusterSettings.addSettingsUpdateConsumer(
+            INDICES_RECOVERY_REMOTE_STORE_MULTI_STREAM_THRESHOLD_SETTING,
+            this::setRemoteStoreMultiStreamDownloadThreshold
+        );
         clusterSettings.addSettingsUpdateConsumer(INDICES_RECOVERY_RETRY_DELAY_STATE_SYNC_SETTING, this::setRetryDelayStateSync);
         clusterSettings.addSettingsUpdateConsumer(INDICES_RECOVERY_RETRY_DELAY_NETWORK_SETTING, this::setRetryDelayNetwork);
         clusterSettings.addSettingsUpdateConsumer(INDICES_RECOVERY_INTERNAL_ACTION_TIMEOUT_SETTING, this::setInternalActionTimeout);
@@ -442,4 +478,29 @@ public class RecoverySettings {
         this.maxConcurrentRemoteStoreStreams = maxConcurrentRemoteStoreStreams;
     }
 
+    /**
+     * The rate limiter shared by all the multi-stream downloads from the remote store on this node, or null if they are not limited.
+     */
+    public RateLimiter remoteStoreDownloadRateLimiter() {
+        return remoteStoreDownloadRateLimiter;
+    }
+
+    private void setRemoteStoreDownloadMaxBytesPerSec(ByteSizeValue maxBytesPerSec) {
+        if (maxBytesPerSec.getBytes() <= 0) {
+            remoteStoreDownloadRateLimiter = null;
+        } else if (remoteStoreDownloadRateLimiter != null) {
+            remoteStoreDownloadRateLimiter.setMBPerSec(maxBytesPerSec.getMbFrac());
+        } else {
+            remoteStoreDownloadRateLimiter = new SimpleRateLimiter(maxBytesPerSec.getMbFrac());
+        }
+    }
+
+    public ByteSizeValue getRemoteStoreMultiStreamDownloadThreshold() {
+        return remoteStoreMultiStreamDownloadThreshold;
+    }
+
+    private void setRemoteStoreMultiStreamDownloadThreshold(ByteSizeValue remoteStoreMultiStreamDownloadThreshold) {
+        this.remoteStoreMultiStreamDownloadThreshold = remoteStoreMultiStreamDownloadThreshold;
+    }
+
 }
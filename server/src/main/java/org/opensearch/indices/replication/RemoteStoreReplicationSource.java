@@ -144,6 +144,7 @@ public class RemoteStoreReplicationSource implements SegmentReplicationSource {
                         remoteDirectory,
                         new ReplicationStatsDirectoryWrapper(storeDirectory, fileProgressTracker),
                         toDownloadSegmentNames,
+                        fileProgressTracker,
                         ActionListener.map(listener, r -> new GetSegmentFilesResponse(filesToFetch))
                     );
             } else {
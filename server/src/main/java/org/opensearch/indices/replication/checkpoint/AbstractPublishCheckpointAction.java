@@ -44,6 +44,7 @@ import java.io.IOException;
 import java.util.Objects;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Abstract base class for publish checkpoint.
@@ -105,8 +106,10 @@ public abstract class AbstractPublishCheckpointAction<
 
     /**
      * Publish checkpoint request to shard
+     *
+     * @return whether every copy of the shard processed the request, which is only known when waiting for completion
      */
-    final void doPublish(
+    final boolean doPublish(
         IndexShard indexShard,
         ReplicationCheckpoint checkpoint,
         TransportRequest request,
@@ -124,6 +127,7 @@ public abstract class AbstractPublishCheckpointAction<
             final ReplicationTimer timer = new ReplicationTimer();
             timer.start();
             CountDownLatch latch = new CountDownLatch(1);
+            AtomicBoolean succeeded = new AtomicBoolean();
             transportService.sendChildRequest(
                 indexShard.recoveryState().getTargetNode(),
                 transportPrimaryAction,
@@ -155,6 +159,7 @@ public abstract class AbstractPublishCheckpointAction<
                             );
                             task.setPhase("finished");
                             taskManager.unregister(task);
+                            succeeded.set(response.getShardInfo().getFailed() == 0);
                         } finally {
                             latch.countDown();
                         }
@@ -206,7 +211,16 @@ public abstract class AbstractPublishCheckpointAction<
             );
             if (waitForCompletion) {
                 try {
-                    latch.await(waitTimeout.seconds(), TimeUnit.SECONDS);
+                    if (latch.await(waitTimeout.seconds(), TimeUnit.SECONDS) == false) {
+                        logger.debug(
+                            "[shardId {}] Timed out after [{}] waiting for checkpoint [{}] to be published",
+                            indexShard.shardId().getId(),
+                            waitTimeout,
+                            checkpoint
+                        );
+                        return false;
+                    }
+                    return succeeded.get();
                 } catch (InterruptedException e) {
                     logger.warn(
                         () -> new ParameterizedMessage("Interrupted while waiting for publish checkpoint complete [{}]", checkpoint),
@@ -214,6 +228,7 @@ public abstract class AbstractPublishCheckpointAction<
                     );
                 }
             }
+            return false;
         }
     }
 
@@ -33,8 +33,13 @@ public class MergedSegmentPublisher {
         this.publishAction = Objects.requireNonNull(publishAction);
     }
 
-    public void publish(IndexShard indexShard, MergedSegmentCheckpoint checkpoint) {
-        publishAction.publish(indexShard, checkpoint);
+    /**
+     * Publishes the merged segment to the replicas of the shard.
+     *
+     * @return whether all replicas copied the merged segment
+     */
+    public boolean publish(IndexShard indexShard, MergedSegmentCheckpoint checkpoint) {
+        return publishAction.publish(indexShard, checkpoint);
     }
 
     /**
@@ -44,11 +49,11 @@ public class MergedSegmentPublisher {
      */
     @ExperimentalApi
     public interface PublishAction {
-        void publish(IndexShard indexShard, MergedSegmentCheckpoint checkpoint);
+        boolean publish(IndexShard indexShard, MergedSegmentCheckpoint checkpoint);
     }
 
     /**
      * NoOp Checkpoint publisher
      */
-    public static final MergedSegmentPublisher EMPTY = new MergedSegmentPublisher((indexShard, checkpoint) -> {});
+    public static final MergedSegmentPublisher EMPTY = new MergedSegmentPublisher((indexShard, checkpoint) -> false);
 }
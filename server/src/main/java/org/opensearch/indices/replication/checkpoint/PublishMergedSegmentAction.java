@@ -73,9 +73,11 @@ public class PublishMergedSegmentAction extends AbstractPublishCheckpointAction<
 
     /**
      * Publish merged segment request to shard
+     *
+     * @return whether all replicas copied the merged segment within the merged segment replication timeout
      */
-    final void publish(IndexShard indexShard, MergedSegmentCheckpoint checkpoint) {
-        doPublish(
+    final boolean publish(IndexShard indexShard, MergedSegmentCheckpoint checkpoint) {
+        return doPublish(
             indexShard,
             checkpoint,
             new PublishMergedSegmentRequest(checkpoint),
@@ -63,6 +63,7 @@ import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.routing.allocation.AllocationService;
 import org.opensearch.cluster.service.ClusterManagerTaskThrottler;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.CheckedRunnable;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.Numbers;
 import org.opensearch.common.Priority;
@@ -254,6 +255,17 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
      */
     public static final String VIRTUAL_DATA_BLOB_PREFIX = "v__";
 
+    /**
+     * Prefix used for the blobs holding content-defined chunks of files, see {@link #CONTENT_DEFINED_CHUNKING_SETTING}. The rest of
+     * the blob name is the hash of the chunk's contents, so a chunk blob is shared by all files of a shard that contain the chunk.
+     */
+    public static final String CHUNK_DATA_BLOB_PREFIX = "c__";
+
+    /**
+     * Minimum repository metadata version that supports files stored as content-defined chunks.
+     */
+    public static final Version CONTENT_DEFINED_CHUNKING_VERSION = Version.V_3_2_0;
+
     public static final String SNAPSHOT_REPOSITORY_DATA_CACHET_THRESHOLD_SETTING_NAME = "snapshot.repository_data.cache.threshold";
 
     public static final double SNAPSHOT_REPOSITORY_DATA_CACHE_THRESHOLD_DEFAULT_PERCENTAGE = 0.01;
@@ -427,6 +439,28 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
 
     public static final Setting<Boolean> COMPRESS_SETTING = Setting.boolSetting("compress", false, Setting.Property.NodeScope);
 
+    /**
+     * Setting to store newly snapshotted files as content-defined chunks named after the hash of their contents instead of as one blob
+     * per file. Chunks that are already stored for the shard, for instance because a merged segment contains data of segments that were
+     * snapshotted before, are not uploaded again. Shard snapshots written with this setting can not be read by older versions.
+     */
+    public static final Setting<Boolean> CONTENT_DEFINED_CHUNKING_SETTING = Setting.boolSetting(
+        "content_defined_chunking",
+        false,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Targeted average size of the chunks when {@link #CONTENT_DEFINED_CHUNKING_SETTING} is enabled.
+     */
+    public static final Setting<ByteSizeValue> CONTENT_DEFINED_CHUNK_SIZE_SETTING = Setting.byteSizeSetting(
+        "content_defined_chunking.average_chunk_size",
+        new ByteSizeValue(4, ByteSizeUnit.MB),
+        new ByteSizeValue(64, ByteSizeUnit.KB),
+        new ByteSizeValue(256, ByteSizeUnit.MB),
+        Setting.Property.NodeScope
+    );
+
     public static final Setting<Compressor> COMPRESSION_TYPE_SETTING = new Setting<>(
         "compression_type",
         DeflateCompressor.NAME.toLowerCase(Locale.ROOT),
@@ -480,6 +514,10 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
 
     private volatile Compressor compressor;
 
+    private volatile boolean contentDefinedChunking;
+
+    private volatile long averageChunkSize;
+
     private volatile boolean cacheRepositoryData;
 
     private volatile RateLimiter snapshotRateLimiter;
@@ -652,6 +690,8 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         compressor = COMPRESS_SETTING.get(metadata.settings())
             ? COMPRESSION_TYPE_SETTING.get(metadata.settings())
             : CompressorRegistry.none();
+        contentDefinedChunking = CONTENT_DEFINED_CHUNKING_SETTING.get(metadata.settings());
+        averageChunkSize = CONTENT_DEFINED_CHUNK_SIZE_SETTING.get(metadata.settings()).getBytes();
     }
 
     @Override
@@ -2587,8 +2627,6 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
             new SnapshotException(metadata.name(), snapshotId, "failed to update snapshot in repository", e)
         );
 
-        final Executor executor = threadPool.executor(ThreadPool.Names.SNAPSHOT);
-
         final StepListener<RepositoryData> repoDataListener = new StepListener<>();
         getRepositoryData(repoDataListener);
         repoDataListener.whenComplete(existingRepositoryData -> {
@@ -2596,7 +2634,7 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
             final Map<IndexId, String> indexMetas = ConcurrentCollections.newConcurrentMap();
             final Map<String, String> indexMetaIdentifiers = ConcurrentCollections.newConcurrentMap();
 
-            final ActionListener<Void> allMetaListener = new GroupedActionListener<>(ActionListener.wrap(v -> {
+            final ActionListener<Void> allMetaListener = ActionListener.wrap(v -> {
                 final RepositoryData updatedRepositoryData = existingRepositoryData.addSnapshot(
                     snapshotId,
                     snapshotInfo.state(),
@@ -2607,19 +2645,25 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                 );
                 // The snapshot shards path would be uploaded for new index ids or index ids where the shard gen count (a.k.a
                 // number_of_shards) has increased.
-                Set<String> updatedIndexIds = writeNewIndexShardPaths(existingRepositoryData, updatedRepositoryData, snapshotId);
-                cleanupRedundantSnapshotShardPaths(updatedIndexIds);
-                writeIndexGen(
-                    updatedRepositoryData,
-                    repositoryStateId,
-                    repositoryMetaVersion,
-                    stateTransformer,
-                    repositoryUpdatePriority,
-                    ActionListener.wrap(newRepoData -> {
-                        cleanupOldShardGens(existingRepositoryData, updatedRepositoryData, newRepoData, listener);
+                final Set<String> updatedIndexIds = ConcurrentCollections.newConcurrentSet();
+                executeBlobWrites(
+                    newIndexShardPathsWrites(existingRepositoryData, updatedRepositoryData, snapshotId, updatedIndexIds),
+                    ActionListener.wrap(ignored -> {
+                        cleanupRedundantSnapshotShardPaths(updatedIndexIds);
+                        writeIndexGen(
+                            updatedRepositoryData,
+                            repositoryStateId,
+                            repositoryMetaVersion,
+                            stateTransformer,
+                            repositoryUpdatePriority,
+                            ActionListener.wrap(newRepoData -> {
+                                cleanupOldShardGens(existingRepositoryData, updatedRepositoryData, newRepoData, listener);
+                            }, onUpdateFailure)
+                        );
                     }, onUpdateFailure)
                 );
-            }, onUpdateFailure), 2 + indices.size());
+            }, onUpdateFailure);
+            final List<CheckedRunnable<IOException>> metaWrites = new ArrayList<>(2 + indices.size());
 
             // We ignore all FileAlreadyExistsException when writing metadata since otherwise a cluster-manager failover
             // while in this method will mean that no snap-${uuid}.dat blob is ever written for this snapshot. This is safe because
@@ -2628,16 +2672,11 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
             // that decrements the generation it points at
 
             // Write Global MetaData
-            executor.execute(
-                ActionRunnable.run(
-                    allMetaListener,
-                    () -> GLOBAL_METADATA_FORMAT.write(clusterMetadata, blobContainer(), snapshotId.getUUID(), compressor)
-                )
-            );
+            metaWrites.add(() -> GLOBAL_METADATA_FORMAT.write(clusterMetadata, blobContainer(), snapshotId.getUUID(), compressor));
 
             // write the index metadata for each index in the snapshot
             for (IndexId index : indices) {
-                executor.execute(ActionRunnable.run(allMetaListener, () -> {
+                metaWrites.add(() -> {
                     final IndexMetadata indexMetaData = clusterMetadata.index(index.getName());
                     final String identifiers = IndexMetaDataGenerations.buildUniqueIdentifier(indexMetaData);
                     String metaUUID = existingRepositoryData.indexMetaDataGenerations().getIndexMetaBlobId(identifiers);
@@ -2648,17 +2687,57 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                         indexMetaIdentifiers.put(identifiers, metaUUID);
                     }
                     indexMetas.put(index, identifiers);
-                }));
+                });
             }
-            executor.execute(
-                ActionRunnable.run(
-                    allMetaListener,
-                    () -> SNAPSHOT_FORMAT.write(snapshotInfo, blobContainer(), snapshotId.getUUID(), compressor)
-                )
-            );
+            metaWrites.add(() -> SNAPSHOT_FORMAT.write(snapshotInfo, blobContainer(), snapshotId.getUUID(), compressor));
+            executeBlobWrites(metaWrites, allMetaListener);
         }, onUpdateFailure);
     }
 
+    /**
+     * Runs the given blob writes on the snapshot pool. At most as many writes as the pool has threads are in flight at once, so that
+     * finalizing a snapshot of many indices does not flood the pool's queue ahead of other snapshot tasks. Remaining writes are skipped
+     * once a write fails.
+     *
+     * @param writes   blob writes to run
+     * @param listener listener to notify once all writes completed
+     */
+    private void executeBlobWrites(Collection<CheckedRunnable<IOException>> writes, ActionListener<Void> listener) {
+        if (writes.isEmpty()) {
+            listener.onResponse(null);
+            return;
+        }
+        final BlockingQueue<CheckedRunnable<IOException>> queue = new LinkedBlockingQueue<>(writes);
+        final int workers = Math.min(threadPool.info(ThreadPool.Names.SNAPSHOT).getMax(), queue.size());
+        final ActionListener<Void> workersListener = ActionListener.delegateResponse(
+            new GroupedActionListener<>(ActionListener.map(listener, v -> null), workers),
+            (l, e) -> {
+                queue.clear();
+                l.onFailure(e);
+            }
+        );
+        final Executor executor = threadPool.executor(ThreadPool.Names.SNAPSHOT);
+        for (int i = 0; i < workers; i++) {
+            executeOneBlobWrite(queue, executor, workersListener);
+        }
+    }
+
+    private static void executeOneBlobWrite(
+        BlockingQueue<CheckedRunnable<IOException>> writes,
+        Executor executor,
+        ActionListener<Void> listener
+    ) {
+        final CheckedRunnable<IOException> write = writes.poll();
+        if (write == null) {
+            listener.onResponse(null);
+        } else {
+            executor.execute(ActionRunnable.wrap(listener, l -> {
+                write.run();
+                executeOneBlobWrite(writes, executor, l);
+            }));
+        }
+    }
+
     /**
      * This method cleans up the redundant snapshot shard paths file for index ids where the number of shards has increased
      * on account of new indexes by same index name being snapshotted that exists already in the repository's snapshots.
@@ -2692,12 +2771,13 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         }
     }
 
-    private Set<String> writeNewIndexShardPaths(
+    private List<CheckedRunnable<IOException>> newIndexShardPathsWrites(
         RepositoryData existingRepositoryData,
         RepositoryData updatedRepositoryData,
-        SnapshotId snapshotId
+        SnapshotId snapshotId,
+        Set<String> updatedIndexIds
     ) {
-        Set<String> updatedIndexIds = new HashSet<>();
+        List<CheckedRunnable<IOException>> writes = new ArrayList<>();
         Set<IndexId> indicesToUpdate = new HashSet<>(updatedRepositoryData.getIndices().values());
         for (IndexId indexId : indicesToUpdate) {
             if (indexId.getShardPathType() == PathType.FIXED.getCode()) {
@@ -2706,13 +2786,15 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
             int oldShardCount = existingRepositoryData.shardGenerations().getGens(indexId).size();
             int newShardCount = updatedRepositoryData.shardGenerations().getGens(indexId).size();
             if (newShardCount > oldShardCount) {
-                String shardPathsBlobName = writeIndexShardPaths(indexId, snapshotId, newShardCount);
-                if (Objects.nonNull(shardPathsBlobName)) {
-                    updatedIndexIds.add(shardPathsBlobName);
-                }
+                writes.add(() -> {
+                    String shardPathsBlobName = writeIndexShardPaths(indexId, snapshotId, newShardCount);
+                    if (Objects.nonNull(shardPathsBlobName)) {
+                        updatedIndexIds.add(shardPathsBlobName);
+                    }
+                });
             }
         }
-        return updatedIndexIds;
+        return writes;
     }
 
     String writeIndexShardPaths(IndexId indexId, SnapshotId snapshotId, int shardCount) {
@@ -3114,14 +3196,19 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                     loaded = repositoryDataFromCachedEntry(cached);
                 } else {
                     loaded = getRepositoryData(genToLoad);
-                    Version minNodeVersion = clusterService.state().nodes().getMinNodeVersion();
-                    // We can cache serialized in the most recent version here without regard to the actual repository metadata version
-                    // since we're only caching the information that we just wrote and thus won't accidentally cache any information that
-                    // isn't safe
-                    cacheRepositoryData(
-                        BytesReference.bytes(loaded.snapshotsToXContent(XContentFactory.jsonBuilder(), Version.CURRENT, minNodeVersion)),
-                        genToLoad
-                    );
+                    // Serializing large repository data is expensive so we only do it if it is going to be cached
+                    if (cacheRepositoryData && bestEffortConsistency == false) {
+                        Version minNodeVersion = clusterService.state().nodes().getMinNodeVersion();
+                        // We can cache serialized in the most recent version here without regard to the actual repository metadata
+                        // version since we're only caching the information that we just wrote and thus won't accidentally cache any
+                        // information that isn't safe
+                        cacheRepositoryData(
+                            BytesReference.bytes(
+                                loaded.snapshotsToXContent(XContentFactory.jsonBuilder(), Version.CURRENT, minNodeVersion)
+                            ),
+                            genToLoad
+                        );
+                    }
                 }
                 listener.onResponse(loaded);
                 return;
@@ -3569,8 +3656,9 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
 
                     @Override
                     public void clusterStateProcessed(String source, ClusterState oldState, ClusterState newState) {
-                        cacheRepositoryData(serializedRepoData, newGen);
                         threadPool.executor(ThreadPool.Names.SNAPSHOT).execute(ActionRunnable.supply(listener, () -> {
+                            // Compressing large repository data for the cache is too expensive for the cluster applier thread
+                            cacheRepositoryData(serializedRepoData, newGen);
                             // Delete all now outdated index files up to 1000 blobs back from the new generation.
                             // If there are more than 1000 dangling index-N cleanup functionality on repo delete will take care of them.
                             // Deleting one older than the current expectedGen is done for BwC reasons as older versions used to keep
@@ -3944,6 +4032,8 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
             long indexIncrementalSize = 0;
             long indexTotalFileSize = 0;
             final BlockingQueue<BlobStoreIndexShardSnapshot.FileInfo> filesToSnapshot = new LinkedBlockingQueue<>();
+            // Chunks that are not stored for this shard yet, mapped to the name of the file that uploads them
+            final Map<String, String> chunksToUpload = new ConcurrentHashMap<>();
             if (store.indexSettings().isRemoteSnapshot()) {
                 // If the source of the data is another remote snapshot (i.e. searchable snapshot) then no need to snapshot the shard
                 indexCommitPointFiles = List.of();
@@ -3951,6 +4041,15 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                 // If we did not find a set of files that is equal to the current commit we determine the files to upload by comparing files
                 // in the commit with files already in the repository
                 indexCommitPointFiles = new ArrayList<>();
+                final ContentDefinedChunker chunker = contentDefinedChunking
+                    && repositoryMetaVersion.onOrAfter(CONTENT_DEFINED_CHUNKING_VERSION)
+                        ? new ContentDefinedChunker(
+                            CHUNK_DATA_BLOB_PREFIX,
+                            averageChunkSize,
+                            chunkSize() == null ? Long.MAX_VALUE : chunkSize().getBytes()
+                        )
+                        : null;
+                final Set<String> existingChunks = chunker == null ? Collections.emptySet() : snapshots.chunkNames();
                 final Collection<String> fileNames;
                 final Store.MetadataSnapshot metadataFromStore;
                 try (Releasable ignored = incrementStoreRef(store, snapshotStatus, shardId)) {
@@ -3990,7 +4089,27 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                     indexTotalFileSize += md.length();
                     indexTotalNumberOfFiles++;
 
-                    if (existingFileInfo == null) {
+                    if (existingFileInfo == null && needsWrite && chunker != null && md.length() > chunker.minChunkSize()) {
+                        final BlobStoreIndexShardSnapshot.FileInfo snapshotFileInfo = new BlobStoreIndexShardSnapshot.FileInfo(
+                            UPLOADED_DATA_BLOB_PREFIX + UUIDs.randomBase64UUID(),
+                            md,
+                            chunkFile(chunker, store, snapshotStatus, md)
+                        );
+                        long newChunksSize = 0;
+                        for (BlobStoreIndexShardSnapshot.FileInfo.Chunk chunk : snapshotFileInfo.chunks()) {
+                            if (existingChunks.contains(chunk.name()) == false
+                                && chunksToUpload.putIfAbsent(chunk.name(), snapshotFileInfo.name()) == null) {
+                                newChunksSize += chunk.length();
+                            }
+                        }
+                        indexCommitPointFiles.add(snapshotFileInfo);
+                        // files that only consist of chunks that are already stored do not need to be read again
+                        if (newChunksSize > 0) {
+                            indexIncrementalFileCount++;
+                            indexIncrementalSize += newChunksSize;
+                            filesToSnapshot.add(snapshotFileInfo);
+                        }
+                    } else if (existingFileInfo == null) {
                         indexIncrementalFileCount++;
                         indexIncrementalSize += md.length();
                         // create a new FileInfo
@@ -4085,19 +4204,49 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
             final int workers = Math.min(threadPool.info(ThreadPool.Names.SNAPSHOT).getMax(), indexIncrementalFileCount);
             final ActionListener<Void> filesListener = fileQueueListener(filesToSnapshot, workers, allFilesUploadedListener);
             for (int i = 0; i < workers; ++i) {
-                executeOneFileSnapshot(store, snapshotId, indexId, snapshotStatus, filesToSnapshot, executor, filesListener);
+                executeOneFileSnapshot(
+                    store,
+                    snapshotId,
+                    indexId,
+                    snapshotStatus,
+                    filesToSnapshot,
+                    chunksToUpload,
+                    executor,
+                    filesListener
+                );
             }
         } catch (Exception e) {
             listener.onFailure(e);
         }
     }
 
+    private static List<BlobStoreIndexShardSnapshot.FileInfo.Chunk> chunkFile(
+        ContentDefinedChunker chunker,
+        Store store,
+        IndexShardSnapshotStatus snapshotStatus,
+        StoreFileMetadata md
+    ) {
+        final ShardId shardId = store.shardId();
+        try (
+            Releasable ignored = incrementStoreRef(store, snapshotStatus, shardId);
+            IndexInput indexInput = store.openVerifyingInput(md.name(), IOContext.READONCE, md)
+        ) {
+            final List<BlobStoreIndexShardSnapshot.FileInfo.Chunk> chunks = chunker.chunk(indexInput, md.length());
+            Store.verify(indexInput);
+            return chunks;
+        } catch (IOException e) {
+            failStoreIfCorrupted(store, e);
+            throw new IndexShardSnapshotFailedException(shardId, "Failed to chunk file [" + md.name() + "]", e);
+        }
+    }
+
     private void executeOneFileSnapshot(
         Store store,
         SnapshotId snapshotId,
         IndexId indexId,
         IndexShardSnapshotStatus snapshotStatus,
         BlockingQueue<BlobStoreIndexShardSnapshot.FileInfo> filesToSnapshot,
+        Map<String, String> chunksToUpload,
         Executor executor,
         ActionListener<Void> listener
     ) throws InterruptedException {
@@ -4108,8 +4257,8 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         } else {
             executor.execute(ActionRunnable.wrap(listener, l -> {
                 try (Releasable ignored = incrementStoreRef(store, snapshotStatus, shardId)) {
-                    snapshotFile(snapshotFileInfo, indexId, shardId, snapshotId, snapshotStatus, store);
-                    executeOneFileSnapshot(store, snapshotId, indexId, snapshotStatus, filesToSnapshot, executor, l);
+                    snapshotFile(snapshotFileInfo, indexId, shardId, snapshotId, snapshotStatus, store, chunksToUpload);
+                    executeOneFileSnapshot(store, snapshotId, indexId, snapshotStatus, filesToSnapshot, chunksToUpload, executor, l);
                 }
             }));
         }
@@ -4592,6 +4741,7 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         BlobStoreIndexShardSnapshots updatedSnapshots,
         RemoteStoreLockManagerFactory remoteStoreLockManagerFactory
     ) {
+        final Set<String> referencedChunks = updatedSnapshots.chunkNames();
         return blobs.stream()
             .filter(
                 blob -> blob.startsWith(SNAPSHOT_INDEX_PREFIX)
@@ -4604,6 +4754,7 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                         && extractShallowSnapshotUUID(blob).map(snapshotUUID -> !survivingSnapshotUUIDs.contains(snapshotUUID))
                             .orElse(false))
                     || (blob.startsWith(UPLOADED_DATA_BLOB_PREFIX) && updatedSnapshots.findNameFile(canonicalName(blob)) == null)
+                    || (blob.startsWith(CHUNK_DATA_BLOB_PREFIX) && referencedChunks.contains(blob) == false)
                     || FsBlobContainer.isTempBlobName(blob)
             )
             .collect(Collectors.toList());
@@ -4703,7 +4854,12 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
             );
             return new Tuple<>(shardSnapshots, latest);
         } else if (blobs.stream()
-            .anyMatch(b -> b.startsWith(SNAPSHOT_PREFIX) || b.startsWith(INDEX_FILE_PREFIX) || b.startsWith(UPLOADED_DATA_BLOB_PREFIX))) {
+            .anyMatch(
+                b -> b.startsWith(SNAPSHOT_PREFIX)
+                    || b.startsWith(INDEX_FILE_PREFIX)
+                    || b.startsWith(UPLOADED_DATA_BLOB_PREFIX)
+                    || b.startsWith(CHUNK_DATA_BLOB_PREFIX)
+            )) {
                 logger.warn(
                     "Could not find a readable index-N file in a non-empty shard snapshot directory [" + shardContainer.path() + "]"
                 );
@@ -4721,13 +4877,20 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         ShardId shardId,
         SnapshotId snapshotId,
         IndexShardSnapshotStatus snapshotStatus,
-        Store store
+        Store store,
+        Map<String, String> chunksToUpload
     ) throws IOException {
         final BlobContainer shardContainer = shardContainer(indexId, shardId);
         final String file = fileInfo.physicalName();
         try (IndexInput indexInput = store.openVerifyingInput(file, IOContext.DEFAULT, fileInfo.metadata())) {
+            long uploadedBytes = 0;
             for (int i = 0; i < fileInfo.numberOfParts(); i++) {
                 final long partBytes = fileInfo.partBytes(i);
+                if (fileInfo.chunks() != null && chunksToUpload.remove(fileInfo.partName(i), fileInfo.name()) == false) {
+                    // the chunk is already stored or uploaded by another file, we still read it to verify the file's checksum
+                    skipBytes(indexInput, partBytes);
+                    continue;
+                }
 
                 // Make reads abortable by mutating the snapshotStatus object
                 final InputStream inputStream = new FilterInputStream(
@@ -4755,9 +4918,10 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                 final String partName = fileInfo.partName(i);
                 logger.trace(() -> new ParameterizedMessage("[{}] Writing [{}] to [{}]", metadata.name(), partName, shardContainer.path()));
                 shardContainer.writeBlob(partName, inputStream, partBytes, false);
+                uploadedBytes += partBytes;
             }
             Store.verify(indexInput);
-            snapshotStatus.addProcessedFile(fileInfo.length());
+            snapshotStatus.addProcessedFile(uploadedBytes);
         } catch (Exception t) {
             failStoreIfCorrupted(store, t);
             snapshotStatus.addProcessedFile(0);
@@ -4765,6 +4929,15 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         }
     }
 
+    private static void skipBytes(IndexInput indexInput, long bytes) throws IOException {
+        final byte[] buffer = new byte[(int) Math.min(bytes, 64 * 1024)];
+        while (bytes > 0) {
+            final int read = (int) Math.min(bytes, buffer.length);
+            indexInput.readBytes(buffer, 0, read);
+            bytes -= read;
+        }
+    }
+
     private static void failStoreIfCorrupted(Store store, Exception e) {
         if (Lucene.isCorruptionException(e)) {
             try {
@@ -0,0 +1,115 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.repositories.blobstore;
+
+import org.apache.lucene.store.DataInput;
+import org.opensearch.common.hash.MessageDigests;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot.FileInfo;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Splits files into content-defined chunks using a gear rolling hash. Chunk boundaries only depend on the bytes that precede them
+ * within a small window, so the chunks of a file that shares long runs of bytes with an already snapshotted file (for instance a
+ * merged segment that contains the data of segments it was merged from) mostly hash to chunks that are already in the repository.
+ * Each chunk is named after the SHA-256 hash of its contents.
+ *
+ * @opensearch.internal
+ */
+final class ContentDefinedChunker {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Random values for each byte value, generated from a fixed seed with SplitMix64 so that chunk boundaries never change across
+     * nodes and versions.
+     */
+    private static final long[] GEAR = new long[256];
+
+    static {
+        long seed = 0x5DEECE66DL;
+        for (int i = 0; i < GEAR.length; i++) {
+            seed += 0x9E3779B97F4A7C15L;
+            long z = seed;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            GEAR[i] = z ^ (z >>> 31);
+        }
+    }
+
+    private final String chunkPrefix;
+    private final long minChunkSize;
+    private final long maxChunkSize;
+    private final long mask;
+
+    /**
+     * @param chunkPrefix      prefix of the blob names of the chunks
+     * @param averageChunkSize the targeted average chunk size, rounded down to a power of two
+     * @param maxChunkSize     upper bound for the size of chunks
+     */
+    ContentDefinedChunker(String chunkPrefix, long averageChunkSize, long maxChunkSize) {
+        final int bits = 63 - Long.numberOfLeadingZeros(averageChunkSize);
+        this.chunkPrefix = chunkPrefix;
+        // boundaries are cut where the top bits of the hash are zero, since they depend on the last 64 bytes while the low bits only
+        // depend on the last few bytes; the minimum size accounts for the expected distance to the next boundary
+        this.mask = -1L << (Long.SIZE - Math.max(1, bits - 1));
+        this.maxChunkSize = Math.max(1L, Math.min(maxChunkSize, averageChunkSize << 2));
+        this.minChunkSize = Math.min(this.maxChunkSize, Math.max(1L, averageChunkSize >> 1));
+    }
+
+    /**
+     * Returns the minimum size of the chunks, except for the last chunk of a file
+     */
+    long minChunkSize() {
+        return minChunkSize;
+    }
+
+    /**
+     * Reads {@code length} bytes from the given input and returns the chunks they are made of.
+     */
+    List<FileInfo.Chunk> chunk(DataInput input, long length) throws IOException {
+        final List<FileInfo.Chunk> chunks = new ArrayList<>();
+        final MessageDigest digest = MessageDigests.sha256();
+        final byte[] buffer = new byte[(int) Math.min(BUFFER_SIZE, Math.max(1L, length))];
+        long remaining = length;
+        long chunkLength = 0;
+        long hash = 0;
+        while (remaining > 0) {
+            final int read = (int) Math.min(buffer.length, remaining);
+            input.readBytes(buffer, 0, read);
+            remaining -= read;
+            int chunkStart = 0;
+            for (int i = 0; i < read; i++) {
+                hash = (hash << 1) + GEAR[buffer[i] & 0xFF];
+                chunkLength++;
+                if ((chunkLength >= minChunkSize && (hash & mask) == 0) || chunkLength >= maxChunkSize) {
+                    digest.update(buffer, chunkStart, i + 1 - chunkStart);
+                    chunks.add(newChunk(digest, chunkLength));
+                    chunkStart = i + 1;
+                    chunkLength = 0;
+                    hash = 0;
+                }
+            }
+            digest.update(buffer, chunkStart, read - chunkStart);
+        }
+        if (chunkLength > 0) {
+            chunks.add(newChunk(digest, chunkLength));
+        }
+        return chunks;
+    }
+
+    private FileInfo.Chunk newChunk(MessageDigest digest, long chunkLength) {
+        // digest() resets the digest for the next chunk
+        return new FileInfo.Chunk(chunkPrefix + Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest()), chunkLength);
+    }
+}
@@ -1142,6 +1142,11 @@ final class DefaultSearchContext extends SearchContext {
 
     }
 
+    @Override
+    public int getMinDocsPerSlice() {
+        return clusterService.getClusterSettings().get(SearchService.CONCURRENT_SEGMENT_SEARCH_MIN_DOCS_PER_SLICE_SETTING);
+    }
+
     @Override
     public boolean shouldUseTimeSeriesDescSortOptimization() {
         return indexShard.isTimeSeriesDescSortOptimizationEnabled()
@@ -316,6 +316,16 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         Property.Dynamic,
         Property.NodeScope
     );
+    // minimum number of live documents per slice created by the OS custom slice computation mechanism, so that small shards use
+    // fewer slices. value == 0 means the slice count is only bounded by the segment count and the max slice count
+    public static final Setting<Integer> CONCURRENT_SEGMENT_SEARCH_MIN_DOCS_PER_SLICE_SETTING = Setting.intSetting(
+        "search.concurrent.min_docs_per_slice",
+        0,
+        0,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     // value 0 means rewrite filters optimization in aggregations will be disabled
     @ExperimentalApi
     public static final Setting<Integer> MAX_AGGREGATION_REWRITE_FILTERS = Setting.intSetting(
@@ -666,6 +676,9 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         final boolean canCache = indicesService.canCache(request, context);
         context.getQueryShardContext().freezeContext();
         if (canCache) {
+            if (indicesService.canCacheSegmentAggregations(context)) {
+                context.segmentAggregationCache(indicesService.segmentAggregationCache(request));
+            }
             indicesService.loadIntoContext(request, context, queryPhase);
         } else {
             queryPhase.execute(context);
@@ -73,6 +73,7 @@ public abstract class AggregatorBase extends Aggregator {
     private Map<String, Aggregator> subAggregatorbyName;
     private final CircuitBreakerService breakerService;
     private long requestBytesUsed;
+    private boolean closed;
 
     /**
      * Constructs a new Aggregator.
@@ -302,6 +303,11 @@ public abstract class AggregatorBase extends Aggregator {
     /** Called upon release of the aggregator. */
     @Override
     public void close() {
+        if (closed) {
+            // aggregators are always released with the search context, but may have been released earlier
+            return;
+        }
+        closed = true;
         try {
             doClose();
         } finally {
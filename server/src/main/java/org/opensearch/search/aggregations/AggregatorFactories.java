@@ -268,6 +268,15 @@ public class AggregatorFactories {
         return true;
     }
 
+    public boolean allFactoriesSupportSegmentCaching() {
+        for (AggregatorFactory factory : factories) {
+            if (factory.supportsSegmentCaching() == false || factory.getSubFactories().allFactoriesSupportSegmentCaching() == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Create all aggregators so that they can be consumed with multiple
      * buckets.
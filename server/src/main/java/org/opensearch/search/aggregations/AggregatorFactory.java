@@ -124,6 +124,15 @@ public abstract class AggregatorFactory {
         return false;
     }
 
+    /**
+     * Implementation should override this method and return false if the results of the Aggregator created by the factory for a single
+     * segment depend on anything but the documents of that segment, e.g. on shard level statistics or on the doc ids of the whole shard.
+     * Only aggregators that can be reduced at the shard level are considered.
+     */
+    protected boolean supportsSegmentCaching() {
+        return supportsConcurrentSegmentSearch();
+    }
+
     public boolean evaluateChildFactories() {
         return factories.allFactoriesSupportConcurrentSearch();
     }
@@ -34,8 +34,18 @@ public class DefaultAggregationProcessor implements AggregationProcessor {
                 // update the bucket collector process as there is aggregation in the request
                 context.setBucketCollectorProcessor(bucketCollectorProcessor);
                 if (context.aggregations().factories().hasNonGlobalAggregator()) {
-                    context.queryCollectorManagers()
-                        .put(NonGlobalAggCollectorManager.class, new NonGlobalAggCollectorManagerWithSingleCollector(context));
+                    AggregationCollectorManager collectorManager = null;
+                    if (context.segmentAggregationCache() != null) {
+                        collectorManager = SegmentCachingAggCollectorManager.create(context);
+                        if (collectorManager == null) {
+                            // fall back to the regular shard level thresholds
+                            context.segmentAggregationCache(null);
+                        }
+                    }
+                    if (collectorManager == null) {
+                        collectorManager = new NonGlobalAggCollectorManagerWithSingleCollector(context);
+                    }
+                    context.queryCollectorManagers().put(NonGlobalAggCollectorManager.class, collectorManager);
                 }
                 // initialize global aggregators as well, such that any failure to initialize can be caught before executing the request
                 if (context.aggregations().factories().hasGlobalAggregator()) {
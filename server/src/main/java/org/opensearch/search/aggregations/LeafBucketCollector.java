@@ -32,6 +32,7 @@
 
 package org.opensearch.search.aggregations;
 
+import org.apache.lucene.search.DocIdStream;
 import org.apache.lucene.search.LeafCollector;
 import org.apache.lucene.search.Scorable;
 import org.opensearch.search.aggregations.bucket.terms.LongKeyedBucketOrds;
@@ -123,6 +124,24 @@ public abstract class LeafBucketCollector implements LeafCollector {
         collect(doc, 0);
     }
 
+    /**
+     * Collect all docs of the given {@code stream} in the bucket owned by
+     * {@code owningBucketOrd}. Lucene hands out streams of docs for dense
+     * ranges of matches, which lets implementations that only touch a
+     * single bucket, like top level metric aggregations, load and store
+     * their per bucket state once per stream rather than once per doc.
+     * <p>
+     * The default implementation collects the docs one by one.
+     */
+    public void collect(DocIdStream stream, long owningBucketOrd) throws IOException {
+        stream.forEach(doc -> collect(doc, owningBucketOrd));
+    }
+
+    @Override
+    public final void collect(DocIdStream stream) throws IOException {
+        collect(stream, 0);
+    }
+
     @Override
     public void setScorer(Scorable scorer) throws IOException {
         // no-op by default
@@ -0,0 +1,179 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Weight;
+import org.opensearch.common.lease.Releasables;
+import org.opensearch.indices.IndicesSegmentAggregationCache;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.profile.query.CollectorResult;
+import org.opensearch.search.query.ReduceableSearchResult;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * {@link AggregationCollectorManager} for non global aggregations that collects every segment into its own set of aggregators, so
+ * that the partial result of each segment can be served from and stored into the {@link IndicesSegmentAggregationCache}. The partial
+ * results are reduced at the shard level just like the slices of concurrent segment search.
+ *
+ * @opensearch.internal
+ */
+public class SegmentCachingAggCollectorManager extends AggregationCollectorManager {
+
+    private final IndicesSegmentAggregationCache.RequestScope cache;
+    private final List<InternalAggregations> partials = new ArrayList<>();
+    private final Collector collector;
+    private final String collectorName;
+    private List<Aggregator> spareAggregators;
+    private List<Aggregator> pendingAggregators;
+    private LeafReaderContext pendingLeaf;
+
+    private SegmentCachingAggCollectorManager(SearchContext context, List<Aggregator> aggregators) {
+        super(context, context.aggregations().factories()::createTopLevelNonGlobalAggregators, CollectorResult.REASON_AGGREGATION);
+        this.cache = context.segmentAggregationCache();
+        this.spareAggregators = aggregators;
+        this.collector = new SegmentCachingCollector(MultiBucketCollector.wrap(aggregators).scoreMode());
+        this.collectorName = "SegmentCachingCollector(" + aggregators + ")";
+    }
+
+    /**
+     * Creates the collector manager, or returns {@code null} if the aggregations of the request need scores. Scores depend on shard level
+     * statistics, so they can't be cached per segment.
+     */
+    static SegmentCachingAggCollectorManager create(SearchContext context) throws IOException {
+        assert context.segmentAggregationCache() != null;
+        final List<Aggregator> aggregators = context.aggregations().factories().createTopLevelNonGlobalAggregators(context);
+        if (MultiBucketCollector.wrap(aggregators).scoreMode().needsScores()) {
+            // the aggregators are released with the context
+            return null;
+        }
+        return new SegmentCachingAggCollectorManager(context, aggregators);
+    }
+
+    @Override
+    public Collector newCollector() {
+        return collector;
+    }
+
+    @Override
+    public ReduceableSearchResult reduce(Collection<Collector> collectors) throws IOException {
+        assert collectors.isEmpty() : "Reduce on SegmentCachingAggCollectorManager called with non-empty collectors";
+        finishPendingLeaf();
+        if (partials.isEmpty()) {
+            // no segment was collected, build the empty aggregations from the spare aggregators
+            final Collector spare = createCollector(spareAggregators);
+            context.bucketCollectorProcessor().processPostCollection(spare);
+            return super.reduce(List.of(spare));
+        }
+        final InternalAggregation.ReduceContext reduceContext = context.partialOnShard();
+        reduceContext.setSliceLevel(true);
+        final InternalAggregations reduced = InternalAggregations.reduce(partials, reduceContext);
+        context.aggregations().resetBucketMultiConsumer();
+        return buildAggregationResult(reduced);
+    }
+
+    private LeafCollector getLeafCollector(LeafReaderContext ctx, Weight weight) throws IOException {
+        finishPendingLeaf();
+        final InternalAggregations cached = cache.get(ctx);
+        if (cached != null) {
+            partials.add(cached);
+            throw new CollectionTerminatedException();
+        }
+        final List<Aggregator> aggregators;
+        if (spareAggregators != null) {
+            aggregators = spareAggregators;
+            spareAggregators = null;
+        } else {
+            aggregators = context.aggregations().factories().createTopLevelNonGlobalAggregators(context);
+        }
+        final Collector bucketCollector = createCollector(aggregators);
+        if (weight != null) {
+            bucketCollector.setWeight(weight);
+        }
+        pendingAggregators = aggregators;
+        pendingLeaf = ctx;
+        return bucketCollector.getLeafCollector(ctx);
+    }
+
+    private void finishPendingLeaf() throws IOException {
+        if (pendingAggregators == null) {
+            return;
+        }
+        final List<InternalAggregation> internals = new ArrayList<>(pendingAggregators.size());
+        for (Aggregator aggregator : pendingAggregators) {
+            aggregator.postCollection();
+            aggregator.buildTopLevel();
+            internals.add(aggregator.getPostCollectionAggregation());
+        }
+        // the buckets of all segments count towards the limit of the request, the consumer is only reset once they are reduced
+        final InternalAggregations partial = InternalAggregations.from(internals);
+        partials.add(partial);
+        // a segment that was interrupted by the timeout has only been partially collected
+        if (context.isSearchTimedOut() == false) {
+            cache.put(pendingLeaf, partial);
+        }
+        releaseAggregators(pendingAggregators.toArray(new Aggregator[0]));
+        pendingAggregators = null;
+        pendingLeaf = null;
+    }
+
+    /**
+     * Releases the aggregators of a segment once its partial result is built rather than at the end of the request.
+     */
+    private static void releaseAggregators(Aggregator[] aggregators) {
+        for (Aggregator aggregator : aggregators) {
+            if (aggregator instanceof AggregatorBase aggregatorBase) {
+                releaseAggregators(aggregatorBase.subAggregators());
+            }
+        }
+        Releasables.close(aggregators);
+    }
+
+    @Override
+    public String getCollectorName() {
+        return collectorName;
+    }
+
+    private class SegmentCachingCollector implements Collector {
+        private final ScoreMode scoreMode;
+        private Weight weight;
+
+        private SegmentCachingCollector(ScoreMode scoreMode) {
+            this.scoreMode = scoreMode;
+        }
+
+        @Override
+        public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+            return SegmentCachingAggCollectorManager.this.getLeafCollector(context, weight);
+        }
+
+        @Override
+        public void setWeight(Weight weight) {
+            this.weight = weight;
+        }
+
+        @Override
+        public ScoreMode scoreMode() {
+            return scoreMode;
+        }
+
+        @Override
+        public String toString() {
+            return collectorName;
+        }
+    }
+}
@@ -474,6 +474,8 @@ public abstract class BucketsAggregator extends AggregatorBase {
     @Override
     public final void close() {
         try (Releasable releasable = docCounts) {
+            // the aggregator may be closed more than once
+            docCounts = null;
             super.close();
         }
     }
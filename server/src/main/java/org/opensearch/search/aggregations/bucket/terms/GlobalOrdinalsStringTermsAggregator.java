@@ -42,6 +42,7 @@ import org.apache.lucene.index.Terms;
 import org.apache.lucene.index.TermsEnum;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.Bits;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.PriorityQueue;
 import org.opensearch.common.SetOnce;
@@ -96,6 +97,12 @@ import static org.apache.lucene.index.SortedSetDocValues.NO_MORE_DOCS;
  * @opensearch.internal
  */
 public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggregator implements StarTreePreComputeCollector {
+    /**
+     * Ratio of deleted documents up to which counts are still read from doc frequencies, matching the default
+     * {@code index.merge.policy.deletes_pct_allowed}
+     */
+    static final double MAX_DELETED_DOCS_RATIO = 0.2;
+
     protected final ResultStrategy<?, ?, ?> resultStrategy;
     protected final ValuesSource.Bytes.WithOrdinals valuesSource;
 
@@ -164,7 +171,9 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
     }
 
     /**
-     Read doc frequencies directly from indexed terms in the segment to skip iterating through individual documents
+     Read doc frequencies directly from indexed terms in the segment to skip iterating through individual documents.
+     Doc frequencies include deleted documents, so when the segment has deletions their values are subtracted afterwards,
+     as long as at most {@link #MAX_DELETED_DOCS_RATIO} of its documents are deleted.
      @param ctx The LeafReaderContext to collect terms from
      @param ordCountConsumer A consumer to accept collected term frequencies
      @return A LeafBucketCollector implementation with collection termination, since collection is complete
@@ -175,12 +184,15 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
             // Weight not assigned - cannot use this optimization
             return false;
         } else {
-            if (weight.count(ctx) == 0) {
+            final int count = weight.count(ctx);
+            if (count == 0) {
                 // No documents matches top level query on this segment, we can skip the segment entirely
                 return true;
-            } else if (weight.count(ctx) != ctx.reader().maxDoc()) {
-                // weight.count(ctx) == ctx.reader().maxDoc() implies there are no deleted documents and
-                // top-level query matches all docs in the segment
+            } else if (count != ctx.reader().numDocs()) {
+                // weight.count(ctx) == ctx.reader().numDocs() implies the top-level query matches all live docs in the segment
+                return false;
+            } else if (ctx.reader().numDeletedDocs() > ctx.reader().maxDoc() * MAX_DELETED_DOCS_RATIO) {
+                // finding the deleted documents to subtract scans the live docs, collecting them is cheaper past this ratio
                 return false;
             }
         }
@@ -219,6 +231,29 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
                 ordinalTerm = globalOrdinalTermsEnum.next();
             }
         }
+
+        final Bits liveDocs = ctx.reader().getLiveDocs();
+        if (liveDocs != null) {
+            // doc values of deleted documents are still readable, take them back out of the doc frequencies
+            final SortedSetDocValues deletedOrds = this.getGlobalOrds(ctx);
+            // stop as soon as the last deleted document was found rather than scanning up to maxDoc
+            int remainingDeletedDocs = ctx.reader().numDeletedDocs();
+            for (int doc = 0; remainingDeletedDocs > 0; doc++) {
+                if (liveDocs.get(doc)) {
+                    continue;
+                }
+                remainingDeletedDocs--;
+                if (deletedOrds.advanceExact(doc) == false) {
+                    continue;
+                }
+                for (int i = 0; i < deletedOrds.docValueCount(); i++) {
+                    final long ord = deletedOrds.nextOrd();
+                    if (acceptedGlobalOrdinals.test(ord)) {
+                        ordCountConsumer.accept(ord, -1);
+                    }
+                }
+            }
+        }
         return true;
     }
 
@@ -311,6 +311,12 @@ public class SignificantTermsAggregatorFactory extends ValuesSourceAggregatorFac
         return true;
     }
 
+    @Override
+    protected boolean supportsSegmentCaching() {
+        // background frequencies are shard level statistics
+        return false;
+    }
+
     /**
      * The execution mode for the significant terms agg
      *
@@ -317,4 +317,10 @@ public class SignificantTextAggregatorFactory extends AggregatorFactory {
     protected boolean supportsConcurrentSegmentSearch() {
         return true;
     }
+
+    @Override
+    protected boolean supportsSegmentCaching() {
+        // background frequencies are shard level statistics
+        return false;
+    }
 }
@@ -33,6 +33,7 @@ package org.opensearch.search.aggregations.metrics;
 
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.DocIdStream;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.util.FixedBitSet;
 import org.apache.lucene.util.NumericUtils;
@@ -131,6 +132,8 @@ class AvgAggregator extends NumericMetricsAggregator.SingleValue implements Star
         final CompensatedSum kahanSummation = new CompensatedSum(0, 0);
 
         return new LeafBucketCollectorBase(sub, values) {
+            private long streamCount;
+
             @Override
             public void collect(int doc, long bucket) throws IOException {
                 counts = bigArrays.grow(counts, bucket + 1);
@@ -156,6 +159,28 @@ class AvgAggregator extends NumericMetricsAggregator.SingleValue implements Star
                     compensations.set(bucket, kahanSummation.delta());
                 }
             }
+
+            @Override
+            public void collect(DocIdStream stream, long bucket) throws IOException {
+                counts = bigArrays.grow(counts, bucket + 1);
+                sums = bigArrays.grow(sums, bucket + 1);
+                compensations = bigArrays.grow(compensations, bucket + 1);
+
+                streamCount = 0;
+                kahanSummation.reset(sums.get(bucket), compensations.get(bucket));
+                stream.forEach(doc -> {
+                    if (values.advanceExact(doc)) {
+                        final int valueCount = values.docValueCount();
+                        streamCount += valueCount;
+                        for (int i = 0; i < valueCount; i++) {
+                            kahanSummation.add(values.nextValue());
+                        }
+                    }
+                });
+                counts.increment(bucket, streamCount);
+                sums.set(bucket, kahanSummation.value());
+                compensations.set(bucket, kahanSummation.delta());
+            }
         };
     }
 
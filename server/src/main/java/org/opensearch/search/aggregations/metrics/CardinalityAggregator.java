@@ -64,14 +64,20 @@ import org.opensearch.common.util.BitMixer;
 import org.opensearch.common.util.LongArray;
 import org.opensearch.common.util.ObjectArray;
 import org.opensearch.core.rest.RestStatus;
+import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
+import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedSetStarTreeValuesIterator;
 import org.opensearch.index.fielddata.SortedBinaryDocValues;
 import org.opensearch.index.fielddata.SortedNumericDoubleValues;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.LeafBucketCollector;
+import org.opensearch.search.aggregations.StarTreeBucketCollector;
+import org.opensearch.search.aggregations.StarTreePreComputeCollector;
 import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.startree.StarTreeQueryHelper;
 
 import java.io.IOException;
 import java.util.HashMap;
@@ -85,7 +91,7 @@ import static org.opensearch.search.SearchService.CARDINALITY_AGGREGATION_PRUNIN
  *
  * @opensearch.internal
  */
-public class CardinalityAggregator extends NumericMetricsAggregator.SingleValue {
+public class CardinalityAggregator extends NumericMetricsAggregator.SingleValue implements StarTreePreComputeCollector {
 
     private static final Logger logger = LogManager.getLogger(CardinalityAggregator.class);
 
@@ -107,6 +113,7 @@ public class CardinalityAggregator extends NumericMetricsAggregator.SingleValue
     private int ordinalsCollectorsOverheadTooHigh;
     private int stringHashingCollectorsUsed;
     private int dynamicPrunedSegments;
+    private int starTreePrecomputedSegments;
 
     public CardinalityAggregator(
         String name,
@@ -199,6 +206,95 @@ public class CardinalityAggregator extends NumericMetricsAggregator.SingleValue
         return collector;
     }
 
+    @Override
+    protected boolean tryPrecomputeAggregationForLeaf(LeafReaderContext ctx) throws IOException {
+        if ((valuesSource instanceof ValuesSource.Bytes.WithOrdinals) == false) {
+            return false;
+        }
+        CompositeIndexFieldInfo supportedStarTree = StarTreeQueryHelper.getSupportedStarTree(this.context.getQueryShardContext());
+        if (supportedStarTree == null) {
+            return false;
+        }
+        if (parent != null && subAggregators.length == 0) {
+            // If this a child aggregator, then the parent will trigger star-tree pre-computation.
+            // Returning NO_OP_COLLECTOR explicitly because the getLeafCollector() are invoked starting from innermost aggregators
+            return true;
+        }
+        precomputeLeafUsingStarTree(ctx, supportedStarTree);
+        return true;
+    }
+
+    /**
+     * Counts the distinct values of the keyword dimension across the star-tree entries matching the query. Each entry
+     * already stands for all the documents sharing its dimension values, so the ordinals are deduplicated first and
+     * every distinct term is hashed only once for the segment.
+     */
+    private void precomputeLeafUsingStarTree(LeafReaderContext ctx, CompositeIndexFieldInfo starTree) throws IOException {
+        StarTreeValues starTreeValues = StarTreeQueryHelper.getStarTreeValues(ctx, starTree);
+        assert starTreeValues != null;
+        SortedSetStarTreeValuesIterator valuesIterator = (SortedSetStarTreeValuesIterator) starTreeValues.getDimensionValuesIterator(
+            valuesSourceConfig.fieldContext().field()
+        );
+        FixedBitSet filteredValues = StarTreeQueryHelper.getStarTreeFilteredValues(context, ctx, starTreeValues);
+        long maxOrd = valuesIterator.getValueCount();
+        int numBits = filteredValues.length();
+        try (BitArray visitedOrds = new BitArray(maxOrd, context.bigArrays())) {
+            for (int bit = filteredValues.nextSetBit(0); bit != DocIdSetIterator.NO_MORE_DOCS; bit = (bit + 1 < numBits)
+                ? filteredValues.nextSetBit(bit + 1)
+                : DocIdSetIterator.NO_MORE_DOCS) {
+                if (valuesIterator.advanceExact(bit) == false) {
+                    continue;
+                }
+                for (int i = 0, count = valuesIterator.docValueCount(); i < count; i++) {
+                    visitedOrds.set(valuesIterator.nextOrd());
+                }
+            }
+            final MurmurHash3.Hash128 hash = new MurmurHash3.Hash128();
+            for (long ord = visitedOrds.nextSetBit(0); ord < Long.MAX_VALUE; ord = ord + 1 < maxOrd
+                ? visitedOrds.nextSetBit(ord + 1)
+                : Long.MAX_VALUE) {
+                counts.collect(0, hashOrd(valuesIterator, ord, hash));
+            }
+        }
+        starTreePrecomputedSegments++;
+    }
+
+    /**
+     * The parent aggregator invokes this method to get a StarTreeBucketCollector,
+     * which exposes collectStarTreeEntry() to be evaluated on filtered star tree entries
+     */
+    @Override
+    public StarTreeBucketCollector getStarTreeBucketCollector(
+        LeafReaderContext ctx,
+        CompositeIndexFieldInfo starTree,
+        StarTreeBucketCollector parentCollector
+    ) throws IOException {
+        assert parentCollector != null;
+        starTreePrecomputedSegments++;
+        return new StarTreeBucketCollector(parentCollector) {
+            final SortedSetStarTreeValuesIterator valuesIterator = (SortedSetStarTreeValuesIterator) starTreeValues
+                .getDimensionValuesIterator(valuesSourceConfig.fieldContext().field());
+            final MurmurHash3.Hash128 hash = new MurmurHash3.Hash128();
+
+            @Override
+            public void collectStarTreeEntry(int starTreeEntry, long bucket) throws IOException {
+                if (valuesIterator.advanceExact(starTreeEntry) == false) {
+                    return;
+                }
+                // collecting the same hash twice is a no-op for HLL++ so entries of a bucket need no deduplication
+                for (int i = 0, count = valuesIterator.docValueCount(); i < count; i++) {
+                    counts.collect(bucket, hashOrd(valuesIterator, valuesIterator.nextOrd(), hash));
+                }
+            }
+        };
+    }
+
+    private static long hashOrd(SortedSetStarTreeValuesIterator valuesIterator, long ord, MurmurHash3.Hash128 hash) throws IOException {
+        final BytesRef value = valuesIterator.lookupOrd(ord);
+        MurmurHash3.hash128(value.bytes, value.offset, value.length, 0, hash);
+        return hash.h1;
+    }
+
     private boolean canPrune(Aggregator parent, Aggregator[] subAggregators, ValuesSourceConfig valuesSourceConfig) {
         return parent == null && subAggregators.length == 0 && valuesSourceConfig.missing() == null && valuesSourceConfig.script() == null;
     }
@@ -321,6 +417,7 @@ public class CardinalityAggregator extends NumericMetricsAggregator.SingleValue
         add.accept("ordinals_collectors_overhead_too_high", ordinalsCollectorsOverheadTooHigh);
         add.accept("string_hashing_collectors_used", stringHashingCollectorsUsed);
         add.accept("dynamic_pruned_segments", dynamicPrunedSegments);
+        add.accept("star_tree_precomputed_segments", starTreePrecomputedSegments);
     }
 
     /**
@@ -52,7 +52,7 @@ import java.util.Map;
  *
  * @opensearch.internal
  */
-class CardinalityAggregatorFactory extends ValuesSourceAggregatorFactory {
+public class CardinalityAggregatorFactory extends ValuesSourceAggregatorFactory {
 
     /**
      * Execution mode for cardinality agg
@@ -124,6 +124,14 @@ class CardinalityAggregatorFactory extends ValuesSourceAggregatorFactory {
         return true;
     }
 
+    /**
+     * Returns true if the values of this aggregation are read as-is from a field, without a script or a missing value,
+     * which is required to resolve it from the dimension values of a star-tree.
+     */
+    public boolean hasPlainFieldValues() {
+        return getField() != null && config.script() == null && config.missing() == null;
+    }
+
     private int precision() {
         return precisionThreshold == null
             ? HyperLogLogPlusPlus.DEFAULT_PRECISION
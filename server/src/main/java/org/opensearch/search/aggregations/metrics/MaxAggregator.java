@@ -35,6 +35,7 @@ import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.PointValues;
 import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.DocIdStream;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.util.Bits;
 import org.apache.lucene.util.NumericUtils;
@@ -154,6 +155,7 @@ class MaxAggregator extends NumericMetricsAggregator.SingleValue implements Star
         final SortedNumericDoubleValues allValues = valuesSource.doubleValues(ctx);
         final NumericDoubleValues values = MultiValueMode.MAX.select(allValues);
         return new LeafBucketCollectorBase(sub, allValues) {
+            private double streamMax;
 
             @Override
             public void collect(int doc, long bucket) throws IOException {
@@ -170,6 +172,22 @@ class MaxAggregator extends NumericMetricsAggregator.SingleValue implements Star
                 }
             }
 
+            @Override
+            public void collect(DocIdStream stream, long bucket) throws IOException {
+                if (bucket >= maxes.size()) {
+                    long from = maxes.size();
+                    maxes = bigArrays.grow(maxes, bucket + 1);
+                    maxes.fill(from, maxes.size(), Double.NEGATIVE_INFINITY);
+                }
+                streamMax = maxes.get(bucket);
+                stream.forEach(doc -> {
+                    if (values.advanceExact(doc)) {
+                        streamMax = Math.max(streamMax, values.doubleValue());
+                    }
+                });
+                maxes.set(bucket, streamMax);
+            }
+
         };
     }
 
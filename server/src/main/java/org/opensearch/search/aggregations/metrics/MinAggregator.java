@@ -35,6 +35,7 @@ import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.PointValues;
 import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.DocIdStream;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.util.Bits;
 import org.apache.lucene.util.NumericUtils;
@@ -154,6 +155,7 @@ class MinAggregator extends NumericMetricsAggregator.SingleValue implements Star
         final SortedNumericDoubleValues allValues = valuesSource.doubleValues(ctx);
         final NumericDoubleValues values = MultiValueMode.MIN.select(allValues);
         return new LeafBucketCollectorBase(sub, allValues) {
+            private double streamMin;
 
             @Override
             public void collect(int doc, long bucket) throws IOException {
@@ -169,6 +171,22 @@ class MinAggregator extends NumericMetricsAggregator.SingleValue implements Star
                     mins.set(bucket, min);
                 }
             }
+
+            @Override
+            public void collect(DocIdStream stream, long bucket) throws IOException {
+                if (bucket >= mins.size()) {
+                    long from = mins.size();
+                    mins = bigArrays.grow(mins, bucket + 1);
+                    mins.fill(from, mins.size(), Double.POSITIVE_INFINITY);
+                }
+                streamMin = mins.get(bucket);
+                stream.forEach(doc -> {
+                    if (values.advanceExact(doc)) {
+                        streamMin = Math.min(streamMin, values.doubleValue());
+                    }
+                });
+                mins.set(bucket, streamMin);
+            }
         };
     }
 
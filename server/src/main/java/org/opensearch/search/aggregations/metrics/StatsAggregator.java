@@ -32,6 +32,7 @@
 package org.opensearch.search.aggregations.metrics;
 
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.DocIdStream;
 import org.apache.lucene.search.ScoreMode;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.BigArrays;
@@ -104,8 +105,11 @@ class StatsAggregator extends NumericMetricsAggregator.MultiValue {
         final CompensatedSum kahanSummation = new CompensatedSum(0, 0);
 
         return new LeafBucketCollectorBase(sub, values) {
-            @Override
-            public void collect(int doc, long bucket) throws IOException {
+            private long streamCount;
+            private double streamMin;
+            private double streamMax;
+
+            private void maybeGrow(long bucket) {
                 if (bucket >= counts.size()) {
                     final long from = counts.size();
                     final long overSize = BigArrays.overSize(bucket + 1);
@@ -117,6 +121,11 @@ class StatsAggregator extends NumericMetricsAggregator.MultiValue {
                     mins.fill(from, overSize, Double.POSITIVE_INFINITY);
                     maxes.fill(from, overSize, Double.NEGATIVE_INFINITY);
                 }
+            }
+
+            @Override
+            public void collect(int doc, long bucket) throws IOException {
+                maybeGrow(bucket);
 
                 if (values.advanceExact(doc)) {
                     final int valuesCount = values.docValueCount();
@@ -141,6 +150,33 @@ class StatsAggregator extends NumericMetricsAggregator.MultiValue {
                     maxes.set(bucket, max);
                 }
             }
+
+            @Override
+            public void collect(DocIdStream stream, long bucket) throws IOException {
+                maybeGrow(bucket);
+
+                streamCount = 0;
+                streamMin = mins.get(bucket);
+                streamMax = maxes.get(bucket);
+                kahanSummation.reset(sums.get(bucket), compensations.get(bucket));
+                stream.forEach(doc -> {
+                    if (values.advanceExact(doc)) {
+                        final int valuesCount = values.docValueCount();
+                        streamCount += valuesCount;
+                        for (int i = 0; i < valuesCount; i++) {
+                            double value = values.nextValue();
+                            kahanSummation.add(value);
+                            streamMin = Math.min(streamMin, value);
+                            streamMax = Math.max(streamMax, value);
+                        }
+                    }
+                });
+                counts.increment(bucket, streamCount);
+                sums.set(bucket, kahanSummation.value());
+                compensations.set(bucket, kahanSummation.delta());
+                mins.set(bucket, streamMin);
+                maxes.set(bucket, streamMax);
+            }
         };
     }
 
@@ -32,6 +32,7 @@
 package org.opensearch.search.aggregations.metrics;
 
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.DocIdStream;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.util.NumericUtils;
 import org.opensearch.common.lease.Releasables;
@@ -142,6 +143,23 @@ public class SumAggregator extends NumericMetricsAggregator.SingleValue implemen
                     sums.set(bucket, kahanSummation.value());
                 }
             }
+
+            @Override
+            public void collect(DocIdStream stream, long bucket) throws IOException {
+                sums = bigArrays.grow(sums, bucket + 1);
+                compensations = bigArrays.grow(compensations, bucket + 1);
+
+                kahanSummation.reset(sums.get(bucket), compensations.get(bucket));
+                stream.forEach(doc -> {
+                    if (values.advanceExact(doc)) {
+                        for (int i = 0, valuesCount = values.docValueCount(); i < valuesCount; i++) {
+                            kahanSummation.add(values.nextValue());
+                        }
+                    }
+                });
+                compensations.set(bucket, kahanSummation.delta());
+                sums.set(bucket, kahanSummation.value());
+            }
         };
     }
 
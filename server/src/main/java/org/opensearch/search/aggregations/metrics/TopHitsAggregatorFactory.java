@@ -159,4 +159,10 @@ class TopHitsAggregatorFactory extends AggregatorFactory {
     protected boolean supportsConcurrentSegmentSearch() {
         return true;
     }
+
+    @Override
+    protected boolean supportsSegmentCaching() {
+        // hits carry doc ids that are relative to the whole shard
+        return false;
+    }
 }
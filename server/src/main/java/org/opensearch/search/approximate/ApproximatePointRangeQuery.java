@@ -20,6 +20,7 @@ import org.apache.lucene.sandbox.document.HalfFloatPoint;
 import org.apache.lucene.search.ConstantScoreScorer;
 import org.apache.lucene.search.ConstantScoreWeight;
 import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.PointRangeQuery;
 import org.apache.lucene.search.Query;
@@ -36,6 +37,7 @@ import org.opensearch.search.sort.FieldSortBuilder;
 import org.opensearch.search.sort.SortOrder;
 
 import java.io.IOException;
+import java.math.BigInteger;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -55,8 +57,13 @@ public class ApproximatePointRangeQuery extends ApproximateQuery {
 
     private SortOrder sortOrder;
 
+    // Inclusive bound derived from the search_after cursor of the primary sort, null when the request doesn't paginate
+    private byte[] searchAfterPoint;
+
     public final PointRangeQuery pointRangeQuery;
 
+    private final Function<byte[], String> valueToString;
+
     public ApproximatePointRangeQuery(
         String field,
         byte[] lowerPoint,
@@ -78,6 +85,7 @@ public class ApproximatePointRangeQuery extends ApproximateQuery {
     ) {
         this.size = size;
         this.sortOrder = sortOrder;
+        this.valueToString = valueToString;
         this.pointRangeQuery = new PointRangeQuery(field, lowerPoint, upperPoint, numDims) {
             @Override
             protected String toString(int dimension, byte[] value) {
@@ -102,6 +110,33 @@ public class ApproximatePointRangeQuery extends ApproximateQuery {
         this.sortOrder = sortOrder;
     }
 
+    public byte[] getSearchAfterPoint() {
+        return this.searchAfterPoint;
+    }
+
+    // the range actually walked: the cursor replaces the lower bound for ASC sorts and the upper bound for DESC sorts
+    private byte[] lowerPoint() {
+        if (searchAfterPoint != null && SortOrder.DESC.equals(sortOrder) == false) {
+            return max(pointRangeQuery.getLowerPoint(), searchAfterPoint);
+        }
+        return pointRangeQuery.getLowerPoint();
+    }
+
+    private byte[] upperPoint() {
+        if (searchAfterPoint != null && SortOrder.DESC.equals(sortOrder)) {
+            return min(pointRangeQuery.getUpperPoint(), searchAfterPoint);
+        }
+        return pointRangeQuery.getUpperPoint();
+    }
+
+    private static byte[] max(byte[] a, byte[] b) {
+        return ArrayUtil.getUnsignedComparator(a.length).compare(a, 0, b, 0) >= 0 ? a : b;
+    }
+
+    private static byte[] min(byte[] a, byte[] b) {
+        return ArrayUtil.getUnsignedComparator(a.length).compare(a, 0, b, 0) <= 0 ? a : b;
+    }
+
     @Override
     public Query rewrite(IndexSearcher indexSearcher) throws IOException {
         return super.rewrite(indexSearcher);
@@ -119,16 +154,18 @@ public class ApproximatePointRangeQuery extends ApproximateQuery {
         return new ConstantScoreWeight(this, boost) {
 
             private final ArrayUtil.ByteArrayComparator comparator = ArrayUtil.getUnsignedComparator(pointRangeQuery.getBytesPerDim());
+            private final byte[] lowerPoint = lowerPoint();
+            private final byte[] upperPoint = upperPoint();
 
             // we pull this from PointRangeQuery since it is final
             private boolean matches(byte[] packedValue) {
                 for (int dim = 0; dim < pointRangeQuery.getNumDims(); dim++) {
                     int offset = dim * pointRangeQuery.getBytesPerDim();
-                    if (comparator.compare(packedValue, offset, pointRangeQuery.getLowerPoint(), offset) < 0) {
+                    if (comparator.compare(packedValue, offset, lowerPoint, offset) < 0) {
                         // Doc's value is too low, in this dimension
                         return false;
                     }
-                    if (comparator.compare(packedValue, offset, pointRangeQuery.getUpperPoint(), offset) > 0) {
+                    if (comparator.compare(packedValue, offset, upperPoint, offset) > 0) {
                         // Doc's value is too high, in this dimension
                         return false;
                     }
@@ -144,13 +181,13 @@ public class ApproximatePointRangeQuery extends ApproximateQuery {
                 for (int dim = 0; dim < pointRangeQuery.getNumDims(); dim++) {
                     int offset = dim * pointRangeQuery.getBytesPerDim();
 
-                    if (comparator.compare(minPackedValue, offset, pointRangeQuery.getUpperPoint(), offset) > 0
-                        || comparator.compare(maxPackedValue, offset, pointRangeQuery.getLowerPoint(), offset) < 0) {
+                    if (comparator.compare(minPackedValue, offset, upperPoint, offset) > 0
+                        || comparator.compare(maxPackedValue, offset, lowerPoint, offset) < 0) {
                         return PointValues.Relation.CELL_OUTSIDE_QUERY;
                     }
 
-                    crosses |= comparator.compare(minPackedValue, offset, pointRangeQuery.getLowerPoint(), offset) < 0
-                        || comparator.compare(maxPackedValue, offset, pointRangeQuery.getUpperPoint(), offset) > 0;
+                    crosses |= comparator.compare(minPackedValue, offset, lowerPoint, offset) < 0
+                        || comparator.compare(maxPackedValue, offset, upperPoint, offset) > 0;
                 }
 
                 if (crosses) {
@@ -352,7 +389,9 @@ public class ApproximatePointRangeQuery extends ApproximateQuery {
                 if (checkValidPointValues(values) == false) {
                     return null;
                 }
-                if (size > values.size()) {
+                // A multi-valued doc may be reached through a value past the cursor while sorting on a value before it, which would
+                // waste the budget on hits the collector drops, so those segments fall back to the whole range.
+                if (size > values.size() || (searchAfterPoint != null && values.size() != values.getDocCount())) {
                     return pointRangeQueryWeight.scorerSupplier(context);
                 } else {
                     if (sortOrder == null || sortOrder.equals(SortOrder.ASC)) {
@@ -413,6 +452,9 @@ public class ApproximatePointRangeQuery extends ApproximateQuery {
 
             @Override
             public int count(LeafReaderContext context) throws IOException {
+                if (searchAfterPoint != null) {
+                    return -1;
+                }
                 return pointRangeQueryWeight.count(context);
             }
 
@@ -459,11 +501,27 @@ public class ApproximatePointRangeQuery extends ApproximateQuery {
                     // Cannot sort documents missing this field.
                     return false;
                 }
-                if (context.request().source().searchAfter() != null) {
-                    // TODO: We *could* optimize searchAfter, especially when this is the only sort field, but existing pruning is pretty
-                    // good.
+                if (primarySortField.getNumericType() != null) {
+                    // The sort values are converted to another numeric type, whose order and cursors don't map to the points.
                     return false;
                 }
+                this.searchAfterPoint = null;
+                if (context.request().source().searchAfter() != null) {
+                    // Starting the walk right after the cursor skips the pages already returned, but the hits before the cursor are
+                    // then never counted, so this is only done when hits are not tracked.
+                    if (context.trackTotalHitsUpTo() != SearchContext.TRACK_TOTAL_HITS_DISABLED) {
+                        return false;
+                    }
+                    FieldDoc searchAfter = context.searchAfter();
+                    if (searchAfter == null || searchAfter.fields.length != 1) {
+                        return false;
+                    }
+                    byte[] point = encodeSearchAfter(searchAfter.fields[0], primarySortField.order());
+                    if (point == null) {
+                        return false;
+                    }
+                    this.searchAfterPoint = point;
+                }
                 this.setSortOrder(primarySortField.order());
             }
             return context.request().source().terminateAfter() == SearchContext.DEFAULT_TERMINATE_AFTER;
@@ -471,6 +529,54 @@ public class ApproximatePointRangeQuery extends ApproximateQuery {
         return true;
     }
 
+    /**
+     * Encodes the search_after value of the primary sort into the first point that may follow it in the given order. Ties with
+     * the cursor are excluded since the cursor is built with the highest doc id. Only integral encodings are supported,
+     * floating point values would need rounding towards the cursor which is left to the exact query.
+     */
+    private byte[] encodeSearchAfter(Object value, SortOrder order) {
+        byte[] point = new byte[pointRangeQuery.getBytesPerDim()];
+        if (valueToString == LONG_FORMAT && isIntegral(value)) {
+            LongPoint.encodeDimension(((Number) value).longValue(), point, 0);
+        } else if (valueToString == INT_FORMAT && isIntegral(value)) {
+            long longValue = ((Number) value).longValue();
+            if (longValue < Integer.MIN_VALUE || longValue > Integer.MAX_VALUE) {
+                return null;
+            }
+            IntPoint.encodeDimension((int) longValue, point, 0);
+        } else if (valueToString == UNSIGNED_LONG_FORMAT && value instanceof BigInteger bigInteger) {
+            BigIntegerPoint.encodeDimension(bigInteger, point, 0);
+        } else {
+            return null;
+        }
+        return SortOrder.DESC.equals(order) ? decrement(point) : increment(point);
+    }
+
+    private static boolean isIntegral(Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+
+    // points are sortable unsigned big-endian bytes, so adding one to the last byte yields the next representable value
+    private static byte[] increment(byte[] point) {
+        for (int i = point.length - 1; i >= 0; i--) {
+            if (++point[i] != 0) {
+                return point;
+            }
+        }
+        // overflow, nothing can follow the cursor
+        return null;
+    }
+
+    private static byte[] decrement(byte[] point) {
+        for (int i = point.length - 1; i >= 0; i--) {
+            if (point[i]-- != 0) {
+                return point;
+            }
+        }
+        // underflow, nothing can precede the cursor
+        return null;
+    }
+
     @Override
     public final int hashCode() {
         return pointRangeQuery.hashCode();
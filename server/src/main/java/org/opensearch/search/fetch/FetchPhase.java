@@ -65,6 +65,7 @@ import org.opensearch.search.SearchHits;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.fetch.FetchSubPhase.HitContext;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
+import org.opensearch.search.fetch.subphase.FieldFetcher;
 import org.opensearch.search.fetch.subphase.InnerHitsContext;
 import org.opensearch.search.fetch.subphase.InnerHitsPhase;
 import org.opensearch.search.internal.SearchContext;
@@ -149,6 +150,12 @@ public class FetchPhase {
             FetchTimingType.CREATE_STORED_FIELDS_VISITOR,
             () -> createStoredFieldsVisitor(context, storedToRequestedFields)
         );
+        if (breakdown != null) {
+            breakdown.addDebugInfo("load_source", fieldsVisitor != null && sourceRequired(context));
+            if (context.fetchFieldsContext() != null) {
+                breakdown.addDebugInfo("fields_from_doc_values", fetchFieldsFromDocValues(context));
+            }
+        }
 
         FetchContext fetchContext = new FetchContext(context);
 
@@ -339,7 +346,16 @@ public class FetchPhase {
     }
 
     private boolean sourceRequired(SearchContext context) {
-        return context.sourceRequested() || context.fetchFieldsContext() != null;
+        return context.sourceRequested() || (context.fetchFieldsContext() != null && fetchFieldsFromDocValues(context) == false);
+    }
+
+    /**
+     * Whether all the requested {@code fields} are served from doc values, in which case the fields sub-phase doesn't need
+     * the {@code _source} of the hits.
+     */
+    private boolean fetchFieldsFromDocValues(SearchContext context) {
+        return context.mapperService().getIndexSettings().isFetchFieldsFromDocValues()
+            && FieldFetcher.canFetchFromDocValues(context.getQueryShardContext(), context.fetchFieldsContext().fields());
     }
 
     private int findRootDocumentIfNested(SearchContext context, LeafReaderContext subReaderContext, int subDocId) throws IOException {
@@ -50,6 +50,8 @@ import java.util.Set;
 /**
  * A fetch sub-phase for high-level field retrieval. Given a list of fields, it
  * retrieves the field values from _source and returns them as document fields.
+ * If {@link org.opensearch.index.IndexSettings#FETCH_FIELDS_FROM_DOC_VALUES_SETTING}
+ * is enabled, fields that have doc values are read from doc values instead.
  *
  * @opensearch.internal
  */
@@ -63,7 +65,10 @@ public final class FetchFieldsPhase implements FetchSubPhase {
         }
 
         SearchLookup searchLookup = fetchContext.searchLookup();
-        if (fetchContext.mapperService().documentMapper().sourceMapper().enabled() == false) {
+        boolean preferDocValues = fetchContext.getIndexSettings().isFetchFieldsFromDocValues();
+        if (fetchContext.mapperService().documentMapper().sourceMapper().enabled() == false
+            && (preferDocValues == false
+                || FieldFetcher.canFetchFromDocValues(fetchContext.getQueryShardContext(), fetchFieldsContext.fields()) == false)) {
             throw new IllegalArgumentException(
                 "Unable to retrieve the requested [fields] since _source is disabled "
                     + "in the mappings for index ["
@@ -72,7 +77,12 @@ public final class FetchFieldsPhase implements FetchSubPhase {
             );
         }
 
-        FieldFetcher fieldFetcher = FieldFetcher.create(fetchContext.getQueryShardContext(), searchLookup, fetchFieldsContext.fields());
+        FieldFetcher fieldFetcher = FieldFetcher.create(
+            fetchContext.getQueryShardContext(),
+            searchLookup,
+            fetchFieldsContext.fields(),
+            preferDocValues
+        );
         return new FetchSubPhaseProcessor() {
             @Override
             public void setNextReader(LeafReaderContext readerContext) {
@@ -34,7 +34,9 @@ package org.opensearch.search.fetch.subphase;
 
 import org.apache.lucene.index.LeafReaderContext;
 import org.opensearch.common.document.DocumentField;
+import org.opensearch.index.mapper.DocValueFetcher;
 import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.ObjectMapper;
 import org.opensearch.index.mapper.ValueFetcher;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.search.lookup.SearchLookup;
@@ -56,7 +58,19 @@ import java.util.Set;
  */
 public class FieldFetcher {
     public static FieldFetcher create(QueryShardContext context, SearchLookup searchLookup, Collection<FieldAndFormat> fieldAndFormats) {
+        return create(context, searchLookup, fieldAndFormats, false);
+    }
 
+    /**
+     * Creates a field fetcher that, if {@code preferDocValues} is set, reads the fields that
+     * {@link MappedFieldType#canFetchFromDocValues() support it} from doc values rather than from the document's source.
+     */
+    public static FieldFetcher create(
+        QueryShardContext context,
+        SearchLookup searchLookup,
+        Collection<FieldAndFormat> fieldAndFormats,
+        boolean preferDocValues
+    ) {
         List<FieldContext> fieldContexts = new ArrayList<>();
 
         for (FieldAndFormat fieldAndFormat : fieldAndFormats) {
@@ -69,7 +83,12 @@ public class FieldFetcher {
                 if (ft == null || context.isMetadataField(field)) {
                     continue;
                 }
-                ValueFetcher valueFetcher = ft.valueFetcher(context, searchLookup, format);
+                ValueFetcher valueFetcher;
+                if (preferDocValues && canFetchFromDocValues(context, field, ft)) {
+                    valueFetcher = new DocValueFetcher(ft.docValueFormat(format, null), searchLookup.doc().getForField(ft));
+                } else {
+                    valueFetcher = ft.valueFetcher(context, searchLookup, format);
+                }
                 fieldContexts.add(new FieldContext(field, valueFetcher));
             }
         }
@@ -77,6 +96,42 @@ public class FieldFetcher {
         return new FieldFetcher(fieldContexts);
     }
 
+    /**
+     * Returns whether all the fields matching the given patterns can be read from doc values, in which case a field fetcher created
+     * with {@code preferDocValues} doesn't need the document's source.
+     */
+    public static boolean canFetchFromDocValues(QueryShardContext context, Collection<FieldAndFormat> fieldAndFormats) {
+        for (FieldAndFormat fieldAndFormat : fieldAndFormats) {
+            for (String field : context.simpleMatchToIndexNames(fieldAndFormat.field)) {
+                MappedFieldType ft = context.getFieldType(field);
+                if (ft == null || context.isMetadataField(field)) {
+                    continue;
+                }
+                if (canFetchFromDocValues(context, field, ft) == false) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Fields of nested objects are indexed in separate Lucene documents, and copy_to targets hold values that the document's source
+     * doesn't have under their name, so neither are read from doc values.
+     */
+    private static boolean canFetchFromDocValues(QueryShardContext context, String field, MappedFieldType ft) {
+        if (ft.canFetchFromDocValues() == false || context.sourcePath(field).size() > 1) {
+            return false;
+        }
+        for (int i = field.lastIndexOf('.'); i > 0; i = field.lastIndexOf('.', i - 1)) {
+            ObjectMapper objectMapper = context.getObjectMapper(field.substring(0, i));
+            if (objectMapper != null && objectMapper.nested().isNested()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private final List<FieldContext> fieldContexts;
 
     private FieldFetcher(List<FieldContext> fieldContexts) {
@@ -537,7 +537,7 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
      */
     @Override
     protected LeafSlice[] slices(List<LeafReaderContext> leaves) {
-        return slicesInternal(leaves, searchContext.getTargetMaxSliceCount());
+        return slicesInternal(leaves, searchContext.getTargetMaxSliceCount(), searchContext.getMinDocsPerSlice());
     }
 
     public DirectoryReader getDirectoryReader() {
@@ -608,6 +608,11 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
 
     // package-private for testing
     LeafSlice[] slicesInternal(List<LeafReaderContext> leaves, int targetMaxSlice) {
+        return slicesInternal(leaves, targetMaxSlice, 0);
+    }
+
+    // package-private for testing
+    LeafSlice[] slicesInternal(List<LeafReaderContext> leaves, int targetMaxSlice, int minDocsPerSlice) {
         LeafSlice[] leafSlices;
         if (targetMaxSlice == 0) {
             // use the default lucene slice calculation
@@ -615,8 +620,17 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
             logger.debug("Slice count using lucene default [{}]", leafSlices.length);
         } else {
             // use the custom slice calculation based on targetMaxSlice
-            leafSlices = MaxTargetSliceSupplier.getSlices(leaves, targetMaxSlice);
-            logger.debug("Slice count using max target slice supplier [{}]", leafSlices.length);
+            leafSlices = MaxTargetSliceSupplier.getSlices(leaves, targetMaxSlice, minDocsPerSlice);
+            if (logger.isDebugEnabled()) {
+                logger.debug(
+                    "Slice count using max target slice supplier [{}], live docs per slice {}",
+                    leafSlices.length,
+                    Arrays.stream(leafSlices)
+                        .mapToLong(slice -> Arrays.stream(slice.partitions).mapToLong(p -> p.ctx.reader().numDocs()).sum())
+                        .boxed()
+                        .toList()
+                );
+            }
         }
         return leafSlices;
     }
@@ -19,27 +19,45 @@ import java.util.PriorityQueue;
 
 /**
  * Supplier to compute leaf slices based on passed in leaves and max target slice count to limit the number of computed slices. It sorts
- * all the leaves based on document count and then assign each leaf in round-robin fashion to the target slice count slices. Based on
+ * all the leaves based on their cost and then greedily assigns each leaf to the slice with the lowest total cost. Based on
  * experiment results as shared in <a href=https://github.com/opensearch-project/OpenSearch/issues/7358>issue-7358</a>
  * we can see this mechanism helps to achieve better tail/median latency over default lucene slice computation.
+ * <p>
+ * The cost of a leaf is its number of live documents, so that segments with many deleted documents don't weigh as much as segments
+ * of the same size that are fully live. The number of slices can additionally be bounded by a minimum number of live documents per
+ * slice, so that small shards are not spread across threads when the coordination overhead outweighs the gain.
  *
  * @opensearch.internal
  */
 final class MaxTargetSliceSupplier {
 
     static IndexSearcher.LeafSlice[] getSlices(List<LeafReaderContext> leaves, int targetMaxSlice) {
+        return getSlices(leaves, targetMaxSlice, 0);
+    }
+
+    static IndexSearcher.LeafSlice[] getSlices(List<LeafReaderContext> leaves, int targetMaxSlice, int minDocsPerSlice) {
         if (targetMaxSlice <= 0) {
             throw new IllegalArgumentException("MaxTargetSliceSupplier called with unexpected slice count of " + targetMaxSlice);
         }
+        if (minDocsPerSlice < 0) {
+            throw new IllegalArgumentException("MaxTargetSliceSupplier called with unexpected min docs per slice of " + minDocsPerSlice);
+        }
 
         // slice count should not exceed the segment count
         int targetSliceCount = Math.min(targetMaxSlice, leaves.size());
+        if (minDocsPerSlice > 0 && targetSliceCount > 1) {
+            long totalCost = 0;
+            for (LeafReaderContext leaf : leaves) {
+                totalCost += cost(leaf);
+            }
+            targetSliceCount = (int) Math.max(1, Math.min(targetSliceCount, totalCost / minDocsPerSlice));
+        }
 
         // Make a copy so we can sort:
         List<LeafReaderContext> sortedLeaves = new ArrayList<>(leaves);
 
-        // Sort by maxDoc, descending:
-        sortedLeaves.sort(Collections.reverseOrder(Comparator.comparingInt(l -> l.reader().maxDoc())));
+        // Sort by cost, descending:
+        sortedLeaves.sort(Collections.reverseOrder(Comparator.comparingInt(MaxTargetSliceSupplier::cost)));
 
         final List<List<IndexSearcher.LeafReaderContextPartition>> groupedLeaves = new ArrayList<>(targetSliceCount);
         for (int i = 0; i < targetSliceCount; ++i) {
@@ -54,16 +72,20 @@ final class MaxTargetSliceSupplier {
         for (int i = 0; i < sortedLeaves.size(); ++i) {
             minGroup = groupQueue.poll();
             groupedLeaves.get(minGroup.index).add(IndexSearcher.LeafReaderContextPartition.createForEntireSegment(sortedLeaves.get(i)));
-            minGroup.sum += sortedLeaves.get(i).reader().maxDoc();
+            minGroup.sum += cost(sortedLeaves.get(i));
             groupQueue.offer(minGroup);
         }
 
         return groupedLeaves.stream().map(IndexSearcher.LeafSlice::new).toArray(IndexSearcher.LeafSlice[]::new);
     }
 
+    private static int cost(LeafReaderContext leaf) {
+        return leaf.reader().numDocs();
+    }
+
     static class Group implements Comparable<Group> {
         final int index;
-        int sum;
+        long sum;
 
         public Group(int index) {
             this.index = index;
@@ -72,7 +94,7 @@ final class MaxTargetSliceSupplier {
 
         @Override
         public int compareTo(Group other) {
-            return Integer.compare(this.sum, other.sum);
+            return Long.compare(this.sum, other.sum);
         }
     }
 }
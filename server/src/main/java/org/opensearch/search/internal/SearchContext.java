@@ -52,6 +52,7 @@ import org.opensearch.index.query.ParsedQuery;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.similarity.SimilarityService;
+import org.opensearch.indices.IndicesSegmentAggregationCache;
 import org.opensearch.search.RescoreDocIds;
 import org.opensearch.search.SearchExtBuilder;
 import org.opensearch.search.SearchShardTarget;
@@ -126,6 +127,7 @@ public abstract class SearchContext implements Releasable {
     private final AtomicBoolean closed = new AtomicBoolean(false);
     private InnerHitsContext innerHitsContext;
     private volatile boolean searchTimedOut;
+    private IndicesSegmentAggregationCache.RequestScope segmentAggregationCache;
 
     protected SearchContext() {}
 
@@ -143,6 +145,17 @@ public abstract class SearchContext implements Releasable {
         this.searchTimedOut = searchTimedOut;
     }
 
+    /**
+     * Returns the cache of per segment aggregation results for this request, or {@code null} if they should not be cached
+     */
+    public IndicesSegmentAggregationCache.RequestScope segmentAggregationCache() {
+        return segmentAggregationCache;
+    }
+
+    public void segmentAggregationCache(IndicesSegmentAggregationCache.RequestScope segmentAggregationCache) {
+        this.segmentAggregationCache = segmentAggregationCache;
+    }
+
     @Override
     public final void close() {
         if (closed.compareAndSet(false, true)) {
@@ -434,11 +447,12 @@ public abstract class SearchContext implements Releasable {
     }
 
     /**
-     * Returns local bucket count thresholds based on concurrent segment search status
+     * Returns local bucket count thresholds based on concurrent segment search status. Aggregations that are cached per segment are
+     * reduced at the shard level just like concurrent segment search slices, so they use the same thresholds.
      */
     public LocalBucketCountThresholds asLocalBucketCountThresholds(TermsAggregator.BucketCountThresholds bucketCountThresholds) {
         return new LocalBucketCountThresholds(
-            shouldUseConcurrentSearch() ? 0 : bucketCountThresholds.getShardMinDocCount(),
+            shouldUseConcurrentSearch() || segmentAggregationCache != null ? 0 : bucketCountThresholds.getShardMinDocCount(),
             bucketCountThresholds.getShardSize()
         );
     }
@@ -517,6 +531,13 @@ public abstract class SearchContext implements Releasable {
 
     public abstract int getTargetMaxSliceCount();
 
+    /**
+     * Returns the minimum number of live documents per slice for concurrent segment search, 0 if the slice count is not bounded by it
+     */
+    public int getMinDocsPerSlice() {
+        return 0;
+    }
+
     public abstract boolean shouldUseTimeSeriesDescSortOptimization();
 
     public boolean getStarTreeIndexEnabled() {
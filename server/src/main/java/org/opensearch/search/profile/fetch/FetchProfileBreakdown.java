@@ -12,12 +12,31 @@ import org.opensearch.common.annotation.ExperimentalApi;
 import org.opensearch.search.profile.AbstractProfileBreakdown;
 import org.opensearch.search.profile.ProfileMetricUtil;
 
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Collections.unmodifiableMap;
+
 /**
  * A record of timings for the various operations that may happen during fetch execution.
  */
 @ExperimentalApi()
 public class FetchProfileBreakdown extends AbstractProfileBreakdown {
+    private final Map<String, Object> extra = new HashMap<>();
+
     public FetchProfileBreakdown() {
         super(ProfileMetricUtil.getFetchProfileMetrics());
     }
+
+    /**
+     * Add extra debugging information about the fetch phase.
+     */
+    public void addDebugInfo(String key, Object value) {
+        extra.put(key, value);
+    }
+
+    @Override
+    public Map<String, Object> toDebugMap() {
+        return unmodifiableMap(extra);
+    }
 }
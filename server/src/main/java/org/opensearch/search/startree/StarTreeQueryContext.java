@@ -16,14 +16,17 @@ import org.opensearch.index.compositeindex.datacube.Dimension;
 import org.opensearch.index.compositeindex.datacube.Metric;
 import org.opensearch.index.compositeindex.datacube.MetricStat;
 import org.opensearch.index.compositeindex.datacube.NumericDimension;
+import org.opensearch.index.compositeindex.datacube.OrdinalDimension;
 import org.opensearch.index.compositeindex.datacube.startree.utils.date.DateTimeUnitAdapter;
 import org.opensearch.index.compositeindex.datacube.startree.utils.date.DateTimeUnitRounding;
 import org.opensearch.index.mapper.CompositeDataCubeFieldType;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.search.aggregations.AggregatorFactory;
 import org.opensearch.search.aggregations.bucket.histogram.DateHistogramAggregatorFactory;
+import org.opensearch.search.aggregations.bucket.histogram.HistogramAggregatorFactory;
 import org.opensearch.search.aggregations.bucket.range.RangeAggregatorFactory;
 import org.opensearch.search.aggregations.bucket.terms.TermsAggregatorFactory;
+import org.opensearch.search.aggregations.metrics.CardinalityAggregatorFactory;
 import org.opensearch.search.aggregations.metrics.MetricAggregatorFactory;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.startree.filter.StarTreeFilter;
@@ -149,6 +152,22 @@ public class StarTreeQueryContext {
         return false;
     }
 
+    private static boolean validateCardinalityAggregationSupport(
+        CompositeDataCubeFieldType compositeIndexFieldInfo,
+        CardinalityAggregatorFactory cardinalityAggregatorFactory
+    ) {
+        if (cardinalityAggregatorFactory.hasPlainFieldValues() == false
+            || cardinalityAggregatorFactory.getSubFactories().getFactories().length != 0) {
+            return false;
+        }
+        // Distinct values are counted from the ordinals of a keyword dimension
+        return compositeIndexFieldInfo.getDimensions()
+            .stream()
+            .anyMatch(
+                dimension -> cardinalityAggregatorFactory.getField().equals(dimension.getField()) && dimension instanceof OrdinalDimension
+            );
+    }
+
     private static boolean validateKeywordTermsAggregationSupport(
         CompositeDataCubeFieldType compositeIndexFieldInfo,
         AggregatorFactory aggregatorFactory
@@ -189,6 +208,23 @@ public class StarTreeQueryContext {
         return true;
     }
 
+    private static boolean validateHistogramAggregationSupport(
+        CompositeDataCubeFieldType compositeIndexFieldInfo,
+        AggregatorFactory aggregatorFactory
+    ) {
+        if (!(aggregatorFactory instanceof HistogramAggregatorFactory histogramAggregatorFactory)
+            || histogramAggregatorFactory.getField() == null) {
+            return false;
+        }
+
+        // Validate request field is part of dimensions & is a numeric field
+        return compositeIndexFieldInfo.getDimensions()
+            .stream()
+            .anyMatch(
+                dimension -> histogramAggregatorFactory.getField().equals(dimension.getField()) && dimension instanceof NumericDimension
+            );
+    }
+
     private StarTreeFilter getStarTreeFilter(
         SearchContext context,
         QueryBuilder queryBuilder,
@@ -264,6 +300,13 @@ public class StarTreeQueryContext {
                 compositeIndexFieldInfo,
                 rangeAggregatorFactory
             );
+            case HistogramAggregatorFactory histogramAggregatorFactory -> isValid = validateHistogramAggregationSupport(
+                compositeIndexFieldInfo,
+                histogramAggregatorFactory
+            );
+            case CardinalityAggregatorFactory cardinalityAggregatorFactory -> {
+                return validateCardinalityAggregationSupport(compositeIndexFieldInfo, cardinalityAggregatorFactory);
+            }
             case MetricAggregatorFactory metricAggregatorFactory -> {
                 isValid = validateStarTreeMetricSupport(compositeIndexFieldInfo, metricAggregatorFactory);
                 return isValid && metricAggregatorFactory.getSubFactories().getFactories().length == 0;
@@ -85,6 +85,7 @@ import org.opensearch.index.shard.ShardPath;
 import org.opensearch.index.store.StoreStats;
 import org.opensearch.index.translog.RemoteTranslogStats;
 import org.opensearch.indices.NodeIndicesStats;
+import org.opensearch.indices.RefreshSchedulerStats;
 import org.opensearch.ingest.IngestStats;
 import org.opensearch.monitor.fs.FsInfo;
 import org.opensearch.monitor.jvm.JvmStats;
@@ -623,6 +624,14 @@ public class NodeStatsTests extends OpenSearchTestCase {
                 } else {
                     assertEquals(remoteStoreNodeStats, deserializedRemoteStoreNodeStats);
                 }
+
+                RefreshSchedulerStats refreshSchedulerStats = nodeStats.getRefreshSchedulerStats();
+                RefreshSchedulerStats deserializedRefreshSchedulerStats = deserializedNodeStats.getRefreshSchedulerStats();
+                if (refreshSchedulerStats == null) {
+                    assertNull(deserializedRefreshSchedulerStats);
+                } else {
+                    assertEquals(refreshSchedulerStats, deserializedRefreshSchedulerStats);
+                }
             }
         }
     }
@@ -1015,6 +1024,17 @@ public class NodeStatsTests extends OpenSearchTestCase {
             };
         }
 
+        RefreshSchedulerStats refreshSchedulerStats = null;
+        if (frequently()) {
+            refreshSchedulerStats = new RefreshSchedulerStats(
+                randomIntBetween(0, 1000),
+                randomIntBetween(0, 10),
+                randomNonNegativeLong(),
+                randomNonNegativeLong(),
+                randomNonNegativeLong()
+            );
+        }
+
         // TODO: Only remote_store based aspects of NodeIndicesStats are being tested here.
         // It is possible to test other metrics in NodeIndicesStats as well since it extends Writeable now
         return new NodeStats(
@@ -1047,7 +1067,8 @@ public class NodeStatsTests extends OpenSearchTestCase {
             null,
             admissionControlStats,
             nodeCacheStats,
-            remoteStoreNodeStats
+            remoteStoreNodeStats,
+            refreshSchedulerStats
         );
     }
 
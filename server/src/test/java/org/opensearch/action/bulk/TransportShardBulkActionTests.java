@@ -291,6 +291,57 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
         latch.await();
     }
 
+    public void testParseBulkIndexRequestsAhead() throws Exception {
+        IndexShard shard = newStartedShard(
+            true,
+            Settings.builder().put(IndexSettings.INDEX_BULK_PARSE_PARALLELISM_SETTING.getKey(), randomIntBetween(1, 3)).build()
+        );
+
+        BulkItemRequest[] items = new BulkItemRequest[randomIntBetween(2, 10)];
+        for (int i = 0; i < items.length; i++) {
+            DocWriteRequest<IndexRequest> writeRequest = new IndexRequest("index").id("id_" + i)
+                .source(Requests.INDEX_CONTENT_TYPE)
+                .opType(randomFrom(DocWriteRequest.OpType.INDEX, DocWriteRequest.OpType.CREATE));
+            items[i] = new BulkItemRequest(i, writeRequest);
+        }
+
+        // items parsed on the calling thread are handed out once
+        BulkItemParser itemParser = new BulkItemParser(shard, items);
+        itemParser.start(Runnable::run, 1);
+        for (int i = 0; i < items.length; i++) {
+            IndexShard.ParsedSource parsedSource = itemParser.take(i);
+            assertThat(parsedSource, notNullValue());
+            assertThat(parsedSource.source().id(), equalTo("id_" + i));
+            assertNull(itemParser.take(i));
+        }
+
+        BulkShardRequest bulkShardRequest = new BulkShardRequest(shardId, RefreshPolicy.NONE, items);
+        final CountDownLatch latch = new CountDownLatch(1);
+        TransportShardBulkAction.performOnPrimary(
+            bulkShardRequest,
+            shard,
+            null,
+            threadPool::absoluteTimeInMillis,
+            new NoopMappingUpdatePerformer(),
+            listener -> {},
+            ActionListener.runAfter(ActionTestUtils.assertNoFailureListener(result -> {
+                assertThat(result.finalResponseIfSuccessful.getResponses(), arrayWithSize(items.length));
+                for (int i = 0; i < items.length; i++) {
+                    BulkItemResponse response = result.finalResponseIfSuccessful.getResponses()[i];
+                    assertFalse(response.isFailed());
+                    assertThat(response.getId(), equalTo("id_" + i));
+                    assertThat(response.getResponse().getResult(), equalTo(DocWriteResponse.Result.CREATED));
+                }
+            }), latch::countDown),
+            threadPool,
+            Names.WRITE
+        );
+        latch.await();
+
+        assertDocCount(shard, items.length);
+        closeShards(shard);
+    }
+
     public void testExecuteBulkIndexRequestWithMappingUpdates() throws Exception {
 
         BulkItemRequest[] items = new BulkItemRequest[1];
@@ -59,6 +59,7 @@ import org.opensearch.core.common.breaker.CircuitBreakingException;
 import org.opensearch.core.common.breaker.NoopCircuitBreaker;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.core.common.text.Text;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.SearchHit;
@@ -828,6 +829,87 @@ public class SearchPhaseControllerTests extends OpenSearchTestCase {
         assertNull(reduce.sortedTopDocs.collapseValues);
     }
 
+    public void testConsumerPartialReduceOnBufferSize() throws Exception {
+        int expectedNumResults = randomIntBetween(2, 20);
+        SearchRequest request = randomSearchRequest();
+        request.source(new SearchSourceBuilder().aggregation(AggregationBuilders.max("test")).size(0));
+        // the batched reduce size alone would never trigger a partial reduce
+        request.setBatchedReduceSize(expectedNumResults + 1);
+        QueryPhaseResultConsumer consumer = searchPhaseController.newSearchPhaseResults(
+            fixedExecutor,
+            new NoopCircuitBreaker(CircuitBreaker.REQUEST),
+            SearchProgressListener.NOOP,
+            request,
+            expectedNumResults,
+            new ByteSizeValue(1),
+            exc -> {}
+        );
+        int max = 0;
+        CountDownLatch latch = new CountDownLatch(expectedNumResults);
+        for (int i = 0; i < expectedNumResults; i++) {
+            int number = randomIntBetween(1, 1000);
+            max = Math.max(max, number);
+            QuerySearchResult result = new QuerySearchResult(
+                new ShardSearchContextId("", i),
+                new SearchShardTarget("node", new ShardId("a", "b", i), null, OriginalIndices.NONE),
+                null
+            );
+            result.topDocs(
+                new TopDocsAndMaxScore(new TopDocs(new TotalHits(1, TotalHits.Relation.EQUAL_TO), new ScoreDoc[0]), Float.NaN),
+                new DocValueFormat[0]
+            );
+            result.aggregations(InternalAggregations.from(singletonList(new InternalMax("test", number, DocValueFormat.RAW, emptyMap()))));
+            result.setShardIndex(i);
+            result.size(0);
+            consumer.consumeResult(result, latch::countDown);
+        }
+        latch.await();
+
+        // every buffered result is over the threshold so each new result reduces the previous one
+        assertEquals(expectedNumResults - 1, consumer.getNumReducePhases());
+        SearchPhaseController.ReducedQueryPhase reduce = consumer.reduce();
+        InternalMax internalMax = (InternalMax) reduce.aggregations.asList().get(0);
+        assertEquals(max, internalMax.getValue(), 0.0D);
+        assertEquals(expectedNumResults, reduce.totalHits.value());
+    }
+
+    public void testConsumerPartialReduceOnBufferSizeDisabled() throws Exception {
+        int expectedNumResults = randomIntBetween(2, 20);
+        SearchRequest request = randomSearchRequest();
+        request.source(new SearchSourceBuilder().aggregation(AggregationBuilders.max("test")).size(0));
+        request.setBatchedReduceSize(expectedNumResults + 1);
+        QueryPhaseResultConsumer consumer = searchPhaseController.newSearchPhaseResults(
+            fixedExecutor,
+            new NoopCircuitBreaker(CircuitBreaker.REQUEST),
+            SearchProgressListener.NOOP,
+            request,
+            expectedNumResults,
+            ByteSizeValue.ZERO,
+            exc -> {}
+        );
+        CountDownLatch latch = new CountDownLatch(expectedNumResults);
+        for (int i = 0; i < expectedNumResults; i++) {
+            QuerySearchResult result = new QuerySearchResult(
+                new ShardSearchContextId("", i),
+                new SearchShardTarget("node", new ShardId("a", "b", i), null, OriginalIndices.NONE),
+                null
+            );
+            result.topDocs(
+                new TopDocsAndMaxScore(new TopDocs(new TotalHits(1, TotalHits.Relation.EQUAL_TO), new ScoreDoc[0]), Float.NaN),
+                new DocValueFormat[0]
+            );
+            result.aggregations(InternalAggregations.from(singletonList(new InternalMax("test", i, DocValueFormat.RAW, emptyMap()))));
+            result.setShardIndex(i);
+            result.size(0);
+            consumer.consumeResult(result, latch::countDown);
+        }
+        latch.await();
+
+        assertEquals(0, consumer.getNumReducePhases());
+        SearchPhaseController.ReducedQueryPhase reduce = consumer.reduce();
+        assertEquals(expectedNumResults - 1, ((InternalMax) reduce.aggregations.asList().get(0)).getValue(), 0.0D);
+    }
+
     public void testConsumerOnlyAggs() throws Exception {
         int expectedNumResults = randomIntBetween(1, 100);
         int bufferSize = randomIntBetween(2, 200);
@@ -452,6 +452,23 @@ public class OperationRoutingTests extends OpenSearchTestCase {
         }
     }
 
+    public void testIndexShardId() {
+        final int numShards = randomIntBetween(1, 10);
+        ClusterState state = ClusterStateCreationUtils.stateWithAssignedPrimariesAndReplicas(new String[] { "test" }, numShards, 1);
+        OperationRouting opRouting = new OperationRouting(
+            Settings.EMPTY,
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS)
+        );
+        IndexMetadata indexMetadata = state.metadata().index("test");
+        for (int i = 0; i < 100; i++) {
+            String id = randomAlphaOfLength(10);
+            String routing = randomBoolean() ? null : randomAlphaOfLength(5);
+            ShardId shardId = opRouting.indexShardId(state, indexMetadata, id, routing);
+            assertEquals(opRouting.indexShards(state, "test", id, routing).shardId(), shardId);
+            assertSame(state.getRoutingTable().shardRoutingTable(shardId).shardId(), shardId);
+        }
+    }
+
     public void testFairSessionIdPreferences() throws InterruptedException, IOException {
         // Ensure that a user session is re-routed back to same nodes for
         // subsequent searches and that the nodes are selected fairly i.e.
@@ -13,6 +13,7 @@ import org.opensearch.action.LatchedActionListener;
 import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.common.blobstore.stream.read.ReadContext;
 import org.opensearch.common.io.InputStreamContainer;
+import org.opensearch.common.util.CancellableThreads;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.TestThreadPool;
@@ -31,6 +32,8 @@ import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.UnaryOperator;
 
 import static org.opensearch.common.blobstore.stream.read.listener.ListenerTestUtils.CountingCompletionListener;
@@ -133,6 +136,37 @@ public class ReadContextListenerTests extends OpenSearchTestCase {
         assertFalse(Files.exists(readContextListener.getTmpFileLocation()));
     }
 
+    public void testReadContextListenerCancelled() throws Exception {
+        Path fileLocation = path.resolve(UUID.randomUUID().toString());
+        List<ReadContext.StreamPartCreator> blobPartStreams = initializeBlobPartStreams();
+        CountDownLatch countDownLatch = new CountDownLatch(1);
+        PlainActionFuture<String> future = new PlainActionFuture<>();
+        ActionListener<String> completionListener = new LatchedActionListener<>(future, countDownLatch);
+        // the check runs before each part is written and once more before the temp file is moved
+        final int cancelledAtCheck = randomIntBetween(0, NUMBER_OF_PARTS);
+        final AtomicInteger checks = new AtomicInteger();
+        ReadContextListener readContextListener = new ReadContextListener(
+            TEST_SEGMENT_FILE,
+            fileLocation,
+            completionListener,
+            threadPool,
+            UnaryOperator.identity(),
+            MAX_CONCURRENT_STREAMS,
+            () -> {
+                if (checks.getAndIncrement() >= cancelledAtCheck) {
+                    throw new CancellableThreads.ExecutionCancelledException("cancelled");
+                }
+            }
+        );
+        ReadContext readContext = new ReadContext.Builder((long) PART_SIZE * NUMBER_OF_PARTS, blobPartStreams).build();
+        readContextListener.onResponse(readContext);
+
+        countDownLatch.await();
+        expectThrows(ExecutionException.class, future::get);
+        assertFalse(Files.exists(fileLocation));
+        assertFalse(Files.exists(readContextListener.getTmpFileLocation()));
+    }
+
     public void testReadContextListenerException() {
         Path fileLocation = path.resolve(UUID.randomUUID().toString());
         CountingCompletionListener<String> listener = new CountingCompletionListener<String>();
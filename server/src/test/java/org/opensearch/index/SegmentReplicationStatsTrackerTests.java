@@ -8,13 +8,20 @@
 
 package org.opensearch.index;
 
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.shard.IndexShard;
 import org.opensearch.indices.IndicesService;
 import org.opensearch.test.OpenSearchTestCase;
 
+import java.io.IOException;
+import java.util.Collections;
+
 import org.mockito.Mockito;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class SegmentReplicationStatsTrackerTests extends OpenSearchTestCase {
 
@@ -32,4 +39,30 @@ public class SegmentReplicationStatsTrackerTests extends OpenSearchTestCase {
         assertEquals(segmentReplicationStatsTracker.getTotalRejectionStats().getTotalRejectionCount(), 1L);
     }
 
+    public void testMergedSegmentPreCopyStats() throws IOException {
+        SegmentReplicationStatsTracker segmentReplicationStatsTracker = new SegmentReplicationStatsTracker(indicesService);
+        final ShardId shardId = new ShardId("index", "_na_", 0);
+        final MergedSegmentPreCopyStats preCopyStats = new MergedSegmentPreCopyStats(
+            randomNonNegativeLong(),
+            randomNonNegativeLong(),
+            randomNonNegativeLong()
+        );
+        final IndexShard indexShard = mock(IndexShard.class);
+        when(indexShard.shardId()).thenReturn(shardId);
+        when(indexShard.getReplicationStatsForTrackedReplicas()).thenReturn(Collections.emptySet());
+        when(indexShard.mergedSegmentPreCopyStats()).thenReturn(preCopyStats);
+
+        final SegmentReplicationPerGroupStats groupStats = segmentReplicationStatsTracker.getStatsForShard(indexShard);
+        assertEquals(preCopyStats, groupStats.getMergedSegmentPreCopyStats());
+
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            groupStats.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                final SegmentReplicationPerGroupStats deserialized = new SegmentReplicationPerGroupStats(in);
+                assertEquals(shardId, deserialized.getShardId());
+                assertEquals(preCopyStats, deserialized.getMergedSegmentPreCopyStats());
+            }
+        }
+    }
+
 }
@@ -60,6 +60,30 @@ public class BloomFilterTests extends OpenSearchTestCase {
         assertEquals(FuzzySet.SetType.BLOOM_FILTER_V1, bloomFilter.setType());
     }
 
+    public void testConcurrentBloomFilterIsReadableAsBloomFilter() throws IOException {
+        int elementCount = randomIntBetween(1, 100);
+        long maxItems = elementCount * 10L;
+        ConcurrentBloomFilter filter = new ConcurrentBloomFilter(maxItems, getFpp());
+        Iterator<BytesRef> idIterator = idIterator(elementCount);
+        while (idIterator.hasNext()) {
+            filter.add(idIterator.next());
+        }
+        assertEquals(false, filter.isSaturated());
+        byte[] buffer = new byte[(int) maxItems * 5];
+        ByteArrayDataOutput out = new ByteArrayDataOutput(buffer);
+        out.writeString(filter.setType().getSetName());
+        filter.writeTo(out);
+
+        FuzzySet reconstructedFilter = FuzzySetFactory.deserializeFuzzySet(new ByteArrayIndexInput("filter", buffer));
+        assertEquals(FuzzySet.SetType.BLOOM_FILTER_V1, reconstructedFilter.setType());
+        idIterator = idIterator(elementCount);
+        while (idIterator.hasNext()) {
+            BytesRef element = idIterator.next();
+            assertEquals(FuzzySet.Result.MAYBE, reconstructedFilter.contains(element));
+            assertEquals(FuzzySet.Result.MAYBE, filter.contains(element));
+        }
+    }
+
     private double getFpp() {
         return randomDoubleBetween(0.01, 0.50, true);
     }
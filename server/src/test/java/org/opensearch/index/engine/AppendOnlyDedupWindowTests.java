@@ -0,0 +1,157 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.breaker.NoopCircuitBreaker;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.index.codec.fuzzy.ConcurrentBloomFilter;
+import org.opensearch.indices.breaker.HierarchyCircuitBreakerService;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+public class AppendOnlyDedupWindowTests extends OpenSearchTestCase {
+
+    private static final long WINDOW = TimeUnit.SECONDS.toNanos(10);
+
+    public void testUntrustedUntilEngineOpenForWindow() {
+        AtomicLong now = new AtomicLong(randomLong());
+        AppendOnlyDedupWindow window = new AppendOnlyDedupWindow(WINDOW, 1000, now::get);
+        // ids indexed before the engine was opened are unknown
+        assertTrue(window.mayContain(new BytesRef("1")));
+        now.addAndGet(WINDOW - 1);
+        assertTrue(window.mayContain(new BytesRef("1")));
+        now.addAndGet(1);
+        assertFalse(window.mayContain(new BytesRef("1")));
+
+        window.add(new BytesRef("1"));
+        assertTrue(window.mayContain(new BytesRef("1")));
+        assertFalse(window.mayContain(new BytesRef("2")));
+    }
+
+    public void testIdsExpireAfterWindow() {
+        AtomicLong now = new AtomicLong();
+        AppendOnlyDedupWindow window = new AppendOnlyDedupWindow(WINDOW, 1000, now::get);
+        now.addAndGet(WINDOW);
+        window.add(new BytesRef("1"));
+        now.addAndGet(WINDOW);
+        assertTrue(window.mayContain(new BytesRef("1")));
+
+        // the partition of the id is rotated out once the window moved past it
+        now.addAndGet(1);
+        window.add(new BytesRef("2"));
+        assertEquals(2, window.partitionCount());
+        now.addAndGet(WINDOW + 1);
+        window.add(new BytesRef("3"));
+        assertEquals(2, window.partitionCount());
+        assertFalse(window.mayContain(new BytesRef("1")));
+        assertTrue(window.mayContain(new BytesRef("2")));
+        assertTrue(window.mayContain(new BytesRef("3")));
+    }
+
+    public void testFullPartitionsAreBounded() {
+        AtomicLong now = new AtomicLong();
+        int idsPerPartition = randomIntBetween(1, 10);
+        AppendOnlyDedupWindow window = new AppendOnlyDedupWindow(WINDOW, idsPerPartition, now::get);
+        now.addAndGet(WINDOW);
+        int ids = idsPerPartition * AppendOnlyDedupWindow.MAX_PARTITIONS;
+        for (int i = 0; i < ids; i++) {
+            window.add(new BytesRef(Integer.toString(i)));
+        }
+        assertEquals(AppendOnlyDedupWindow.MAX_PARTITIONS, window.partitionCount());
+        for (int i = 0; i < ids; i++) {
+            assertTrue(window.mayContain(new BytesRef(Integer.toString(i))));
+        }
+
+        // dropping a partition of the window distrusts the filters until the window moved past its ids
+        window.add(new BytesRef("new"));
+        assertEquals(AppendOnlyDedupWindow.MAX_PARTITIONS, window.partitionCount());
+        assertTrue(window.mayContain(new BytesRef("unknown")));
+        now.addAndGet(WINDOW + 1);
+        // the filters are full, allow for false positives
+        assertTrue(IntStream.range(0, 10).anyMatch(i -> window.mayContain(new BytesRef("unknown_" + i)) == false));
+    }
+
+    public void testPartitionsAreSizedFromIndexingRate() {
+        AtomicLong now = new AtomicLong();
+        CircuitBreaker breaker = new NoopCircuitBreaker(CircuitBreaker.INDEXING);
+        AppendOnlyDedupWindow window = new AppendOnlyDedupWindow(WINDOW, 16, 4096, breaker, now::get);
+        assertEquals(filterBytes(16), window.ramBytesUsed());
+        // 16 ids in a quarter of the window
+        now.addAndGet(WINDOW / 4);
+        for (int i = 0; i < 16; i++) {
+            window.add(new BytesRef(Integer.toString(i)));
+        }
+        window.add(new BytesRef("16"));
+        assertEquals(2, window.partitionCount());
+        assertEquals(filterBytes(16) + filterBytes(64), window.ramBytesUsed());
+
+        // filling a partition at once asks for the largest filter
+        for (int i = 17; i < 17 + 63; i++) {
+            window.add(new BytesRef(Integer.toString(i)));
+        }
+        now.addAndGet(1);
+        window.add(new BytesRef("last"));
+        assertEquals(3, window.partitionCount());
+        assertEquals(filterBytes(16) + filterBytes(64) + filterBytes(4096), window.ramBytesUsed());
+    }
+
+    public void testFiltersAreChargedToBreaker() {
+        final long filterBytes = filterBytes(16);
+        final HierarchyCircuitBreakerService breakerService = new HierarchyCircuitBreakerService(
+            Settings.builder()
+                .put(HierarchyCircuitBreakerService.USE_REAL_MEMORY_USAGE_SETTING.getKey(), false)
+                .put(HierarchyCircuitBreakerService.INDEXING_CIRCUIT_BREAKER_LIMIT_SETTING.getKey(), 2 * filterBytes, ByteSizeUnit.BYTES)
+                .build(),
+            Collections.emptyList(),
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS)
+        );
+        final CircuitBreaker breaker = breakerService.getBreaker(CircuitBreaker.INDEXING);
+        AtomicLong now = new AtomicLong();
+        AppendOnlyDedupWindow window = new AppendOnlyDedupWindow(WINDOW, 16, 16, breaker, now::get);
+        assertEquals(filterBytes, breaker.getUsed());
+        now.addAndGet(WINDOW);
+        for (int i = 0; i < 32; i++) {
+            window.add(new BytesRef(Integer.toString(i)));
+            assertEquals(window.ramBytesUsed(), breaker.getUsed());
+        }
+        assertEquals(2, window.partitionCount());
+
+        // the breaker refuses a third filter, ids keep going into the current one
+        for (int i = 32; i < 64; i++) {
+            window.add(new BytesRef(Integer.toString(i)));
+        }
+        assertEquals(2, window.partitionCount());
+        assertEquals(2 * filterBytes, breaker.getUsed());
+        for (int i = 0; i < 64; i++) {
+            assertTrue(window.mayContain(new BytesRef(Integer.toString(i))));
+        }
+
+        // expired partitions are released, which makes room for a new filter
+        now.addAndGet(WINDOW + 1);
+        window.add(new BytesRef("new"));
+        assertEquals(2, window.partitionCount());
+        assertEquals(2 * filterBytes, breaker.getUsed());
+        assertEquals(window.ramBytesUsed(), breaker.getUsed());
+
+        window.close();
+        assertEquals(0, breaker.getUsed());
+    }
+
+    private static long filterBytes(int maxIds) {
+        return ConcurrentBloomFilter.ramBytesUsed(maxIds, AppendOnlyDedupWindow.FALSE_POSITIVE_PROBABILITY);
+    }
+}
@@ -320,6 +320,37 @@ public class InternalEngineTests extends EngineTestCase {
         }
     }
 
+    public void testPagedVersionMap() throws IOException {
+        final Settings settings = Settings.builder()
+            .put(defaultSettings.getSettings())
+            .put(IndexSettings.INDEX_PAGED_VERSION_MAP_ENABLED_SETTING.getKey(), true)
+            .build();
+        final IndexMetadata indexMetadata = IndexMetadata.builder(defaultSettings.getIndexMetadata()).settings(settings).build();
+        final IndexSettings indexSettings = IndexSettingsModule.newIndexSettings(indexMetadata);
+        try (
+            Store store = createStore();
+            InternalEngine engine = createEngine(config(indexSettings, store, createTempDir(), newMergePolicy(), null, null, () -> 0L))
+        ) {
+            final int numDocs = randomIntBetween(1, 50);
+            for (int i = 0; i < numDocs; i++) {
+                final ParsedDocument doc = testParsedDocument(Integer.toString(i), null, testDocument(), B_1, null);
+                engine.index(indexForDoc(doc));
+                // updates require the version map
+                assertThat(engine.index(indexForDoc(doc)).getVersion(), equalTo(2L));
+            }
+            final Map<BytesRef, VersionValue> versionMap = engine.getVersionMap();
+            assertThat(versionMap.size(), equalTo(numDocs));
+            for (VersionValue value : versionMap.values()) {
+                assertThat(value.version, equalTo(2L));
+            }
+            engine.refresh("test");
+            assertThat(engine.getVersionMap().size(), equalTo(0));
+            final ParsedDocument doc = testParsedDocument("0", null, testDocument(), B_1, null);
+            assertThat(engine.index(indexForDoc(doc)).getVersion(), equalTo(3L));
+            assertThat(engine.getVersionMap().get(newUid(doc).bytes()).version, equalTo(3L));
+        }
+    }
+
     public void testVerboseSegments() throws Exception {
         try (Store store = createStore(); Engine engine = createEngine(defaultSettings, store, createTempDir(), NoMergePolicy.INSTANCE)) {
             List<Segment> segments = engine.segments(true);
@@ -6849,6 +6880,49 @@ public class InternalEngineTests extends EngineTestCase {
         }
     }
 
+    public void testDedupWindow() throws Exception {
+        final AtomicLong clock = new AtomicLong(0);
+        threadPool = spy(threadPool);
+        when(threadPool.relativeTimeInNanos()).thenAnswer(invocation -> clock.get());
+        final TimeValue window = TimeValue.timeValueSeconds(between(1, 60));
+        final Settings.Builder settings = Settings.builder()
+            .put(defaultSettings.getSettings())
+            .put(IndexSettings.INDEX_DEDUP_WINDOW_SETTING.getKey(), window.getStringRep());
+        final IndexMetadata indexMetadata = IndexMetadata.builder(defaultSettings.getIndexMetadata()).settings(settings).build();
+        final IndexSettings indexSettings = IndexSettingsModule.newIndexSettings(indexMetadata);
+        try (
+            Store store = createStore();
+            InternalEngine engine = createEngine(config(indexSettings, store, createTempDir(), newMergePolicy(), null))
+        ) {
+            final ParsedDocument oldDoc = testParsedDocument("old", null, testDocument(), B_1, null);
+            final ParsedDocument newDoc = testParsedDocument("new", null, testDocument(), B_1, null);
+            assertTrue(engine.index(indexForDoc(oldDoc)).isCreated());
+            clock.set(window.nanos() + 1);
+
+            // retries within the window are looked up and update the document
+            Engine.IndexResult result = engine.index(indexForDoc(newDoc));
+            assertThat(result.getVersion(), equalTo(1L));
+            assertTrue(result.isCreated());
+            clock.addAndGet(randomLongBetween(0, window.nanos()));
+            result = engine.index(indexForDoc(newDoc));
+            assertThat(result.getVersion(), equalTo(2L));
+            assertFalse(result.isCreated());
+
+            // creating a document that was indexed before the window still conflicts
+            result = engine.index(new Engine.Index(newUid(oldDoc), primaryTerm.get(), oldDoc, Versions.MATCH_DELETED));
+            assertThat(result.getFailure(), instanceOf(VersionConflictEngineException.class));
+
+            // overwriting a document that was indexed before the window restarts its version
+            result = engine.index(indexForDoc(oldDoc));
+            assertThat(result.getVersion(), equalTo(1L));
+            assertTrue(result.isCreated());
+            engine.refresh("test");
+            try (Engine.Searcher searcher = engine.acquireSearcher("test")) {
+                assertThat(searcher.getIndexReader().numDocs(), equalTo(2));
+            }
+        }
+    }
+
     public void testTrimUnsafeCommits() throws Exception {
         final AtomicLong globalCheckpoint = new AtomicLong(SequenceNumbers.NO_OPS_PERFORMED);
         final int maxSeqNo = 40;
@@ -37,11 +37,17 @@ import org.apache.lucene.tests.util.TestUtil;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.BytesRefBuilder;
 import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.index.translog.Translog;
+import org.opensearch.indices.breaker.HierarchyCircuitBreakerService;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -120,10 +126,10 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
         LiveVersionMap map = new LiveVersionMap();
         try (Releasable r = map.acquireLock(uid("test"))) {
             Translog.Location tlogLoc = randomTranslogLocation();
-            map.putIndexUnderLock(uid("test"), new IndexVersionValue(tlogLoc, 1, 1, 1));
-            assertEquals(new IndexVersionValue(tlogLoc, 1, 1, 1), map.getUnderLock(uid("test")));
+            map.putIndexUnderLock(uid("test"), IndexVersionValue.of(tlogLoc, 1, 1, 1));
+            assertEquals(IndexVersionValue.of(tlogLoc, 1, 1, 1), map.getUnderLock(uid("test")));
             map.beforeRefresh();
-            assertEquals(new IndexVersionValue(tlogLoc, 1, 1, 1), map.getUnderLock(uid("test")));
+            assertEquals(IndexVersionValue.of(tlogLoc, 1, 1, 1), map.getUnderLock(uid("test")));
             map.afterRefresh(randomBoolean());
             assertNull(map.getUnderLock(uid("test")));
 
@@ -140,6 +146,53 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
         }
     }
 
+    public void testPagedMapChargesIndexingBreaker() throws IOException {
+        final HierarchyCircuitBreakerService breakerService = new HierarchyCircuitBreakerService(
+            Settings.builder().put(HierarchyCircuitBreakerService.USE_REAL_MEMORY_USAGE_SETTING.getKey(), false).build(),
+            Collections.emptyList(),
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS)
+        );
+        final CircuitBreaker breaker = breakerService.getBreaker(CircuitBreaker.INDEXING);
+        LiveVersionMap map = new LiveVersionMap(new BigArrays(null, breakerService, CircuitBreaker.INDEXING));
+        final long emptyBytes = breaker.getUsed();
+        assertThat(emptyBytes, greaterThan(0L));
+        assertEquals(emptyBytes, map.ramBytesUsedForRefresh());
+
+        final Map<BytesRef, IndexVersionValue> values = new HashMap<>();
+        final int numDocs = randomIntBetween(100, 1000);
+        for (int i = 0; i < numDocs; i++) {
+            final BytesRef uid = uid(TestUtil.randomSimpleString(random(), 10, 20));
+            final IndexVersionValue value = randomIndexVersionValue();
+            try (Releasable r = map.acquireLock(uid)) {
+                map.putIndexUnderLock(uid, value);
+            }
+            values.put(uid, value);
+        }
+        assertEquals(values, map.getAllCurrent());
+        assertThat(breaker.getUsed(), greaterThan(emptyBytes));
+        assertEquals(breaker.getUsed(), map.ramBytesUsedForRefresh());
+
+        map.beforeRefresh();
+        assertEquals(breaker.getUsed(), map.getRefreshingBytes() + map.ramBytesUsedForRefresh());
+        for (Map.Entry<BytesRef, IndexVersionValue> entry : values.entrySet()) {
+            try (Releasable r = map.acquireLock(entry.getKey())) {
+                assertEquals(entry.getValue(), map.getUnderLock(entry.getKey()));
+            }
+        }
+        map.afterRefresh(randomBoolean());
+        // the pages of the refreshed map are released
+        assertEquals(emptyBytes, breaker.getUsed());
+        assertEquals(0, map.getRefreshingBytes());
+        for (BytesRef uid : values.keySet()) {
+            try (Releasable r = map.acquireLock(uid)) {
+                assertNull(map.getUnderLock(uid));
+            }
+        }
+
+        map.clear();
+        assertEquals(0, breaker.getUsed());
+    }
+
     public void testConcurrently() throws IOException, InterruptedException {
         HashSet<BytesRef> keySet = new HashSet<>();
         int numKeys = randomIntBetween(50, 200);
@@ -175,7 +228,7 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
                         try (Releasable r = map.acquireLock(bytesRef)) {
                             VersionValue versionValue = values.computeIfAbsent(
                                 bytesRef,
-                                v -> new IndexVersionValue(randomTranslogLocation(), randomLong(), maxSeqNo.incrementAndGet(), randomLong())
+                                v -> IndexVersionValue.of(randomTranslogLocation(), randomLong(), maxSeqNo.incrementAndGet(), randomLong())
                             );
                             boolean isDelete = versionValue instanceof DeleteVersionValue;
                             if (isDelete) {
@@ -192,7 +245,7 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
                                 deletes.put(bytesRef, (DeleteVersionValue) versionValue);
                                 map.putDeleteUnderLock(bytesRef, (DeleteVersionValue) versionValue);
                             } else {
-                                versionValue = new IndexVersionValue(
+                                versionValue = IndexVersionValue.of(
                                     randomTranslogLocation(),
                                     versionValue.version + 1,
                                     maxSeqNo.incrementAndGet(),
@@ -355,7 +408,7 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
         BytesRef uid = uid("1");
         VersionValue initialVersion;
         try (Releasable ignore = map.acquireLock(uid)) {
-            initialVersion = new IndexVersionValue(randomTranslogLocation(), version.incrementAndGet(), 1, 1);
+            initialVersion = IndexVersionValue.of(randomTranslogLocation(), version.incrementAndGet(), 1, 1);
             map.putIndexUnderLock(uid, (IndexVersionValue) initialVersion);
         }
         Thread t = new Thread(() -> {
@@ -372,7 +425,7 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
                             underLock = nextVersionValue;
                         }
                         if (underLock.isDelete() || randomBoolean()) {
-                            nextVersionValue = new IndexVersionValue(randomTranslogLocation(), version.incrementAndGet(), 1, 1);
+                            nextVersionValue = IndexVersionValue.of(randomTranslogLocation(), version.incrementAndGet(), 1, 1);
                             map.putIndexUnderLock(uid, (IndexVersionValue) nextVersionValue);
                         } else {
                             nextVersionValue = new DeleteVersionValue(version.incrementAndGet(), 1, 1, 0);
@@ -441,7 +494,7 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
                     versionMap.putDeleteUnderLock(uid, (DeleteVersionValue) latestVersion);
                     assertThat(versionMap.getUnderLock(uid), equalTo(latestVersion));
                 } else if (randomBoolean()) {
-                    latestVersion = new IndexVersionValue(randomTranslogLocation(), randomNonNegativeLong(), randomLong(), randomLong());
+                    latestVersion = IndexVersionValue.of(randomTranslogLocation(), randomNonNegativeLong(), randomLong(), randomLong());
                     versionMap.maybePutIndexUnderLock(uid, (IndexVersionValue) latestVersion);
                     if (versionMap.isSafeAccessRequired()) {
                         assertThat(versionMap.getUnderLock(uid), equalTo(latestVersion));
@@ -457,7 +510,7 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
     }
 
     IndexVersionValue randomIndexVersionValue() {
-        return new IndexVersionValue(randomTranslogLocation(), randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong());
+        return IndexVersionValue.of(randomTranslogLocation(), randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong());
     }
 
     Translog.Location randomTranslogLocation() {
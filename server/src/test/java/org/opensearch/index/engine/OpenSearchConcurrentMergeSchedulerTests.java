@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LogDocMergePolicy;
+import org.apache.lucene.store.Directory;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.merge.MergeStats;
+import org.opensearch.indices.NodeMergeArbiter;
+import org.opensearch.test.IndexSettingsModule;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+
+public class OpenSearchConcurrentMergeSchedulerTests extends OpenSearchTestCase {
+
+    public void testNodeMergeSlotWaitIsReportedAsThrottledTime() throws Exception {
+        final ShardId shardId = new ShardId("index", "_na_", 0);
+        final NodeMergeArbiter arbiter = new NodeMergeArbiter(
+            Settings.builder().put(NodeMergeArbiter.MAX_CONCURRENT_MERGES_SETTING.getKey(), 1).build(),
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
+            id -> null
+        );
+        final OpenSearchConcurrentMergeScheduler scheduler = new OpenSearchConcurrentMergeScheduler(
+            shardId,
+            IndexSettingsModule.newIndexSettings("index", Settings.EMPTY),
+            arbiter
+        );
+        final IndexWriterConfig config = new IndexWriterConfig().setMergeScheduler(scheduler).setMergePolicy(new LogDocMergePolicy());
+        try (Directory directory = newDirectory(); IndexWriter writer = new IndexWriter(directory, config)) {
+            for (int i = 0; i < 2; i++) {
+                final Document document = new Document();
+                document.add(new StringField("id", Integer.toString(i), Field.Store.NO));
+                writer.addDocument(document);
+                writer.commit();
+            }
+
+            // the only node merge slot is taken, so the merge waits for it
+            final Releasable slot = arbiter.acquire(new ShardId("other", "_na_", 0), () -> false);
+            final AtomicReference<Exception> failure = new AtomicReference<>();
+            final Thread forceMerge = new Thread(() -> {
+                try {
+                    writer.forceMerge(1);
+                } catch (Exception e) {
+                    failure.set(e);
+                }
+            });
+            forceMerge.start();
+            assertBusy(() -> assertEquals(1, scheduler.onGoingMerges().size()));
+            final long waitStartNanos = System.nanoTime();
+            Thread.sleep(randomIntBetween(200, 500));
+            final long waitedMillis = TimeValue.nsecToMSec(System.nanoTime() - waitStartNanos);
+            slot.close();
+            forceMerge.join();
+            assertNull(failure.get());
+
+            final MergeStats stats = scheduler.stats();
+            assertEquals(1, stats.getTotal());
+            // the merge may have started waiting slightly after it was seen
+            assertThat(stats.getTotalThrottledTimeInMillis(), greaterThanOrEqualTo(waitedMillis / 2));
+            assertThat(stats.getTotalTimeInMillis(), lessThan(stats.getTotalThrottledTimeInMillis()));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.tests.util.TestUtil;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.index.translog.Translog;
+import org.opensearch.indices.breaker.HierarchyCircuitBreakerService;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class PagedVersionMapTests extends OpenSearchTestCase {
+
+    private static HierarchyCircuitBreakerService newBreakerService() {
+        return new HierarchyCircuitBreakerService(
+            Settings.builder().put(HierarchyCircuitBreakerService.USE_REAL_MEMORY_USAGE_SETTING.getKey(), false).build(),
+            Collections.emptyList(),
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS)
+        );
+    }
+
+    public void testRandomOperations() {
+        final HierarchyCircuitBreakerService breakerService = newBreakerService();
+        final CircuitBreaker breaker = breakerService.getBreaker(CircuitBreaker.INDEXING);
+        final Map<BytesRef, VersionValue> expected = new HashMap<>();
+        final List<BytesRef> uids = new ArrayList<>();
+        final int numUids = randomIntBetween(1, 2000);
+        for (int i = 0; i < numUids; i++) {
+            uids.add(new BytesRef(TestUtil.randomSimpleString(random(), 1, 30)));
+        }
+        try (PagedVersionMap map = new PagedVersionMap(new BigArrays(null, breakerService, CircuitBreaker.INDEXING))) {
+            assertEquals(map.ramBytesUsed(), breaker.getUsed());
+            final int numOps = scaledRandomIntBetween(100, 10000);
+            for (int i = 0; i < numOps; i++) {
+                final BytesRef uid = randomFrom(uids);
+                if (randomInt(4) == 0) {
+                    assertEquals(expected.remove(uid), map.remove(uid));
+                } else {
+                    final IndexVersionValue value = randomIndexVersionValue();
+                    assertEquals(expected.put(uid, value), map.put(uid, value));
+                }
+                assertEquals(expected.get(uid), map.get(uid));
+                assertEquals(expected.size(), map.size());
+            }
+            for (BytesRef uid : uids) {
+                assertEquals(expected.get(uid), map.get(uid));
+            }
+            assertEquals(expected, map.toMap());
+            assertEquals(map.ramBytesUsed(), breaker.getUsed());
+        }
+        assertEquals(0, breaker.getUsed());
+    }
+
+    public void testClosedMapIsEmpty() {
+        final PagedVersionMap map = new PagedVersionMap(BigArrays.NON_RECYCLING_INSTANCE);
+        final IndexVersionValue value = randomIndexVersionValue();
+        assertNull(map.put(new BytesRef("foo"), value));
+        assertEquals(value, map.get(new BytesRef("foo")));
+        map.close();
+        assertEquals(0, map.ramBytesUsed());
+        assertNull(map.get(new BytesRef("foo")));
+        assertNull(map.put(new BytesRef("foo"), randomIndexVersionValue()));
+        assertNull(map.remove(new BytesRef("foo")));
+        assertEquals(Collections.emptyMap(), map.toMap());
+        // closing twice is a no-op
+        map.close();
+    }
+
+    public void testReindexRemovedUid() {
+        try (PagedVersionMap map = new PagedVersionMap(BigArrays.NON_RECYCLING_INSTANCE)) {
+            final BytesRef uid = new BytesRef("foo");
+            final IndexVersionValue first = randomIndexVersionValue();
+            map.put(uid, first);
+            assertEquals(first, map.remove(uid));
+            assertTrue(map.isEmpty());
+            assertNull(map.get(uid));
+            assertNull(map.remove(uid));
+            final IndexVersionValue second = randomIndexVersionValue();
+            assertNull(map.put(uid, second));
+            assertEquals(second, map.get(uid));
+            assertEquals(1, map.size());
+        }
+    }
+
+    private static IndexVersionValue randomIndexVersionValue() {
+        final Translog.Location location = randomBoolean()
+            ? null
+            : new Translog.Location(randomNonNegativeLong(), randomNonNegativeLong(), randomInt());
+        return IndexVersionValue.of(location, randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong());
+    }
+}
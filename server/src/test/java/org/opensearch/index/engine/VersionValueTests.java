@@ -43,10 +43,21 @@ public class VersionValueTests extends OpenSearchTestCase {
         if (randomBoolean()) {
             translogLoc = new Translog.Location(randomNonNegativeLong(), randomNonNegativeLong(), randomInt());
         }
-        IndexVersionValue versionValue = new IndexVersionValue(translogLoc, randomLong(), randomLong(), randomLong());
+        IndexVersionValue versionValue = IndexVersionValue.of(translogLoc, randomLong(), randomLong(), randomLong());
         assertEquals(RamUsageTester.ramUsed(versionValue), versionValue.ramBytesUsed());
     }
 
+    public void testIndexLocation() {
+        assertNull(IndexVersionValue.of(null, randomLong(), randomLong(), randomLong()).getLocation());
+        Translog.Location translogLoc = new Translog.Location(randomNonNegativeLong(), randomNonNegativeLong(), randomInt());
+        IndexVersionValue versionValue = IndexVersionValue.of(translogLoc, randomLong(), randomLong(), randomLong());
+        assertEquals(translogLoc, versionValue.getLocation());
+        assertEquals(IndexVersionValue.of(translogLoc, versionValue.version, versionValue.seqNo, versionValue.term), versionValue);
+        assertNotEquals(IndexVersionValue.of(null, versionValue.version, versionValue.seqNo, versionValue.term), versionValue);
+        // values without a location don't pay for one
+        assertTrue(IndexVersionValue.of(null, randomLong(), randomLong(), randomLong()).ramBytesUsed() < versionValue.ramBytesUsed());
+    }
+
     public void testDeleteRamBytesUsed() {
         DeleteVersionValue versionValue = new DeleteVersionValue(randomLong(), randomLong(), randomLong(), randomLong());
         assertEquals(RamUsageTester.ramUsed(versionValue), versionValue.ramBytesUsed());
@@ -0,0 +1,90 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.shard;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.store.Directory;
+import org.opensearch.index.mapper.ParseContext;
+import org.opensearch.index.mapper.ParsedDocument;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.Collections;
+
+import static org.apache.lucene.tests.analysis.BaseTokenStreamTestCase.assertTokenStreamContents;
+import static org.hamcrest.Matchers.instanceOf;
+
+public class DocumentPreAnalyzerTests extends OpenSearchTestCase {
+
+    public void testCapturedTokensAreReplayed() throws IOException {
+        try (Analyzer analyzer = new StandardAnalyzer()) {
+            final TokenStream captured;
+            try (TokenStream tokenStream = analyzer.tokenStream("field", "The quick brown fox")) {
+                captured = DocumentPreAnalyzer.CapturedTokenStream.capture(tokenStream);
+            }
+            // the analyzer reuses its components for the next value, which must not change the captured tokens
+            assertTokenStreamContents(analyzer.tokenStream("field", "lazy dog"), new String[] { "lazy", "dog" });
+            for (int i = 0; i < 2; i++) {
+                assertTokenStreamContents(
+                    captured,
+                    new String[] { "the", "quick", "brown", "fox" },
+                    new int[] { 0, 4, 10, 16 },
+                    new int[] { 3, 9, 15, 19 },
+                    19
+                );
+            }
+        }
+    }
+
+    public void testIndexingReplaysAnalyzedFields() throws IOException {
+        final ParseContext.Document document = new ParseContext.Document();
+        document.add(new TextField("body", "The quick brown fox", Field.Store.NO));
+        document.add(new TextField("body", "jumps over", Field.Store.NO));
+        document.add(new StringField("id", "1", Field.Store.NO));
+        final ParsedDocument doc = new ParsedDocument(null, null, "1", null, Collections.singletonList(document), null, null, null);
+
+        try (Analyzer analyzer = new StandardAnalyzer()) {
+            DocumentPreAnalyzer.analyze(doc, analyzer);
+        }
+        for (IndexableField field : document.getFields("body")) {
+            assertThat(((Field) field).tokenStreamValue(), instanceOf(DocumentPreAnalyzer.CapturedTokenStream.class));
+        }
+        assertNull(((Field) document.getField("id")).tokenStreamValue());
+
+        // the document is indexed with an analyzer that fails if the writer analyzes the text fields itself
+        final Analyzer failingAnalyzer = new Analyzer() {
+            @Override
+            protected TokenStreamComponents createComponents(String fieldName) {
+                throw new AssertionError("field [" + fieldName + "] was analyzed while indexing");
+            }
+        };
+        try (
+            Directory directory = newDirectory();
+            IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig(failingAnalyzer))
+        ) {
+            writer.addDocuments(doc.docs());
+            try (DirectoryReader reader = DirectoryReader.open(writer)) {
+                for (String term : new String[] { "the", "quick", "brown", "fox", "jumps", "over" }) {
+                    assertEquals(term, 1, reader.docFreq(new Term("body", term)));
+                }
+                assertEquals(1, reader.docFreq(new Term("id", "1")));
+            }
+        }
+    }
+}
@@ -36,6 +36,7 @@ import org.apache.lucene.index.CorruptIndexException;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexCommit;
 import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.SegmentCommitInfo;
 import org.apache.lucene.index.SegmentInfos;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.ReferenceManager;
@@ -83,6 +84,7 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
 import org.opensearch.common.util.concurrent.AtomicArray;
+import org.opensearch.common.util.concurrent.BufferedAsyncIOProcessor;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.core.Assertions;
@@ -147,6 +149,7 @@ import org.opensearch.indices.IndicesQueryCache;
 import org.opensearch.indices.fielddata.cache.IndicesFieldDataCache;
 import org.opensearch.indices.recovery.RecoveryState;
 import org.opensearch.indices.recovery.RecoveryTarget;
+import org.opensearch.indices.replication.checkpoint.MergedSegmentPublisher;
 import org.opensearch.indices.replication.checkpoint.SegmentReplicationCheckpointPublisher;
 import org.opensearch.indices.replication.common.ReplicationFailedException;
 import org.opensearch.indices.replication.common.ReplicationLuceneIndex;
@@ -1666,6 +1669,30 @@ public class IndexShardTests extends IndexShardTestCase {
         closeShards(shard);
     }
 
+    public void testGroupCommitFsync() throws Exception {
+        Settings settings = Settings.builder()
+            .put(IndexSettings.INDEX_TRANSLOG_GROUP_COMMIT_INTERVAL_SETTING.getKey(), TimeValue.timeValueMillis(randomIntBetween(1, 20)))
+            .build();
+        IndexShard shard = newStartedShard(true, settings);
+        assertThat(shard.getTranslogSyncProcessor(), instanceOf(BufferedAsyncIOProcessor.class));
+        int numDocs = randomIntBetween(1, 20);
+        CountDownLatch latch = new CountDownLatch(numDocs);
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        for (int i = 0; i < numDocs; i++) {
+            Engine.IndexResult result = indexDoc(shard, "_doc", Integer.toString(i));
+            shard.sync(result.getTranslogLocation(), ex -> {
+                if (ex != null) {
+                    failure.set(ex);
+                }
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertNull(failure.get());
+        assertFalse(getEngine(shard).translogManager().isTranslogSyncNeeded());
+        closeShards(shard);
+    }
+
     public void testMinimumCompatVersion() throws IOException {
         Version versionCreated = VersionUtils.randomVersion(random());
         Settings settings = Settings.builder()
@@ -5211,6 +5238,36 @@ public class IndexShardTests extends IndexShardTestCase {
         tracker.addUploadBytesFailed(randomIntBetween(1, bytesStarted / 2));
     }
 
+    public void testPublishMergedSegmentOnlyCountsCopiedSegments() throws IOException {
+        final AtomicBoolean copied = new AtomicBoolean();
+        final AtomicInteger published = new AtomicInteger();
+        mergedSegmentPublisher = new MergedSegmentPublisher((indexShard, checkpoint) -> {
+            published.incrementAndGet();
+            return copied.get();
+        });
+        final IndexShard shard = newStartedShard(true);
+        indexDoc(shard, "_doc", "1");
+        shard.refresh("test");
+        final SegmentCommitInfo segment;
+        try (GatedCloseable<SegmentInfos> segmentInfos = shard.getSegmentInfosSnapshot()) {
+            segment = segmentInfos.get().info(0);
+        }
+        final long segmentSize = shard.computeMergeSegmentCheckpoint(segment).getLength();
+
+        // a publish that failed or timed out copied nothing
+        shard.publishMergedSegment(segment);
+        assertEquals(1, published.get());
+        assertEquals(0, shard.mergedSegmentPreCopyStats().getTotal());
+        assertEquals(0, shard.mergedSegmentPreCopyStats().getTotalSizeInBytes());
+
+        copied.set(true);
+        shard.publishMergedSegment(segment);
+        assertEquals(2, published.get());
+        assertEquals(1, shard.mergedSegmentPreCopyStats().getTotal());
+        assertEquals(segmentSize, shard.mergedSegmentPreCopyStats().getTotalSizeInBytes());
+        closeShards(shard);
+    }
+
     private static void assertRemoteTranslogStats(
         RemoteTranslogTransferTracker remoteTranslogTransferTracker,
         RemoteTranslogStats remoteTranslogStats
@@ -46,10 +46,15 @@ import org.opensearch.index.store.StoreFileMetadata;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
 
 public class FileInfoTests extends OpenSearchTestCase {
     private static final org.apache.lucene.util.Version MIN_SUPPORTED_LUCENE_VERSION = org.opensearch.Version.CURRENT
@@ -193,4 +198,64 @@ public class FileInfoTests extends OpenSearchTestCase {
             assertEquals(numBytes, metadata.length());
         }
     }
+
+    public void testChunksToFromXContent() throws IOException {
+        final List<FileInfo.Chunk> chunks = new ArrayList<>();
+        final int numberOfChunks = randomIntBetween(1, 20);
+        long length = 0;
+        for (int i = 0; i < numberOfChunks; i++) {
+            final FileInfo.Chunk chunk = new FileInfo.Chunk("c__" + randomAlphaOfLength(43), randomLongBetween(1, 1 << 24));
+            chunks.add(chunk);
+            length += chunk.length();
+        }
+        StoreFileMetadata meta = new StoreFileMetadata("foobar", length, randomAlphaOfLengthBetween(1, 10), Version.LATEST);
+        FileInfo info = new FileInfo("_foobar", meta, chunks);
+        XContentBuilder builder = MediaTypeRegistry.contentBuilder(MediaTypeRegistry.JSON);
+        FileInfo.toXContent(info, builder, ToXContent.EMPTY_PARAMS);
+        byte[] xcontent = BytesReference.toBytes(BytesReference.bytes(shuffleXContent(builder)));
+
+        final FileInfo parsedInfo;
+        try (XContentParser parser = createParser(JsonXContent.jsonXContent, xcontent)) {
+            parser.nextToken();
+            parsedInfo = FileInfo.fromXContent(parser);
+        }
+        assertThat(parsedInfo.chunks(), equalTo(chunks));
+        assertThat(parsedInfo.partSize(), nullValue());
+        assertThat(parsedInfo.numberOfParts(), equalTo(chunks.size()));
+        assertThat(parsedInfo.isSame(info), is(true));
+        for (int i = 0; i < chunks.size(); i++) {
+            assertThat(parsedInfo.partName(i), equalTo(chunks.get(i).name()));
+            assertThat(parsedInfo.partBytes(i), equalTo(chunks.get(i).length()));
+        }
+    }
+
+    public void testChunksMustMatchLength() {
+        StoreFileMetadata meta = new StoreFileMetadata("foobar", 10, "666", MIN_SUPPORTED_LUCENE_VERSION);
+        IllegalArgumentException e = expectThrows(
+            IllegalArgumentException.class,
+            () -> new FileInfo("_foobar", meta, List.of(new FileInfo.Chunk("c__a", 4), new FileInfo.Chunk("c__b", 5)))
+        );
+        assertThat(e.getMessage(), containsString("do not match length of file"));
+        expectThrows(IllegalArgumentException.class, () -> new FileInfo("_foobar", meta, List.of()));
+    }
+
+    public void testPartOffsets() {
+        StoreFileMetadata meta = new StoreFileMetadata("foobar", 10, "666", MIN_SUPPORTED_LUCENE_VERSION);
+        FileInfo chunked = new FileInfo(
+            "_foobar",
+            meta,
+            List.of(new FileInfo.Chunk("c__a", 3), new FileInfo.Chunk("c__b", 5), new FileInfo.Chunk("c__c", 2))
+        );
+        FileInfo fixed = new FileInfo("_foobar", meta, new ByteSizeValue(3));
+        assertThat(chunked.partOffset(1), equalTo(3L));
+        assertThat(chunked.partOffset(2), equalTo(8L));
+        assertThat(fixed.partOffset(3), equalTo(9L));
+        for (int position = 0; position < meta.length(); position++) {
+            for (FileInfo info : List.of(chunked, fixed)) {
+                final int part = info.partIndex(position);
+                assertThat(info.partOffset(part), lessThanOrEqualTo((long) position));
+                assertThat(info.partOffset(part) + info.partBytes(part), greaterThan((long) position));
+            }
+        }
+    }
 }
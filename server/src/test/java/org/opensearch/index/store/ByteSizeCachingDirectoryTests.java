@@ -37,6 +37,7 @@ import org.apache.lucene.store.FilterDirectory;
 import org.apache.lucene.store.IOContext;
 import org.apache.lucene.store.IndexOutput;
 import org.apache.lucene.tests.util.LuceneTestCase;
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.test.OpenSearchTestCase;
 
@@ -121,4 +122,30 @@ public class ByteSizeCachingDirectoryTests extends OpenSearchTestCase {
         }
     }
 
+    public void testExternalWrite() throws IOException {
+        try (Directory dir = newDirectory()) {
+            try (IndexOutput out = dir.createOutput("quux", IOContext.DEFAULT)) {
+                out.writeBytes(new byte[11], 11);
+            }
+            ByteSizeCachingDirectory cachingDir = new ByteSizeCachingDirectory(dir, new TimeValue(0));
+            assertEquals(11, cachingDir.estimateSizeInBytes());
+
+            Releasable pendingWrite = cachingDir.trackExternalWrite();
+            // written to the wrapped directory, the caching directory doesn't see the output
+            try (IndexOutput out = dir.createOutput("foo", IOContext.DEFAULT)) {
+                out.writeBytes(new byte[5], 5);
+            }
+            assertEquals(16, cachingDir.estimateSizeInBytes());
+            pendingWrite.close();
+            pendingWrite.close();
+            assertEquals(16, cachingDir.estimateSizeInBytes());
+
+            try (IndexOutput out = dir.createOutput("bar", IOContext.DEFAULT)) {
+                out.writeBytes(new byte[4], 4);
+            }
+            // the external write is done and releasing it twice didn't count it twice, so the size is cached again
+            assertEquals(16, cachingDir.estimateSizeInBytes());
+        }
+    }
+
 }
@@ -18,6 +18,7 @@ import org.opensearch.action.LatchedActionListener;
 import org.opensearch.common.blobstore.AsyncMultiStreamBlobContainer;
 import org.opensearch.common.blobstore.BlobContainer;
 import org.opensearch.common.blobstore.BlobMetadata;
+import org.opensearch.common.blobstore.stream.read.listener.ReadContextListener;
 import org.opensearch.common.blobstore.stream.write.WriteContext;
 import org.opensearch.common.blobstore.support.PlainBlobMetadata;
 import org.opensearch.core.action.ActionListener;
@@ -27,6 +28,7 @@ import org.junit.Before;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -35,6 +37,7 @@ import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -112,6 +115,23 @@ public class RemoteDirectoryTests extends OpenSearchTestCase {
         storeDirectory.close();
     }
 
+    public void testCopyTo() {
+        AsyncMultiStreamBlobContainer blobContainer = mock(AsyncMultiStreamBlobContainer.class);
+        RemoteDirectory remoteDirectory = new RemoteDirectory(blobContainer);
+        Path destination = createTempDir().resolve("_100.si");
+        assertTrue(
+            remoteDirectory.copyTo("_100.si__uuid", destination, null, UnaryOperator.identity(), 2, () -> {}, ActionListener.wrap(() -> {}))
+        );
+        verify(blobContainer).readBlobAsync(eq("_100.si__uuid"), any(ReadContextListener.class));
+    }
+
+    public void testCopyToNotSupported() {
+        Path destination = createTempDir().resolve("_100.si");
+        assertFalse(
+            remoteDirectory.copyTo("_100.si__uuid", destination, null, UnaryOperator.identity(), 2, () -> {}, ActionListener.wrap(() -> {}))
+        );
+    }
+
     public void testCopyFromWithException() throws IOException, InterruptedException {
         AtomicReference<Boolean> postUploadInvoked = new AtomicReference<>(false);
         String filename = "_100.si";
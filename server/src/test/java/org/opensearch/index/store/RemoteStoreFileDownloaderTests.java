@@ -8,7 +8,10 @@
 
 package org.opensearch.index.store;
 
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.index.CorruptIndexException;
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
 import org.apache.lucene.store.FilterDirectory;
 import org.apache.lucene.store.IOContext;
 import org.apache.lucene.store.IndexInput;
@@ -31,17 +34,28 @@ import org.junit.Before;
 
 import java.io.EOFException;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
 public class RemoteStoreFileDownloaderTests extends OpenSearchTestCase {
 
     private ThreadPool threadPool;
@@ -212,6 +226,107 @@ public class RemoteStoreFileDownloaderTests extends OpenSearchTestCase {
         assertTrue(latch.await(10, TimeUnit.SECONDS));
     }
 
+    public void testMultiStreamDownload() throws Exception {
+        final FSDirectory remoteContent = new NIOFSDirectory(createTempDir());
+        final String file = "_0.cfs";
+        final String checksum = writeSegmentFile(remoteContent, file);
+        final RemoteSegmentStoreDirectory remoteDirectory = mockRemoteSegmentStoreDirectory(remoteContent, file, checksum);
+        final AtomicLong progress = new AtomicLong();
+
+        final PlainActionFuture<Void> future = new PlainActionFuture<>();
+        multiStreamFileDownloader().downloadAsync(
+            new CancellableThreads(),
+            remoteDirectory,
+            destination,
+            List.of(file),
+            (name, bytes) -> progress.addAndGet(bytes),
+            future
+        );
+        future.actionGet();
+        verify(remoteDirectory).copyTo(eq(file), any(), any(), any(), anyInt(), any(), any());
+        assertEquals(remoteContent.fileLength(file), destination.fileLength(file));
+        assertEquals(remoteContent.fileLength(file), progress.get());
+    }
+
+    public void testMultiStreamDownloadChecksumMismatch() throws Exception {
+        final FSDirectory remoteContent = new NIOFSDirectory(createTempDir());
+        final String file = "_0.cfs";
+        final String checksum = writeSegmentFile(remoteContent, file);
+        final String wrongChecksum = Long.toString(Long.parseLong(checksum) + 1);
+        final RemoteSegmentStoreDirectory remoteDirectory = mockRemoteSegmentStoreDirectory(remoteContent, file, wrongChecksum);
+
+        final PlainActionFuture<Void> future = new PlainActionFuture<>();
+        multiStreamFileDownloader().downloadAsync(new CancellableThreads(), remoteDirectory, destination, List.of(file), future);
+        final ExecutionException e = assertThrows(ExecutionException.class, future::get);
+        assertEquals(CorruptIndexException.class, e.getCause().getClass());
+        assertFalse(Set.of(destination.listAll()).contains(file));
+    }
+
+    public void testMultiStreamDownloadCancelled() throws Exception {
+        final FSDirectory remoteContent = new NIOFSDirectory(createTempDir());
+        final String file = "_0.cfs";
+        final String checksum = writeSegmentFile(remoteContent, file);
+        final RemoteSegmentStoreDirectory remoteDirectory = mockRemoteSegmentStoreDirectory(remoteContent, file, checksum);
+        final CancellableThreads cancellableThreads = new CancellableThreads();
+        // the download is cancelled while its parts are being fetched
+        when(remoteDirectory.copyTo(eq(file), any(), any(), any(), anyInt(), any(), any())).thenAnswer(invocation -> {
+            cancellableThreads.cancel("test");
+            final Runnable cancellationCheck = invocation.getArgument(5);
+            final ActionListener<Void> listener = invocation.getArgument(6);
+            try {
+                cancellationCheck.run();
+                listener.onResponse(null);
+            } catch (Exception e) {
+                listener.onFailure(e);
+            }
+            return true;
+        });
+
+        final PlainActionFuture<Void> future = new PlainActionFuture<>();
+        multiStreamFileDownloader().downloadAsync(cancellableThreads, remoteDirectory, destination, List.of(file), future);
+        final ExecutionException e = assertThrows(ExecutionException.class, future::get);
+        assertEquals(CancellableThreads.ExecutionCancelledException.class, e.getCause().getClass());
+        assertFalse(Set.of(destination.listAll()).contains(file));
+    }
+
+    private RemoteStoreFileDownloader multiStreamFileDownloader() {
+        final RecoverySettings recoverySettings = new RecoverySettings(
+            Settings.builder().put(RecoverySettings.INDICES_RECOVERY_REMOTE_STORE_MULTI_STREAM_THRESHOLD_SETTING.getKey(), "1b").build(),
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS)
+        );
+        return new RemoteStoreFileDownloader(ShardId.fromString("[RemoteStoreFileDownloaderTests][0]"), threadPool, recoverySettings);
+    }
+
+    private static String writeSegmentFile(Directory directory, String file) throws IOException {
+        try (IndexOutput output = directory.createOutput(file, IOContext.DEFAULT)) {
+            CodecUtil.writeHeader(output, "test", 0);
+            output.writeInt(randomInt());
+            CodecUtil.writeFooter(output);
+        }
+        try (IndexInput input = directory.openInput(file, IOContext.READONCE)) {
+            return Long.toString(CodecUtil.retrieveChecksum(input));
+        }
+    }
+
+    /**
+     * Mocks a remote segment store directory, which downloads the given file by copying it from the given content directory
+     */
+    private static RemoteSegmentStoreDirectory mockRemoteSegmentStoreDirectory(FSDirectory content, String file, String checksum)
+        throws IOException {
+        final RemoteSegmentStoreDirectory remoteDirectory = mock(RemoteSegmentStoreDirectory.class);
+        when(remoteDirectory.getSegmentsUploadedToRemoteStore()).thenReturn(
+            Map.of(file, new RemoteSegmentStoreDirectory.UploadedSegmentMetadata(file, file + "__uuid", checksum, content.fileLength(file)))
+        );
+        when(remoteDirectory.copyTo(eq(file), any(), any(), any(), anyInt(), any(), any())).thenAnswer(invocation -> {
+            final Path destinationPath = invocation.getArgument(1);
+            Files.copy(content.getDirectory().resolve(file), destinationPath);
+            final ActionListener<Void> listener = invocation.getArgument(6);
+            listener.onResponse(null);
+            return true;
+        });
+        return remoteDirectory;
+    }
+
     private static void assertContent(Map<String, Integer> expected, Directory destination) throws IOException {
         // Note that Lucene will randomly write extra files (see org.apache.lucene.tests.mockfile.ExtraFS)
         // so we just need to check that all the expected files are present but not that _only_ the expected
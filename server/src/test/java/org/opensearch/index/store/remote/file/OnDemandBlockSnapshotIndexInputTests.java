@@ -16,6 +16,7 @@ import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.store.IndexOutput;
 import org.apache.lucene.store.LockFactory;
 import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.store.ReadAdvice;
 import org.apache.lucene.store.SimpleFSLockFactory;
 import org.apache.lucene.util.Constants;
 import org.apache.lucene.util.Version;
@@ -37,6 +38,8 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -102,6 +105,98 @@ public class OnDemandBlockSnapshotIndexInputTests extends OpenSearchTestCase {
         );
     }
 
+    public void testReadAheadOfSequentialReads() throws IOException {
+        try (IndexInput indexInput = createReadAheadIndexInput(ReadAdvice.NORMAL)) {
+            for (int blockId = 0; blockId < 3; blockId++) {
+                indexInput.seek((long) blockId << 12);
+            }
+            verifyPrefetched(3);
+            verifyPrefetched(4);
+
+            // blocks already read ahead are not prefetched again
+            indexInput.seek(3L << 12);
+            verifyPrefetched(5);
+            verify(transferManager, times(3)).prefetchBlob(any());
+        }
+    }
+
+    public void testReadAheadOfStridedReads() throws IOException {
+        try (IndexInput indexInput = createReadAheadIndexInput(ReadAdvice.NORMAL)) {
+            for (int blockId = 0; blockId < 9; blockId += 3) {
+                indexInput.seek((long) blockId << 12);
+            }
+            verifyPrefetched(9);
+            verifyPrefetched(12);
+            verify(transferManager, times(2)).prefetchBlob(any());
+        }
+    }
+
+    public void testNoReadAheadOfRandomReads() throws IOException {
+        try (IndexInput indexInput = createReadAheadIndexInput(ReadAdvice.NORMAL)) {
+            for (int blockId : new int[] { 5, 1, 7, 2 }) {
+                indexInput.seek((long) blockId << 12);
+            }
+            verify(transferManager, never()).prefetchBlob(any());
+        }
+        try (IndexInput indexInput = createReadAheadIndexInput(ReadAdvice.RANDOM)) {
+            for (int blockId = 0; blockId < 3; blockId++) {
+                indexInput.seek((long) blockId << 12);
+            }
+            verify(transferManager, never()).prefetchBlob(any());
+        }
+    }
+
+    public void testReadAheadWithSequentialReadAdvice() throws IOException {
+        try (IndexInput indexInput = createReadAheadIndexInput(ReadAdvice.SEQUENTIAL)) {
+            indexInput.seek(0);
+            indexInput.seek(1L << 12);
+            verifyPrefetched(2);
+            verifyPrefetched(3);
+        }
+    }
+
+    public void testPrefetchHint() throws IOException {
+        try (IndexInput indexInput = createReadAheadIndexInput(ReadAdvice.RANDOM)) {
+            indexInput.seek(0);
+            // the current block is not prefetched
+            indexInput.prefetch(0, (2L << 12) + 1);
+            verifyPrefetched(1);
+            verifyPrefetched(2);
+            verify(transferManager, times(2)).prefetchBlob(any());
+        }
+    }
+
+    public void testReadAheadBlocksByFileType() {
+        final int sequential = OnDemandBlockSnapshotIndexInput.SEQUENTIAL_READ_AHEAD_BLOCKS;
+        assertEquals(0, OnDemandBlockSnapshotIndexInput.readAheadBlocks("_0.fdt"));
+        assertEquals(sequential, OnDemandBlockSnapshotIndexInput.readAheadBlocks("_0.dvd"));
+        assertEquals(sequential, OnDemandBlockSnapshotIndexInput.readAheadBlocks("_0_Lucene912_0.doc"));
+        assertEquals(sequential, OnDemandBlockSnapshotIndexInput.readAheadBlocks("_0.kdd"));
+        assertEquals(1, OnDemandBlockSnapshotIndexInput.readAheadBlocks("_0.cfs"));
+    }
+
+    // creates an input of 4KB blocks that reads two blocks ahead
+    private OnDemandBlockSnapshotIndexInput createReadAheadIndexInput(ReadAdvice readAdvice) throws IOException {
+        when(transferManager.fetchBlob(any())).thenAnswer(invocation -> new ByteArrayIndexInput("test", new byte[1 << 12]));
+        return new OnDemandBlockSnapshotIndexInput(
+            OnDemandBlockIndexInput.builder()
+                .resourceDescription(RESOURCE_DESCRIPTION)
+                .offset(BLOCK_SNAPSHOT_FILE_OFFSET)
+                .length(FILE_SIZE)
+                .blockSizeShift(12)
+                .isClone(IS_CLONE)
+                .readAheadBlocks(2)
+                .readAdvice(readAdvice),
+            new BlobStoreIndexShardSnapshot.FileInfo(FILE_NAME, new StoreFileMetadata(FILE_NAME, FILE_SIZE, "", Version.LATEST), null),
+            new MMapDirectory(path, lockFactory),
+            transferManager
+        );
+    }
+
+    private void verifyPrefetched(int blockId) {
+        verify(transferManager).prefetchBlob(argThat(request -> request.getFileName().equals(BLOCK_FILE_PREFIX + "_block_" + blockId)));
+    }
+
     private void verifyChunkedRepository(long blockSize, long repositoryChunkSize, long fileSize) throws IOException {
         when(transferManager.fetchBlob(any())).thenReturn(new ByteArrayIndexInput("test", new byte[(int) blockSize]));
         try (
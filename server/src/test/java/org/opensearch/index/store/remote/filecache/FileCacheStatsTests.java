@@ -58,4 +58,12 @@ public class FileCacheStatsTests extends OpenSearchTestCase {
         }
 
     }
+
+    public void testHitRatio() {
+        final AggregateFileCacheStats.FileCacheStatsType type = AggregateFileCacheStats.FileCacheStatsType.BLOCK_FILE_STATS;
+        assertEquals(0.0, new FileCacheStats(0, 0, 0, 0, 0, 0, 0, type).getHitRatio(), 0.0);
+        assertEquals(0.0, new FileCacheStats(0, 0, 0, 0, 0, 0, 4, type).getHitRatio(), 0.0);
+        assertEquals(0.75, new FileCacheStats(0, 0, 0, 0, 0, 3, 1, type).getHitRatio(), 0.0);
+        assertEquals(1.0, new FileCacheStats(0, 0, 0, 0, 0, 5, 0, type).getHitRatio(), 0.0);
+    }
 }
@@ -62,6 +62,7 @@ public abstract class TransferManagerTestCase extends OpenSearchTestCase {
         initializeTransferManager();
         executorService = Executors.newFixedThreadPool(3);
         doReturn(executorService).when(threadPool).executor(ThreadPool.Names.REMOTE_RECOVERY);
+        doReturn(executorService).when(threadPool).executor(ThreadPool.Names.REMOTE_PREFETCH);
     }
 
     @After
@@ -330,6 +331,32 @@ public abstract class TransferManagerTestCase extends OpenSearchTestCase {
         assertEquals(Optional.of(1), Optional.of(fileCache.getRef(blobFetchRequest.getFilePath())));
     }
 
+    public void testPrefetch() throws Exception {
+        // prefetches don't take threads from recoveries
+        doThrow(new IllegalArgumentException("Invalid thread pool")).when(threadPool).executor(ThreadPool.Names.REMOTE_RECOVERY);
+        List<BlobFetchRequest.BlobPart> blobParts = new ArrayList<>();
+        blobParts.add(new BlobFetchRequest.BlobPart("blob", 0, EIGHT_MB));
+        BlobFetchRequest blobFetchRequest = BlobFetchRequest.builder().fileName("file").directory(directory).blobParts(blobParts).build();
+        transferManager.prefetchBlob(blobFetchRequest);
+        assertBusy(() -> assertEquals(0, transferManager.prefetchesInFlight()));
+        // the prefetched blob is cached but not referenced
+        MatcherAssert.assertThat(fileCache.activeUsage(), equalTo(0L));
+        MatcherAssert.assertThat(fileCache.usage(), equalTo((long) EIGHT_MB));
+        try (IndexInput i = transferManager.fetchBlob(blobFetchRequest)) {
+            assertIndexInputIsFunctional(i);
+        }
+    }
+
+    public void testPrefetchFailureIsIgnored() throws Exception {
+        mockExceptionWhileReading();
+        List<BlobFetchRequest.BlobPart> blobParts = new ArrayList<>();
+        blobParts.add(new BlobFetchRequest.BlobPart("failure-blob", 0, EIGHT_MB));
+        transferManager.prefetchBlob(BlobFetchRequest.builder().fileName("file").directory(directory).blobParts(blobParts).build());
+        assertBusy(() -> assertEquals(0, transferManager.prefetchesInFlight()));
+        MatcherAssert.assertThat(fileCache.activeUsage(), equalTo(0L));
+        MatcherAssert.assertThat(fileCache.usage(), equalTo(0L));
+    }
+
     protected abstract void initializeTransferManager() throws IOException;
 
     protected abstract void mockExceptionWhileReading() throws IOException;
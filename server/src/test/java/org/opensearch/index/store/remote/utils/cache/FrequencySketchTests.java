@@ -0,0 +1,65 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils.cache;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class FrequencySketchTests extends OpenSearchTestCase {
+
+    public void testFrequency() {
+        final FrequencySketch<String> sketch = new FrequencySketch<>();
+        assertEquals(0, sketch.frequency("key"));
+        for (int i = 1; i <= 15; i++) {
+            sketch.increment("key");
+            assertEquals(i, sketch.frequency("key"));
+        }
+        // counters saturate at 15
+        sketch.increment("key");
+        assertEquals(15, sketch.frequency("key"));
+    }
+
+    public void testFrequenciesAreHalvedPeriodically() {
+        final FrequencySketch<Integer> sketch = new FrequencySketch<>();
+        for (int i = 0; i < 15; i++) {
+            sketch.increment(-1);
+        }
+        assertEquals(15, sketch.frequency(-1));
+        // ten accesses per counter of the minimal table trigger a reset
+        int key = 0;
+        while (sketch.frequency(-1) == 15 && key < 10 * FrequencySketch.MIN_EXPECTED_KEYS) {
+            sketch.increment(key++);
+        }
+        assertEquals(7, sketch.frequency(-1));
+    }
+
+    public void testEnsureCapacityCarriesHalvedFrequencies() {
+        final FrequencySketch<Integer> sketch = new FrequencySketch<>();
+        // few enough accesses not to trigger a reset
+        final int numKeys = FrequencySketch.MIN_EXPECTED_KEYS / 2;
+        final int[] frequencies = new int[numKeys];
+        for (int key = 0; key < numKeys; key++) {
+            for (int i = randomIntBetween(0, 15); i > 0; i--) {
+                sketch.increment(key);
+            }
+            frequencies[key] = sketch.frequency(key);
+        }
+        // no growth, no change
+        sketch.ensureCapacity(numKeys);
+        for (int key = 0; key < numKeys; key++) {
+            assertEquals(frequencies[key], sketch.frequency(key));
+        }
+        sketch.ensureCapacity(randomIntBetween(2, 64) * numKeys);
+        for (int key = 0; key < numKeys; key++) {
+            assertEquals(frequencies[key] / 2, sketch.frequency(key));
+        }
+        // the larger sketch keeps counting from the carried over frequencies
+        sketch.increment(0);
+        assertEquals(frequencies[0] / 2 + 1, sketch.frequency(0));
+    }
+}
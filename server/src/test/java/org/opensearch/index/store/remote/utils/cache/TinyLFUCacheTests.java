@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils.cache;
+
+public class TinyLFUCacheTests extends RefCountedCacheTestCase {
+    public TinyLFUCacheTests() {
+        super(new TinyLFUCache<>(CAPACITY, n -> {}, value -> value, key -> 1));
+    }
+
+    public void testScanDoesNotEvictEntriesThatWereAccessedAgain() {
+        final TinyLFUCache<String, Long> cache = new TinyLFUCache<>(CAPACITY, n -> {}, value -> value, key -> 1);
+        for (int i = 0; i < 4; i++) {
+            final String key = "hot-" + i;
+            cache.put(key, 10L);
+            cache.decRef(key);
+            for (int j = 0; j < 3; j++) {
+                assertNotNull(cache.get(key));
+                cache.decRef(key);
+            }
+        }
+        assertEquals(40L, cache.protectedWeight());
+
+        for (int i = 0; i < 50; i++) {
+            final String key = "scan-" + i;
+            cache.put(key, 10L);
+            cache.decRef(key);
+        }
+        for (int i = 0; i < 4; i++) {
+            assertNotNull(cache.get("hot-" + i));
+        }
+        assertNull(cache.get("scan-0"));
+        assertTrue(cache.usage() < CAPACITY);
+    }
+
+    public void testDemotesLeastRecentlyUsedProtectedEntries() {
+        final TinyLFUCache<String, Long> cache = new TinyLFUCache<>(CAPACITY, n -> {}, value -> value, key -> 1);
+        for (int i = 0; i < 9; i++) {
+            final String key = Integer.toString(i);
+            cache.put(key, 10L);
+            cache.decRef(key);
+            assertNotNull(cache.get(key));
+            cache.decRef(key);
+        }
+        assertEquals((long) (CAPACITY * TinyLFUCache.PROTECTED_RATIO), cache.protectedWeight());
+        assertEquals(1, cache.probationSize());
+
+        // the demoted entry is the only one on probation, so it is evicted first
+        cache.put("new", 10L);
+        cache.decRef("new");
+        assertNull(cache.get("0"));
+        for (int i = 1; i < 9; i++) {
+            assertNotNull(cache.get(Integer.toString(i)));
+        }
+    }
+
+    public void testKeepsEntriesThatAreCostlierToMiss() {
+        final TinyLFUCache<String, Long> cache = new TinyLFUCache<>(
+            CAPACITY,
+            n -> {},
+            value -> value,
+            key -> key.startsWith("index") ? 4 : 1
+        );
+        cache.put("index", 10L);
+        cache.decRef("index");
+        for (int i = 0; i < 50; i++) {
+            final String key = "data-" + i;
+            cache.put(key, 10L);
+            cache.decRef(key);
+        }
+        assertEquals(0L, cache.protectedWeight());
+        assertNotNull(cache.get("index"));
+    }
+}
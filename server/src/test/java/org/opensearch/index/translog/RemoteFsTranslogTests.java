@@ -16,6 +16,7 @@ import org.apache.lucene.store.DataOutput;
 import org.apache.lucene.tests.mockfile.FilterFileChannel;
 import org.apache.lucene.tests.util.LuceneTestCase;
 import org.opensearch.OpenSearchException;
+import org.opensearch.Version;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.metadata.RepositoryMetadata;
 import org.opensearch.cluster.service.ClusterService;
@@ -200,7 +201,8 @@ public class RemoteFsTranslogTests extends OpenSearchTestCase {
             threadPool,
             primaryMode::get,
             new RemoteTranslogTransferTracker(shardId, 10),
-            DefaultRemoteStoreSettings.INSTANCE
+            DefaultRemoteStoreSettings.INSTANCE,
+            () -> Version.CURRENT
         );
     }
 
@@ -365,6 +367,13 @@ public class RemoteFsTranslogTests extends OpenSearchTestCase {
         assertDownloadStatsNoDownloads(statsTracker);
     }
 
+    public void testCompressionRequiresAllNodesToSupportIt() {
+        assertFalse(RemoteFsTranslog.shouldCompressTranslogFiles(false, Version.CURRENT));
+        assertTrue(RemoteFsTranslog.shouldCompressTranslogFiles(true, TranslogTransferManager.TRANSLOG_COMPRESSION_MIN_VERSION));
+        assertTrue(RemoteFsTranslog.shouldCompressTranslogFiles(true, Version.CURRENT));
+        assertFalse(RemoteFsTranslog.shouldCompressTranslogFiles(true, Version.V_3_1_0));
+    }
+
     public void testSimpleOperations() throws IOException {
         ArrayList<Translog.Operation> ops = new ArrayList<>();
         try (Translog.Snapshot snapshot = translog.newSnapshot()) {
@@ -473,7 +482,8 @@ public class RemoteFsTranslogTests extends OpenSearchTestCase {
                 threadPool,
                 () -> Boolean.TRUE,
                 new RemoteTranslogTransferTracker(shardId, 10),
-                DefaultRemoteStoreSettings.INSTANCE
+                DefaultRemoteStoreSettings.INSTANCE,
+                () -> Version.CURRENT
             ) {
                 @Override
                 ChannelFactory getChannelFactory() {
@@ -1522,7 +1532,8 @@ public class RemoteFsTranslogTests extends OpenSearchTestCase {
                 threadPool,
                 () -> Boolean.TRUE,
                 new RemoteTranslogTransferTracker(shardId, 10),
-                DefaultRemoteStoreSettings.INSTANCE
+                DefaultRemoteStoreSettings.INSTANCE,
+                () -> Version.CURRENT
             ) {
                 @Override
                 ChannelFactory getChannelFactory() {
@@ -1632,7 +1643,8 @@ public class RemoteFsTranslogTests extends OpenSearchTestCase {
                 threadPool,
                 () -> Boolean.TRUE,
                 new RemoteTranslogTransferTracker(shardId, 10),
-                DefaultRemoteStoreSettings.INSTANCE
+                DefaultRemoteStoreSettings.INSTANCE,
+                () -> Version.CURRENT
             ) {
                 @Override
                 ChannelFactory getChannelFactory() {
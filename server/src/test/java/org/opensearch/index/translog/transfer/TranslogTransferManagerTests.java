@@ -39,7 +39,9 @@ import org.opensearch.threadpool.ThreadPool;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -57,6 +59,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
+import java.util.zip.CRC32;
 
 import org.mockito.Mockito;
 
@@ -206,6 +209,104 @@ public class TranslogTransferManagerTests extends OpenSearchTestCase {
         assertEquals(4, fileTransferTracker.allUploaded().size());
     }
 
+    @SuppressWarnings("unchecked")
+    public void testTransferSnapshotWithCompression() throws Exception {
+        Map<String, byte[]> uploaded = new HashMap<>();
+        Map<String, Long> checksums = new HashMap<>();
+        Map<String, Path> uploadedPaths = new HashMap<>();
+        doAnswer(invocationOnMock -> {
+            ActionListener<TransferFileSnapshot> listener = (ActionListener<TransferFileSnapshot>) invocationOnMock.getArguments()[2];
+            Set<TransferFileSnapshot> transferFileSnapshots = (Set<TransferFileSnapshot>) invocationOnMock.getArguments()[0];
+            for (TransferFileSnapshot fileSnapshot : transferFileSnapshots) {
+                try (InputStream inputStream = fileSnapshot.inputStream()) {
+                    uploaded.put(fileSnapshot.getName(), inputStream.readAllBytes());
+                }
+                checksums.put(fileSnapshot.getName(), fileSnapshot.getChecksum());
+                uploadedPaths.put(fileSnapshot.getName(), fileSnapshot.getPath());
+                listener.onResponse(fileSnapshot);
+            }
+            return null;
+        }).when(transferService).uploadBlobs(anySet(), anyMap(), any(ActionListener.class), any(WritePriority.class));
+
+        TransferSnapshot transferSnapshot = createTransferSnapshot();
+        Map<String, byte[]> contents = new HashMap<>();
+        for (TransferFileSnapshot fileSnapshot : transferSnapshot.getTranslogFileSnapshots()) {
+            byte[] content = randomAlphaOfLength(randomIntBetween(0, 1024)).getBytes(StandardCharsets.UTF_8);
+            Files.write(fileSnapshot.getPath(), content);
+            contents.put(fileSnapshot.getName(), content);
+        }
+        AtomicInteger translogTransferSucceeded = new AtomicInteger();
+        assertTrue(translogTransferManager.transferSnapshot(transferSnapshot, new TranslogTransferListener() {
+            @Override
+            public void onUploadComplete(TransferSnapshot transferSnapshot) {
+                translogTransferSucceeded.incrementAndGet();
+            }
+
+            @Override
+            public void onUploadFailed(TransferSnapshot transferSnapshot, Exception ex) {
+                throw new AssertionError(ex);
+            }
+        }, true));
+        assertEquals(1, translogTransferSucceeded.get());
+        assertEquals(4, uploaded.size());
+
+        // translog files are uploaded compressed, under their own name, with the checksum of the compressed content
+        for (Map.Entry<String, byte[]> content : contents.entrySet()) {
+            byte[] compressed = uploaded.get(content.getKey());
+            assertFalse(Arrays.equals(content.getValue(), compressed));
+            CRC32 checksum = new CRC32();
+            checksum.update(compressed);
+            assertEquals(Long.valueOf(checksum.getValue()), checksums.get(content.getKey()));
+            try (InputStream inputStream = TranslogTransferManager.maybeDecompress(new ByteArrayInputStream(compressed))) {
+                assertArrayEquals(content.getValue(), inputStream.readAllBytes());
+            }
+        }
+        // checkpoint files are uploaded as is
+        for (TransferFileSnapshot fileSnapshot : transferSnapshot.getCheckpointFileSnapshots()) {
+            assertArrayEquals(Files.readAllBytes(fileSnapshot.getPath()), uploaded.get(fileSnapshot.getName()));
+        }
+        // the compressed copies are streamed to temporary files that are deleted once uploaded, the translog files are kept
+        for (TransferFileSnapshot fileSnapshot : transferSnapshot.getTranslogFileSnapshots()) {
+            Path uploadedPath = uploadedPaths.get(fileSnapshot.getName());
+            assertNotEquals(fileSnapshot.getPath(), uploadedPath);
+            assertEquals(fileSnapshot.getPath().getParent(), uploadedPath.getParent());
+            assertFalse(Files.exists(uploadedPath));
+            assertTrue(Files.exists(fileSnapshot.getPath()));
+        }
+        Path translogDir = uploadedPaths.values().iterator().next().getParent();
+        try (DirectoryStream<Path> tempFiles = Files.newDirectoryStream(translogDir, "*.zst.tmp")) {
+            assertFalse(tempFiles.iterator().hasNext());
+        }
+    }
+
+    public void testDownloadCompressedTranslog() throws Exception {
+        Map<String, byte[]> uploaded = new HashMap<>();
+        doAnswer(invocationOnMock -> {
+            ActionListener<TransferFileSnapshot> listener = invocationOnMock.getArgument(2);
+            Set<TransferFileSnapshot> transferFileSnapshots = invocationOnMock.getArgument(0);
+            for (TransferFileSnapshot fileSnapshot : transferFileSnapshots) {
+                try (InputStream inputStream = fileSnapshot.inputStream()) {
+                    uploaded.put(fileSnapshot.getName(), inputStream.readAllBytes());
+                }
+                listener.onResponse(fileSnapshot);
+            }
+            return null;
+        }).when(transferService).uploadBlobs(anySet(), anyMap(), any(), any(WritePriority.class));
+
+        TransferSnapshot transferSnapshot = createTransferSnapshot();
+        TransferFileSnapshot translogFileSnapshot = randomFrom(transferSnapshot.getTranslogFileSnapshots());
+        Files.write(translogFileSnapshot.getPath(), tlogBytes);
+        assertTrue(translogTransferManager.transferSnapshot(transferSnapshot, mock(TranslogTransferListener.class), true));
+        when(transferService.downloadBlob(any(BlobPath.class), eq("translog-23.tlog"))).thenReturn(
+            new ByteArrayInputStream(uploaded.get(translogFileSnapshot.getName()))
+        );
+
+        Path location = createTempDir();
+        translogTransferManager.downloadTranslog("12", "23", location);
+        assertArrayEquals(tlogBytes, Files.readAllBytes(location.resolve("translog-23.tlog")));
+        assertArrayEquals(ckpBytes, Files.readAllBytes(location.resolve("translog-23.ckp")));
+    }
+
     public void testTransferSnapshotOnFileTransferUploadFail() throws Exception {
         AtomicInteger fileTransferSucceeded = new AtomicInteger();
         AtomicInteger fileTransferFailed = new AtomicInteger();
@@ -80,6 +80,9 @@ public class IndexingMemoryControllerTests extends IndexShardTestCase {
         // Shards that are currently throttled
         final Set<IndexShard> throttled = new HashSet<>();
 
+        // Shards that saw no indexing operation recently
+        final Set<IndexShard> idle = new HashSet<>();
+
         MockController(Settings settings) {
             super(
                 Settings.builder()
@@ -119,6 +122,11 @@ public class IndexingMemoryControllerTests extends IndexShardTestCase {
         @Override
         protected void checkIdle(IndexShard shard, long inactiveTimeNS) {}
 
+        @Override
+        protected boolean isIdle(IndexShard shard, long idleTimeNS) {
+            return idle.contains(shard);
+        }
+
         @Override
         public void writeIndexingBufferAsync(IndexShard shard) {
             long bytes = indexBufferRAMBytesUsed.put(shard, 0L);
@@ -183,6 +191,37 @@ public class IndexingMemoryControllerTests extends IndexShardTestCase {
         }
     }
 
+    public void testWriteIdleShardsFirst() throws IOException {
+        boolean writeIdleShardsFirst = randomBoolean();
+        MockController controller = new MockController(
+            Settings.builder()
+                .put("indices.memory.index_buffer_size", "4mb")
+                .put(IndexingMemoryController.WRITE_IDLE_SHARDS_FIRST_SETTING.getKey(), writeIdleShardsFirst)
+                .build()
+        );
+        IndexShard idleShard = newStartedShard();
+        IndexShard hotShard = newStartedShard();
+        controller.simulateIndexing(idleShard);
+        controller.idle.add(idleShard);
+        controller.simulateIndexing(hotShard);
+        controller.simulateIndexing(hotShard);
+        controller.simulateIndexing(hotShard);
+        controller.assertBuffer(idleShard, 1);
+        controller.assertBuffer(hotShard, 3);
+
+        // now we are over budget
+        controller.simulateIndexing(hotShard);
+        if (writeIdleShardsFirst) {
+            // writing the small buffer of the idle shard is enough to get back to the budget
+            controller.assertWriting(idleShard, 1);
+            controller.assertBuffer(hotShard, 4);
+        } else {
+            controller.assertBuffer(idleShard, 1);
+            controller.assertWriting(hotShard, 4);
+        }
+        closeShards(idleShard, hotShard);
+    }
+
     public void testShardAdditionAndRemoval() throws IOException {
 
         MockController controller = new MockController(Settings.builder().put("indices.memory.index_buffer_size", "4mb").build());
@@ -0,0 +1,99 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.store.Directory;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.metrics.InternalMax;
+import org.opensearch.search.aggregations.metrics.MaxAggregationBuilder;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.List;
+
+public class IndicesSegmentAggregationCacheTests extends OpenSearchTestCase {
+
+    private static final NamedWriteableRegistry REGISTRY = new NamedWriteableRegistry(
+        List.of(
+            new NamedWriteableRegistry.Entry(InternalAggregation.class, MaxAggregationBuilder.NAME, InternalMax::new),
+            new NamedWriteableRegistry.Entry(DocValueFormat.class, DocValueFormat.RAW.getWriteableName(), in -> DocValueFormat.RAW)
+        )
+    );
+
+    public void testCacheSurvivesRefresh() throws Exception {
+        IndicesSegmentAggregationCache cache = new IndicesSegmentAggregationCache(Settings.EMPTY, REGISTRY);
+        BytesReference requestKey = new BytesArray("request");
+        try (Directory dir = newDirectory()) {
+            IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE));
+            writer.addDocument(newDoc("0"));
+            writer.commit();
+            writer.addDocument(newDoc("1"));
+            writer.commit();
+            DirectoryReader reader = DirectoryReader.open(writer);
+            assertEquals(2, reader.leaves().size());
+            IndicesSegmentAggregationCache.RequestScope scope = cache.forRequest(requestKey);
+            for (LeafReaderContext ctx : reader.leaves()) {
+                assertNull(scope.get(ctx));
+                scope.put(ctx, max(ctx.ord));
+            }
+            assertEquals(2, cache.count());
+            assertEquals(2, cache.coreCount());
+            for (LeafReaderContext ctx : reader.leaves()) {
+                assertEquals(ctx.ord, maxValue(scope.get(ctx)), 0d);
+            }
+            assertNull(cache.forRequest(new BytesArray("other_request")).get(reader.leaves().get(0)));
+
+            // a new segment and a delete in the second segment only invalidate the second segment
+            writer.addDocument(newDoc("2"));
+            writer.deleteDocuments(new Term("id", "1"));
+            DirectoryReader newReader = DirectoryReader.openIfChanged(reader);
+            assertNotNull(newReader);
+            assertEquals(3, newReader.leaves().size());
+            assertEquals(0d, maxValue(scope.get(newReader.leaves().get(0))), 0d);
+            assertNull(scope.get(newReader.leaves().get(1)));
+            assertNull(scope.get(newReader.leaves().get(2)));
+
+            // entries are dropped once the segments are closed
+            reader.close();
+            newReader.close();
+            writer.close();
+            assertEquals(0, cache.count());
+            assertEquals(0, cache.coreCount());
+        }
+        cache.close();
+    }
+
+    private static Document newDoc(String id) {
+        Document doc = new Document();
+        doc.add(new StringField("id", id, Field.Store.NO));
+        return doc;
+    }
+
+    private static InternalAggregations max(double value) {
+        return InternalAggregations.from(List.of(new InternalMax("max", value, DocValueFormat.RAW, null)));
+    }
+
+    private static double maxValue(InternalAggregations aggregations) {
+        assertNotNull(aggregations);
+        return ((InternalMax) aggregations.get("max")).getValue();
+    }
+}
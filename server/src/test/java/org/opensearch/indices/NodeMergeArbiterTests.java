@@ -0,0 +1,129 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class NodeMergeArbiterTests extends OpenSearchTestCase {
+
+    private final Map<ShardId, IndexShard> shards = new HashMap<>();
+
+    private NodeMergeArbiter newArbiter(int maxConcurrentMerges) {
+        final Settings settings = Settings.builder()
+            .put(NodeMergeArbiter.MAX_CONCURRENT_MERGES_SETTING.getKey(), maxConcurrentMerges)
+            .build();
+        return new NodeMergeArbiter(settings, new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS), shards::get);
+    }
+
+    private ShardId newShard(int id, boolean searchIdle, boolean relocating) {
+        final ShardId shardId = new ShardId("index", "_na_", id);
+        final IndexShard shard = mock(IndexShard.class);
+        final ShardRouting routing = mock(ShardRouting.class);
+        when(routing.relocating()).thenReturn(relocating);
+        when(shard.routingEntry()).thenReturn(routing);
+        when(shard.isSearchIdle()).thenReturn(searchIdle);
+        shards.put(shardId, shard);
+        return shardId;
+    }
+
+    public void testUnlimitedByDefault() throws InterruptedException {
+        final NodeMergeArbiter arbiter = new NodeMergeArbiter(
+            Settings.EMPTY,
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
+            shards::get
+        );
+        final ShardId shardId = newShard(0, false, false);
+        final List<Releasable> releasables = new ArrayList<>();
+        final int merges = randomIntBetween(1, 10);
+        for (int i = 0; i < merges; i++) {
+            releasables.add(arbiter.acquire(shardId, () -> false));
+        }
+        assertEquals(0, arbiter.runningMerges());
+        releasables.forEach(Releasable::close);
+    }
+
+    public void testMergesOfSearchedShardsRunFirst() throws Exception {
+        final NodeMergeArbiter arbiter = newArbiter(1);
+        final ShardId idle = newShard(0, true, false);
+        final ShardId searched = newShard(1, false, false);
+        final ShardId relocating = newShard(2, false, true);
+        final ShardId unknown = new ShardId("index", "_na_", 3);
+
+        final Releasable running = arbiter.acquire(idle, () -> false);
+        assertEquals(1, arbiter.runningMerges());
+
+        final List<ShardId> merged = new CopyOnWriteArrayList<>();
+        final List<Thread> threads = new ArrayList<>();
+        for (ShardId shardId : randomSubsetOf(4, List.of(idle, searched, relocating, unknown))) {
+            final Thread thread = new Thread(() -> {
+                try (Releasable ignored = arbiter.acquire(shardId, () -> false)) {
+                    merged.add(shardId);
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+            assertBusy(() -> assertEquals(threads.size(), arbiter.waitingMerges()));
+        }
+
+        running.close();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        // merges of shards that aren't on this node any more rank like the ones of search idle shards
+        assertEquals(searched, merged.get(0));
+        assertEquals(relocating, merged.get(3));
+        assertEquals(0, arbiter.runningMerges());
+        assertEquals(0, arbiter.waitingMerges());
+    }
+
+    public void testAbortedMergesStopWaiting() throws Exception {
+        final NodeMergeArbiter arbiter = newArbiter(1);
+        final ShardId shardId = newShard(0, randomBoolean(), randomBoolean());
+        final Releasable running = arbiter.acquire(shardId, () -> false);
+
+        final AtomicBoolean aborted = new AtomicBoolean();
+        final AtomicBoolean acquired = new AtomicBoolean();
+        final Thread thread = new Thread(() -> {
+            try {
+                arbiter.acquire(shardId, aborted::get).close();
+                acquired.set(true);
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+        });
+        thread.start();
+        assertBusy(() -> assertEquals(1, arbiter.waitingMerges()));
+        aborted.set(true);
+        thread.join();
+        assertTrue(acquired.get());
+        assertEquals(1, arbiter.runningMerges());
+        assertEquals(0, arbiter.waitingMerges());
+
+        running.close();
+        assertEquals(0, arbiter.runningMerges());
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.opensearch.cluster.coordination.DeterministicTaskQueue;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.IndexShardClosedException;
+import org.opensearch.test.OpenSearchTestCase;
+import org.junit.Before;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.opensearch.node.Node.NODE_NAME_SETTING;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class NodeRefreshSchedulerTests extends OpenSearchTestCase {
+
+    private DeterministicTaskQueue taskQueue;
+    private final List<IndexShard> refreshed = new ArrayList<>();
+
+    @Before
+    public void createTaskQueue() {
+        taskQueue = new DeterministicTaskQueue(Settings.builder().put(NODE_NAME_SETTING.getKey(), "node").build(), random());
+    }
+
+    private NodeRefreshScheduler newScheduler(int maxConcurrentRefreshes, ClusterSettings clusterSettings) {
+        final Settings settings = Settings.builder()
+            .put(NodeRefreshScheduler.MAX_CONCURRENT_REFRESHES_SETTING.getKey(), maxConcurrentRefreshes)
+            .build();
+        return new NodeRefreshScheduler(settings, clusterSettings, taskQueue.getThreadPool());
+    }
+
+    private NodeRefreshScheduler newScheduler(int maxConcurrentRefreshes) {
+        return newScheduler(maxConcurrentRefreshes, new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS));
+    }
+
+    private IndexShard newShard(int id, boolean searchIdle, boolean pendingRefreshListeners) {
+        final IndexShard shard = mock(IndexShard.class);
+        when(shard.shardId()).thenReturn(new ShardId("index", "_na_", id));
+        when(shard.isSearchIdle()).thenReturn(searchIdle);
+        when(shard.hasPendingRefreshListeners()).thenReturn(pendingRefreshListeners);
+        doAnswer(invocation -> refreshed.add(shard)).when(shard).scheduledRefresh();
+        return shard;
+    }
+
+    public void testDisabledByDefault() {
+        final NodeRefreshScheduler scheduler = new NodeRefreshScheduler(
+            Settings.EMPTY,
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
+            taskQueue.getThreadPool()
+        );
+        final IndexShard shard = newShard(0, false, false);
+        assertFalse(scheduler.schedule(shard));
+        assertFalse(taskQueue.hasRunnableTasks());
+        verify(shard, never()).scheduledRefresh();
+    }
+
+    public void testRefreshesShardsWaitedOnFirst() {
+        final NodeRefreshScheduler scheduler = newScheduler(1);
+        final IndexShard idle = newShard(0, true, false);
+        final IndexShard searched = newShard(1, false, false);
+        final IndexShard waitedOn = newShard(2, true, true);
+        assertTrue(scheduler.schedule(idle));
+        assertTrue(scheduler.schedule(searched));
+        assertTrue(scheduler.schedule(waitedOn));
+        // a shard that is still queued is refreshed once
+        assertTrue(scheduler.schedule(idle));
+
+        RefreshSchedulerStats stats = scheduler.stats();
+        assertEquals(3, stats.getQueue());
+        assertEquals(1, stats.getActive());
+        assertEquals(0, stats.getCompleted());
+        assertEquals(1, stats.getCoalesced());
+
+        taskQueue.runAllRunnableTasks();
+        assertEquals(List.of(waitedOn, searched, idle), refreshed);
+        stats = scheduler.stats();
+        assertEquals(0, stats.getQueue());
+        assertEquals(0, stats.getActive());
+        assertEquals(3, stats.getCompleted());
+        assertEquals(1, stats.getCoalesced());
+
+        // a refreshed shard can be queued again
+        assertTrue(scheduler.schedule(idle));
+        taskQueue.runAllRunnableTasks();
+        assertEquals(List.of(waitedOn, searched, idle, idle), refreshed);
+    }
+
+    public void testLimitsConcurrentRefreshes() {
+        final ClusterSettings clusterSettings = new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        final int maxConcurrentRefreshes = randomIntBetween(1, 4);
+        final NodeRefreshScheduler scheduler = newScheduler(maxConcurrentRefreshes, clusterSettings);
+        final int shards = randomIntBetween(maxConcurrentRefreshes, 20);
+        for (int i = 0; i < shards; i++) {
+            assertTrue(scheduler.schedule(newShard(i, randomBoolean(), randomBoolean())));
+        }
+        assertEquals(maxConcurrentRefreshes, scheduler.stats().getActive());
+
+        // raising the limit starts more workers for the queued shards
+        clusterSettings.applySettings(
+            Settings.builder().put(NodeRefreshScheduler.MAX_CONCURRENT_REFRESHES_SETTING.getKey(), maxConcurrentRefreshes + 1).build()
+        );
+        assertEquals(maxConcurrentRefreshes + 1, scheduler.stats().getActive());
+
+        taskQueue.runAllRunnableTasks();
+        assertEquals(shards, refreshed.size());
+        assertEquals(shards, scheduler.stats().getCompleted());
+        assertEquals(0, scheduler.stats().getActive());
+    }
+
+    public void testQueuedShardsAreRefreshedAfterDisabling() {
+        final ClusterSettings clusterSettings = new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        final NodeRefreshScheduler scheduler = newScheduler(randomIntBetween(1, 4), clusterSettings);
+        final IndexShard shard = newShard(0, false, false);
+        final IndexShard closed = newShard(1, false, false);
+        doThrow(new IndexShardClosedException(closed.shardId())).when(closed).scheduledRefresh();
+        assertTrue(scheduler.schedule(closed));
+        assertTrue(scheduler.schedule(shard));
+
+        clusterSettings.applySettings(Settings.builder().put(NodeRefreshScheduler.MAX_CONCURRENT_REFRESHES_SETTING.getKey(), 0).build());
+        assertFalse(scheduler.schedule(shard));
+
+        taskQueue.runAllRunnableTasks();
+        assertEquals(List.of(shard), refreshed);
+        assertEquals(2, scheduler.stats().getCompleted());
+        assertEquals(0, scheduler.stats().getQueue());
+        assertEquals(0, scheduler.stats().getActive());
+    }
+}
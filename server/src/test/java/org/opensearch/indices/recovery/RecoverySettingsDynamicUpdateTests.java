@@ -169,6 +169,34 @@ public class RecoverySettingsDynamicUpdateTests extends OpenSearchTestCase {
         assertEquals(chunkSize, recoverySettings.getChunkSize());
     }
 
+    public void testRemoteStoreDownloadMaxBytesPerSec() {
+        assertNull(recoverySettings.remoteStoreDownloadRateLimiter());
+        clusterSettings.applySettings(
+            Settings.builder()
+                .put(
+                    RecoverySettings.INDICES_RECOVERY_REMOTE_STORE_DOWNLOAD_MAX_BYTES_PER_SEC_SETTING.getKey(),
+                    new ByteSizeValue(100, ByteSizeUnit.MB)
+                )
+                .build()
+        );
+        assertEquals(100, (int) recoverySettings.remoteStoreDownloadRateLimiter().getMBPerSec());
+        clusterSettings.applySettings(
+            Settings.builder().put(RecoverySettings.INDICES_RECOVERY_REMOTE_STORE_DOWNLOAD_MAX_BYTES_PER_SEC_SETTING.getKey(), 0).build()
+        );
+        assertNull(recoverySettings.remoteStoreDownloadRateLimiter());
+    }
+
+    public void testRemoteStoreMultiStreamThreshold() {
+        assertEquals(new ByteSizeValue(64, ByteSizeUnit.MB), recoverySettings.getRemoteStoreMultiStreamDownloadThreshold());
+        ByteSizeValue threshold = new ByteSizeValue(between(1, 1000), ByteSizeUnit.MB);
+        clusterSettings.applySettings(
+            Settings.builder()
+                .put(RecoverySettings.INDICES_RECOVERY_REMOTE_STORE_MULTI_STREAM_THRESHOLD_SETTING.getKey(), threshold)
+                .build()
+        );
+        assertEquals(threshold, recoverySettings.getRemoteStoreMultiStreamDownloadThreshold());
+    }
+
     public void testInternalActionRetryTimeout() {
         long duration = between(1, 1000);
         TimeUnit timeUnit = randomFrom(TimeUnit.MILLISECONDS, TimeUnit.SECONDS, TimeUnit.MINUTES, TimeUnit.HOURS);
@@ -74,6 +74,8 @@ import org.opensearch.snapshots.SnapshotState;
 import org.opensearch.test.OpenSearchIntegTestCase;
 import org.opensearch.transport.client.Client;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -90,9 +92,12 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.opensearch.repositories.RepositoryDataTests.generateRandomRepoData;
 import static org.opensearch.repositories.blobstore.BlobStoreRepository.calculateMaxWithinIntLimit;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertHitCount;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
@@ -189,6 +194,88 @@ public class BlobStoreRepositoryTests extends BlobStoreRepositoryHelperTests {
         assertThat(snapshotIds, equalTo(originalSnapshots));
     }
 
+    public void testFinalizeSnapshotOfManyIndices() throws Exception {
+        final Client client = client();
+        final String repositoryName = "test-repo";
+        createRepository(client, repositoryName);
+
+        logger.info("--> creating more indices than there are snapshot threads");
+        final int numIndices = randomIntBetween(10, 30);
+        final List<String> indexNames = new ArrayList<>();
+        for (int i = 0; i < numIndices; i++) {
+            final String indexName = "test-idx-" + i;
+            createIndex(indexName);
+            client.prepareIndex(indexName).setId("1").setSource("text", "sometext").get();
+            indexNames.add(indexName);
+        }
+        ensureGreen();
+
+        final SnapshotId snapshotId = createSnapshot(repositoryName, "test-snap", indexNames).snapshotId();
+
+        logger.info("--> make sure the metadata of every index was written");
+        final RepositoriesService repositoriesService = getInstanceFromNode(RepositoriesService.class);
+        final BlobStoreRepository repository = (BlobStoreRepository) repositoriesService.repository(repositoryName);
+        final RepositoryData repositoryData = OpenSearchBlobStoreRepositoryIntegTestCase.getRepositoryData(repository);
+        for (String indexName : indexNames) {
+            final IndexId indexId = repositoryData.resolveIndexId(indexName);
+            assertThat(repository.getSnapshotIndexMetaData(repositoryData, snapshotId, indexId).getIndex().getName(), equalTo(indexName));
+        }
+    }
+
+    public void testContentDefinedChunking() throws Exception {
+        final Client client = client();
+        final Path location = OpenSearchIntegTestCase.randomRepoPath(node().settings());
+        final String repositoryName = "test-repo";
+
+        logger.info("-->  creating repository with content defined chunking");
+        Settings.Builder settings = Settings.builder()
+            .put(node().settings())
+            .put("location", location)
+            .put(BlobStoreRepository.CONTENT_DEFINED_CHUNKING_SETTING.getKey(), true)
+            .put(BlobStoreRepository.CONTENT_DEFINED_CHUNK_SIZE_SETTING.getKey(), "64kb");
+        OpenSearchIntegTestCase.putRepository(client.admin().cluster(), repositoryName, REPO_TYPE, settings);
+
+        logger.info("--> creating an index and indexing documents");
+        final String indexName = "test-idx";
+        createIndex(indexName);
+        ensureGreen();
+        int numDocs = 0;
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < 500; i++) {
+                client.prepareIndex(indexName).setId(Integer.toString(numDocs++)).setSource("text", randomAlphaOfLength(500)).get();
+            }
+            client.admin().indices().prepareFlush(indexName).get();
+            createSnapshot(repositoryName, "test-snap-" + round, List.of(indexName));
+            assertThat(chunkBlobs(location).isEmpty(), equalTo(false));
+            client.admin().indices().prepareForceMerge(indexName).setMaxNumSegments(1).get();
+        }
+        createSnapshot(repositoryName, "test-snap-merged", List.of(indexName));
+
+        logger.info("--> delete the snapshots taken before the merge and restore the merged snapshot");
+        client.admin().cluster().prepareDeleteSnapshot(repositoryName, "test-snap-0", "test-snap-1").get();
+        client.admin()
+            .cluster()
+            .prepareRestoreSnapshot(repositoryName, "test-snap-merged")
+            .setWaitForCompletion(true)
+            .setRenamePattern(indexName)
+            .setRenameReplacement("restored-idx")
+            .get();
+        ensureGreen();
+        assertHitCount(client.prepareSearch("restored-idx").setSize(0).get(), numDocs);
+
+        logger.info("--> make sure chunks are removed with the last snapshot referencing them");
+        assertThat(chunkBlobs(location).isEmpty(), equalTo(false));
+        client.admin().cluster().prepareDeleteSnapshot(repositoryName, "test-snap-merged").get();
+        assertThat(chunkBlobs(location), empty());
+    }
+
+    private static List<Path> chunkBlobs(Path location) throws IOException {
+        try (Stream<Path> paths = Files.walk(location)) {
+            return paths.filter(path -> path.getFileName().toString().startsWith(BlobStoreRepository.CHUNK_DATA_BLOB_PREFIX))
+                .collect(Collectors.toList());
+        }
+    }
+
     public void testReadAndWriteSnapshotsThroughIndexFile() throws Exception {
         final BlobStoreRepository repository = setupRepo();
         final long pendingGeneration = repository.metadata.pendingGeneration();
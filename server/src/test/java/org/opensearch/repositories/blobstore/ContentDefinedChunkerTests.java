@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.repositories.blobstore;
+
+import org.apache.lucene.store.ByteArrayDataInput;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot.FileInfo;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.startsWith;
+
+public class ContentDefinedChunkerTests extends OpenSearchTestCase {
+
+    private static final int AVERAGE_CHUNK_SIZE = 4096;
+
+    private final ContentDefinedChunker chunker = new ContentDefinedChunker("c__", AVERAGE_CHUNK_SIZE, Long.MAX_VALUE);
+
+    public void testChunkSizes() throws IOException {
+        final byte[] bytes = randomByteArrayOfLength(scaledRandomIntBetween(1, 1 << 20));
+        final List<FileInfo.Chunk> chunks = chunk(bytes);
+        long length = 0;
+        for (int i = 0; i < chunks.size(); i++) {
+            final FileInfo.Chunk chunk = chunks.get(i);
+            assertThat(chunk.name(), startsWith("c__"));
+            assertThat(chunk.length(), lessThanOrEqualTo(4L * AVERAGE_CHUNK_SIZE));
+            if (i < chunks.size() - 1) {
+                assertThat(chunk.length(), greaterThanOrEqualTo(chunker.minChunkSize()));
+            }
+            length += chunk.length();
+        }
+        assertThat(length, equalTo((long) bytes.length));
+        assertThat(chunk(bytes), equalTo(chunks));
+    }
+
+    public void testMaxChunkSize() throws IOException {
+        final ContentDefinedChunker bounded = new ContentDefinedChunker("c__", AVERAGE_CHUNK_SIZE, 1000);
+        final byte[] bytes = randomByteArrayOfLength(scaledRandomIntBetween(1, 1 << 16));
+        for (FileInfo.Chunk chunk : bounded.chunk(new ByteArrayDataInput(bytes), bytes.length)) {
+            assertThat(chunk.length(), lessThanOrEqualTo(1000L));
+        }
+    }
+
+    public void testIdenticalChunksAreFoundAfterShift() throws IOException {
+        final byte[] bytes = randomByteArrayOfLength(1 << 20);
+        final byte[] prefix = randomByteArrayOfLength(randomIntBetween(1, AVERAGE_CHUNK_SIZE * 2));
+        final byte[] shifted = new byte[prefix.length + bytes.length];
+        System.arraycopy(prefix, 0, shifted, 0, prefix.length);
+        System.arraycopy(bytes, 0, shifted, prefix.length, bytes.length);
+
+        final List<FileInfo.Chunk> chunks = chunk(bytes);
+        final Set<String> names = new HashSet<>();
+        for (FileInfo.Chunk chunk : chunks) {
+            names.add(chunk.name());
+        }
+        long sharedBytes = 0;
+        for (FileInfo.Chunk chunk : chunk(shifted)) {
+            if (names.contains(chunk.name())) {
+                sharedBytes += chunk.length();
+            }
+        }
+        // only the chunks around the inserted prefix are expected to differ
+        assertThat(sharedBytes, greaterThan(bytes.length - 16L * AVERAGE_CHUNK_SIZE));
+    }
+
+    private List<FileInfo.Chunk> chunk(byte[] bytes) throws IOException {
+        return chunker.chunk(new ByteArrayDataInput(bytes), bytes.length);
+    }
+}
@@ -78,6 +78,7 @@ import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
+import static org.opensearch.search.aggregations.AggregationBuilders.cardinality;
 import static org.opensearch.search.aggregations.AggregationBuilders.count;
 import static org.opensearch.search.aggregations.AggregationBuilders.dateHistogram;
 import static org.opensearch.search.aggregations.AggregationBuilders.max;
@@ -804,6 +805,31 @@ public class SearchServiceStarTreeTests extends OpenSearchSingleNodeTestCase {
         sourceBuilder = new SearchSourceBuilder().size(0).query(new TermQueryBuilder(STATUS, 1)).aggregation(termsAggregationBuilder);
         assertStarTreeContext(request, sourceBuilder, null, -1);
 
+        // Case 7: Cardinality of a keyword dimension is nested within numeric term aggregation, should use star tree
+        termsAggregationBuilder = terms("term").field(NUMERIC_FIELD).subAggregation(cardinality("cardinality").field(KEYWORD_FIELD));
+        sourceBuilder = new SearchSourceBuilder().size(0).query(new TermQueryBuilder(STATUS, 1)).aggregation(termsAggregationBuilder);
+        assertStarTreeContext(
+            request,
+            sourceBuilder,
+            getStarTreeQueryContext(
+                searchContext,
+                starTreeFieldConfiguration,
+                "startree1",
+                -1,
+                List.of(new NumericDimension(NUMERIC_FIELD), new OrdinalDimension(KEYWORD_FIELD), new NumericDimension(STATUS)),
+                List.of(new Metric(STATUS, List.of(MetricStat.SUM, MetricStat.MAX))),
+                baseQuery,
+                sourceBuilder,
+                true
+            ),
+            -1
+        );
+
+        // Case 8: Cardinality of a numeric dimension is nested within keyword term aggregation, should not use star tree
+        termsAggregationBuilder = terms("term").field(KEYWORD_FIELD).subAggregation(cardinality("cardinality").field(NUMERIC_FIELD));
+        sourceBuilder = new SearchSourceBuilder().size(0).query(new TermQueryBuilder(STATUS, 1)).aggregation(termsAggregationBuilder);
+        assertStarTreeContext(request, sourceBuilder, null, -1);
+
         setStarTreeIndexSetting(null);
     }
 
@@ -0,0 +1,137 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.store.Directory;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.indices.IndicesService;
+import org.opensearch.indices.IndicesSegmentAggregationCache;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.aggregations.bucket.terms.LongTerms;
+import org.opensearch.search.aggregations.metrics.InternalSum;
+import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.search.query.QuerySearchResult;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SegmentCachingAggCollectorManagerTests extends AggregationSetupTests {
+
+    private static final String SUM_AGG = "{ \"sum_f\": {\"sum\": {\"field\": \"f\"}}}";
+    private static final String TERMS_AGG = "{ \"terms_f\": {\"terms\": {\"field\": \"f\"}}}";
+
+    private IndicesSegmentAggregationCache.RequestScope cache;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        ShardSearchRequest request = mock(ShardSearchRequest.class);
+        when(request.cacheKey()).thenReturn(new BytesArray(randomAlphaOfLength(10)));
+        cache = getInstanceFromNode(IndicesService.class).segmentAggregationCache(request);
+        context.segmentAggregationCache(cache);
+    }
+
+    public void testCacheHitsAndMissesAcrossRefresh() throws Exception {
+        try (Directory dir = newDirectory()) {
+            IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE));
+            addSegment(writer, 1, 2);
+            addSegment(writer, 3);
+            DirectoryReader reader = DirectoryReader.open(writer);
+            assertEquals(2, reader.leaves().size());
+            assertEquals(6d, ((InternalSum) aggregate(reader, SUM_AGG).get("sum_f")).getValue(), 0d);
+            for (LeafReaderContext ctx : reader.leaves()) {
+                assertNotNull(cache.get(ctx));
+            }
+
+            addSegment(writer, 4);
+            DirectoryReader newReader = DirectoryReader.openIfChanged(reader);
+            assertNotNull(newReader);
+            assertEquals(3, newReader.leaves().size());
+            assertNull(cache.get(newReader.leaves().get(2)));
+            // the first segment didn't change so its cached result is used rather than collecting it again
+            InternalAggregations cached = InternalAggregations.from(List.of(new InternalSum("sum_f", 100, DocValueFormat.RAW, null)));
+            cache.put(newReader.leaves().get(0), cached);
+            assertEquals(107d, ((InternalSum) aggregate(newReader, SUM_AGG).get("sum_f")).getValue(), 0d);
+            assertNotNull(cache.get(newReader.leaves().get(2)));
+
+            reader.close();
+            newReader.close();
+            writer.close();
+        }
+    }
+
+    public void testSegmentsInterruptedByTimeoutAreNotCached() throws Exception {
+        try (Directory dir = newDirectory()) {
+            IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE));
+            addSegment(writer, 1, 2);
+            addSegment(writer, 3);
+            try (DirectoryReader reader = DirectoryReader.open(writer)) {
+                context.setSearchTimedOut(true);
+                assertEquals(6d, ((InternalSum) aggregate(reader, SUM_AGG).get("sum_f")).getValue(), 0d);
+                for (LeafReaderContext ctx : reader.leaves()) {
+                    assertNull(cache.get(ctx));
+                }
+                context.setSearchTimedOut(false);
+            }
+            writer.close();
+        }
+    }
+
+    public void testAggregatorsAreReleasedPerSegment() throws Exception {
+        final CircuitBreaker breaker = context.bigArrays().breakerService().getBreaker(CircuitBreaker.REQUEST);
+        try (Directory dir = newDirectory()) {
+            IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE));
+            final int segments = randomIntBetween(2, 5);
+            for (int i = 0; i < segments; i++) {
+                addSegment(writer, i, i + segments);
+            }
+            try (DirectoryReader reader = DirectoryReader.open(writer)) {
+                final long used = breaker.getUsed();
+                final LongTerms terms = (LongTerms) aggregate(reader, TERMS_AGG).get("terms_f");
+                assertEquals(Math.min(2 * segments, 10), terms.getBuckets().size());
+                // the aggregators of every segment were released before the search context
+                assertEquals(used, breaker.getUsed());
+            }
+            writer.close();
+        }
+    }
+
+    private InternalAggregations aggregate(DirectoryReader reader, String aggs) throws IOException {
+        context.aggregations(
+            new SearchContextAggregations(getAggregationFactories(aggs), mock(MultiBucketConsumerService.MultiBucketConsumer.class))
+        );
+        final SegmentCachingAggCollectorManager collectorManager = SegmentCachingAggCollectorManager.create(context);
+        assertNotNull(collectorManager);
+        new IndexSearcher(reader).search(new MatchAllDocsQuery(), collectorManager.newCollector());
+        final QuerySearchResult result = new QuerySearchResult();
+        collectorManager.reduce(List.of()).reduce(result);
+        return result.aggregations().expand();
+    }
+
+    private static void addSegment(IndexWriter writer, long... values) throws IOException {
+        for (long value : values) {
+            Document doc = new Document();
+            doc.add(new SortedNumericDocValuesField("f", value));
+            writer.addDocument(doc);
+        }
+        writer.commit();
+    }
+}
@@ -290,8 +290,9 @@ public class TermsAggregatorTests extends AggregatorTestCase {
         // Fields not indexed: cannot use LeafBucketCollector#termDocFreqCollector - all documents are visited
         testSimple(ADD_SORTED_SET_FIELD_NOT_INDEXED, false, false, false, TermsAggregatorFactory.ExecutionMode.GLOBAL_ORDINALS, 4);
 
-        // Fields indexed, deleted documents in segment: cannot use LeafBucketCollector#termDocFreqCollector - all documents are visited
-        testSimple(ADD_SORTED_SET_FIELD_INDEXED, true, false, false, TermsAggregatorFactory.ExecutionMode.GLOBAL_ORDINALS, 4);
+        // Fields indexed, deleted documents in segment: will use LeafBucketCollector#termDocFreqCollector and subtract the deleted
+        // documents - no documents are visited
+        testSimple(ADD_SORTED_SET_FIELD_INDEXED, true, false, false, TermsAggregatorFactory.ExecutionMode.GLOBAL_ORDINALS, 0);
 
         // Fields indexed, no deleted documents in segment: will use LeafBucketCollector#termDocFreqCollector - no documents are visited
         testSimple(ADD_SORTED_SET_FIELD_INDEXED, false, false, false, TermsAggregatorFactory.ExecutionMode.GLOBAL_ORDINALS, 0);
@@ -309,8 +310,9 @@ public class TermsAggregatorTests extends AggregatorTestCase {
         // Fields not indexed: cannot use LeafBucketCollector#termDocFreqCollector - all documents are visited
         testSimple(ADD_SORTED_SET_FIELD_NOT_INDEXED, false, false, true, TermsAggregatorFactory.ExecutionMode.GLOBAL_ORDINALS, 4);
 
-        // Fields indexed, deleted documents in segment: cannot use LeafBucketCollector#termDocFreqCollector - all documents are visited
-        testSimple(ADD_SORTED_SET_FIELD_INDEXED, true, false, true, TermsAggregatorFactory.ExecutionMode.GLOBAL_ORDINALS, 4);
+        // Fields indexed, deleted documents in segment: will use LeafBucketCollector#termDocFreqCollector and subtract the deleted
+        // documents - no documents are visited
+        testSimple(ADD_SORTED_SET_FIELD_INDEXED, true, false, true, TermsAggregatorFactory.ExecutionMode.GLOBAL_ORDINALS, 0);
 
         // Fields indexed, no deleted documents in segment: will use LeafBucketCollector#termDocFreqCollector - no documents are visited
         testSimple(ADD_SORTED_SET_FIELD_INDEXED, false, false, true, TermsAggregatorFactory.ExecutionMode.GLOBAL_ORDINALS, 0);
@@ -334,6 +336,59 @@ public class TermsAggregatorTests extends AggregatorTestCase {
         );
     }
 
+    public void testManyDeletedDocumentsAreCollected() throws Exception {
+        try (Directory directory = newDirectory()) {
+            try (
+                RandomIndexWriter indexWriter = new RandomIndexWriter(
+                    random(),
+                    directory,
+                    newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE)
+                )
+            ) {
+                List<Document> documents = new ArrayList<>();
+                for (String value : new String[] { "a", "a", "b", "c", "e", "e" }) {
+                    Document document = new Document();
+                    ADD_SORTED_SET_FIELD_INDEXED.apply(document, "string", value);
+                    if (value.equals("e")) {
+                        ADD_SORTED_SET_FIELD_INDEXED.apply(document, "string", "a");
+                    }
+                    documents.add(document);
+                }
+                indexWriter.addDocuments(documents);
+                // a third of the segment is deleted, above the ratio up to which deleted documents are subtracted
+                indexWriter.deleteDocuments(new Term("string", "e"));
+
+                try (IndexReader indexReader = maybeWrapReaderEs(indexWriter.getReader())) {
+                    IndexSearcher indexSearcher = newIndexSearcher(indexReader);
+                    TermsAggregationBuilder aggregationBuilder = new TermsAggregationBuilder("_name").userValueTypeHint(ValueType.STRING)
+                        .executionHint(TermsAggregatorFactory.ExecutionMode.GLOBAL_ORDINALS.toString())
+                        .field("string")
+                        .order(BucketOrder.key(true));
+                    MappedFieldType fieldType = new KeywordFieldMapper.KeywordFieldType("string");
+
+                    TermsAggregatorFactory.COLLECT_SEGMENT_ORDS = randomBoolean();
+                    TermsAggregatorFactory.REMAP_GLOBAL_ORDS = false;
+                    CountingAggregator aggregator = createCountingAggregator(aggregationBuilder, indexSearcher, false, fieldType);
+
+                    aggregator.preCollection();
+                    indexSearcher.search(new MatchAllDocsQuery(), aggregator);
+                    aggregator.postCollection();
+                    Terms result = reduce(aggregator);
+                    assertEquals(3, result.getBuckets().size());
+                    assertEquals("a", result.getBuckets().get(0).getKeyAsString());
+                    assertEquals(2L, result.getBuckets().get(0).getDocCount());
+                    assertEquals("b", result.getBuckets().get(1).getKeyAsString());
+                    assertEquals(1L, result.getBuckets().get(1).getDocCount());
+                    assertEquals("c", result.getBuckets().get(2).getKeyAsString());
+                    assertEquals(1L, result.getBuckets().get(2).getDocCount());
+
+                    // the live documents are collected one by one
+                    assertEquals(4, aggregator.getCollectCount().get());
+                }
+            }
+        }
+    }
+
     /**
      * This is a utility method to test out string terms aggregation
      * @param addFieldConsumer a function that determines how a field is added to the document
@@ -386,6 +441,8 @@ public class TermsAggregatorTests extends AggregatorTestCase {
                 if (includeDeletedDocumentsInSegment) {
                     document = new Document();
                     ADD_SORTED_SET_FIELD_INDEXED.apply(document, "string", "e");
+                    // the deleted document shares a term with live documents, its doc count must not be included
+                    ADD_SORTED_SET_FIELD_INDEXED.apply(document, "string", "a");
                     documents.add(document);
                     indexWriter.addDocuments(documents);
                     indexWriter.deleteDocuments(new Term("string", "e"));
@@ -0,0 +1,163 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.metrics;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CheckedIntConsumer;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.DocIdStream;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.tests.index.RandomIndexWriter;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.aggregations.AggregatorTestCase;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.LeafBucketCollector;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Checks that collecting {@link DocIdStream}s into the numeric metric aggregators gives the same results as collecting the same docs
+ * one by one.
+ */
+public class DocIdStreamCollectionTests extends AggregatorTestCase {
+
+    private static final String FIELD = "field";
+
+    public void testSum() throws IOException {
+        assertStreamsMatchDocByDoc(new SumAggregationBuilder("_name").field(FIELD));
+    }
+
+    public void testAvg() throws IOException {
+        assertStreamsMatchDocByDoc(new AvgAggregationBuilder("_name").field(FIELD));
+    }
+
+    public void testMin() throws IOException {
+        assertStreamsMatchDocByDoc(new MinAggregationBuilder("_name").field(FIELD));
+    }
+
+    public void testMax() throws IOException {
+        assertStreamsMatchDocByDoc(new MaxAggregationBuilder("_name").field(FIELD));
+    }
+
+    public void testStats() throws IOException {
+        assertStreamsMatchDocByDoc(new StatsAggregationBuilder("_name").field(FIELD));
+    }
+
+    private void assertStreamsMatchDocByDoc(AggregationBuilder aggregationBuilder) throws IOException {
+        final MappedFieldType fieldType = new NumberFieldMapper.NumberFieldType(FIELD, NumberFieldMapper.NumberType.LONG);
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
+                final int numDocs = randomIntBetween(1, 500);
+                for (int i = 0; i < numDocs; i++) {
+                    final Document document = new Document();
+                    // some docs have no value at all
+                    if (randomInt(4) > 0) {
+                        final int numValues = randomIntBetween(1, 3);
+                        for (int j = 0; j < numValues; j++) {
+                            document.add(new SortedNumericDocValuesField(FIELD, randomLongBetween(-1000, 1000)));
+                        }
+                    }
+                    indexWriter.addDocument(document);
+                }
+            }
+            try (IndexReader reader = DirectoryReader.open(directory)) {
+                final IndexSearcher searcher = newIndexSearcher(reader);
+                final Aggregator streamAggregator = createAggregator(aggregationBuilder, searcher, fieldType);
+                final Aggregator docAggregator = createAggregator(aggregationBuilder, searcher, fieldType);
+                streamAggregator.preCollection();
+                docAggregator.preCollection();
+
+                final TreeSet<Long> buckets = new TreeSet<>();
+                for (LeafReaderContext ctx : reader.leaves()) {
+                    final LeafBucketCollector streamCollector = streamAggregator.getLeafCollector(ctx);
+                    final LeafBucketCollector docCollector = docAggregator.getLeafCollector(ctx);
+                    // docs are split into streams of increasing doc ids, each of them collected into a random, possibly non-zero, bucket
+                    int doc = 0;
+                    while (doc < ctx.reader().maxDoc()) {
+                        final int end = Math.min(ctx.reader().maxDoc(), doc + randomIntBetween(1, 100));
+                        final List<Integer> docs = new ArrayList<>();
+                        for (; doc < end; doc++) {
+                            if (randomInt(3) > 0) {
+                                docs.add(doc);
+                            }
+                        }
+                        final long bucket = randomBoolean() ? 0 : randomIntBetween(1, 10);
+                        buckets.add(bucket);
+                        final int[] streamDocs = docs.stream().mapToInt(Integer::intValue).toArray();
+                        streamCollector.collect(new ArrayDocIdStream(streamDocs), bucket);
+                        for (int streamDoc : streamDocs) {
+                            docCollector.collect(streamDoc, bucket);
+                        }
+                    }
+                }
+                streamAggregator.postCollection();
+                docAggregator.postCollection();
+
+                final long[] ords = buckets.stream().mapToLong(Long::longValue).toArray();
+                final InternalAggregation[] expected = docAggregator.buildAggregations(ords);
+                final InternalAggregation[] actual = streamAggregator.buildAggregations(ords);
+                assertEquals(Arrays.asList(expected), Arrays.asList(actual));
+            }
+        }
+    }
+
+    /**
+     * A stream over a sorted array of doc ids. The range based methods aren't marked as overrides since they are only abstract in
+     * some Lucene versions.
+     */
+    private static final class ArrayDocIdStream extends DocIdStream {
+        private final int[] docs;
+        private int index;
+
+        ArrayDocIdStream(int[] docs) {
+            this.docs = docs;
+        }
+
+        @Override
+        public void forEach(CheckedIntConsumer<IOException> consumer) throws IOException {
+            forEach(DocIdSetIterator.NO_MORE_DOCS, consumer);
+        }
+
+        public void forEach(int upTo, CheckedIntConsumer<IOException> consumer) throws IOException {
+            while (index < docs.length && docs[index] < upTo) {
+                consumer.accept(docs[index++]);
+            }
+        }
+
+        @Override
+        public int count() throws IOException {
+            return count(DocIdSetIterator.NO_MORE_DOCS);
+        }
+
+        public int count(int upTo) throws IOException {
+            int count = 0;
+            while (index < docs.length && docs[index] < upTo) {
+                index++;
+                count++;
+            }
+            return count;
+        }
+
+        public boolean mayHaveRemaining() {
+            return index < docs.length;
+        }
+    }
+}
@@ -126,6 +126,33 @@ public class StatsAggregatorTests extends AggregatorTestCase {
         }, singleton(ft));
     }
 
+    public void testDenseDocsWithMissingValues() throws IOException {
+        // enough matching docs for dense ranges of matches to be collected as doc id streams
+        final MappedFieldType ft = new NumberFieldMapper.NumberFieldType("field", NumberType.LONG);
+        final SimpleStatsAggregator expected = new SimpleStatsAggregator();
+        testCase(stats("_name").field(ft.name()), iw -> {
+            int numDocs = randomIntBetween(1000, 5000);
+            for (int i = 0; i < numDocs; i++) {
+                Document doc = new Document();
+                if (randomInt(9) > 0) {
+                    int numValues = randomIntBetween(1, 3);
+                    for (int j = 0; j < numValues; j++) {
+                        long value = randomLongBetween(-1000, 1000);
+                        doc.add(new SortedNumericDocValuesField(ft.name(), value));
+                        expected.add(value);
+                    }
+                }
+                iw.addDocument(doc);
+            }
+        }, stats -> {
+            assertEquals(expected.count, stats.getCount(), 0);
+            assertEquals(expected.sum, stats.getSum(), TOLERANCE);
+            assertEquals(expected.min, stats.getMin(), 0);
+            assertEquals(expected.max, stats.getMax(), 0);
+            assertEquals(expected.sum / expected.count, stats.getAvg(), TOLERANCE);
+        }, singleton(ft));
+    }
+
     public void testRandomLongs() throws IOException {
         randomLongsTestCase(randomIntBetween(1, 5), stats("_name").field("field"), (expected, stats) -> {
             assertEquals(expected.count, stats.getCount(), 0);
@@ -51,7 +51,9 @@ import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.bucket.histogram.DateHistogramAggregationBuilder;
 import org.opensearch.search.aggregations.bucket.histogram.DateHistogramAggregatorTestCase;
 import org.opensearch.search.aggregations.bucket.histogram.DateHistogramInterval;
+import org.opensearch.search.aggregations.bucket.histogram.HistogramAggregationBuilder;
 import org.opensearch.search.aggregations.bucket.histogram.InternalDateHistogram;
+import org.opensearch.search.aggregations.bucket.histogram.InternalHistogram;
 import org.opensearch.search.aggregations.bucket.range.InternalRange;
 import org.opensearch.search.aggregations.bucket.range.RangeAggregationBuilder;
 import org.opensearch.search.aggregations.bucket.terms.InternalTerms;
@@ -68,6 +70,7 @@ import java.util.function.Supplier;
 
 import static org.opensearch.search.aggregations.AggregationBuilders.count;
 import static org.opensearch.search.aggregations.AggregationBuilders.dateHistogram;
+import static org.opensearch.search.aggregations.AggregationBuilders.histogram;
 import static org.opensearch.search.aggregations.AggregationBuilders.max;
 import static org.opensearch.search.aggregations.AggregationBuilders.min;
 import static org.opensearch.search.aggregations.AggregationBuilders.range;
@@ -182,6 +185,7 @@ public class StarTreeNestedAggregatorTests extends DateHistogramAggregatorTestCa
             () -> terms("term_size").field(SIZE),
             () -> terms("term_status").field(STATUS),
             () -> range("range_agg").field(STATUS).addRange(10, 30).addRange(30, 50),
+            () -> histogram("histogram_status").field(STATUS).interval(5).minDocCount(1),
             () -> terms("term_keyword").field(KEYWORD_FIELD).collectMode(Aggregator.SubAggCollectionMode.DEPTH_FIRST),
             () -> terms("term_keyword").field(KEYWORD_FIELD).collectMode(Aggregator.SubAggCollectionMode.BREADTH_FIRST),
             () -> dateHistogram("by_day").field(TIMESTAMP_FIELD).calendarInterval(DateHistogramInterval.DAY)
@@ -342,6 +346,23 @@ public class StarTreeNestedAggregatorTests extends DateHistogramAggregatorTestCa
                 KEYWORD_FIELD_TYPE
             );
 
+        } else if (aggregationBuilder instanceof HistogramAggregationBuilder) {
+            assertEqualStarTreeAggregation(
+                InternalHistogram.class,
+                InternalHistogram::getBuckets,
+                aggregationBuilder,
+                indexSearcher,
+                query,
+                queryBuilder,
+                starTree,
+                supportedDimensions,
+                skipReducedMultiBucketConsumerAssertion,
+                STATUS_FIELD_TYPE,
+                SIZE_FIELD_TYPE,
+                TIMESTAMP_FIELD_TYPE,
+                KEYWORD_FIELD_TYPE
+            );
+
         } else if (aggregationBuilder instanceof RangeAggregationBuilder) {
             assertEqualStarTreeAggregation(
                 InternalRange.class,
@@ -21,6 +21,7 @@ import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.sandbox.document.BigIntegerPoint;
 import org.apache.lucene.sandbox.document.HalfFloatPoint;
+import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.Sort;
@@ -1188,4 +1189,151 @@ public class ApproximatePointRangeQueryTests extends OpenSearchTestCase {
             assertTrue("Should approximate with single sort on same field", query.canApproximate(mockContext));
         }
     }
+
+    public void testApproximateWithSearchAfter() {
+        long lower = RandomNumbers.randomLongBetween(random(), 0, 100);
+        long upper = RandomNumbers.randomLongBetween(random(), lower + 10, lower + 1000);
+        long cursor = RandomNumbers.randomLongBetween(random(), lower, upper);
+        SortOrder sortOrder = randomFrom(SortOrder.ASC, SortOrder.DESC);
+        ApproximatePointRangeQuery query = new ApproximatePointRangeQuery(
+            numericType.fieldName,
+            numericType.encode(lower),
+            numericType.encode(upper),
+            1,
+            numericType.format
+        );
+        // Tracking hits would undercount once the walk starts after the cursor
+        SearchContext mockContext = mockSearchAfterContext(sortOrder, cursor, 10000);
+        assertFalse(query.canApproximate(mockContext));
+
+        mockContext = mockSearchAfterContext(sortOrder, cursor, SearchContext.TRACK_TOTAL_HITS_DISABLED);
+        boolean integral = numericType == NumericType.INT || numericType == NumericType.LONG || numericType == NumericType.UNSIGNED_LONG;
+        assertEquals(integral, query.canApproximate(mockContext));
+        if (integral) {
+            assertEquals(11, query.getSize());
+            assertEquals(sortOrder, query.getSortOrder());
+            long expected = sortOrder == SortOrder.ASC ? cursor + 1 : cursor - 1;
+            assertArrayEquals(numericType.encode(expected), query.getSearchAfterPoint());
+        }
+    }
+
+    public void testApproximateRangeWithSearchAfter() throws IOException {
+        assumeTrue(
+            "search_after is approximated for integral points",
+            numericType == NumericType.INT || numericType == NumericType.LONG
+        );
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter iw = new RandomIndexWriter(random(), directory, new WhitespaceAnalyzer())) {
+                int numPoints = RandomNumbers.randomIntBetween(random(), 1000, 3000);
+                for (int i = 0; i < numPoints; i++) {
+                    Document doc = new Document();
+                    // a few duplicates so that ties with the cursor are exercised
+                    int value = i / RandomNumbers.randomIntBetween(random(), 1, 3);
+                    numericType.addField(doc, numericType.fieldName, value);
+                    numericType.addDocValuesField(doc, numericType.fieldName, value);
+                    iw.addDocument(doc);
+                    if (random().nextInt(20) == 0) {
+                        iw.flush();
+                    }
+                }
+                iw.flush();
+                if (random().nextBoolean()) {
+                    iw.forceMerge(1);
+                }
+                try (IndexReader reader = iw.getReader()) {
+                    long lower = RandomNumbers.randomLongBetween(random(), 0, 100);
+                    long upper = RandomNumbers.randomLongBetween(random(), lower + 100, numPoints / 3);
+                    long cursor = RandomNumbers.randomLongBetween(random(), lower, upper);
+                    int size = RandomNumbers.randomIntBetween(random(), 5, 20);
+                    SortOrder sortOrder = randomFrom(SortOrder.ASC, SortOrder.DESC);
+                    ApproximatePointRangeQuery approximateQuery = new ApproximatePointRangeQuery(
+                        numericType.fieldName,
+                        numericType.encode(lower),
+                        numericType.encode(upper),
+                        1,
+                        numericType.format
+                    );
+                    SearchContext mockContext = mockSearchAfterContext(sortOrder, cursor, SearchContext.TRACK_TOTAL_HITS_DISABLED);
+                    when(mockContext.size()).thenReturn(size);
+                    assertTrue(approximateQuery.canApproximate(mockContext));
+
+                    Query exactQuery = numericType.rangeQuery(numericType.fieldName, lower, upper);
+                    IndexSearcher searcher = new IndexSearcher(reader);
+                    Sort sort = new Sort(
+                        new SortField(numericType.getSortFieldName(), numericType.getSortFieldType(), sortOrder == SortOrder.DESC)
+                    );
+                    FieldDoc after = new FieldDoc(Integer.MAX_VALUE, Float.NaN, new Object[] { sortValue(cursor) });
+                    TopDocs approximateDocs = searcher.searchAfter(after, approximateQuery, size, sort);
+                    TopDocs exactDocs = searcher.searchAfter(after, exactQuery, size, sort);
+                    assertEquals(exactDocs.scoreDocs.length, approximateDocs.scoreDocs.length);
+                    for (int i = 0; i < exactDocs.scoreDocs.length; i++) {
+                        assertEquals(
+                            "Mismatch at doc index " + i,
+                            ((FieldDoc) exactDocs.scoreDocs[i]).fields[0],
+                            ((FieldDoc) approximateDocs.scoreDocs[i]).fields[0]
+                        );
+                    }
+                }
+            }
+        }
+    }
+
+    public void testCannotApproximateWithNumericTypeSort() {
+        long lower = RandomNumbers.randomLongBetween(random(), 0, 100);
+        long upper = RandomNumbers.randomLongBetween(random(), lower + 10, lower + 1000);
+        ApproximatePointRangeQuery query = new ApproximatePointRangeQuery(
+            numericType.fieldName,
+            numericType.encode(lower),
+            numericType.encode(upper),
+            1,
+            numericType.format
+        );
+        String sortNumericType = randomFrom("long", "double", "date", "date_nanos");
+        {
+            SearchContext mockContext = mock(SearchContext.class);
+            ShardSearchRequest mockRequest = mock(ShardSearchRequest.class);
+            SearchSourceBuilder source = new SearchSourceBuilder();
+            source.sort(new FieldSortBuilder(numericType.fieldName).order(randomFrom(SortOrder.values())).setNumericType(sortNumericType));
+            source.terminateAfter(SearchContext.DEFAULT_TERMINATE_AFTER);
+            when(mockContext.aggregations()).thenReturn(null);
+            when(mockContext.trackTotalHitsUpTo()).thenReturn(10000);
+            when(mockContext.from()).thenReturn(0);
+            when(mockContext.size()).thenReturn(10);
+            when(mockContext.request()).thenReturn(mockRequest);
+            when(mockRequest.source()).thenReturn(source);
+            assertFalse("Should not approximate a sort with a numeric type", query.canApproximate(mockContext));
+        }
+        {
+            long cursor = RandomNumbers.randomLongBetween(random(), lower, upper);
+            SortOrder sortOrder = randomFrom(SortOrder.values());
+            SearchContext mockContext = mockSearchAfterContext(sortOrder, cursor, SearchContext.TRACK_TOTAL_HITS_DISABLED);
+            ((FieldSortBuilder) mockContext.request().source().sorts().get(0)).setNumericType(sortNumericType);
+            assertFalse("Should not approximate search_after with a numeric type", query.canApproximate(mockContext));
+        }
+    }
+
+    private Object sortValue(long value) {
+        return switch (numericType) {
+            case INT -> (int) value;
+            case UNSIGNED_LONG -> BigInteger.valueOf(value);
+            default -> value;
+        };
+    }
+
+    private SearchContext mockSearchAfterContext(SortOrder sortOrder, long cursor, int trackTotalHitsUpTo) {
+        SearchContext mockContext = mock(SearchContext.class);
+        ShardSearchRequest mockRequest = mock(ShardSearchRequest.class);
+        SearchSourceBuilder source = new SearchSourceBuilder();
+        source.sort(new FieldSortBuilder(numericType.fieldName).order(sortOrder));
+        source.searchAfter(new Object[] { cursor });
+        source.terminateAfter(SearchContext.DEFAULT_TERMINATE_AFTER);
+        when(mockContext.aggregations()).thenReturn(null);
+        when(mockContext.trackTotalHitsUpTo()).thenReturn(trackTotalHitsUpTo);
+        when(mockContext.from()).thenReturn(0);
+        when(mockContext.size()).thenReturn(10);
+        when(mockContext.request()).thenReturn(mockRequest);
+        when(mockContext.searchAfter()).thenReturn(new FieldDoc(Integer.MAX_VALUE, Float.NaN, new Object[] { sortValue(cursor) }));
+        when(mockRequest.source()).thenReturn(source);
+        return mockContext;
+    }
 }
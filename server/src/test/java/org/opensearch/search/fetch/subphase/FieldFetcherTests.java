@@ -435,6 +435,69 @@ public class FieldFetcherTests extends OpenSearchSingleNodeTestCase {
         }
     }
 
+    public void testCanFetchFromDocValues() throws IOException {
+        MapperService mapperService = createMapperService();
+        QueryShardContext context = createQueryShardContext(mapperService);
+
+        List<FieldAndFormat> fields = List.of(
+            new FieldAndFormat("field", null),
+            new FieldAndFormat("integer_field", null),
+            new FieldAndFormat("date_field", "yyyy-MM-dd"),
+            new FieldAndFormat("object.*", null),
+            new FieldAndFormat("non-existent", null),
+            new FieldAndFormat("_id", null)
+        );
+        assertTrue(FieldFetcher.canFetchFromDocValues(context, fields));
+        assertFalse(FieldFetcher.canFetchFromDocValues(context, List.of(new FieldAndFormat("geo_point", null))));
+        assertFalse(FieldFetcher.canFetchFromDocValues(context, List.of(new FieldAndFormat("*", null))));
+
+        XContentBuilder mapping = XContentFactory.jsonBuilder()
+            .startObject()
+            .startObject("properties")
+            .startObject("keyword_field")
+            .field("type", "keyword")
+            .field("doc_values", false)
+            .endObject()
+            .startObject("text_field")
+            .field("type", "text")
+            .field("fielddata", true)
+            .endObject()
+            .startObject("ignore_above_field")
+            .field("type", "keyword")
+            .field("ignore_above", 10)
+            .endObject()
+            .startObject("normalized_field")
+            .field("type", "keyword")
+            .field("normalizer", "lowercase")
+            .endObject()
+            .startObject("copied_field")
+            .field("type", "keyword")
+            .field("copy_to", "copy_target")
+            .endObject()
+            .startObject("copy_target")
+            .field("type", "keyword")
+            .endObject()
+            .startObject("nested_object")
+            .field("type", "nested")
+            .startObject("properties")
+            .startObject("inner_field")
+            .field("type", "keyword")
+            .endObject()
+            .endObject()
+            .endObject()
+            .endObject()
+            .endObject();
+        IndexService indexService = createIndex("other_index", Settings.EMPTY, MapperService.SINGLE_MAPPING_NAME, mapping);
+        context = createQueryShardContext(indexService.mapperService());
+        assertFalse(FieldFetcher.canFetchFromDocValues(context, List.of(new FieldAndFormat("keyword_field", null))));
+        assertFalse(FieldFetcher.canFetchFromDocValues(context, List.of(new FieldAndFormat("text_field", null))));
+        assertFalse(FieldFetcher.canFetchFromDocValues(context, List.of(new FieldAndFormat("ignore_above_field", null))));
+        assertFalse(FieldFetcher.canFetchFromDocValues(context, List.of(new FieldAndFormat("normalized_field", null))));
+        assertTrue(FieldFetcher.canFetchFromDocValues(context, List.of(new FieldAndFormat("copied_field", null))));
+        assertFalse(FieldFetcher.canFetchFromDocValues(context, List.of(new FieldAndFormat("copy_target", null))));
+        assertFalse(FieldFetcher.canFetchFromDocValues(context, List.of(new FieldAndFormat("nested_object.inner_field", null))));
+    }
+
     private static Map<String, DocumentField> fetchFields(MapperService mapperService, XContentBuilder source, String fieldPattern)
         throws IOException {
 
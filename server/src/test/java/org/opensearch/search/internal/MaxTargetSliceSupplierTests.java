@@ -17,6 +17,7 @@ import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.Term;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.store.Directory;
 import org.opensearch.test.OpenSearchTestCase;
@@ -124,4 +125,68 @@ public class MaxTargetSliceSupplierTests extends OpenSearchTestCase {
             }
         }
     }
+
+    public void testMinDocsPerSlice() throws Exception {
+        List<LeafReaderContext> leaves = getLeaves(6);
+        assertThrows(IllegalArgumentException.class, () -> MaxTargetSliceSupplier.getSlices(leaves, 4, randomIntBetween(-3, -1)));
+
+        // every leaf holds a single live document
+        IndexSearcher.LeafSlice[] slices = MaxTargetSliceSupplier.getSlices(leaves, 4, 2);
+        assertEquals(3, slices.length);
+        for (IndexSearcher.LeafSlice slice : slices) {
+            assertEquals(2, slice.partitions.length);
+        }
+
+        slices = MaxTargetSliceSupplier.getSlices(leaves, 4, 1);
+        assertEquals(4, slices.length);
+
+        slices = MaxTargetSliceSupplier.getSlices(leaves, 4, randomIntBetween(7, 100));
+        assertEquals(1, slices.length);
+        assertEquals(6, slices[0].partitions.length);
+    }
+
+    public void testSlicesBalancedByLiveDocs() throws Exception {
+        try (
+            final Directory directory = newDirectory();
+            final IndexWriter iw = new IndexWriter(
+                directory,
+                new IndexWriterConfig(new StandardAnalyzer()).setMergePolicy(NoMergePolicy.INSTANCE)
+            )
+        ) {
+            int id = 0;
+            for (int numDocs : new int[] { 4, 2, 2 }) {
+                for (int i = 0; i < numDocs; ++i) {
+                    Document document = new Document();
+                    document.add(new StringField("id", Integer.toString(id++), Field.Store.NO));
+                    iw.addDocument(document);
+                }
+                iw.commit();
+            }
+            // leave a single live document in the largest segment
+            for (int i = 0; i < 3; ++i) {
+                iw.deleteDocuments(new Term("id", Integer.toString(i)));
+            }
+            iw.commit();
+
+            try (DirectoryReader directoryReader = DirectoryReader.open(directory)) {
+                List<LeafReaderContext> leaves = directoryReader.leaves();
+                assertEquals(3, leaves.size());
+                IndexSearcher.LeafSlice[] slices = MaxTargetSliceSupplier.getSlices(leaves, 2);
+                assertEquals(2, slices.length);
+                for (IndexSearcher.LeafSlice slice : slices) {
+                    int liveDocs = 0;
+                    for (IndexSearcher.LeafReaderContextPartition partition : slice.partitions) {
+                        liveDocs += partition.ctx.reader().numDocs();
+                    }
+                    // the segment with deletes is grouped with one of the fully live segments
+                    if (slice.partitions.length == 1) {
+                        assertEquals(2, liveDocs);
+                    } else {
+                        assertEquals(2, slice.partitions.length);
+                        assertEquals(3, liveDocs);
+                    }
+                }
+            }
+        }
+    }
 }
@@ -238,6 +238,8 @@ public abstract class IndexShardTestCase extends OpenSearchTestCase {
     protected ThreadPool threadPool;
     protected long primaryTerm;
     protected ClusterService clusterService;
+    /** publishes the merged segments of the shards created by the test */
+    protected MergedSegmentPublisher mergedSegmentPublisher = MergedSegmentPublisher.EMPTY;
 
     @Override
     public void setUp() throws Exception {
@@ -691,7 +693,8 @@ public abstract class IndexShardTestCase extends OpenSearchTestCase {
                         threadPool,
                         settings.getRemoteStoreTranslogRepository(),
                         new RemoteTranslogTransferTracker(shardRouting.shardId(), 20),
-                        DefaultRemoteStoreSettings.INSTANCE
+                        DefaultRemoteStoreSettings.INSTANCE,
+                        () -> Version.CURRENT
                     );
                 }
                 return new InternalTranslogFactory();
@@ -736,7 +739,7 @@ public abstract class IndexShardTestCase extends OpenSearchTestCase {
                 indexSettings::getRefreshInterval,
                 new Object(),
                 clusterService.getClusterApplierService(),
-                MergedSegmentPublisher.EMPTY,
+                mergedSegmentPublisher,
                 ReferencedSegmentsPublisher.EMPTY
             );
             indexShard.addShardFailureCallback(DEFAULT_SHARD_FAILURE_HANDLER);